@@ -0,0 +1,71 @@
+package com.kakao.sunsuwedding.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.kakao.sunsuwedding._core.utils.ApiUtils;
+import com.kakao.sunsuwedding._core.utils.LongHashSet;
+import com.kakao.sunsuwedding._core.utils.PriceCalculator;
+import com.kakao.sunsuwedding.portfolio.Portfolio;
+import com.kakao.sunsuwedding.portfolio.PortfolioDTOConverter;
+import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
+import com.kakao.sunsuwedding.portfolio.cursor.PageCursor;
+import com.kakao.sunsuwedding.quotation.Quotation;
+import com.kakao.sunsuwedding.quotation.QuotationDTOConverter;
+import com.kakao.sunsuwedding.quotation.QuotationResponse;
+import com.kakao.sunsuwedding.user.constant.Role;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 컨트롤러가 반환하는 ApiResult 를 응답 본문으로 직렬화하는 비용
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApiResultSerializationBenchmark {
+
+    // 스프링이 쓰는 것과 같이 클래스패스의 모듈(JavaTimeModule 등)을 등록
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private ApiUtils.ApiResult<PageCursor<List<PortfolioResponse.FindAllDTO>>> portfolioPage;
+    private ApiUtils.ApiResult<QuotationResponse.FindByUserDTO> quotationPage;
+    private ApiUtils.ApiResult<?> error;
+
+    @Setup
+    public void setUp() {
+        List<Portfolio> portfolios = BenchmarkFixtures.portfolios(10);
+        Map<Long, String> thumbnails = portfolios.stream()
+                .collect(Collectors.toMap(Portfolio::getId, portfolio -> "/api/image/thumbnail" + portfolio.getId()));
+        List<PortfolioResponse.FindAllDTO> data = new PortfolioDTOConverter(new PriceCalculator())
+                .toFindAllDTO(portfolios, thumbnails, LongHashSet.of(List.of(1L, 4L)));
+        portfolioPage = ApiUtils.success(new PageCursor<>(data, 1L));
+
+        Map<Long, List<Quotation>> quotationsByChatId = BenchmarkFixtures.quotations(10, 5)
+                .stream()
+                .collect(Collectors.groupingBy(quotation -> quotation.getMatch().getChat().getId()));
+        List<Long> chatIds = quotationsByChatId.keySet().stream().sorted().toList();
+        quotationPage = ApiUtils.success(new QuotationResponse.FindByUserDTO(
+                new QuotationDTOConverter().toQuotationsByChatIdDTO(quotationsByChatId, chatIds, Role.PLANNER.getRoleName())));
+
+        error = ApiUtils.error("포트폴리오를 찾을 수 없습니다.", HttpStatus.NOT_FOUND);
+    }
+
+    @Benchmark
+    public byte[] portfolioPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(portfolioPage);
+    }
+
+    @Benchmark
+    public byte[] quotationPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(quotationPage);
+    }
+
+    @Benchmark
+    public byte[] error() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(error);
+    }
+}
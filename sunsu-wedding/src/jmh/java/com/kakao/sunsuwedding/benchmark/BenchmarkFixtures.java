@@ -0,0 +1,104 @@
+package com.kakao.sunsuwedding.benchmark;
+
+import com.kakao.sunsuwedding.chat.Chat;
+import com.kakao.sunsuwedding.match.Match;
+import com.kakao.sunsuwedding.match.MatchStatus;
+import com.kakao.sunsuwedding.portfolio.Portfolio;
+import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
+import com.kakao.sunsuwedding.portfolio.price.PriceItem;
+import com.kakao.sunsuwedding.quotation.Quotation;
+import com.kakao.sunsuwedding.quotation.QuotationStatus;
+import com.kakao.sunsuwedding.user.couple.Couple;
+import com.kakao.sunsuwedding.user.planner.Planner;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+// 실행마다 같은 결과를 비교할 수 있도록 고정된 데이터만 만듦 (난수, 현재 시각 사용 X)
+final class BenchmarkFixtures {
+    static final LocalDateTime FIXED_TIME = LocalDateTime.of(2023, 10, 1, 12, 0);
+    static final String[] LOCATIONS = {"서울", "부산", "대구", "인천", "광주"};
+
+    private BenchmarkFixtures() {
+    }
+
+    static Planner planner(long id) {
+        return Planner.builder().id(id).email("planner" + id + "@gmail.com").password("password")
+                .username("planner" + id).isActive(true).build();
+    }
+
+    static Couple couple(long id) {
+        return Couple.builder().id(id).email("couple" + id + "@gmail.com").password("password")
+                .username("couple" + id).isActive(true).build();
+    }
+
+    static List<Portfolio> portfolios(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> Portfolio.builder()
+                        .id(id)
+                        .planner(planner(id))
+                        .plannerName("planner" + id)
+                        .title("title" + id)
+                        .description("description")
+                        .location(LOCATIONS[(int) (id % LOCATIONS.length)])
+                        .career("career")
+                        .partnerCompany("partner")
+                        .totalPrice(1_000_000L + id * 10_000L)
+                        .contractCount(id % 7)
+                        .priceSum(0L)
+                        .avgPrice(0L)
+                        .minPrice(0L)
+                        .maxPrice(0L)
+                        .build())
+                .toList();
+    }
+
+    static List<PriceItem> priceItems(Portfolio portfolio, int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> PriceItem.builder().id(id).portfolio(portfolio)
+                        .itemTitle("item" + id).itemPrice(id * 100_000L).build())
+                .toList();
+    }
+
+    static List<PortfolioResponse.PriceItemDTO> priceItemDTOs(int count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> new PortfolioResponse.PriceItemDTO("item" + id, id * 100_000L))
+                .toList();
+    }
+
+    // 채팅방마다 매칭 1개, 매칭마다 견적서 quotationsPerChat 개
+    static List<Quotation> quotations(int chats, int quotationsPerChat) {
+        Planner planner = planner(1L);
+        Couple couple = couple(2L);
+        return LongStream.rangeClosed(1, chats)
+                .mapToObj(chatId -> {
+                    Chat chat = Chat.builder().id(chatId).createdAt(FIXED_TIME).build();
+                    return Match.builder().id(chatId).planner(planner).couple(couple).chat(chat)
+                            .status(chatId % 2 == 0 ? MatchStatus.CONFIRMED : MatchStatus.UNCONFIRMED)
+                            .price(1_000_000L).confirmedPrice(0L).build();
+                })
+                .flatMap(match -> LongStream.rangeClosed(1, quotationsPerChat)
+                        .mapToObj(i -> Quotation.builder()
+                                .id(match.getId() * quotationsPerChat + i)
+                                .match(match)
+                                .title("title" + i)
+                                .price(i * 100_000L)
+                                .company("company")
+                                .description("description")
+                                .status(i % 2 == 0 ? QuotationStatus.CONFIRMED : QuotationStatus.UNCONFIRMED)
+                                .createdAt(FIXED_TIME.plusMinutes(i))
+                                .build()))
+                .toList();
+    }
+
+    static List<Match> matches(int count) {
+        Planner planner = planner(1L);
+        Couple couple = couple(2L);
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> Match.builder().id(id).planner(planner).couple(couple)
+                        .status(id % 3 == 0 ? MatchStatus.UNCONFIRMED : MatchStatus.CONFIRMED)
+                        .price(id * 100_000L).confirmedPrice(id * 100_000L).build())
+                .toList();
+    }
+}
@@ -0,0 +1,115 @@
+package com.kakao.sunsuwedding.benchmark;
+
+import com.kakao.sunsuwedding._core.utils.PriceCalculator;
+import com.kakao.sunsuwedding.favorite.Favorite;
+import com.kakao.sunsuwedding.favorite.FavoriteDTOConverter;
+import com.kakao.sunsuwedding.favorite.FavoriteResponse;
+import com.kakao.sunsuwedding.match.Match;
+import com.kakao.sunsuwedding.match.MatchStatus;
+import com.kakao.sunsuwedding.portfolio.Portfolio;
+import com.kakao.sunsuwedding.portfolio.PortfolioDTOConverter;
+import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
+import com.kakao.sunsuwedding.portfolio.stats.PaymentHistoryRow;
+import com.kakao.sunsuwedding.review.Review;
+import com.kakao.sunsuwedding.review.ReviewDTOConverter;
+import com.kakao.sunsuwedding.review.ReviewResponse;
+import com.kakao.sunsuwedding.review.image.ReviewImageItem;
+import com.kakao.sunsuwedding.user.couple.Couple;
+import com.kakao.sunsuwedding.user.planner.Planner;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+// 부모(리뷰, 매칭, 찜) 1개당 자식(이미지, 견적서) 2개씩, 자식 수를 늘려가며 DTO 변환 시간을 측정
+// 자식 수에 비례해서(선형으로) 늘어나야 함
+// ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConverterBenchmark {
+
+    @Param({"10", "100", "10000"})
+    private int children;
+
+    private final ReviewDTOConverter reviewDTOConverter = new ReviewDTOConverter();
+    private final PortfolioDTOConverter portfolioDTOConverter = new PortfolioDTOConverter(new PriceCalculator());
+    private final FavoriteDTOConverter favoriteDTOConverter = new FavoriteDTOConverter();
+
+    private List<Review> reviews;
+    private List<ReviewImageItem> reviewImageItems;
+    private List<Match> matches;
+    private List<PaymentHistoryRow> paymentRows;
+    private List<Favorite> favorites;
+    private Map<Long, String> thumbnails;
+
+    @Setup
+    public void setUp() {
+        int parents = Math.max(1, children / 2);
+        Planner planner = Planner.builder().id(1L).email("planner@gmail.com").username("planner").build();
+        Couple couple = Couple.builder().id(2L).email("couple@gmail.com").username("couple").build();
+
+        matches = LongStream.rangeClosed(1, parents)
+                .mapToObj(id -> {
+                    Match match = Match.builder().id(id).planner(planner).couple(couple)
+                            .status(MatchStatus.CONFIRMED).price(1_000_000L).confirmedPrice(1_000_000L).build();
+                    match.updateStatusConfirmed();
+                    return match;
+                })
+                .toList();
+        reviews = matches.stream()
+                .map(match -> Review.builder().id(match.getId()).match(match).stars(5).content("content").build())
+                .toList();
+
+        // 자식은 부모 순서와 섞이도록 번갈아 배치
+        reviewImageItems = LongStream.range(0, children)
+                .mapToObj(i -> ReviewImageItem.builder()
+                        .id(i)
+                        .review(reviews.get((int) (i % parents)))
+                        .imageKey("key" + i)
+                        .thumbnail(i < parents)
+                        .build())
+                .toList();
+        // 거래 내역은 조인 결과처럼 매칭 순서대로 정렬된 (매칭, 견적서) 행
+        paymentRows = LongStream.range(0, children)
+                .mapToObj(i -> {
+                    Match match = matches.get((int) (i / 2 % parents));
+                    return new PaymentHistoryRow(match.getId(), match.getConfirmedPrice(), match.getConfirmedAt(),
+                            i, "title", 100_000L, "company", "description");
+                })
+                .toList();
+
+        List<Portfolio> portfolios = LongStream.rangeClosed(1, parents)
+                .mapToObj(id -> Portfolio.builder().id(id).planner(planner).plannerName("planner").title("title")
+                        .location("서울").totalPrice(1_000_000L).contractCount(0L).build())
+                .toList();
+        favorites = portfolios.stream()
+                .map(portfolio -> Favorite.builder().user(couple).portfolio(portfolio).build())
+                .toList();
+        thumbnails = portfolios.stream()
+                .collect(Collectors.toMap(Portfolio::getId, portfolio -> "/api/image/key" + portfolio.getId()));
+    }
+
+    @Benchmark
+    public ReviewResponse.FindAllByPlannerDTO reviewsByPlanner() {
+        return reviewDTOConverter.getFindAllByPlannerDTO(reviews, reviewImageItems);
+    }
+
+    @Benchmark
+    public ReviewResponse.FindAllByCoupleDTO reviewsByCouple() {
+        return reviewDTOConverter.getFindAllByCoupleDTO(reviews, reviewImageItems);
+    }
+
+    @Benchmark
+    public List<PortfolioResponse.PaymentDTO> paymentHistory() {
+        return portfolioDTOConverter.toPaymentDTO(paymentRows);
+    }
+
+    @Benchmark
+    public List<FavoriteResponse.FindPortfolioDTO> favoritePortfolios() {
+        return favoriteDTOConverter.findAllFavoritePortfolio(favorites, thumbnails);
+    }
+}
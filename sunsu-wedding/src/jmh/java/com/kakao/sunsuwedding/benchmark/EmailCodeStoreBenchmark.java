@@ -0,0 +1,78 @@
+package com.kakao.sunsuwedding.benchmark;
+
+import com.kakao.sunsuwedding._core.utils.TokenBucketRateLimiter;
+import com.kakao.sunsuwedding.user.email.EmailCodeEntry;
+import com.kakao.sunsuwedding.user.email.InMemoryEmailCodeStore;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+// 회원가입이 몰릴 때 인증 코드 발송(rate limit + 저장)과 확인(조회 + 인증 완료 저장) 비용
+// 이메일은 emails 개 안에서 돌려 써서 재요청(덮어쓰기)과 wheel 정리가 함께 일어나게 함
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EmailCodeStoreBenchmark {
+
+    private static final Duration CODE_TTL = Duration.ofMinutes(10);
+
+    @Param({"100000"})
+    private int emails;
+
+    private InMemoryEmailCodeStore store;
+    private TokenBucketRateLimiter perEmail;
+    private TokenBucketRateLimiter perIp;
+
+    @State(Scope.Thread)
+    public static class Sequence {
+        private int next;
+
+        int next(int bound) {
+            next = (next + 1) % bound;
+            return next;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        store = new InMemoryEmailCodeStore(CODE_TTL, Duration.ofSeconds(1));
+        // 측정 중에 거절되지 않도록 capacity 를 크게 둠 (거절 여부와 관계없이 비용은 같음)
+        perEmail = new TokenBucketRateLimiter(Long.MAX_VALUE, Duration.ofMinutes(1));
+        perIp = new TokenBucketRateLimiter(Long.MAX_VALUE, Duration.ofSeconds(10));
+    }
+
+    @Benchmark
+    public Optional<EmailCodeEntry> sendAndVerify(Sequence sequence) {
+        return signup(sequence.next(emails), "10.0.0.1");
+    }
+
+    // 여러 요청 스레드가 서로 다른 이메일로 동시에 요청
+    @Benchmark
+    @Threads(8)
+    public Optional<EmailCodeEntry> sendAndVerifyBurst(Sequence sequence) {
+        return signup(sequence.next(emails), "10.0.0." + (sequence.next % 8));
+    }
+
+    // 같은 IP 버킷 하나에 요청이 몰리는 경우 (버킷 lock 경합)
+    @Benchmark
+    @Threads(8)
+    public boolean rateLimitSameIp() {
+        return perIp.tryAcquire("10.0.0.1");
+    }
+
+    private Optional<EmailCodeEntry> signup(int index, String clientIp) {
+        String email = "user" + index + "@naver.com";
+        perIp.tryAcquire(clientIp);
+        perEmail.tryAcquire("send:" + email);
+
+        LocalDateTime now = LocalDateTime.now();
+        store.save(EmailCodeEntry.issue(email, "999999", now, now.plus(CODE_TTL)));
+
+        Optional<EmailCodeEntry> found = store.find(email);
+        found.ifPresent(entry -> store.save(entry.confirm(now.plusDays(1))));
+        return found;
+    }
+}
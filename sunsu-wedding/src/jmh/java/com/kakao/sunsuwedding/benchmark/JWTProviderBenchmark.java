@@ -0,0 +1,35 @@
+package com.kakao.sunsuwedding.benchmark;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.kakao.sunsuwedding._core.security.JWTProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+// 인증이 필요한 모든 요청이 거치는 access token 검증
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTProviderBenchmark {
+
+    private final JWTProvider jwtProvider = new JWTProvider("benchmark-access-secret", "benchmark-refresh-secret");
+
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        accessToken = jwtProvider.createAccessToken(BenchmarkFixtures.planner(1L), 1L);
+    }
+
+    @Benchmark
+    public DecodedJWT verifyAccessToken() {
+        return jwtProvider.verifyAccessToken(accessToken);
+    }
+
+    // 캐싱된 verifier 를 여러 요청 스레드가 동시에 사용하는 경우
+    @Benchmark
+    @Threads(8)
+    public DecodedJWT verifyAccessTokenConcurrently() {
+        return jwtProvider.verifyAccessToken(accessToken);
+    }
+}
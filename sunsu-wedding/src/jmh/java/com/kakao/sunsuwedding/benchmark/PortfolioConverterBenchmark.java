@@ -0,0 +1,56 @@
+package com.kakao.sunsuwedding.benchmark;
+
+import com.kakao.sunsuwedding._core.utils.LongHashSet;
+import com.kakao.sunsuwedding._core.utils.PriceCalculator;
+import com.kakao.sunsuwedding.portfolio.Portfolio;
+import com.kakao.sunsuwedding.portfolio.PortfolioDTOConverter;
+import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
+import com.kakao.sunsuwedding.portfolio.price.PriceItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// 목록 한 페이지(10개)와 상세 조회 1건 기준
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PortfolioConverterBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    private final PortfolioDTOConverter portfolioDTOConverter = new PortfolioDTOConverter(new PriceCalculator());
+
+    private List<Portfolio> portfolios;
+    private Map<Long, String> thumbnails;
+    private LongHashSet likedPortfolioIds;
+
+    private Portfolio portfolio;
+    private List<String> images;
+    private List<PriceItem> priceItems;
+
+    @Setup
+    public void setUp() {
+        portfolios = BenchmarkFixtures.portfolios(PAGE_SIZE);
+        thumbnails = portfolios.stream()
+                .collect(Collectors.toMap(Portfolio::getId, portfolio -> "/api/image/thumbnail" + portfolio.getId()));
+        likedPortfolioIds = LongHashSet.of(List.of(2L, 5L, 7L));
+
+        portfolio = portfolios.get(0);
+        images = IntStream.range(0, 5).mapToObj(i -> "/api/image/image" + i).toList();
+        priceItems = BenchmarkFixtures.priceItems(portfolio, 8);
+    }
+
+    @Benchmark
+    public List<PortfolioResponse.FindAllDTO> findAll() {
+        return portfolioDTOConverter.toFindAllDTO(portfolios, thumbnails, likedPortfolioIds);
+    }
+
+    @Benchmark
+    public PortfolioResponse.FindByIdDTO findById() {
+        return portfolioDTOConverter.toFindByIdDTO(portfolio, images, priceItems);
+    }
+}
@@ -0,0 +1,66 @@
+package com.kakao.sunsuwedding.benchmark;
+
+import com.kakao.sunsuwedding._core.utils.PriceCalculator;
+import com.kakao.sunsuwedding._core.utils.PriceStatistics;
+import com.kakao.sunsuwedding.match.Match;
+import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
+import com.kakao.sunsuwedding.quotation.Quotation;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PriceCalculatorBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private final PriceCalculator priceCalculator = new PriceCalculator();
+
+    private List<PortfolioResponse.PriceItemDTO> priceItemDTOs;
+    private List<Quotation> quotations;
+    private List<Match> matches;
+    private final PriceStatistics statistics = new PriceStatistics();
+
+    @Setup
+    public void setUp() {
+        priceItemDTOs = BenchmarkFixtures.priceItemDTOs(size);
+        quotations = BenchmarkFixtures.quotations(1, size);
+        matches = BenchmarkFixtures.matches(size);
+    }
+
+    @Benchmark
+    public Long portfolioPrice() {
+        return priceCalculator.calculatePortfolioPrice(priceItemDTOs);
+    }
+
+    @Benchmark
+    public Long confirmedQuotationPrice() {
+        return priceCalculator.calculateConfirmedQuotationPrice(quotations);
+    }
+
+    @Benchmark
+    public Long avgPrice() {
+        return priceCalculator.calculateAvgPrice(matches, priceCalculator.getContractCount(matches));
+    }
+
+    // 포트폴리오 재등록 시 통계 5개를 구하던 기존 방식 (매칭 목록을 다섯 번 순회)
+    @Benchmark
+    public long confirmedPriceStatsSeparately() {
+        Long count = priceCalculator.getContractCount(matches);
+        return count + priceCalculator.calculatePriceSum(matches)
+                + priceCalculator.calculateAvgPrice(matches, count)
+                + priceCalculator.calculateMinPrice(matches)
+                + priceCalculator.calculateMaxPrice(matches);
+    }
+
+    // 한 번 순회로 같은 통계를 구하고 누적기는 재사용
+    @Benchmark
+    public long confirmedPriceStatsSinglePass() {
+        PriceStatistics stats = priceCalculator.accumulateConfirmedPrices(matches, statistics.reset());
+        return stats.count() + stats.sum() + stats.avg() + stats.min() + stats.max();
+    }
+}
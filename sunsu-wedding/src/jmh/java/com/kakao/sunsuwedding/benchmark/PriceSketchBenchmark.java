@@ -0,0 +1,48 @@
+package com.kakao.sunsuwedding.benchmark;
+
+import com.kakao.sunsuwedding._core.utils.PriceCalculator;
+import com.kakao.sunsuwedding._core.utils.TDigest;
+import com.kakao.sunsuwedding.portfolio.PortfolioDTOConverter;
+import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+// 확정 1건 반영(스케치 복원 -> 값 추가 -> 직렬화)과 분포 조회(분위수 4개 + 구간 10개) 비용
+// 누적 거래 수가 늘어나도 스케치 크기에 상한이 있으므로 시간이 거의 같아야 함
+// ./gradlew jmh
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PriceSketchBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    private int deals;
+
+    private final PortfolioDTOConverter portfolioDTOConverter = new PortfolioDTOConverter(new PriceCalculator());
+
+    private byte[] sketch;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        TDigest digest = new TDigest();
+        for (int i = 0; i < deals; i++) {
+            digest.add(Math.round(Math.exp(random.nextGaussian() * 0.5 + 15)));
+        }
+        sketch = digest.toBytes();
+    }
+
+    @Benchmark
+    public byte[] addConfirmedPrice() {
+        TDigest digest = TDigest.fromBytes(sketch);
+        digest.add(3_000_000L);
+        return digest.toBytes();
+    }
+
+    @Benchmark
+    public PortfolioResponse.PriceDistributionDTO distribution() {
+        return portfolioDTOConverter.toPriceDistributionDTO(TDigest.fromBytes(sketch));
+    }
+}
@@ -0,0 +1,41 @@
+package com.kakao.sunsuwedding.benchmark;
+
+import com.kakao.sunsuwedding.quotation.Quotation;
+import com.kakao.sunsuwedding.quotation.QuotationDTOConverter;
+import com.kakao.sunsuwedding.quotation.QuotationResponse;
+import com.kakao.sunsuwedding.user.constant.Role;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// 견적서 모아보기 한 페이지 기준 (채팅방 10개, 채팅방마다 견적서 5개)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuotationConverterBenchmark {
+
+    private final QuotationDTOConverter quotationDTOConverter = new QuotationDTOConverter();
+
+    private Map<Long, List<Quotation>> quotationsByChatId;
+    private List<Long> chatIds;
+
+    @Setup
+    public void setUp() {
+        quotationsByChatId = BenchmarkFixtures.quotations(10, 5).stream()
+                .collect(Collectors.groupingBy(quotation -> quotation.getMatch().getChat().getId()));
+        chatIds = quotationsByChatId.keySet().stream().sorted().toList();
+    }
+
+    @Benchmark
+    public List<QuotationResponse.QuotationsByChatIdDTO> quotationsByChatIdForPlanner() {
+        return quotationDTOConverter.toQuotationsByChatIdDTO(quotationsByChatId, chatIds, Role.PLANNER.getRoleName());
+    }
+
+    @Benchmark
+    public List<QuotationResponse.QuotationsByChatIdDTO> quotationsByChatIdForCouple() {
+        return quotationDTOConverter.toQuotationsByChatIdDTO(quotationsByChatId, chatIds, Role.COUPLE.getRoleName());
+    }
+}
@@ -0,0 +1,31 @@
+package com.kakao.sunsuwedding._core.config;
+
+import com.kakao.sunsuwedding.user.email.EmailCodeStore;
+import com.kakao.sunsuwedding.user.email.EmailServiceImpl;
+import com.kakao.sunsuwedding.user.email.InMemoryEmailCodeStore;
+import com.kakao.sunsuwedding.user.email.JdbcEmailCodeStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+
+// 서버 한 대로 운영할 때는 memory, 여러 대가 같은 코드를 봐야 하면 jdbc (기본값)
+@Configuration
+public class EmailCodeStoreConfig {
+
+    // wheel 한 바퀴를 인증 코드 유효 시간에 맞춤
+    @Bean
+    @ConditionalOnProperty(name = "email.code-store", havingValue = "memory")
+    public EmailCodeStore inMemoryEmailCodeStore(@Value("${email.code.wheel-tick:1s}") Duration tick) {
+        return new InMemoryEmailCodeStore(EmailServiceImpl.CODE_TTL, tick);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "email.code-store", havingValue = "jdbc", matchIfMissing = true)
+    public EmailCodeStore jdbcEmailCodeStore(JdbcTemplate jdbcTemplate) {
+        return new JdbcEmailCodeStore(jdbcTemplate);
+    }
+}
@@ -0,0 +1,42 @@
+package com.kakao.sunsuwedding._core.config;
+
+import com.kakao.sunsuwedding._core.security.BcryptCostCalibrator;
+import com.kakao.sunsuwedding._core.security.PasswordHasher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+// password-hashing.bcrypt-cost 가 없으면(0) 시작할 때 target-millis 에 맞춰 cost 를 정함
+@Slf4j
+@Configuration
+public class PasswordHashingConfig {
+
+    @Bean
+    public PasswordHasher passwordHasher(@Value("${password-hashing.bcrypt-cost:0}") int bcryptCost,
+                                         @Value("${password-hashing.target-millis:100}") long targetMillis,
+                                         @Value("${password-hashing.threads:0}") int threads,
+                                         @Value("${password-hashing.queue-capacity:32}") int queueCapacity) {
+        int cost = (bcryptCost > 0) ? bcryptCost : BcryptCostCalibrator.calibrate(Duration.ofMillis(targetMillis));
+        if (bcryptCost <= 0) {
+            log.warn("bcrypt cost 를 시작 시점 측정값({})으로 정함. 여러 인스턴스로 운영할 때는 password-hashing.bcrypt-cost 를 고정할 것", cost);
+        }
+        int poolSize = (threads > 0) ? threads : Runtime.getRuntime().availableProcessors();
+        log.info("password hashing: bcrypt cost={}, threads={}, queue={}", cost, poolSize, queueCapacity);
+
+        // 저장된 해시는 모두 {bcrypt} 형식
+        PasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(cost)));
+        return new PasswordHasher(encoder, cost, poolSize, queueCapacity);
+    }
+
+    @Bean
+    public PasswordEncoder passwordEncoder(PasswordHasher passwordHasher) {
+        return passwordHasher.getPasswordEncoder();
+    }
+}
@@ -0,0 +1,13 @@
+package com.kakao.sunsuwedding._core.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 통계 보정 등 백그라운드 작업 스케줄링
+// 테스트에서는 scheduling.enabled=false 로 끄고 필요한 작업만 직접 호출함
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
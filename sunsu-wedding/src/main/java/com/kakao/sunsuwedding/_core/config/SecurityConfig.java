@@ -16,8 +16,6 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.*;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.factory.PasswordEncoderFactories;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
@@ -34,11 +32,6 @@ public class SecurityConfig {
     private final TokenServiceImpl tokenServiceImpl;
     private final JWTProvider jwtProvider;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return PasswordEncoderFactories.createDelegatingPasswordEncoder();
-    }
-
     public class CustomSecurityFilterManager extends AbstractHttpConfigurer<CustomSecurityFilterManager, HttpSecurity> {
         @Override
         public void configure(HttpSecurity builder) throws Exception {
@@ -96,6 +89,7 @@ public class SecurityConfig {
                                 new AntPathRequestMatcher("/api/user/signup"),
                                 new AntPathRequestMatcher("/api/user/login"),
                                 new AntPathRequestMatcher("/api/portfolio/**", "GET"),
+                                new AntPathRequestMatcher("/api/image/**", "GET"),
                                 new AntPathRequestMatcher("/api/mail/**")
                         ).permitAll()
                         .requestMatchers(
@@ -0,0 +1,48 @@
+package com.kakao.sunsuwedding._core.config;
+
+import com.kakao.sunsuwedding._core.sql.SqlStatsDataSource;
+import com.kakao.sunsuwedding._core.sql.SqlStatsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+// 요청별 SQL 실행 통계 (show-sql 대신 Micrometer 지표와 쿼리 예산 초과 경고로 확인)
+@Configuration
+@ConditionalOnProperty(name = "sql-stats.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatsConfig implements WebMvcConfigurer {
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final int queryBudget;
+
+    public SqlStatsConfig(ObjectProvider<MeterRegistry> meterRegistry,
+                          @Value("${sql-stats.query-budget:20}") int queryBudget) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudget = queryBudget;
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlStatsDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SqlStatsDataSource)) {
+                    return new SqlStatsDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlStatsInterceptor(meterRegistry.getObject(), queryBudget))
+                .addPathPatterns("/api/**");
+    }
+}
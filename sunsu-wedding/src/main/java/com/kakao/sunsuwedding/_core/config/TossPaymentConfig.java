@@ -0,0 +1,58 @@
+package com.kakao.sunsuwedding._core.config;
+
+import com.kakao.sunsuwedding._core.utils.CircuitBreaker;
+import com.kakao.sunsuwedding.payment.TossPaymentClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class TossPaymentConfig {
+    @Value("${payment.toss.secret}")
+    private String secretKey;
+
+    @Value("${payment.toss.base-url:https://api.tosspayments.com}")
+    private String baseUrl;
+
+    // 운영 서버는 프록시를 거쳐야 외부로 나갈 수 있음
+    @Value("${payment.toss.proxy.host:}")
+    private String proxyHost;
+
+    @Value("${payment.toss.proxy.port:3128}")
+    private int proxyPort;
+
+    @Value("${payment.toss.connect-timeout-ms:3000}")
+    private long connectTimeoutMillis;
+
+    @Value("${payment.toss.read-timeout-ms:10000}")
+    private long readTimeoutMillis;
+
+    @Value("${payment.toss.max-connections:50}")
+    private int maxConnections;
+
+    @Value("${payment.toss.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${payment.toss.circuit.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${payment.toss.circuit.open-seconds:30}")
+    private long openSeconds;
+
+    @Bean
+    public TossPaymentClient tossPaymentClient() {
+        return TossPaymentClient.builder()
+                .baseUrl(baseUrl)
+                .secretKey(secretKey)
+                .proxyHost(proxyHost)
+                .proxyPort(proxyPort)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .readTimeout(Duration.ofMillis(readTimeoutMillis))
+                .maxConnections(maxConnections)
+                .maxAttempts(maxAttempts)
+                .circuitBreaker(new CircuitBreaker(failureThreshold, Duration.ofSeconds(openSeconds)))
+                .build();
+    }
+}
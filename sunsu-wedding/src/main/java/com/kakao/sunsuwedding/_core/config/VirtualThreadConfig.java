@@ -0,0 +1,65 @@
+package com.kakao.sunsuwedding._core.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// execution.virtual-threads.enabled=true (virtual 프로필) 이면 Tomcat 요청 처리와 @Async 작업을 가상 스레드에서 실행
+// JPA, RestTemplate 같은 blocking 호출이 플랫폼 스레드를 붙잡지 않게 하기 위함
+// 가상 스레드는 JDK 21 부터 지원되므로 지금 빌드(JDK 17)에서는 리플렉션으로 찾고, 없으면 기존 스레드풀을 그대로 사용
+// Boot 3.2 로 올리면 이 설정 대신 spring.threads.virtual.enabled=true 로 대체 가능
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "execution.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadConfig implements DisposableBean {
+    private final Optional<ExecutorService> virtualThreadExecutor = newVirtualThreadExecutor();
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> virtualThreadExecutor.ifPresent(executor -> {
+            protocolHandler.setExecutor(executor);
+            log.info("Tomcat 요청을 가상 스레드에서 처리합니다.");
+        });
+    }
+
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        if (virtualThreadExecutor.isPresent()) {
+            return new TaskExecutorAdapter(virtualThreadExecutor.get());
+        }
+        // 가상 스레드를 쓸 수 없으면 Boot 기본값과 같은 스레드풀로 대체
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setThreadNamePrefix("task-");
+        return executor;
+    }
+
+    @Override
+    public void destroy() {
+        virtualThreadExecutor.ifPresent(ExecutorService::shutdown);
+    }
+
+    private static Optional<ExecutorService> newVirtualThreadExecutor() {
+        try {
+            ExecutorService executor = (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+            return Optional.of(executor);
+        }
+        catch (ReflectiveOperationException exception) {
+            log.warn("가상 스레드를 지원하지 않는 JDK({}) 입니다. 기존 플랫폼 스레드로 실행합니다.", Runtime.version());
+            return Optional.empty();
+        }
+    }
+}
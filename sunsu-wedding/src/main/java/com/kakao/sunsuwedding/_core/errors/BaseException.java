@@ -13,6 +13,10 @@ public enum BaseException {
     USER_UNAUTHORIZED("인증되지 않았습니다.", 1002, 401),
     INVALID_METHOD_ARGUMENTS("잘못된 매개변수가 입력되었습니다.", 1003, 400),
     UNEXPECTED_EXCEPTION("예상치 못한 에러가 발생했습니다.", 1004, 500),
+    IMAGE_NOT_FOUND("이미지를 찾을 수 없습니다.", 1005, 404),
+    IMAGE_STORE_ERROR("이미지 저장 과정에서 오류가 발생했습니다.", 1006, 500),
+    IMAGE_DECODE_ERROR("이미지 디코딩 과정에서 오류가 발생했습니다. base64 형식인지 확인해주세요.", 1007, 400),
+    TOO_MANY_REQUESTS("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", 1008, 429),
 
     // 회원 2000
     USER_NOT_FOUND("서비스를 탈퇴했거나 가입하지 않은 유저의 요청입니다.", 2000, 404),
@@ -41,11 +45,14 @@ public enum BaseException {
     CODE_NOT_MATCHED("인증코드가 일치하지 않습니다.", 2204, 400),
     UNAUTHENTICATED_EMAIL("인증되지 않은 이메일입니다.", 2205, 400),
     EMAIL_ALREADY_AUTHENTICATED("이미 인증이 완료되었습니다.", 2206, 400),
+    EMAIL_RATE_LIMITED("인증코드 요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", 2207, 429),
 
     // 결제 3000
     PAYMENT_WRONG_INFORMATION("잘못된 결제 정보입니다.", 3000, 400),
     PAYMENT_NOT_FOUND("결제 내용이 존재하지 않습니다.", 3001, 404),
     PAYMENT_FAIL("토스페이먼츠 승인 요청에 실패했습니다.", 3002, 400),
+    PAYMENT_GATEWAY_UNAVAILABLE("결제 서버와 통신할 수 없습니다. 승인 결과는 잠시 후 반영됩니다.", 3003, 503),
+    PAYMENT_ALREADY_IN_PROGRESS("이미 승인 요청 중이거나 완료된 결제입니다.", 3004, 400),
 
     // 포트폴리오 4000
     PORTFOLIO_NOT_FOUND("해당하는 플래너의 포트폴리오가 삭제되었거나 존재하지 않습니다.", 4000, 404),
@@ -58,6 +65,8 @@ public enum BaseException {
     PORTFOLIO_CLEAN_DIRECTORY_ERROR("포트폴리오 폴더를 비우는 과정에서 오류가 발생했습니다.", 4007, 500),
     PORTFOLIO_IMAGE_DELETE_ERROR("포트폴리오 이미지 삭제 과정에서 오류가 발생했습니다.", 4008, 500),
     PORTFOLIO_IMAGE_PATH_ERROR("포트폴리오 이미지 경로를 구하는 과정에서 오류가 발생했습니다.", 4009, 500),
+    PORTFOLIO_SEARCH_ERROR("포트폴리오 검색 과정에서 오류가 발생했습니다.", 4010, 500),
+    PORTFOLIO_SEARCH_SORT_WRONG("정렬 기준은 relevance, stars 중 하나만 가능합니다.", 4011, 400),
 
     // 매칭 관련 5000
     MATCHING_ALREADY_CONFIRMED("전체 확정되어 견적서를 추가할 수 없습니다.", 5000, 400),
@@ -65,6 +74,7 @@ public enum BaseException {
     MATCHING_ALREADY_EXIST("이미 존재하는 매칭입니다.", 5002, 400),
     MATCHING_NOT_CONFIRMED("견적서 전체 확정이 되지 않았습니다.", 5003, 400),
     MATCHING_USER_NOT_FOUND("매칭 유저가 존재하지 않기 때문에 견적서를 추가할 수 없습니다.", 5004, 404),
+    MATCHING_CONFIRMED_TWICE("이미 전체 확정된 매칭입니다.", 5005, 400),
 
     // 견적서 관련 6000
     QUOTATIONS_NOT_ALL_CONFIRMED("확정되지 않은 견적서가 있습니다.", 6000, 400),
@@ -59,6 +59,11 @@ public class GlobalExceptionHandler {
         return response(e.body(), e.status());
     }
 
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<?> tooManyRequests(TooManyRequestsException e){
+        return response(e.body(), e.status());
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<?> notFound(NotFoundException e){
         return response(e.body(), e.status());
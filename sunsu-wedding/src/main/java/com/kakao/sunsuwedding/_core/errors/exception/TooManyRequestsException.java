@@ -0,0 +1,31 @@
+package com.kakao.sunsuwedding._core.errors.exception;
+
+import com.kakao.sunsuwedding._core.errors.BaseException;
+import com.kakao.sunsuwedding._core.errors.CustomException;
+import com.kakao.sunsuwedding._core.utils.ApiUtils;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+
+// 요청 과다 429
+@Getter
+public class TooManyRequestsException extends RuntimeException implements CustomException {
+    private final BaseException exception;
+
+    public TooManyRequestsException(BaseException exception){
+        super(exception.getMessage());
+        this.exception = exception;
+    }
+    
+    public ApiUtils.ApiResult<?> body(){
+        return ApiUtils.error(exception);
+    }
+
+    public HttpStatus status(){
+        return HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    public int code() {
+        return exception.getCode();
+    }
+}
\ No newline at end of file
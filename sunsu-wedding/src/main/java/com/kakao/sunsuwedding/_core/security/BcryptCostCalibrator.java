@@ -0,0 +1,65 @@
+package com.kakao.sunsuwedding._core.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+// 서버 CPU 에서 bcrypt 한 번이 목표 시간 안에 끝나는 가장 높은 cost 를 찾음
+// cost 가 1 오를 때마다 해싱 시간은 약 두 배가 됨
+@Slf4j
+public final class BcryptCostCalibrator {
+    // 기존 기본값(10)보다 낮추지는 않음
+    public static final int MIN_COST = 10;
+    public static final int MAX_COST = 16;
+
+    private static final String SAMPLE_PASSWORD = "calibration-password1234!";
+    private static final String BCRYPT_PREFIX = "{bcrypt}";
+
+    private BcryptCostCalibrator() {
+    }
+
+    public static int calibrate(Duration target) {
+        int cost = MIN_COST;
+        for (int candidate = MIN_COST; candidate <= MAX_COST; candidate++) {
+            long elapsedMillis = measureMillis(candidate);
+            log.info("bcrypt cost {} : {}ms", candidate, elapsedMillis);
+            if (elapsedMillis > target.toMillis()) {
+                break;
+            }
+            cost = candidate;
+        }
+        return cost;
+    }
+
+    // "{bcrypt}$2a$10$..." 형식에서 cost 를 읽음, bcrypt 가 아니면 -1
+    public static int costOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        String hash = encodedPassword.startsWith(BCRYPT_PREFIX)
+                ? encodedPassword.substring(BCRYPT_PREFIX.length())
+                : encodedPassword;
+        // $2a$10$ : 버전 뒤 두 자리가 cost
+        if (hash.length() < 7 || hash.charAt(0) != '$' || hash.charAt(3) != '$' || hash.charAt(6) != '$') {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(hash.substring(4, 6));
+        }
+        catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    private static long measureMillis(int cost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+        // 첫 호출은 클래스 로딩, JIT 영향이 있어 한 번 버리고 측정
+        if (cost == MIN_COST) {
+            encoder.encode(SAMPLE_PASSWORD);
+        }
+        long start = System.nanoTime();
+        encoder.encode(SAMPLE_PASSWORD);
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -2,7 +2,6 @@ package com.kakao.sunsuwedding._core.security;
 
 import com.kakao.sunsuwedding.user.base_user.User;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -11,11 +10,22 @@ import java.util.Collection;
 import java.util.Collections;
 
 @Getter
-@RequiredArgsConstructor
 public class CustomUserDetails implements UserDetails {
 
     private final User user;
 
+    // 토큰으로 인증된 경우 해당 토큰의 family(로그인 기기) id
+    private final Long tokenFamilyId;
+
+    public CustomUserDetails(User user) {
+        this(user, null);
+    }
+
+    public CustomUserDetails(User user, Long tokenFamilyId) {
+        this.user = user;
+        this.tokenFamilyId = tokenFamilyId;
+    }
+
     // security 에 사용하기 위한 권한 설정(플래너 -> planner, 커플 -> couple)
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
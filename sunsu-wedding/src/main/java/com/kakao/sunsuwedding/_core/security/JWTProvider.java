@@ -7,6 +7,7 @@ import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
 import com.kakao.sunsuwedding.user.base_user.User;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -24,50 +25,56 @@ public class JWTProvider {
     public final String AUTHORIZATION_HEADER = "Authorization";
     public final String REFRESH_HEADER = "Refresh";
 
-    @Value("${security.jwt-config.secret.access}")
-    public String ACCESS_TOKEN_SECRET;
+    // Algorithm, JWTVerifier 는 불변이고 thread-safe 하므로 한 번만 만들어서 재사용
+    private final Algorithm accessAlgorithm;
+    private final Algorithm refreshAlgorithm;
+    private final JWTVerifier accessVerifier;
+    private final JWTVerifier refreshVerifier;
 
-    @Value("${security.jwt-config.secret.refresh}")
-    private String REFRESH_TOKEN_SECRET;
+    public JWTProvider(@Value("${security.jwt-config.secret.access}") String accessTokenSecret,
+                       @Value("${security.jwt-config.secret.refresh}") String refreshTokenSecret) {
+        this.accessAlgorithm = Algorithm.HMAC512(accessTokenSecret);
+        this.refreshAlgorithm = Algorithm.HMAC512(refreshTokenSecret);
+        this.accessVerifier = JWT.require(accessAlgorithm).build();
+        this.refreshVerifier = JWT.require(refreshAlgorithm).build();
+    }
 
-    public String createAccessToken(User user) {
-        String jwt = create(user, ACCESS_TOKEN_EXP, ACCESS_TOKEN_SECRET);
+    public String createAccessToken(User user, Long familyId) {
+        String jwt = create(user, familyId, ACCESS_TOKEN_EXP, accessAlgorithm);
         return TOKEN_PREFIX + jwt;
     }
 
-    public String createRefreshToken(User user) {
-        String jwt = create(user, REFRESH_TOKEN_EXP, REFRESH_TOKEN_SECRET);
+    public String createRefreshToken(User user, Long familyId) {
+        String jwt = create(user, familyId, REFRESH_TOKEN_EXP, refreshAlgorithm);
         return TOKEN_PREFIX + jwt;
     }
 
-    private String create(User user, Long expire, String secret) {
+    private String create(User user, Long familyId, Long expire, Algorithm algorithm) {
         return JWT.create()
                 .withSubject(user.getEmail())
                 .withExpiresAt(new Date(System.currentTimeMillis() + expire))
                 .withClaim("id", user.getId())
                 .withClaim("role", user.getDtype())
-                .sign(Algorithm.HMAC512(secret));
+                .withClaim("family", familyId)
+                .sign(algorithm);
     }
 
     public DecodedJWT verifyAccessToken(String token) throws SignatureVerificationException, TokenExpiredException {
-        return verify(token, ACCESS_TOKEN_SECRET);
+        return verify(token, accessVerifier);
     }
 
     public DecodedJWT verifyRefreshToken(String token) throws SignatureVerificationException, TokenExpiredException {
-        return verify(token, REFRESH_TOKEN_SECRET);
+        return verify(token, refreshVerifier);
     }
 
-    private DecodedJWT verify(String token, String secret) {
+    private DecodedJWT verify(String token, JWTVerifier verifier) {
         token = token.replace(TOKEN_PREFIX, "");
-        return JWT
-                .require(Algorithm.HMAC512(secret))
-                .build()
-                .verify(token);
+        return verifier.verify(token);
     }
 
     public boolean isValidAccessToken(String token) {
         try {
-            verify(token, ACCESS_TOKEN_SECRET);
+            verify(token, accessVerifier);
             return true;
         }
         catch (JWTVerificationException exception) {
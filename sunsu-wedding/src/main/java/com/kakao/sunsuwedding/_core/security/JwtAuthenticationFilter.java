@@ -2,6 +2,7 @@ package com.kakao.sunsuwedding._core.security;
 
 
 import com.auth0.jwt.exceptions.JWTDecodeException;
+import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
 import com.auth0.jwt.interfaces.DecodedJWT;
@@ -43,20 +44,29 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
         String accessToken = request.getHeader(jwtProvider.AUTHORIZATION_HEADER);
         String refreshToken = request.getHeader(jwtProvider.REFRESH_HEADER);
 
-        if (request.getRequestURI().contains("/api/portfolio") && request.getMethod().equals("GET")) {
-            if (accessToken != null && !jwtProvider.isValidAccessToken(accessToken)) {
-                throw new UnauthorizedException(BaseException.ACCESS_TOKEN_EXPIRED);
-            }
-        }
-
         if (accessToken == null) {
             chain.doFilter(request, response);
             return;
         }
 
+        // access token 은 요청당 한 번만 검증하고 결과(성공 시 디코딩 값, 실패 시 예외)를 재사용
+        DecodedJWT decodedAccessToken = null;
+        JWTVerificationException accessTokenError = null;
+        try {
+            decodedAccessToken = jwtProvider.verifyAccessToken(accessToken);
+        } catch (JWTVerificationException exception) {
+            accessTokenError = exception;
+        }
+
+        if (request.getRequestURI().contains("/api/portfolio") && request.getMethod().equals("GET")) {
+            if (accessTokenError != null) {
+                throw new UnauthorizedException(BaseException.ACCESS_TOKEN_EXPIRED);
+            }
+        }
+
         if (refreshToken != null) {
             try {
-                refreshTokenAndCreateAuthentication(accessToken, refreshToken);
+                refreshTokenAndCreateAuthentication(accessToken, refreshToken, accessTokenError == null);
             } catch (SignatureVerificationException sve) {
                 log.error("refresh token 검증 실패");
             } catch (TokenExpiredException tee) {
@@ -73,9 +83,11 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
                 if (request.getRequestURI().equals("/api/user/token")) {
                     throw new UnauthorizedException(BaseException.REFRESH_TOKEN_REQUIRED);
                 }
-                DecodedJWT decodedJWT = jwtProvider.verifyAccessToken(accessToken);
-                Long userId = decodedJWT.getClaim("id").asLong();
-                createAuthentication(decodedJWT, userId);
+                if (accessTokenError != null) {
+                    throw accessTokenError;
+                }
+                Long userId = decodedAccessToken.getClaim("id").asLong();
+                createAuthentication(decodedAccessToken, userId);
                 log.debug("access-token 을 이용한 인증 객체 생성");
             } catch (SignatureVerificationException sve) {
                 log.error("access token 검증 실패");
@@ -90,19 +102,18 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
         }
     }
 
-    private void refreshTokenAndCreateAuthentication(String accessToken, String refreshToken) {
-        Boolean isAccessTokenValid = jwtProvider.isValidAccessToken(accessToken);
-
+    private void refreshTokenAndCreateAuthentication(String accessToken, String refreshToken, boolean isAccessTokenValid) {
         if (isAccessTokenValid) {
             throw new UnauthorizedException(BaseException.ACCESS_TOKEN_STILL_ALIVE);
         }
 
         DecodedJWT decodedJWT = jwtProvider.verifyRefreshToken(refreshToken);
         Long userId = decodedJWT.getClaim("id").asLong();
-        Boolean isTokenPairValid = tokenServiceImpl.checkTokenPairValidation(userId, accessToken, refreshToken);
+        Long familyId = decodedJWT.getClaim("family").asLong();
 
-        if (isTokenPairValid) {
-            tokenServiceImpl.expireTokenByUserId(userId);
+        // 토큰 쌍이 일치할 때만 지우는 조건부 DELETE 한 번으로 검증과 만료를 같이 처리
+        // 동시에 같은 토큰으로 재발급을 요청해도 한 요청만 성공함
+        if (tokenServiceImpl.expireTokenPair(userId, familyId, accessToken, refreshToken)) {
             createAuthentication(decodedJWT, userId);
             log.debug("refresh-token 을 이용한 인증 객체 생성");
         }
@@ -114,8 +125,9 @@ public class JwtAuthenticationFilter extends BasicAuthenticationFilter {
     private void createAuthentication(DecodedJWT decodedJWT, Long userId) {
         String roleName = decodedJWT.getClaim("role").asString();
         Role role = Role.valueOfRole(roleName);
+        Long familyId = decodedJWT.getClaim("family").asLong();
         User user = getUser(userId, role);
-        CustomUserDetails myUserDetails = new CustomUserDetails(user);
+        CustomUserDetails myUserDetails = new CustomUserDetails(user, familyId);
 
         Authentication authentication =
                 new UsernamePasswordAuthenticationToken(
@@ -0,0 +1,91 @@
+package com.kakao.sunsuwedding._core.security;
+
+import com.kakao.sunsuwedding._core.errors.BaseException;
+import com.kakao.sunsuwedding._core.errors.exception.ServerException;
+import com.kakao.sunsuwedding._core.errors.exception.TooManyRequestsException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 비밀번호 해싱(bcrypt)을 CPU 코어 수만큼의 전용 스레드에서 처리
+// 대기열이 가득 차면 요청 스레드를 더 붙잡지 않고 바로 429 로 응답
+@Slf4j
+public class PasswordHasher implements DisposableBean {
+    @Getter
+    private final PasswordEncoder passwordEncoder;
+    @Getter
+    private final int bcryptCost;
+    private final ThreadPoolExecutor executor;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder, int bcryptCost, int threads, int queueCapacity) {
+        this.passwordEncoder = passwordEncoder;
+        this.bcryptCost = bcryptCost;
+        this.executor = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new HashingThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return call(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public String encode(String rawPassword) {
+        return call(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮을 때만 로그인 시 다시 해싱
+    // 인스턴스마다 cost 가 달라도 해시를 서로 낮추며 매 로그인마다 다시 쓰지 않도록 올리는 방향으로만 맞춤
+    public boolean needsRehash(String encodedPassword) {
+        return BcryptCostCalibrator.costOf(encodedPassword) < bcryptCost;
+    }
+
+    private <T> T call(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        }
+        catch (RejectedExecutionException exception) {
+            log.warn("비밀번호 해싱 대기열 포화 (active={}, queued={})", executor.getActiveCount(), executor.getQueue().size());
+            throw new TooManyRequestsException(BaseException.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return future.get();
+        }
+        catch (InterruptedException exception) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServerException(BaseException.UNEXPECTED_EXCEPTION);
+        }
+        catch (ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new ServerException(BaseException.UNEXPECTED_EXCEPTION);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private static class HashingThreadFactory implements ThreadFactory {
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "password-hashing-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
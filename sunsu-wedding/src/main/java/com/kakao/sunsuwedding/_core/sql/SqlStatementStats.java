@@ -0,0 +1,41 @@
+package com.kakao.sunsuwedding._core.sql;
+
+import lombok.Getter;
+
+// 요청 하나에서 실행된 SQL 문 수, 읽거나 바꾼 행 수, JDBC 실행 시간
+// SqlStatsInterceptor 가 요청 시작/끝에 현재 스레드에 걸어주고, SqlStatsDataSource 가 값을 누적함
+@Getter
+public class SqlStatementStats {
+    public static final String REQUEST_ATTRIBUTE = SqlStatementStats.class.getName();
+
+    private static final ThreadLocal<SqlStatementStats> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long rows;
+    private long jdbcNanos;
+
+    public static SqlStatementStats start() {
+        SqlStatementStats stats = new SqlStatementStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static SqlStatementStats stop() {
+        SqlStatementStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    static void recordStatement(long nanos) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats == null) return;
+        stats.statements++;
+        stats.jdbcNanos += nanos;
+    }
+
+    static void recordRows(long rows) {
+        SqlStatementStats stats = CURRENT.get();
+        if (stats == null || rows <= 0) return;
+        stats.rows += rows;
+    }
+}
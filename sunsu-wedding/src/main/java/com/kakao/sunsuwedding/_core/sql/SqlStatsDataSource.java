@@ -0,0 +1,99 @@
+package com.kakao.sunsuwedding._core.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.*;
+import java.util.Arrays;
+import java.util.Set;
+
+// 커넥션/Statement/ResultSet 을 감싸서 SQL 실행 횟수, 행 수, 실행 시간을 SqlStatementStats 에 기록
+// JPA 와 JdbcTemplate 이 모두 같은 DataSource 를 쓰므로 둘 다 집계됨
+public class SqlStatsDataSource extends DelegatingDataSource {
+    private static final Set<String> STATEMENT_FACTORIES = Set.of("createStatement", "prepareStatement", "prepareCall");
+    private static final Set<String> EXECUTIONS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public SqlStatsDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(super.getConnection(username, password));
+    }
+
+    private static Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args) -> {
+            Object result = invoke(method, connection, args);
+            if (STATEMENT_FACTORIES.contains(method.getName())) {
+                return wrapStatement((Statement) result, method.getReturnType());
+            }
+            return result;
+        });
+    }
+
+    private static Object wrapStatement(Statement statement, Class<?> type) {
+        return proxy(type, statement, (method, args) -> {
+            if (!EXECUTIONS.contains(method.getName())) {
+                Object result = invoke(method, statement, args);
+                return method.getName().equals("getResultSet") ? wrapResultSet((ResultSet) result) : result;
+            }
+
+            long begin = System.nanoTime();
+            try {
+                Object result = invoke(method, statement, args);
+                if (result instanceof ResultSet resultSet) return wrapResultSet(resultSet);
+                if (result instanceof Number count) SqlStatementStats.recordRows(count.longValue());
+                if (result instanceof int[] counts) SqlStatementStats.recordRows(Arrays.stream(counts).filter(count -> count > 0).sum());
+                if (result instanceof long[] counts) SqlStatementStats.recordRows(Arrays.stream(counts).filter(count -> count > 0).sum());
+                return result;
+            } finally {
+                SqlStatementStats.recordStatement(System.nanoTime() - begin);
+            }
+        });
+    }
+
+    private static ResultSet wrapResultSet(ResultSet resultSet) {
+        if (resultSet == null) return null;
+        return proxy(ResultSet.class, resultSet, (method, args) -> {
+            Object result = invoke(method, resultSet, args);
+            if (method.getName().equals("next") && Boolean.TRUE.equals(result)) {
+                SqlStatementStats.recordRows(1);
+            }
+            return result;
+        });
+    }
+
+    private interface Handler {
+        Object handle(Method method, Object[] args) throws Throwable;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<?> type, Object target, Handler handler) {
+        return (T) Proxy.newProxyInstance(SqlStatsDataSource.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    // unwrap/isWrapperFor 는 감싸기 전 객체 기준으로 처리
+                    if (method.getName().equals("unwrap") || method.getName().equals("isWrapperFor")) {
+                        return invoke(method, target, args);
+                    }
+                    return handler.handle(method, args);
+                });
+    }
+
+    private static Object invoke(Method method, Object target, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.kakao.sunsuwedding._core.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+// 요청마다 실행된 SQL 통계를 컨트롤러 메서드 태그로 Micrometer 에 기록하고
+// 쿼리 예산(sql-stats.query-budget)을 넘는 요청은 경고 로그를 남김 (N+1 의심)
+@Slf4j
+public class SqlStatsInterceptor implements HandlerInterceptor {
+    private final MeterRegistry meterRegistry;
+    private final int queryBudget;
+
+    public SqlStatsInterceptor(MeterRegistry meterRegistry, int queryBudget) {
+        this.meterRegistry = meterRegistry;
+        this.queryBudget = queryBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStatementStats.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        SqlStatementStats stats = SqlStatementStats.stop();
+        if (stats == null) return;
+        request.setAttribute(SqlStatementStats.REQUEST_ATTRIBUTE, stats);
+
+        String handlerName = handlerName(handler);
+        Tags tags = Tags.of("handler", handlerName);
+        DistributionSummary.builder("http.server.sql.statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("http.server.sql.rows")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("http.server.sql.time")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > queryBudget) {
+            log.warn("쿼리 예산 초과 {} {} ({}) : statements={}, rows={}, jdbc={}ms (budget={})",
+                    request.getMethod(), request.getRequestURI(), handlerName,
+                    stats.getStatements(), stats.getRows(), stats.getJdbcNanos() / 1_000_000, queryBudget);
+        }
+    }
+
+    private static String handlerName(Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+        }
+        return handler.getClass().getSimpleName();
+    }
+}
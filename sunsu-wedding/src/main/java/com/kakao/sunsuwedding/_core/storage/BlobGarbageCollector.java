@@ -0,0 +1,56 @@
+package com.kakao.sunsuwedding._core.storage;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+// 행 삭제가 커밋된 뒤 더 이상 참조되지 않는 blob 파일을 정리
+// 롤백되면 호출되지 않으므로 아직 쓰이는 파일을 지우지 않음
+// 참조 조회로는 아직 커밋되지 않은 업로드의 행이 보이지 않으므로, grace-period 안에 다시 저장된 blob 은 남겨둠
+// 업로드 트랜잭션이 롤백되면 그 트랜잭션이 저장한 blob 도 같은 방식으로 정리
+@Slf4j
+@Component
+public class BlobGarbageCollector {
+
+    private final BlobStorage blobStorage;
+    private final BlobReferenceJDBCRepository blobReferenceJDBCRepository;
+    private final Duration gracePeriod;
+
+    public BlobGarbageCollector(BlobStorage blobStorage,
+                                BlobReferenceJDBCRepository blobReferenceJDBCRepository,
+                                @Value("${storage.gc.grace-period:10m}") Duration gracePeriod) {
+        this.blobStorage = blobStorage;
+        this.blobReferenceJDBCRepository = blobReferenceJDBCRepository;
+        this.gracePeriod = gracePeriod;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onBlobsReleased(BlobsReleasedEvent event) {
+        release(event.keys(), Instant.now().minus(gracePeriod));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_ROLLBACK)
+    public void onBlobsStoredRollback(BlobsStoredEvent event) {
+        release(event.keys(), event.storedAt());
+    }
+
+    private void release(List<String> keys, Instant since) {
+        try {
+            Set<String> referenced = blobReferenceJDBCRepository.findReferencedKeys(keys);
+            keys.stream()
+                    .filter(key -> !referenced.contains(key))
+                    .forEach(key -> blobStorage.deleteIfUntouchedSince(key, since));
+        }
+        catch (RuntimeException e) {
+            // 이미 끝난 요청은 실패시키지 않고, 남은 파일은 참조가 없을 뿐이라 동작에는 영향 없음
+            log.warn("blob 정리 실패 keys={}", keys, e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.kakao.sunsuwedding._core.storage;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface BlobReferenceJDBCRepository {
+
+    // BlobReferenceJDBCRepositoryImpl에 구현되어 있음
+    // keys 중 포트폴리오 이미지(원본, 썸네일)나 리뷰 이미지가 아직 참조하고 있는 키
+    Set<String> findReferencedKeys(Collection<String> keys);
+}
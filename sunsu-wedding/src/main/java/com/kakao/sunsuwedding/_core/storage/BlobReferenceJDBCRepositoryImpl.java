@@ -0,0 +1,38 @@
+package com.kakao.sunsuwedding._core.storage;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Stream;
+
+@Repository
+public class BlobReferenceJDBCRepositoryImpl implements BlobReferenceJDBCRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public BlobReferenceJDBCRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public Set<String> findReferencedKeys(Collection<String> keys) {
+        if (keys.isEmpty()) return Set.of();
+
+        String placeholders = String.join(", ", Collections.nCopies(keys.size(), "?"));
+        String sql = String.format("""
+                SELECT image_key FROM portfolio_image_item_tb WHERE image_key IN (%1$s)
+                UNION
+                SELECT thumbnail_key FROM portfolio_image_item_tb WHERE thumbnail_key IN (%1$s)
+                UNION
+                SELECT image_key FROM review_image_item_tb WHERE image_key IN (%1$s)
+                """, placeholders);
+
+        Object[] args = Stream.of(keys, keys, keys).flatMap(Collection::stream).toArray();
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class, args));
+    }
+}
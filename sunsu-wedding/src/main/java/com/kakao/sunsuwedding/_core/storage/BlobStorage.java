@@ -0,0 +1,67 @@
+package com.kakao.sunsuwedding._core.storage;
+
+import com.kakao.sunsuwedding._core.errors.BaseException;
+import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
+
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+
+// 이미지 등 바이너리 데이터를 SHA-256 해시를 키로 저장하는 저장소
+// 같은 내용은 같은 키를 가지므로 중복 저장되지 않음
+public interface BlobStorage {
+
+    String URL_PREFIX = "/api/image/";
+
+    // 바이트를 저장하고 키(SHA-256 hex)를 반환
+    String store(byte[] content);
+
+    boolean exists(String key);
+
+    long size(String key);
+
+    // position 부터 count 바이트를 target 으로 전송하고 전송한 바이트 수를 반환
+    long transferTo(String key, long position, long count, WritableByteChannel target);
+
+    void delete(String key);
+
+    // since 이후로 저장(store)되지 않은 경우에만 삭제하고 삭제 여부를 반환
+    // 같은 내용을 다시 올리는 요청이 아직 커밋 전이어도 그 blob 은 지우지 않음
+    boolean deleteIfUntouchedSince(String key, Instant since);
+
+    // 로컬 파일로 존재하는 경우에만 경로를 반환 (sendfile 용)
+    default Optional<Path> localPath(String key) {
+        return Optional.empty();
+    }
+
+    // 프론트에서 넘어오는 base64 (data URL 포함) 이미지를 디코딩해서 저장
+    default String storeBase64(String encoded) {
+        return store(decodeBase64(encoded));
+    }
+
+    static byte[] decodeBase64(String encoded) {
+        if (encoded == null) throw new BadRequestException(BaseException.IMAGE_DECODE_ERROR);
+
+        int comma = encoded.indexOf(',');
+        String payload = encoded.startsWith("data:") && comma > 0 ? encoded.substring(comma + 1) : encoded;
+        // MIME 디코더는 base64 문자가 아닌 글자를 조용히 버리므로, 줄바꿈 등 공백만 제거하고 엄격한 디코더를 사용
+        byte[] decoded;
+        try {
+            decoded = Base64.getDecoder().decode(payload.replaceAll("\\s", ""));
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(BaseException.IMAGE_DECODE_ERROR);
+        }
+        if (decoded.length == 0) throw new BadRequestException(BaseException.IMAGE_DECODE_ERROR);
+        return decoded;
+    }
+
+    static boolean isValidKey(String key) {
+        return key != null && key.matches("[0-9a-f]{64}");
+    }
+
+    static String toUrl(String key) {
+        return key == null ? null : URL_PREFIX + key;
+    }
+}
@@ -0,0 +1,7 @@
+package com.kakao.sunsuwedding._core.storage;
+
+import java.util.List;
+
+// 행 삭제로 더 이상 쓰이지 않을 수 있는 blob 키들 (같은 내용은 키를 공유하므로 실제 삭제 여부는 BlobGarbageCollector 가 판단)
+public record BlobsReleasedEvent(List<String> keys) {
+}
@@ -0,0 +1,9 @@
+package com.kakao.sunsuwedding._core.storage;
+
+import java.time.Instant;
+import java.util.List;
+
+// 트랜잭션 안에서 저장한 blob 키들, 롤백되면 BlobGarbageCollector 가 참조가 없는 blob 을 정리
+// storedAt 은 마지막 store() 이후 시각으로, 그 뒤에 다른 요청이 다시 저장한 blob 은 지우지 않음
+public record BlobsStoredEvent(List<String> keys, Instant storedAt) {
+}
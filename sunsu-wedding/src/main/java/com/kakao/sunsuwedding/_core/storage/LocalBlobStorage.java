@@ -0,0 +1,187 @@
+package com.kakao.sunsuwedding._core.storage;
+
+import com.kakao.sunsuwedding._core.errors.BaseException;
+import com.kakao.sunsuwedding._core.errors.exception.NotFoundException;
+import com.kakao.sunsuwedding._core.errors.exception.ServerException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+
+// 로컬 파일시스템 구현체
+// {root}/ab/cd/abcd... 형태로 해시 앞 4글자를 디렉토리로 나눠서 저장
+@Slf4j
+@Component
+public class LocalBlobStorage implements BlobStorage {
+
+    private final Path root;
+    private final Path tempDirectory;
+
+    public LocalBlobStorage(@Value("${storage.local.root:./storage/blob}") String root) {
+        this.root = Paths.get(root).toAbsolutePath().normalize();
+        this.tempDirectory = this.root.resolve("tmp");
+        try {
+            Files.createDirectories(tempDirectory);
+        } catch (IOException e) {
+            throw new ServerException(BaseException.IMAGE_STORE_ERROR);
+        }
+    }
+
+    @Override
+    public String store(byte[] content) {
+        String key = sha256(content);
+        Path target = resolve(key);
+        // 이미 있는 blob 은 수정 시각만 갱신해서 BlobGarbageCollector 가 지우지 않게 함
+        // 갱신에 실패하면 (GC 가 막 치운 경우 등) 새로 저장
+        if (Files.exists(target) && touch(target)) return key;
+
+        try {
+            Files.createDirectories(target.getParent());
+            // 임시 파일에 먼저 쓴 뒤 이동해서 반쯤 쓰인 파일이 노출되지 않도록 함
+            Path temp = Files.createTempFile(tempDirectory, key, ".tmp");
+            Files.write(temp, content);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException e) {
+                Files.deleteIfExists(temp);
+            }
+        } catch (IOException e) {
+            log.error("blob 저장 실패 key={}", key, e);
+            throw new ServerException(BaseException.IMAGE_STORE_ERROR);
+        }
+        return key;
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return BlobStorage.isValidKey(key) && Files.exists(resolve(key));
+    }
+
+    @Override
+    public long size(String key) {
+        try {
+            return Files.size(existingPath(key));
+        } catch (IOException e) {
+            throw new NotFoundException(BaseException.IMAGE_NOT_FOUND);
+        }
+    }
+
+    @Override
+    public long transferTo(String key, long position, long count, WritableByteChannel target) {
+        try (FileChannel channel = FileChannel.open(existingPath(key), StandardOpenOption.READ)) {
+            long transferred = 0;
+            while (transferred < count) {
+                long written = channel.transferTo(position + transferred, count - transferred, target);
+                if (written <= 0) break;
+                transferred += written;
+            }
+            return transferred;
+        } catch (IOException e) {
+            // 대부분 클라이언트가 연결을 끊은 경우이므로 에러 응답 없이 중단
+            log.debug("blob 전송 중단 key={}", key, e);
+            return -1;
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        if (!BlobStorage.isValidKey(key)) return;
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            log.warn("blob 삭제 실패 key={}", key, e);
+        }
+    }
+
+    // 파일을 먼저 임시 디렉토리로 옮긴 뒤 수정 시각을 확인하므로, 그 사이에 store() 가 호출되면
+    // 옮기기 전이면 수정 시각이 갱신되어 되돌려놓고, 옮긴 후면 touch 가 실패해서 store() 가 새로 저장함
+    @Override
+    public boolean deleteIfUntouchedSince(String key, Instant since) {
+        if (!BlobStorage.isValidKey(key)) return false;
+
+        Path target = resolve(key);
+        Path moved = tempDirectory.resolve(key + "." + UUID.randomUUID() + ".gc");
+        try {
+            Files.move(target, moved, StandardCopyOption.ATOMIC_MOVE);
+        } catch (NoSuchFileException e) {
+            return false;
+        } catch (IOException e) {
+            log.warn("blob 삭제 실패 key={}", key, e);
+            return false;
+        }
+
+        try {
+            if (Files.getLastModifiedTime(moved).toInstant().isBefore(since)) {
+                Files.delete(moved);
+                return true;
+            }
+            restore(moved, target);
+        } catch (IOException e) {
+            log.warn("blob 삭제 실패 key={}", key, e);
+            restore(moved, target);
+        }
+        return false;
+    }
+
+    @Override
+    public Optional<Path> localPath(String key) {
+        return exists(key) ? Optional.of(resolve(key)) : Optional.empty();
+    }
+
+    private boolean touch(Path target) {
+        try {
+            Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // 그 사이 store() 가 같은 내용을 다시 저장했으면 옮겨둔 파일은 버림
+    private void restore(Path moved, Path target) {
+        try {
+            Files.move(moved, target);
+        } catch (FileAlreadyExistsException e) {
+            deleteQuietly(moved);
+        } catch (IOException e) {
+            log.error("blob 복구 실패 target={}", target, e);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시 파일 삭제 실패 path={}", path, e);
+        }
+    }
+
+    private Path existingPath(String key) {
+        if (!exists(key)) throw new NotFoundException(BaseException.IMAGE_NOT_FOUND);
+        return resolve(key);
+    }
+
+    private Path resolve(String key) {
+        return root.resolve(key.substring(0, 2)).resolve(key.substring(2, 4)).resolve(key);
+    }
+
+    private String sha256(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new ServerException(BaseException.IMAGE_STORE_ERROR);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.kakao.sunsuwedding._core.utils;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+// 외부 API 가 연속으로 실패하면 일정 시간 동안 호출을 막아서 요청 스레드가 타임아웃까지 묶이지 않게 함
+// CLOSED : 정상 호출, 연속 실패가 failureThreshold 에 도달하면 OPEN
+// OPEN : 호출 차단, openDuration 이 지나면 HALF_OPEN
+// HALF_OPEN : 시험 호출 하나만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN
+public class CircuitBreaker {
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration) {
+        this(failureThreshold, openDuration, System::nanoTime);
+    }
+
+    public CircuitBreaker(int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    // 호출해도 되는지 확인, true 를 받았다면 반드시 onSuccess / onFailure 중 하나를 호출해야 함
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && nanoClock.getAsLong() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        return switch (state) {
+            case CLOSED -> true;
+            case OPEN -> false;
+            case HALF_OPEN -> {
+                if (trialInFlight) yield false;
+                trialInFlight = true;
+                yield true;
+            }
+        };
+    }
+
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = nanoClock.getAsLong();
+            trialInFlight = false;
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+}
@@ -0,0 +1,87 @@
+package com.kakao.sunsuwedding._core.utils;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+// long 값을 박싱 없이 담는 오픈 어드레싱(선형 탐사) 해시 셋
+// 조회 한 번에 한 페이지 분량만 담기 때문에 삭제는 지원하지 않음
+public class LongHashSet {
+    private static final long EMPTY = 0L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] table;
+    private boolean containsZero;
+    private int size;
+
+    public LongHashSet() {
+        this(16);
+    }
+
+    public LongHashSet(int expectedSize) {
+        this.table = new long[tableSizeFor(expectedSize)];
+    }
+
+    public static LongHashSet of(Collection<Long> values) {
+        LongHashSet set = new LongHashSet(values.size());
+        values.forEach(set::add);
+        return set;
+    }
+
+    public boolean add(long value) {
+        if (value == EMPTY) {
+            if (containsZero) return false;
+            containsZero = true;
+            size++;
+            return true;
+        }
+
+        int index = indexOf(value, table);
+        if (table[index] == value) return false;
+
+        table[index] = value;
+        if (++size > table.length * LOAD_FACTOR) resize();
+        return true;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) return containsZero;
+        return table[indexOf(value, table)] == value;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // 값이 있으면 그 위치, 없으면 들어갈 빈 칸 위치
+    private static int indexOf(long value, long[] table) {
+        int mask = table.length - 1;
+        int index = mix(value) & mask;
+        while (table[index] != EMPTY && table[index] != value) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private void resize() {
+        long[] resized = new long[table.length * 2];
+        Arrays.stream(table)
+                .filter(value -> value != EMPTY)
+                .forEach(value -> resized[indexOf(value, resized)] = value);
+        table = resized;
+    }
+
+    // 연속된 id 가 한 곳에 몰리지 않도록 비트를 섞음
+    private static int mix(long value) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int capacity = (int) Math.ceil(Math.max(expectedSize, 1) / LOAD_FACTOR);
+        return Math.max(16, Integer.highestOneBit(capacity - 1) << 1);
+    }
+}
@@ -9,7 +9,6 @@ import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.LongStream;
 
 @Component
 public class PriceCalculator {
@@ -31,29 +30,38 @@ public class PriceCalculator {
         .sum();
     }
 
+    // 매칭 목록을 한 번만 순회해서 확정 거래 통계(건수, 합계, 최소, 최대, 백분위)를 구함
+    public PriceStatistics calculateConfirmedPriceStatistics(List<Match> matches) {
+        return accumulateConfirmedPrices(matches, new PriceStatistics(matches.size()));
+    }
+
+    public PriceStatistics accumulateConfirmedPrices(List<Match> matches, PriceStatistics statistics) {
+        for (Match match : matches) {
+            boolean confirmed = match.getStatus() == MatchStatus.CONFIRMED;
+            statistics.accept(confirmed, confirmed ? match.getConfirmedPrice() : 0L);
+        }
+        return statistics;
+    }
+
     public Long getContractCount(List<Match> matches){
-        return matches.stream()
-                .filter(match -> match.getStatus().equals(MatchStatus.CONFIRMED))
-                .count();
+        return calculateConfirmedPriceStatistics(matches).count();
+    }
+
+    public Long calculatePriceSum(List<Match> matches) {
+        return calculateConfirmedPriceStatistics(matches).sum();
     }
 
     public Long calculateAvgPrice(List<Match> matches, Long contractCount) {
         if (contractCount.equals(0L)) return 0L;
-        return getConfirmedPriceStream(matches).sum() / contractCount;
+        return calculateConfirmedPriceStatistics(matches).sum() / contractCount;
     }
 
     public Long calculateMinPrice(List<Match> matches) {
-        return getConfirmedPriceStream(matches).min().orElse(0);
+        return calculateConfirmedPriceStatistics(matches).min();
     }
 
     public Long calculateMaxPrice(List<Match> matches) {
-        return getConfirmedPriceStream(matches).max().orElse(0);
-    }
-
-    private static LongStream getConfirmedPriceStream(List<Match> matches){
-        return matches.stream()
-                .filter(match -> match.getStatus().equals(MatchStatus.CONFIRMED))
-                .mapToLong(Match::getConfirmedPrice);
+        return calculateConfirmedPriceStatistics(matches).max();
     }
 
     public Long getRequestTotalPrice(List<PortfolioRequest.PriceItemDTO> items) {
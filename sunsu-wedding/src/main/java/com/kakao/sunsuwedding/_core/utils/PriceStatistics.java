@@ -0,0 +1,111 @@
+package com.kakao.sunsuwedding._core.utils;
+
+import com.kakao.sunsuwedding.portfolio.stats.ConfirmedPriceStats;
+
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+// 확정 거래 금액의 건수, 합계, 최소, 최대, 백분위를 한 번 순회하면서 계산하는 누적기
+// long 만 다루므로 박싱이 없고, reset() 후 다시 쓰면 내부 배열도 그대로 재사용함
+// 엔티티(PriceCalculator)와 JDBC ResultSet(PortfolioStatsJDBCRepository) 양쪽에서 같은 방식으로 채움
+public class PriceStatistics {
+
+    private long[] prices;
+    private int count;
+    private long rowCount;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max = Long.MIN_VALUE;
+    private boolean sorted = true;
+
+    public PriceStatistics() {
+        this(16);
+    }
+
+    public PriceStatistics(int expectedSize) {
+        this.prices = new long[Math.max(expectedSize, 1)];
+    }
+
+    public PriceStatistics reset() {
+        count = 0;
+        rowCount = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = Long.MIN_VALUE;
+        sorted = true;
+        return this;
+    }
+
+    // 확정되지 않은 거래는 전체 행 수에만 반영
+    public void accept(boolean confirmed, long price) {
+        rowCount++;
+        if (confirmed) {
+            add(price);
+        }
+    }
+
+    private void add(long price) {
+        if (count == prices.length) {
+            prices = Arrays.copyOf(prices, count * 2);
+        }
+        if (count > 0 && price < prices[count - 1]) {
+            sorted = false;
+        }
+        prices[count++] = price;
+        sum += price;
+        min = Math.min(min, price);
+        max = Math.max(max, price);
+    }
+
+    // 확정 여부와 관계없이 누적한 거래 수
+    public long rowCount() {
+        return rowCount;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public long sum() {
+        return sum;
+    }
+
+    public long avg() {
+        return (count == 0) ? 0 : sum / count;
+    }
+
+    public long min() {
+        return (count == 0) ? 0 : min;
+    }
+
+    public long max() {
+        return (count == 0) ? 0 : max;
+    }
+
+    // nearest-rank 방식 (percentile 은 0 ~ 1), 처음 호출할 때만 정렬함
+    public long percentile(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1: " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(prices, 0, count);
+            sorted = true;
+        }
+        int rank = (int) Math.ceil(percentile * count);
+        return prices[Math.max(rank, 1) - 1];
+    }
+
+    // 누적한 확정 금액을 하나씩 넘겨줌 (가격 분포 스케치 재생성 등)
+    public void forEachPrice(LongConsumer consumer) {
+        for (int i = 0; i < count; i++) {
+            consumer.accept(prices[i]);
+        }
+    }
+
+    public ConfirmedPriceStats toConfirmedPriceStats() {
+        return ConfirmedPriceStats.of(count, sum, min(), max());
+    }
+}
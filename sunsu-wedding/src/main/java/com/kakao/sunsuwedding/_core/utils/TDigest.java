@@ -0,0 +1,289 @@
+package com.kakao.sunsuwedding._core.utils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+// 병합 가능한 분위수 스케치 (merging t-digest)
+// 값을 (평균, 개수) 중심점으로 묶어서 저장하는데, 양 끝(q 가 0, 1 에 가까운 쪽)일수록 작게 묶어 꼬리 분위수도 정확하게 유지함
+// 중심점 수는 compression 에 비례해서 고정 상한이 있으므로 거래가 아무리 많아도 크기와 조회 시간이 일정함
+public class TDigest {
+
+    public final static double DEFAULT_COMPRESSION = 100;
+    private final static byte FORMAT_VERSION = 1;
+
+    private final double compression;
+
+    // 압축된 중심점 (평균 오름차순)
+    private double[] means;
+    private long[] weights;
+    private int centroids;
+
+    // 아직 압축하지 않은 값 (가득 차면 중심점과 함께 한 번에 정렬, 병합)
+    private final double[] bufferMeans;
+    private final long[] bufferWeights;
+    private int buffered;
+
+    private long count;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    public TDigest() {
+        this(DEFAULT_COMPRESSION);
+    }
+
+    public TDigest(double compression) {
+        this.compression = compression;
+        int capacity = (int) Math.ceil(compression) * 2 + 10;
+        this.means = new double[capacity];
+        this.weights = new long[capacity];
+        this.bufferMeans = new double[capacity * 5];
+        this.bufferWeights = new long[capacity * 5];
+    }
+
+    public void add(double value) {
+        add(value, 1);
+    }
+
+    public void add(double value, long weight) {
+        if (Double.isNaN(value) || weight <= 0) {
+            throw new IllegalArgumentException("value must be a number and weight must be positive");
+        }
+        if (buffered == bufferMeans.length) {
+            compress();
+        }
+        bufferMeans[buffered] = value;
+        bufferWeights[buffered] = weight;
+        buffered++;
+        count += weight;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    // 다른 스케치의 중심점을 그대로 가져와 합침 (플래너별 스케치 -> 지역별 스케치 등)
+    public void merge(TDigest other) {
+        other.compress();
+        for (int i = 0; i < other.centroids; i++) {
+            add(other.means[i], other.weights[i]);
+        }
+        if (other.count > 0) {
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+        }
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public double min() {
+        return count == 0 ? 0 : min;
+    }
+
+    public double max() {
+        return count == 0 ? 0 : max;
+    }
+
+    public int centroidCount() {
+        compress();
+        return centroids;
+    }
+
+    // q 분위수 (0 <= q <= 1), 이웃한 중심점 사이는 선형 보간
+    public double quantile(double q) {
+        if (q < 0 || q > 1) {
+            throw new IllegalArgumentException("q must be between 0 and 1");
+        }
+        compress();
+        if (count == 0) {
+            return 0;
+        }
+        if (q == 0) {
+            return min;
+        }
+        if (q == 1) {
+            return max;
+        }
+        if (centroids == 1) {
+            return min + (max - min) * q;
+        }
+
+        double index = q * count;
+
+        // 첫 중심점 가운데보다 왼쪽은 min 과 첫 중심점 사이에서 보간
+        double left = weights[0] / 2.0;
+        if (index < left) {
+            return min + (means[0] - min) * (index / left);
+        }
+
+        double weightSoFar = left;
+        for (int i = 0; i < centroids - 1; i++) {
+            double gap = (weights[i] + weights[i + 1]) / 2.0;
+            if (weightSoFar + gap > index) {
+                return means[i] + (means[i + 1] - means[i]) * ((index - weightSoFar) / gap);
+            }
+            weightSoFar += gap;
+        }
+
+        // 마지막 중심점 가운데보다 오른쪽은 마지막 중심점과 max 사이에서 보간
+        double right = weights[centroids - 1] / 2.0;
+        return means[centroids - 1] + (max - means[centroids - 1]) * Math.min((index - weightSoFar) / right, 1);
+    }
+
+    // value 이하인 값의 비율 (quantile 의 역함수)
+    public double cdf(double value) {
+        compress();
+        if (count == 0) {
+            return 0;
+        }
+        if (value < min) {
+            return 0;
+        }
+        if (value >= max) {
+            return 1;
+        }
+        if (centroids == 1) {
+            return (value - min) / (max - min);
+        }
+
+        double left = weights[0] / 2.0;
+        if (value < means[0]) {
+            return left * (value - min) / (means[0] - min) / count;
+        }
+
+        double weightSoFar = left;
+        for (int i = 0; i < centroids - 1; i++) {
+            double gap = (weights[i] + weights[i + 1]) / 2.0;
+            if (value < means[i + 1]) {
+                return (weightSoFar + gap * (value - means[i]) / (means[i + 1] - means[i])) / count;
+            }
+            weightSoFar += gap;
+        }
+
+        double right = weights[centroids - 1] / 2.0;
+        return (weightSoFar + right * (value - means[centroids - 1]) / (max - means[centroids - 1])) / count;
+    }
+
+    // 오름차순 경계값 사이 구간별 예상 건수
+    // 구간마다 따로 반올림하지 않고 누적 건수를 반올림한 뒤 차이를 구해서, 경계가 [min, max] 를 덮으면 합계가 count 와 같음
+    public long[] histogram(double[] boundaries) {
+        long[] counts = new long[boundaries.length - 1];
+        long previous = boundaries[0] <= min() ? 0 : Math.round(cdf(boundaries[0]) * count);
+        for (int i = 1; i < boundaries.length; i++) {
+            long cumulative = Math.max(Math.round(cdf(boundaries[i]) * count), previous);
+            counts[i - 1] = cumulative - previous;
+            previous = cumulative;
+        }
+        return counts;
+    }
+
+    // 버퍼와 기존 중심점을 평균 순으로 정렬한 뒤, 분위수 위치별 크기 상한(k1 스케일 함수) 안에서 인접한 것끼리 합침
+    private void compress() {
+        if (buffered == 0) {
+            return;
+        }
+
+        int total = centroids + buffered;
+        double[] allMeans = new double[total];
+        long[] allWeights = new long[total];
+        System.arraycopy(means, 0, allMeans, 0, centroids);
+        System.arraycopy(weights, 0, allWeights, 0, centroids);
+        System.arraycopy(bufferMeans, 0, allMeans, centroids, buffered);
+        System.arraycopy(bufferWeights, 0, allWeights, centroids, buffered);
+        sortByMean(allMeans, allWeights);
+
+        int merged = 0;
+        double mean = allMeans[0];
+        long weight = allWeights[0];
+        long weightSoFar = 0;
+        double weightLimit = count * limitAfter(0);
+
+        for (int i = 1; i < total; i++) {
+            if (weightSoFar + weight + allWeights[i] <= weightLimit) {
+                weight += allWeights[i];
+                mean += (allMeans[i] - mean) * allWeights[i] / weight;
+            } else {
+                merged = append(merged, mean, weight);
+                weightSoFar += weight;
+                weightLimit = count * limitAfter((double) weightSoFar / count);
+                mean = allMeans[i];
+                weight = allWeights[i];
+            }
+        }
+        centroids = append(merged, mean, weight);
+        buffered = 0;
+    }
+
+    private int append(int index, double mean, long weight) {
+        if (index == means.length) {
+            means = Arrays.copyOf(means, index * 2);
+            weights = Arrays.copyOf(weights, index * 2);
+        }
+        means[index] = mean;
+        weights[index] = weight;
+        return index + 1;
+    }
+
+    // 누적 비율 q 에서 시작하는 중심점이 커버할 수 있는 누적 비율의 끝 (k1(q) + 1 의 역함수)
+    private double limitAfter(double q) {
+        double k = compression / (2 * Math.PI) * Math.asin(2 * q - 1) + 1;
+        double limit = (Math.sin(k * 2 * Math.PI / compression) + 1) / 2;
+        return k >= compression / 4 ? 1 : limit;
+    }
+
+    private static void sortByMean(double[] means, long[] weights) {
+        Integer[] order = new Integer[means.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(means[a], means[b]));
+
+        double[] sortedMeans = new double[means.length];
+        long[] sortedWeights = new long[weights.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedMeans[i] = means[order[i]];
+            sortedWeights[i] = weights[order[i]];
+        }
+        System.arraycopy(sortedMeans, 0, means, 0, means.length);
+        System.arraycopy(sortedWeights, 0, weights, 0, weights.length);
+    }
+
+    // 저장 형식: version(1) compression(8) count(8) min(8) max(8) centroids(4) + 중심점마다 mean(8) weight(8)
+    public byte[] toBytes() {
+        compress();
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 8 * 4 + 4 + centroids * 16);
+        buffer.put(FORMAT_VERSION);
+        buffer.putDouble(compression);
+        buffer.putLong(count);
+        buffer.putDouble(min());
+        buffer.putDouble(max());
+        buffer.putInt(centroids);
+        for (int i = 0; i < centroids; i++) {
+            buffer.putDouble(means[i]);
+            buffer.putLong(weights[i]);
+        }
+        return buffer.array();
+    }
+
+    public static TDigest fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("unsupported t-digest format: " + version);
+        }
+
+        TDigest digest = new TDigest(buffer.getDouble());
+        long count = buffer.getLong();
+        double min = buffer.getDouble();
+        double max = buffer.getDouble();
+        int centroids = buffer.getInt();
+        for (int i = 0; i < centroids; i++) {
+            digest.centroids = digest.append(i, buffer.getDouble(), buffer.getLong());
+        }
+        digest.count = count;
+        if (count > 0) {
+            digest.min = min;
+            digest.max = max;
+        }
+        return digest;
+    }
+}
@@ -0,0 +1,75 @@
+package com.kakao.sunsuwedding._core.utils;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// 키(이메일, IP 등)마다 capacity 개의 토큰을 두고 refillPeriod 마다 하나씩 채움
+// 짧은 순간 capacity 만큼 몰리는 건 허용하고, 그 이후로는 refillPeriod 당 한 번으로 제한
+public class TokenBucketRateLimiter {
+
+    private final long capacity;
+    private final long refillNanos;
+    private final LongSupplier nanoClock;
+    private final ConcurrentHashMap<String, Bucket> buckets = new ConcurrentHashMap<>();
+
+    public TokenBucketRateLimiter(long capacity, Duration refillPeriod) {
+        this(capacity, refillPeriod, System::nanoTime);
+    }
+
+    public TokenBucketRateLimiter(long capacity, Duration refillPeriod, LongSupplier nanoClock) {
+        this.capacity = capacity;
+        this.refillNanos = refillPeriod.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    public boolean tryAcquire(String key) {
+        long now = nanoClock.getAsLong();
+        Bucket bucket = buckets.computeIfAbsent(key, ignored -> new Bucket(capacity, now));
+        synchronized (bucket) {
+            bucket.refill(now);
+            if (bucket.tokens == 0) {
+                return false;
+            }
+            bucket.tokens--;
+            return true;
+        }
+    }
+
+    // 가득 찬 버킷은 새로 만든 버킷과 같으므로 지워서 키가 계속 쌓이지 않게 함
+    public int evictIdle() {
+        long now = nanoClock.getAsLong();
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> {
+            synchronized (bucket) {
+                bucket.refill(now);
+                return bucket.tokens == capacity;
+            }
+        });
+        return before - buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private class Bucket {
+        private long tokens;
+        private long lastRefill;
+
+        private Bucket(long tokens, long lastRefill) {
+            this.tokens = tokens;
+            this.lastRefill = lastRefill;
+        }
+
+        // 지난 시간만큼 토큰을 채우고, 채우고 남은 시간은 다음 계산에 넘김
+        private void refill(long now) {
+            long added = (now - lastRefill) / refillNanos;
+            if (added <= 0) {
+                return;
+            }
+            tokens = Math.min(capacity, tokens + added);
+            lastRefill = (tokens == capacity) ? now : lastRefill + added * refillNanos;
+        }
+    }
+}
@@ -2,15 +2,16 @@ package com.kakao.sunsuwedding._core.utils;
 
 import com.kakao.sunsuwedding._core.errors.BaseException;
 import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
+import com.kakao.sunsuwedding._core.security.PasswordHasher;
 import com.kakao.sunsuwedding.user.UserRequest;
 import com.kakao.sunsuwedding.user.base_user.User;
 import com.kakao.sunsuwedding.user.base_user.UserJPARepository;
-import com.kakao.sunsuwedding.user.email.EmailCode;
-import com.kakao.sunsuwedding.user.email.EmailCodeJPARepository;
+import com.kakao.sunsuwedding.user.email.EmailCodeEntry;
+import com.kakao.sunsuwedding.user.email.EmailCodeStore;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -18,8 +19,8 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class UserDataChecker {
     private final UserJPARepository userJPARepository;
-    private final EmailCodeJPARepository emailCodeJPARepository;
-    private final PasswordEncoder passwordEncoder;
+    private final EmailCodeStore emailCodeStore;
+    private final PasswordHasher passwordHasher;
 
     public void checkPasswordIsSame(String password, String password2) {
         boolean isEqual = Objects.equals(password, password2);
@@ -36,21 +37,23 @@ public class UserDataChecker {
     }
 
     public void checkEmailAuthenticated(UserRequest.SignUpDTO requestDTO) {
-        EmailCode emailCode = findEmailCodeByRequest(requestDTO);
+        EmailCodeEntry emailCode = findEmailCodeByRequest(requestDTO);
 
-        if (emailCode.getConfirmed().equals(false)) {
+        if (!emailCode.confirmed()) {
             throw new BadRequestException(BaseException.UNAUTHENTICATED_EMAIL);
         }
     }
 
     public void verifyPassword(UserRequest.LoginDTO requestDTO, User user) {
-        if (!passwordEncoder.matches(requestDTO.password(), user.getPassword())) {
+        if (!passwordHasher.matches(requestDTO.password(), user.getPassword())) {
             throw new BadRequestException(BaseException.USER_PASSWORD_WRONG);
         }
     }
 
-    private EmailCode findEmailCodeByRequest(UserRequest.SignUpDTO requestDTO) {
-        return emailCodeJPARepository.findByEmail(requestDTO.email())
+    // 인증 후 email.code.confirmed-ttl 이 지났다면 다시 인증해야 함
+    private EmailCodeEntry findEmailCodeByRequest(UserRequest.SignUpDTO requestDTO) {
+        return emailCodeStore.find(requestDTO.email())
+                .filter(emailCode -> !emailCode.isExpired(LocalDateTime.now()))
                 .orElseThrow(() -> new BadRequestException(BaseException.UNAUTHENTICATED_EMAIL));
     }
 }
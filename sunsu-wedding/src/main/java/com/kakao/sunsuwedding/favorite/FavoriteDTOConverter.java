@@ -3,28 +3,25 @@ package com.kakao.sunsuwedding.favorite;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.stream.IntStream;
+import java.util.Map;
 
 @Component
 public class FavoriteDTOConverter {
 
-    public List<FavoriteResponse.FindPortfolioDTO> findAllFavoritePortfolio(List<Favorite> favorites, List<String> images) {
-        return IntStream
-                .range(0, favorites.size())
-                .mapToObj(i -> {
-                    Favorite favorite = favorites.get(i);
-                    return new FavoriteResponse.FindPortfolioDTO(
-                            favorite.getPortfolio().getId(),
-                            images.get(i),
-                            favorite.getPortfolio().getTitle(),
-                            favorite.getPortfolio().getPlannerName(),
-                            favorite.getPortfolio().getTotalPrice(),
-                            favorite.getPortfolio().getLocation(),
-                            favorite.getPortfolio().getContractCount(),
-                            favorite.getPortfolio().getAvgStars(),
-                            true
-                    );
-                })
+    public List<FavoriteResponse.FindPortfolioDTO> findAllFavoritePortfolio(List<Favorite> favorites, Map<Long, String> thumbnails) {
+        return favorites
+                .stream()
+                .map(favorite -> new FavoriteResponse.FindPortfolioDTO(
+                        favorite.getPortfolio().getId(),
+                        thumbnails.getOrDefault(favorite.getPortfolio().getId(), ""),
+                        favorite.getPortfolio().getTitle(),
+                        favorite.getPortfolio().getPlannerName(),
+                        favorite.getPortfolio().getTotalPrice(),
+                        favorite.getPortfolio().getLocation(),
+                        favorite.getPortfolio().getContractCount(),
+                        favorite.getPortfolio().getAvgStars(),
+                        true
+                ))
                 .toList();
     }
 }
@@ -20,4 +20,8 @@ public interface FavoriteJPARepository extends JpaRepository<Favorite, Long> {
             "where u.id = :userId " +
             "order by f.createdAt desc")
     List<Favorite> findByUserIdFetchJoinPortfolio(@Param("userId") Long userId, Pageable pageable);
+
+    // 목록 한 페이지의 포트폴리오 중 유저가 찜한 포트폴리오 id 만 조회 (user_portfolio_index 로 해결됨)
+    @Query("select f.portfolio.id from Favorite f where f.user.id = :userId and f.portfolio.id in :portfolioIds")
+    List<Long> findPortfolioIdsByUserIdAndPortfolioIds(@Param("userId") Long userId, @Param("portfolioIds") List<Long> portfolioIds);
 }
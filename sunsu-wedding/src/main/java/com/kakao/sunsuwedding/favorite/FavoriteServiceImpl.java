@@ -5,8 +5,7 @@ import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
 import com.kakao.sunsuwedding._core.errors.exception.NotFoundException;
 import com.kakao.sunsuwedding.portfolio.Portfolio;
 import com.kakao.sunsuwedding.portfolio.PortfolioJPARepository;
-import com.kakao.sunsuwedding.portfolio.image.PortfolioImageItem;
-import com.kakao.sunsuwedding.portfolio.image.PortfolioImageItemJPARepository;
+import com.kakao.sunsuwedding.portfolio.image.PortfolioImageItemServiceImpl;
 import com.kakao.sunsuwedding.user.base_user.User;
 import com.kakao.sunsuwedding.user.base_user.UserJPARepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +14,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Service
@@ -24,7 +24,7 @@ public class FavoriteServiceImpl implements FavoriteService {
 
     private final UserJPARepository userJPARepository;
     private final PortfolioJPARepository portfolioJPARepository;
-    private final PortfolioImageItemJPARepository portfolioImageItemJPARepository;
+    private final PortfolioImageItemServiceImpl portfolioImageItemServiceImpl;
     private final FavoriteJPARepository favoriteJPARepository;
 
     private final FavoriteDTOConverter favoriteDTOConverter;
@@ -58,20 +58,10 @@ public class FavoriteServiceImpl implements FavoriteService {
         // userId와 일치하는 favorite의 포트폴리오 내용들 가져옴
         List<Favorite> favoriteList = favoriteJPARepository.findByUserIdFetchJoinPortfolio(user.getId(), pageable);
         List<Portfolio> portfolioList = favoriteList.stream().map(Favorite::getPortfolio).toList();
-        List<PortfolioImageItem> portfolioImageItems = portfolioImageItemJPARepository.findAllByThumbnailAndPortfolioInOrderByPortfolioCreatedAtDesc(true, portfolioList);
+        List<Long> portfolioIds = portfolioList.stream().map(Portfolio::getId).toList();
+        Map<Long, String> thumbnails = portfolioImageItemServiceImpl.findThumbnailUrls(portfolioIds);
 
-        // 이 부분 정상작동하는지 확인 필요
-        List<String> imageItems = portfolioList
-                .stream()
-                .map(item -> portfolioImageItems
-                        .stream()
-                        .filter(imageItem -> imageItem.getPortfolio().getId().equals(item.getId()))
-                        .findFirst()
-                        .map(PortfolioImageItem::getImage)
-                        .orElseGet(String::new))
-                .toList();
-
-        return favoriteDTOConverter.findAllFavoritePortfolio(favoriteList, imageItems);
+        return favoriteDTOConverter.findAllFavoritePortfolio(favoriteList, thumbnails);
     }
 
     private Portfolio findByPortfolioId(Long portfolioId) {
@@ -0,0 +1,47 @@
+package com.kakao.sunsuwedding.image;
+
+// HTTP Range 헤더의 단일 바이트 범위 (start, end 모두 포함)
+public record ByteRange(long start, long end) {
+
+    public static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    public long length() {
+        return end - start + 1;
+    }
+
+    public boolean isSatisfiable() {
+        return this != UNSATISFIABLE;
+    }
+
+    // 단일 범위만 지원하고, 해석할 수 없는 헤더는 null 을 반환해서 전체를 전송하도록 함
+    public static ByteRange parse(String header, long size) {
+        if (header == null || !header.startsWith("bytes=") || header.contains(",")) return null;
+
+        String spec = header.substring("bytes=".length()).trim();
+        int dash = spec.indexOf('-');
+        if (dash < 0) return null;
+
+        String from = spec.substring(0, dash).trim();
+        String to = spec.substring(dash + 1).trim();
+        try {
+            long start;
+            long end;
+            if (from.isEmpty()) {
+                // bytes=-500 : 마지막 500 바이트
+                if (to.isEmpty()) return null;
+                long suffix = Long.parseLong(to);
+                if (suffix <= 0) return UNSATISFIABLE;
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(from);
+                end = to.isEmpty() ? size - 1 : Math.min(Long.parseLong(to), size - 1);
+            }
+
+            if (start < 0 || start >= size || start > end) return UNSATISFIABLE;
+            return new ByteRange(start, end);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.kakao.sunsuwedding.image;
+
+import com.kakao.sunsuwedding._core.errors.BaseException;
+import com.kakao.sunsuwedding._core.errors.exception.NotFoundException;
+import com.kakao.sunsuwedding._core.storage.BlobStorage;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/image")
+public class ImageRestController {
+
+    // 해시가 곧 내용이므로 한 번 받은 이미지는 다시 검증할 필요가 없음
+    private static final String CACHE_CONTROL = "public, max-age=31536000, immutable";
+
+    // 톰캣 NIO 커넥터의 sendfile 속성 (지원하는 경우 커널에서 바로 소켓으로 복사)
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final BlobStorage blobStorage;
+
+    @GetMapping("/{key}")
+    public void streamImage(@PathVariable String key,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        if (!blobStorage.exists(key)) throw new NotFoundException(BaseException.IMAGE_NOT_FOUND);
+
+        String etag = "\"" + key + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        if (matchesEtag(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long size = blobStorage.size(key);
+        response.setContentType(detectType(key, size).getMediaType());
+
+        // If-Range 가 현재 ETag 와 다르면 Range 를 무시하고 전체를 보냄
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        ByteRange range = (ifRange == null || ifRange.equals(etag))
+                ? ByteRange.parse(request.getHeader(HttpHeaders.RANGE), size)
+                : null;
+
+        if (range != null && !range.isSatisfiable()) {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+            response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+            return;
+        }
+
+        if (range == null) {
+            range = new ByteRange(0, size - 1);
+            response.setStatus(HttpServletResponse.SC_OK);
+        } else {
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + range.start() + "-" + range.end() + "/" + size);
+            response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+        }
+        response.setContentLengthLong(Math.max(range.length(), 0));
+        if (size == 0) return;
+
+        Optional<Path> localPath = blobStorage.localPath(key);
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT)) && localPath.isPresent()) {
+            request.setAttribute(SENDFILE_FILENAME, localPath.get().toString());
+            request.setAttribute(SENDFILE_START, range.start());
+            request.setAttribute(SENDFILE_END, range.end() + 1);
+            return;
+        }
+
+        blobStorage.transferTo(key, range.start(), range.length(), Channels.newChannel(response.getOutputStream()));
+    }
+
+    private ImageType detectType(String key, long size) {
+        ByteArrayOutputStream header = new ByteArrayOutputStream(ImageType.HEADER_LENGTH);
+        blobStorage.transferTo(key, 0, Math.min(size, ImageType.HEADER_LENGTH), Channels.newChannel(header));
+        return ImageType.detect(header.toByteArray());
+    }
+
+    private boolean matchesEtag(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) return false;
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+}
@@ -0,0 +1,36 @@
+package com.kakao.sunsuwedding.image;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 저장소에는 바이트만 있으므로 매직 넘버로 Content-Type 을 판별
+@Getter
+@RequiredArgsConstructor
+public enum ImageType {
+    JPEG("image/jpeg"),
+    PNG("image/png"),
+    GIF("image/gif"),
+    WEBP("image/webp"),
+    UNKNOWN("application/octet-stream");
+
+    public static final int HEADER_LENGTH = 12;
+
+    private final String mediaType;
+
+    public static ImageType detect(byte[] header) {
+        if (startsWith(header, 0xFF, 0xD8, 0xFF)) return JPEG;
+        if (startsWith(header, 0x89, 'P', 'N', 'G')) return PNG;
+        if (startsWith(header, 'G', 'I', 'F', '8')) return GIF;
+        if (startsWith(header, 'R', 'I', 'F', 'F') && header.length >= 12
+                && header[8] == 'W' && header[9] == 'E' && header[10] == 'B' && header[11] == 'P') return WEBP;
+        return UNKNOWN;
+    }
+
+    private static boolean startsWith(byte[] header, int... signature) {
+        if (header.length < signature.length) return false;
+        for (int i = 0; i < signature.length; i++) {
+            if ((header[i] & 0xFF) != signature[i]) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,82 @@
+package com.kakao.sunsuwedding.image;
+
+import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
+import com.kakao.sunsuwedding._core.storage.BlobStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// 기존 @Lob(base64) image 컬럼에 남아있는 이미지를 BlobStorage 로 옮기는 일회성 작업
+// storage.migration.enabled=true 로 한 번 띄우면 배치 단위로 옮기고 image 컬럼은 비움
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.migration.enabled", havingValue = "true")
+public class LobImageMigrationJob implements ApplicationRunner {
+
+    private static final List<String> TABLES = List.of("portfolio_image_item_tb", "review_image_item_tb");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlobStorage blobStorage;
+
+    @Value("${storage.migration.batch-size:100}")
+    private int batchSize;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        TABLES.forEach(this::migrate);
+    }
+
+    private void migrate(String table) {
+        String selectSql = String.format("""
+                SELECT id, image FROM %s
+                WHERE id > ? AND image IS NOT NULL AND image_key IS NULL
+                ORDER BY id
+                LIMIT ?
+                """, table);
+        String updateSql = String.format("""
+                UPDATE %s SET image_key = ?, image = NULL
+                WHERE id = ?
+                """, table);
+
+        long lastId = 0;
+        int migrated = 0;
+        int failed = 0;
+        while (true) {
+            List<LegacyImage> batch = jdbcTemplate.query(selectSql,
+                    (rs, rowNum) -> new LegacyImage(rs.getLong("id"), rs.getString("image")),
+                    lastId, batchSize);
+            if (batch.isEmpty()) break;
+
+            // 파일 저장은 트랜잭션 밖에서 처리 (같은 내용이면 같은 키라 재실행해도 안전함)
+            List<Object[]> updates = new ArrayList<>();
+            for (LegacyImage image : batch) {
+                try {
+                    updates.add(new Object[]{ blobStorage.storeBase64(image.image()), image.id() });
+                } catch (BadRequestException e) {
+                    failed++;
+                    log.warn("base64 디코딩 실패로 이미지를 건너뜀 table={} id={}", table, image.id());
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(updateSql, updates));
+
+            migrated += updates.size();
+            lastId = batch.get(batch.size() - 1).id();
+            log.info("{} 이미지 이전 중: {}건 완료 (마지막 id={})", table, migrated, lastId);
+        }
+        log.info("{} 이미지 이전 완료: 성공 {}건, 실패 {}건", table, migrated, failed);
+    }
+
+    private record LegacyImage(Long id, String image) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.kakao.sunsuwedding.image;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+
+// 목록 카드용 썸네일 JPEG 생성
+// JDK ImageIO 는 WebP 를 쓸 수 없어서 JPEG 로만 만든다
+@Slf4j
+@Component
+public class ThumbnailGenerator {
+
+    private final int width;
+    private final float quality;
+
+    public ThumbnailGenerator(@Value("${storage.thumbnail.width:320}") int width,
+                              @Value("${storage.thumbnail.quality:0.8}") float quality) {
+        this.width = width;
+        this.quality = quality;
+    }
+
+    // 이미지로 읽을 수 없는 바이트면 빈 값을 반환 (원본을 그대로 사용)
+    public Optional<byte[]> createThumbnail(byte[] original) {
+        try {
+            BufferedImage source = ImageIO.read(new ByteArrayInputStream(original));
+            if (source == null) return Optional.empty();
+
+            // 원본이 더 작으면 키우지 않음
+            int targetWidth = Math.min(width, source.getWidth());
+            int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+            // JPEG 는 알파 채널이 없으므로 흰 배경 위에 그림
+            BufferedImage thumbnail = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = thumbnail.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, targetWidth, targetHeight);
+                graphics.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+            } finally {
+                graphics.dispose();
+            }
+            return Optional.of(writeJpeg(thumbnail));
+        } catch (IOException | RuntimeException e) {
+            log.warn("썸네일 생성 실패, 원본 이미지를 사용합니다.", e);
+            return Optional.empty();
+        }
+    }
+
+    private byte[] writeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
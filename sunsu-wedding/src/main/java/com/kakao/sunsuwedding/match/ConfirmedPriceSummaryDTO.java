@@ -0,0 +1,25 @@
+package com.kakao.sunsuwedding.match;
+
+import com.kakao.sunsuwedding.portfolio.stats.ConfirmedPriceStats;
+
+// 포트폴리오 가격 통계용 프로젝션 - 매칭이 없으면 count 외의 값은 null
+public record ConfirmedPriceSummaryDTO(
+        Long matchCount,
+        Long contractCount,
+        Long priceSum,
+        Long minPrice,
+        Long maxPrice
+) {
+    public boolean hasMatches() {
+        return matchCount != null && matchCount > 0;
+    }
+
+    // 평균은 증분 갱신(addConfirmedPrice)과 같도록 합계 / 건수 (버림) 로 계산
+    public ConfirmedPriceStats toConfirmedPriceStats() {
+        return ConfirmedPriceStats.of(orZero(contractCount), orZero(priceSum), orZero(minPrice), orZero(maxPrice));
+    }
+
+    private static long orZero(Long value) {
+        return value == null ? 0L : value;
+    }
+}
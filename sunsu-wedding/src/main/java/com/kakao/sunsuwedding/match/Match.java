@@ -8,10 +8,12 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.NotFound;
 import org.hibernate.annotations.NotFoundAction;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
@@ -21,7 +23,8 @@ import java.time.LocalDateTime;
         name="match_tb",
         indexes = {
                 @Index(name = "match_couple_planner_index", columnList = "couple_id,planner_id"),
-                @Index(name = "match_chat_index", columnList = "chat_id")
+                @Index(name = "match_chat_index", columnList = "chat_id"),
+                @Index(name = "match_planner_confirmed_at_index", columnList = "planner_id,confirmed_at")
         })
 @SQLDelete(sql = "UPDATE match_tb SET is_active = false WHERE id = ?")
 @Where(clause = "is_active = true")
@@ -45,6 +48,7 @@ public class Match {
 
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private MatchStatus status;
 
     @Column(nullable = false)
@@ -58,6 +62,7 @@ public class Match {
 
     @Column(name = "review_status", nullable = false)
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private ReviewStatus reviewStatus;
 
     @Column(nullable = false, name = "created_at")
@@ -3,20 +3,35 @@ package com.kakao.sunsuwedding.match;
 import com.kakao.sunsuwedding.user.couple.Couple;
 import com.kakao.sunsuwedding.user.planner.Planner;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 public interface MatchJPARepository extends JpaRepository<Match, Long> {
-    List<Match> findAllByPlanner(Planner planner);
     List<Match> findAllByCouple(Couple couple);
 
     Optional<Match> findByChatId(Long chatId);
 
-    @Query("select m from Match m where m.planner = :planner and m.confirmedAt != null order by m.confirmedAt desc limit 10")
-    List<Match> findLatestTenByPlanner(@Param("planner") Planner planner);
+    // 플래너의 확정 거래 건수, 합계, 최소, 최대 금액을 DB 에서 집계 (Match 엔티티를 불러오지 않음)
+    @Query("select new com.kakao.sunsuwedding.match.ConfirmedPriceSummaryDTO(count(m), " +
+            "sum(case when m.status = com.kakao.sunsuwedding.match.MatchStatus.CONFIRMED then 1L else 0L end), " +
+            "sum(case when m.status = com.kakao.sunsuwedding.match.MatchStatus.CONFIRMED then m.confirmedPrice else 0L end), " +
+            "min(case when m.status = com.kakao.sunsuwedding.match.MatchStatus.CONFIRMED then m.confirmedPrice end), " +
+            "max(case when m.status = com.kakao.sunsuwedding.match.MatchStatus.CONFIRMED then m.confirmedPrice end)) " +
+            "from Match m where m.planner.id = :plannerId")
+    ConfirmedPriceSummaryDTO summarizeConfirmedPrices(@Param("plannerId") Long plannerId);
+
+    // 아직 확정되지 않은 매칭만 확정 상태로 바꾸는 조건부 UPDATE (확정 금액은 현재 견적 합계)
+    // 동시에 확정 요청이 와도 행 잠금으로 한 요청만 1 을 받으므로 통계에 한 번만 누적됨
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Match m set m.status = com.kakao.sunsuwedding.match.MatchStatus.CONFIRMED, " +
+            "m.confirmedPrice = m.price, m.confirmedAt = :confirmedAt " +
+            "where m.id = :matchId and m.status <> com.kakao.sunsuwedding.match.MatchStatus.CONFIRMED")
+    int confirm(@Param("matchId") Long matchId, @Param("confirmedAt") LocalDateTime confirmedAt);
 
     @Query("select m from Match m where m.planner = :planner and m.couple = :couple")
     List<Match> findByCoupleAndPlanner(@Param("couple") Couple couple, @Param("planner") Planner planner);
@@ -6,6 +6,7 @@ import com.kakao.sunsuwedding._core.errors.exception.ForbiddenException;
 import com.kakao.sunsuwedding._core.errors.exception.NotFoundException;
 import com.kakao.sunsuwedding.chat.Chat;
 import com.kakao.sunsuwedding.portfolio.PortfolioServiceImpl;
+import com.kakao.sunsuwedding.portfolio.analytics.PriceAnalyticsServiceImpl;
 import com.kakao.sunsuwedding.quotation.Quotation;
 import com.kakao.sunsuwedding.quotation.QuotationJPARepository;
 import com.kakao.sunsuwedding.quotation.QuotationStatus;
@@ -19,6 +20,7 @@ import org.springframework.data.util.Pair;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 
@@ -31,6 +33,7 @@ public class MatchServiceImpl implements MatchService {
     private final CoupleJPARepository coupleJPARepository;
 
     private final PortfolioServiceImpl portfolioServiceImpl;
+    private final PriceAnalyticsServiceImpl priceAnalyticsServiceImpl;
     private final MatchDTOConverter matchDTOConverter;
 
     @Transactional
@@ -78,12 +81,18 @@ public class MatchServiceImpl implements MatchService {
 
         checkAllQuotationConfirmed(quotations);
 
-        match.updateStatusConfirmed();
-        match.updateConfirmedPrice(match.getPrice());
-        matchJPARepository.save(match);
+        // 이미 확정된 매칭이면 통계에 다시 누적되지 않도록 여기서 중단
+        Planner planner = match.getPlanner();
+        Long confirmedPrice = match.getPrice();
+        if (match.getStatus() == MatchStatus.CONFIRMED || matchJPARepository.confirm(match.getId(), LocalDateTime.now()) == 0) {
+            throw new BadRequestException(BaseException.MATCHING_CONFIRMED_TWICE);
+        }
+
+        // 플래너별, 지역별 가격 분포 스케치에 이번 확정 금액 추가하기
+        priceAnalyticsServiceImpl.addConfirmedPrice(planner, confirmedPrice);
 
-        // 견적서 전체 확정 후 플래너 포트폴리오의 avg, min, max price 업데이트 하기
-        portfolioServiceImpl.updateConfirmedPrices(match.getPlanner());
+        // 견적서 전체 확정 후 플래너 포트폴리오의 avg, min, max price 에 이번 확정 금액 누적하기
+        portfolioServiceImpl.addConfirmedPrice(planner, confirmedPrice);
     }
 
     private void checkAllQuotationConfirmed(List<Quotation> quotations) {
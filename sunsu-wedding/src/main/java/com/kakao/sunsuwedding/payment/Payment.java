@@ -6,8 +6,10 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
@@ -15,7 +17,8 @@ import java.time.LocalDateTime;
 @Table(
         name="payment_tb",
         indexes = {
-                @Index(name = "user_index", columnList = "user_id")
+                @Index(name = "user_index", columnList = "user_id"),
+                @Index(name = "payment_status_pending_index", columnList = "status, pending_at")
         })
 @SQLDelete(sql = "UPDATE payment_tb SET is_active = false WHERE id = ?")
 @Where(clause = "is_active = true")
@@ -44,6 +47,15 @@ public class Payment {
     @Column(name = "payed_at")
     private LocalDateTime payedAt;
 
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private PaymentStatus status;
+
+    // 토스페이먼츠에 승인 요청을 보내기 시작한 시각 (오래된 PENDING 은 PaymentReconciler 가 마무리)
+    @Column(name = "pending_at")
+    private LocalDateTime pendingAt;
+
     @Column(name = "is_active")
     private Boolean isActive;
 
@@ -55,12 +67,14 @@ public class Payment {
         this.paymentKey = paymentKey;
         this.payedAmount = payedAmount;
         this.createdAt = LocalDateTime.now();
+        this.status = PaymentStatus.READY;
         this.isActive = true;
     }
 
     public void updatePaymentInfo(String orderId, Long amount){
         this.orderId = orderId;
         this.payedAmount = amount;
+        this.status = PaymentStatus.READY;
     }
     public void updatePaymentKey(String paymentKey){
         this.paymentKey = paymentKey;
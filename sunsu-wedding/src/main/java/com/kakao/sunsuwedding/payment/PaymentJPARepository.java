@@ -1,11 +1,35 @@
 package com.kakao.sunsuwedding.payment;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentJPARepository extends JpaRepository<Payment, Long> {
     Optional<Payment> findByUserId(Long userId);
 
-}
+    // 승인 요청을 보낼 수 있는 상태(READY, FAILED)일 때만 PENDING 으로 바꿈
+    // 같은 결제로 동시에 승인 요청이 들어와도 한 요청만 1 을 받음
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.status = com.kakao.sunsuwedding.payment.PaymentStatus.PENDING, " +
+            "p.paymentKey = :paymentKey, p.pendingAt = :now " +
+            "where p.id = :id and p.status in (com.kakao.sunsuwedding.payment.PaymentStatus.READY, com.kakao.sunsuwedding.payment.PaymentStatus.FAILED)")
+    int markPending(@Param("id") Long id, @Param("paymentKey") String paymentKey, @Param("now") LocalDateTime now);
+
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.status = com.kakao.sunsuwedding.payment.PaymentStatus.APPROVED, p.payedAt = :now " +
+            "where p.id = :id and p.status = com.kakao.sunsuwedding.payment.PaymentStatus.PENDING")
+    int markApproved(@Param("id") Long id, @Param("now") LocalDateTime now);
 
+    @Modifying(clearAutomatically = true)
+    @Query("update Payment p set p.status = com.kakao.sunsuwedding.payment.PaymentStatus.FAILED " +
+            "where p.id = :id and p.status = com.kakao.sunsuwedding.payment.PaymentStatus.PENDING")
+    int markFailed(@Param("id") Long id);
+
+    @Query("select p from Payment p join fetch p.user where p.status = com.kakao.sunsuwedding.payment.PaymentStatus.PENDING and p.pendingAt < :before order by p.pendingAt")
+    List<Payment> findPendingBefore(@Param("before") LocalDateTime before);
+}
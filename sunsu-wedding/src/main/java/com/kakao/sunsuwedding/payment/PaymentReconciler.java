@@ -0,0 +1,59 @@
+package com.kakao.sunsuwedding.payment;
+
+import com.kakao.sunsuwedding._core.errors.exception.ServerException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 승인 요청 후 결과를 반영하지 못하고 PENDING 으로 남은 결제를 다시 확인해서 마무리
+// (서버 재시작, 게이트웨이 타임아웃 등) 같은 멱등 키로 다시 요청하므로 이미 승인된 결제도 안전하게 확인됨
+@Slf4j
+@Component
+public class PaymentReconciler {
+
+    private final PaymentJPARepository paymentJPARepository;
+    private final PaymentServiceImpl paymentServiceImpl;
+    private final MeterRegistry meterRegistry;
+    private final Duration staleAfter;
+
+    public PaymentReconciler(PaymentJPARepository paymentJPARepository,
+                             PaymentServiceImpl paymentServiceImpl,
+                             MeterRegistry meterRegistry,
+                             @Value("${payment.reconcile.stale-after-seconds:120}") long staleAfterSeconds) {
+        this.paymentJPARepository = paymentJPARepository;
+        this.paymentServiceImpl = paymentServiceImpl;
+        this.meterRegistry = meterRegistry;
+        this.staleAfter = Duration.ofSeconds(staleAfterSeconds);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.reconcile.interval-ms:60000}")
+    public int reconcilePendingPayments() {
+        List<Payment> payments = paymentJPARepository.findPendingBefore(LocalDateTime.now().minus(staleAfter));
+        if (payments.isEmpty()) {
+            return 0;
+        }
+
+        int finished = 0;
+        for (Payment payment : payments) {
+            PaymentRequest.ApproveDTO requestDTO = new PaymentRequest.ApproveDTO(
+                    payment.getOrderId(), payment.getPaymentKey(), payment.getPayedAmount());
+            try {
+                paymentServiceImpl.confirm(payment.getId(), payment.getUser().getId(), requestDTO);
+                finished++;
+            }
+            catch (ServerException exception) {
+                // 승인 거절은 FAILED 로 마무리됨, 통신 실패는 다음 실행에서 다시 시도
+                log.warn("PENDING 결제 확인 실패 paymentId={} reason={}", payment.getId(), exception.getException());
+            }
+        }
+        meterRegistry.counter("payment.reconcile.pending").increment(payments.size());
+        log.info("PENDING 결제 확인: {}건 중 {}건 승인", payments.size(), finished);
+        return finished;
+    }
+}
@@ -9,19 +9,10 @@ import com.kakao.sunsuwedding.user.base_user.UserJPARepository;
 import com.kakao.sunsuwedding.user.constant.Grade;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
 
-import java.net.InetSocketAddress;
-import java.net.Proxy;
-import java.util.Base64;
-import java.util.Collections;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -33,9 +24,8 @@ public class PaymentServiceImpl implements PaymentService {
 
     private final PaymentJPARepository paymentJPARepository;
     private final UserJPARepository userJPARepository;
-
-    @Value("${payment.toss.secret}")
-    private String secretKey;
+    private final TossPaymentClient tossPaymentClient;
+    private final PaymentStatusUpdater paymentStatusUpdater;
 
     // 결제와 관련된 정보를 user에 저장함
     @Transactional
@@ -46,6 +36,10 @@ public class PaymentServiceImpl implements PaymentService {
         // 사용자의 결제 정보가 존재하면 업데이트
         if (paymentOptional.isPresent()){
             Payment payment = paymentOptional.get();
+            // 승인 요청 중인 결제의 주문 정보는 바꿀 수 없음
+            if (payment.getStatus() == PaymentStatus.PENDING) {
+                throw new BadRequestException(BaseException.PAYMENT_ALREADY_IN_PROGRESS);
+            }
             payment.updatePaymentInfo(requestDTO.orderId(), requestDTO.amount());
         }
         else {
@@ -59,7 +53,11 @@ public class PaymentServiceImpl implements PaymentService {
         }
     }
 
-    @Transactional
+    // 1. 검증 후 PENDING 으로 바꾸고 커밋 (짧은 트랜잭션)
+    // 2. 트랜잭션 밖에서 토스페이먼츠 승인 요청 (게이트웨이가 느려도 DB 커넥션, row lock 을 잡지 않음)
+    // 3. 결과에 따라 APPROVED(유저 업그레이드) / FAILED 로 마무리 (짧은 트랜잭션)
+    // 2, 3 사이에 서버가 죽거나 결과를 알 수 없으면 PENDING 으로 남고 PaymentReconciler 가 다시 확인함
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void approve(Long userId, PaymentRequest.ApproveDTO requestDTO) {
         User user = findUserById(userId);
         Payment payment = findPaymentByUserId(user.getId());
@@ -71,37 +69,25 @@ public class PaymentServiceImpl implements PaymentService {
             throw new BadRequestException(BaseException.PAYMENT_WRONG_INFORMATION);
         }
 
-        payment.updatePaymentKey(requestDTO.paymentKey());
-        // 2. 토스 페이먼츠 승인 요청
-        tossPayApprove(requestDTO);
-        // 3. 유저 업그레이드
-        user.upgrade();
-        // 4. 결제시간 업데이트
-        payment.updatePayedAt();
+        paymentStatusUpdater.markPending(payment.getId(), requestDTO.paymentKey());
+        confirm(payment.getId(), user.getId(), requestDTO);
     }
 
-    private void tossPayApprove(PaymentRequest.ApproveDTO requestDTO){
-        // 토스페이먼츠 승인 api 요청
-        String basicToken = Base64.getEncoder().encodeToString((secretKey + ":").getBytes());
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setBasicAuth(basicToken);
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
-
-        Proxy proxy = new Proxy(java.net.Proxy.Type.HTTP,
-                new InetSocketAddress("krmp-proxy.9rum.cc",3128));
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setProxy(proxy);
-        RestTemplate restTemplate = new RestTemplate(factory);
-
+    // PENDING 상태인 결제를 토스페이먼츠에 승인 요청하고 결과를 반영
+    // 같은 주문/결제 키는 같은 멱등 키로 요청되므로 다시 호출해도 중복 승인되지 않음
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void confirm(Long paymentId, Long userId, PaymentRequest.ApproveDTO requestDTO) {
         try {
-            restTemplate.postForEntity("https://api.tosspayments.com/v1/payments/confirm",
-                    new HttpEntity<>(requestDTO, headers),
-                    String.class);
-        } catch (Exception e) {
-            throw new ServerException(BaseException.PAYMENT_FAIL);
+            tossPaymentClient.approve(requestDTO);
+        }
+        catch (ServerException exception) {
+            // 승인 거절은 확정된 실패, 그 외(통신 실패)는 결과를 알 수 없으므로 PENDING 유지
+            if (exception.getException() == BaseException.PAYMENT_FAIL) {
+                paymentStatusUpdater.markFailed(paymentId);
+            }
+            throw exception;
         }
+        paymentStatusUpdater.markApproved(paymentId, userId);
     }
 
     // 받아온 payment와 관련된 데이터(orderId, amount)가 정확한지 확인)
@@ -0,0 +1,20 @@
+package com.kakao.sunsuwedding.payment;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum PaymentStatus {
+
+    READY("결제 전"),
+    PENDING("승인 요청 중"),
+    APPROVED("승인 완료"),
+    FAILED("승인 실패");
+
+    @Getter
+    private final String status;
+
+    public String toString() {
+        return status;
+    }
+}
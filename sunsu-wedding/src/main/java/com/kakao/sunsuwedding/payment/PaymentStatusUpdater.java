@@ -0,0 +1,44 @@
+package com.kakao.sunsuwedding.payment;
+
+import com.kakao.sunsuwedding._core.errors.BaseException;
+import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
+import com.kakao.sunsuwedding.user.base_user.User;
+import com.kakao.sunsuwedding.user.base_user.UserJPARepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// 결제 상태 전이를 각각 짧은 트랜잭션으로 처리
+// 토스페이먼츠 호출은 이 트랜잭션들 사이(커넥션을 잡지 않은 상태)에서 이루어짐
+@Component
+@RequiredArgsConstructor
+public class PaymentStatusUpdater {
+
+    private final PaymentJPARepository paymentJPARepository;
+    private final UserJPARepository userJPARepository;
+
+    @Transactional
+    public void markPending(Long paymentId, String paymentKey) {
+        int updated = paymentJPARepository.markPending(paymentId, paymentKey, LocalDateTime.now());
+        if (updated == 0) {
+            throw new BadRequestException(BaseException.PAYMENT_ALREADY_IN_PROGRESS);
+        }
+    }
+
+    // 이미 다른 요청(또는 PaymentReconciler)이 마무리했다면 아무것도 하지 않음
+    @Transactional
+    public boolean markApproved(Long paymentId, Long userId) {
+        if (paymentJPARepository.markApproved(paymentId, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        userJPARepository.findById(userId).ifPresent(User::upgrade);
+        return true;
+    }
+
+    @Transactional
+    public boolean markFailed(Long paymentId) {
+        return paymentJPARepository.markFailed(paymentId) == 1;
+    }
+}
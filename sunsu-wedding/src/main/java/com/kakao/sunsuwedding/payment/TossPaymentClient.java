@@ -0,0 +1,147 @@
+package com.kakao.sunsuwedding.payment;
+
+import com.kakao.sunsuwedding._core.errors.BaseException;
+import com.kakao.sunsuwedding._core.errors.exception.ServerException;
+import com.kakao.sunsuwedding._core.utils.CircuitBreaker;
+import io.netty.channel.ChannelOption;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.transport.ProxyProvider;
+import reactor.util.retry.Retry;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+// 토스페이먼츠 결제 승인 API 클라이언트
+// 커넥션 풀(keep-alive)을 재사용하고, 타임아웃/재시도/서킷 브레이커를 한 곳에서 처리
+@Slf4j
+public class TossPaymentClient {
+    static final String CONFIRM_PATH = "/v1/payments/confirm";
+    static final String IDEMPOTENCY_HEADER = "Idempotency-Key";
+
+    private final ConnectionProvider connectionProvider;
+    private final WebClient webClient;
+    private final CircuitBreaker circuitBreaker;
+    private final int maxAttempts;
+    private final Duration retryBackoff;
+
+    @Builder
+    public TossPaymentClient(String baseUrl, String secretKey,
+                             String proxyHost, Integer proxyPort,
+                             Duration connectTimeout, Duration readTimeout,
+                             Integer maxConnections, Duration pendingAcquireTimeout,
+                             Integer maxAttempts, Duration retryBackoff,
+                             CircuitBreaker circuitBreaker) {
+        Duration connect = (connectTimeout == null) ? Duration.ofSeconds(3) : connectTimeout;
+        Duration read = (readTimeout == null) ? Duration.ofSeconds(10) : readTimeout;
+
+        // 동시에 나갈 수 있는 연결 수를 제한해서 결제 서버가 느려져도 요청 스레드가 전부 묶이지 않게 함
+        this.connectionProvider = ConnectionProvider.builder("toss-payment")
+                .maxConnections(maxConnections == null ? 50 : maxConnections)
+                .pendingAcquireTimeout(pendingAcquireTimeout == null ? Duration.ofSeconds(2) : pendingAcquireTimeout)
+                .maxIdleTime(Duration.ofSeconds(30))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connect.toMillis())
+                .responseTimeout(read);
+        if (proxyHost != null && !proxyHost.isBlank()) {
+            httpClient = httpClient.proxy(proxy -> proxy.type(ProxyProvider.Proxy.HTTP).host(proxyHost).port(proxyPort));
+        }
+
+        String basicToken = Base64.getEncoder().encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+        this.webClient = WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeaders(headers -> {
+                    headers.setBasicAuth(basicToken);
+                    headers.setContentType(MediaType.APPLICATION_JSON);
+                    headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+                })
+                .build();
+        this.circuitBreaker = (circuitBreaker == null) ? new CircuitBreaker(5, Duration.ofSeconds(30)) : circuitBreaker;
+        this.maxAttempts = (maxAttempts == null) ? 3 : maxAttempts;
+        this.retryBackoff = (retryBackoff == null) ? Duration.ofMillis(200) : retryBackoff;
+    }
+
+    public void approve(PaymentRequest.ApproveDTO requestDTO) {
+        if (!circuitBreaker.tryAcquire()) {
+            throw new ServerException(BaseException.PAYMENT_GATEWAY_UNAVAILABLE);
+        }
+
+        try {
+            webClient.post()
+                    .uri(CONFIRM_PATH)
+                    // 재시도해도 같은 결제가 두 번 승인되지 않도록 같은 키를 사용
+                    .header(IDEMPOTENCY_HEADER, idempotencyKey(requestDTO))
+                    .bodyValue(requestDTO)
+                    .retrieve()
+                    .onStatus(HttpStatusCode::is4xxClientError, response -> response.bodyToMono(String.class)
+                            .defaultIfEmpty("")
+                            .flatMap(body -> Mono.error(new PaymentRejectedException(response.statusCode().value(), body))))
+                    .toBodilessEntity()
+                    .retryWhen(Retry.backoff(maxAttempts - 1L, retryBackoff).filter(TossPaymentClient::isRetryable))
+                    .block();
+            circuitBreaker.onSuccess();
+        }
+        catch (PaymentRejectedException exception) {
+            // 결제 서버는 정상이고 요청이 거절된 것이므로 서킷 브레이커 실패로 세지 않음
+            circuitBreaker.onSuccess();
+            log.warn("토스페이먼츠 승인 거절 (status={}, body={})", exception.status, exception.body);
+            throw new ServerException(BaseException.PAYMENT_FAIL);
+        }
+        catch (RuntimeException exception) {
+            // 재시도 후에도 응답을 받지 못한 경우는 승인 여부를 알 수 없음
+            circuitBreaker.onFailure();
+            log.error("토스페이먼츠 승인 요청 실패", exception);
+            throw new ServerException(BaseException.PAYMENT_GATEWAY_UNAVAILABLE);
+        }
+    }
+
+    public CircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
+
+    // 빈 종료 시 커넥션 풀 정리
+    public void close() {
+        connectionProvider.dispose();
+    }
+
+    // 같은 주문/결제 키 조합은 항상 같은 키가 나오도록 이름 기반 UUID 사용
+    static String idempotencyKey(PaymentRequest.ApproveDTO requestDTO) {
+        String source = requestDTO.orderId() + ":" + requestDTO.paymentKey();
+        return UUID.nameUUIDFromBytes(source.getBytes(StandardCharsets.UTF_8)).toString();
+    }
+
+    // 연결 실패, 타임아웃, 5xx 만 재시도 (4xx 는 다시 보내도 결과가 같음)
+    private static boolean isRetryable(Throwable throwable) {
+        if (throwable instanceof WebClientRequestException) {
+            return true;
+        }
+        return throwable instanceof WebClientResponseException exception
+                && exception.getStatusCode().is5xxServerError();
+    }
+
+    private static class PaymentRejectedException extends RuntimeException {
+        private final int status;
+        private final String body;
+
+        PaymentRejectedException(int status, String body) {
+            super("payment rejected: " + status);
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
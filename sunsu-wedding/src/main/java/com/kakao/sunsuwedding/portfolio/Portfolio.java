@@ -16,7 +16,10 @@ import java.time.LocalDateTime;
 @Table(
         name = "portfolio_tb",
         indexes = {
-                @Index(name = "planner_index", columnList = "planner_id")
+                @Index(name = "planner_index", columnList = "planner_id"),
+                // 목록 조회 조건 조합별 인덱스 (V3__portfolio_list_indexes.sql 참고)
+                @Index(name = "portfolio_active_id_price_index", columnList = "is_active,id,total_price"),
+                @Index(name = "portfolio_active_location_id_price_index", columnList = "is_active,location,id,total_price")
         })
 @SQLDelete(sql = "UPDATE portfolio_tb SET is_active = false WHERE id = ?")
 @Where(clause = "is_active = true")
@@ -54,6 +57,10 @@ public class Portfolio {
     @Column(name = "contract_count")
     private Long contractCount;
 
+    // 확정 금액 합계 (평균을 증분으로 계산하기 위해 보관)
+    @Column(name = "price_sum")
+    private Long priceSum;
+
     @Column(name = "avg_price")
     private Long avgPrice;
 
@@ -66,6 +73,13 @@ public class Portfolio {
     @Column(name = "avg_stars")
     private Double avgStars;
 
+    // 평점 합계, 리뷰 수 (평균 평점을 증분으로 계산하기 위해 보관)
+    @Column(name = "stars_sum")
+    private Long starsSum;
+
+    @Column(name = "review_count")
+    private Long reviewCount;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -73,7 +87,7 @@ public class Portfolio {
     private Boolean isActive;
 
     @Builder
-    public Portfolio(Long id, Planner planner, String plannerName, String title, String description, String location, String career, String partnerCompany, Long totalPrice, Long contractCount, Long avgPrice, Long minPrice, Long maxPrice) {
+    public Portfolio(Long id, Planner planner, String plannerName, String title, String description, String location, String career, String partnerCompany, Long totalPrice, Long contractCount, Long priceSum, Long avgPrice, Long minPrice, Long maxPrice) {
         this.id = id;
         this.planner = planner;
         this.plannerName = plannerName;
@@ -84,10 +98,13 @@ public class Portfolio {
         this.partnerCompany = partnerCompany;
         this.totalPrice = totalPrice;
         this.contractCount = contractCount;
+        this.priceSum = priceSum;
         this.avgPrice = avgPrice;
         this.minPrice = minPrice;
         this.maxPrice = maxPrice;
         this.avgStars = 0.0;
+        this.starsSum = 0L;
+        this.reviewCount = 0L;
         this.createdAt = LocalDateTime.now();
         this.isActive = true;
     }
@@ -103,14 +120,17 @@ public class Portfolio {
         this.totalPrice = totalPrice;
     }
 
-    public void updateConfirmedPrices(Long contractCount, Long avgPrice, Long minPrice, Long maxPrice) {
+    public void updateConfirmedPrices(Long contractCount, Long priceSum, Long avgPrice, Long minPrice, Long maxPrice) {
         this.contractCount = contractCount;
+        this.priceSum = priceSum;
         this.avgPrice = avgPrice;
         this.minPrice = minPrice;
         this.maxPrice = maxPrice;
     }
 
-    public void updateAvgStars(Double avgStars) {
+    public void updateAvgStars(Long starsSum, Long reviewCount, Double avgStars) {
+        this.starsSum = starsSum;
+        this.reviewCount = reviewCount;
         this.avgStars = avgStars;
     }
 }
@@ -0,0 +1,6 @@
+package com.kakao.sunsuwedding.portfolio;
+
+// 포트폴리오 내용(본문, 이미지, 가격, 거래 내역, 평점)이 바뀌었을 때 발행
+// 캐시 무효화 등 포트폴리오를 복제해서 들고 있는 곳에서 구독함
+public record PortfolioChangedEvent(Long portfolioId) {
+}
@@ -1,20 +1,22 @@
 package com.kakao.sunsuwedding.portfolio;
 
+import com.kakao.sunsuwedding._core.utils.LongHashSet;
 import com.kakao.sunsuwedding._core.utils.PriceCalculator;
-import com.kakao.sunsuwedding.favorite.Favorite;
-import com.kakao.sunsuwedding.match.Match;
+import com.kakao.sunsuwedding._core.utils.TDigest;
 import com.kakao.sunsuwedding.portfolio.price.PriceItem;
-import com.kakao.sunsuwedding.quotation.Quotation;
+import com.kakao.sunsuwedding.portfolio.stats.PaymentHistoryRow;
 import com.kakao.sunsuwedding.user.planner.Planner;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.stream.IntStream;
+import java.util.Map;
 
 @Component
 public class PortfolioDTOConverter {
+    private final static int HISTOGRAM_BUCKETS = 10;
+
     private final PriceCalculator priceCalculator;
 
     public PortfolioDTOConverter(@Autowired PriceCalculator priceCalculator) {
@@ -32,6 +34,7 @@ public class PortfolioDTOConverter {
                 .partnerCompany(request.partnerCompany())
                 .totalPrice(totalPrice) // 필요한 가격 전체 총합 계산
                 .contractCount(0L)
+                .priceSum(0L)
                 .avgPrice(0L)
                 .minPrice(0L)
                 .maxPrice(0L)
@@ -48,30 +51,83 @@ public class PortfolioDTOConverter {
                 .toList();
     }
 
+    // 사용자와 무관한 상세 정보 (캐시 대상) - 찜 여부는 false, 거래 내역은 null
     public PortfolioResponse.FindByIdDTO toFindByIdDTO(Portfolio portfolio,
-                                                       List<String> imageItems, List<PriceItem> priceItems,
-                                                       List<Match> matches, List<Quotation> quotations,
-                                                       Boolean isLiked, Boolean isPremium) {
+                                                       List<String> imageItems, List<PriceItem> priceItems) {
         // 가격 항목 DTO 변환
         List<PortfolioResponse.PriceItemDTO> priceItemDTOS = toPriceItemDTO(priceItems);
         Long totalPrice = priceCalculator.calculatePortfolioPrice(priceItemDTOS);
         PortfolioResponse.PriceDTO priceDTO = new PortfolioResponse.PriceDTO(totalPrice, priceItemDTOS);
 
-        // 일반 회원의 경우 거래내역으로 null 반환
-        if (!isPremium) {
-            return toFindByIdDTO(portfolio, imageItems, priceDTO, null, isLiked);
-        }
+        return toFindByIdDTO(portfolio, imageItems, priceDTO, null, false);
+    }
+
+    // 캐시된 상세 정보에 사용자별 정보(거래 내역, 찜 여부)를 덧씌움
+    public PortfolioResponse.FindByIdDTO toFindByIdDTO(PortfolioResponse.FindByIdDTO detail,
+                                                       PortfolioResponse.PaymentHistoryDTO paymentHistoryDTO,
+                                                       Boolean isLiked) {
+        return new PortfolioResponse.FindByIdDTO(
+                detail.id(),
+                detail.userId(),
+                detail.images(),
+                detail.title(),
+                detail.plannerName(),
+                detail.contractCount(),
+                detail.priceInfo(),
+                detail.location(),
+                detail.description(),
+                detail.career(),
+                detail.partnerCompany(),
+                detail.avgStars(),
+                paymentHistoryDTO,
+                isLiked
+        );
+    }
 
-        // 프리미엄 회원일 경우 이전 거래 내역 History 반환
-        List<PortfolioResponse.PaymentDTO> paymentDTOS = toPaymentDTO(matches, quotations);
-        PortfolioResponse.PaymentHistoryDTO paymentHistoryDTO = new PortfolioResponse.PaymentHistoryDTO(
+    // 프리미엄 회원에게 보여주는 이전 거래 내역 History
+    // 스케치가 없으면(확정 거래가 없으면) 분포는 null
+    public PortfolioResponse.PaymentHistoryDTO toPaymentHistoryDTO(Portfolio portfolio, List<PaymentHistoryRow> rows,
+                                                                   TDigest plannerSketch, TDigest locationSketch) {
+        List<PortfolioResponse.PaymentDTO> paymentDTOS = toPaymentDTO(rows);
+        return new PortfolioResponse.PaymentHistoryDTO(
                 portfolio.getAvgPrice(),
                 portfolio.getMinPrice(),
                 portfolio.getMaxPrice(),
-                paymentDTOS
+                paymentDTOS,
+                toPriceDistributionDTO(plannerSketch),
+                toPriceDistributionDTO(locationSketch)
         );
+    }
+
+    // 분위수와 [최소, 최대] 를 같은 너비로 나눈 구간별 건수 (스케치 크기에만 비례)
+    public PortfolioResponse.PriceDistributionDTO toPriceDistributionDTO(TDigest sketch) {
+        if (sketch == null || sketch.count() == 0) {
+            return null;
+        }
 
-        return toFindByIdDTO(portfolio, imageItems, priceDTO, paymentHistoryDTO, isLiked);
+        double min = sketch.min();
+        double max = sketch.max();
+        int buckets = (max > min) ? HISTOGRAM_BUCKETS : 1;
+        double[] boundaries = new double[buckets + 1];
+        for (int i = 0; i <= buckets; i++) {
+            boundaries[i] = (i == buckets) ? max : min + (max - min) * i / buckets;
+        }
+        long[] counts = sketch.histogram(boundaries);
+
+        List<PortfolioResponse.PriceBucketDTO> histogram = new ArrayList<>(buckets);
+        for (int i = 0; i < buckets; i++) {
+            histogram.add(new PortfolioResponse.PriceBucketDTO(
+                    Math.round(boundaries[i]), Math.round(boundaries[i + 1]), counts[i]));
+        }
+
+        return new PortfolioResponse.PriceDistributionDTO(
+                sketch.count(),
+                Math.round(sketch.quantile(0.25)),
+                Math.round(sketch.quantile(0.50)),
+                Math.round(sketch.quantile(0.75)),
+                Math.round(sketch.quantile(0.90)),
+                histogram
+        );
     }
 
     private PortfolioResponse.FindByIdDTO toFindByIdDTO(Portfolio portfolio, List<String> imageItems,
@@ -96,23 +152,20 @@ public class PortfolioDTOConverter {
         );
     }
 
-    public List<PortfolioResponse.FindAllDTO> toFindAllDTO(List<Portfolio> portfolios, List<String> imageItems, List<Favorite> favorites) {
-        return IntStream
-                .range(0, portfolios.size())
-                .mapToObj(i -> {
-                    Portfolio portfolio = portfolios.get(i);
-                    return new PortfolioResponse.FindAllDTO(
-                            portfolio.getId(),
-                            imageItems.get(i),
-                            portfolio.getTitle(),
-                            portfolio.getPlannerName(),
-                            portfolio.getTotalPrice(),
-                            portfolio.getLocation(),
-                            portfolio.getContractCount(),
-                            portfolio.getAvgStars(),
-                            favorites.stream().anyMatch(favorite -> Objects.equals(favorite.getPortfolio().getId(), portfolio.getId()))
-                    );
-                })
+    public List<PortfolioResponse.FindAllDTO> toFindAllDTO(List<Portfolio> portfolios, Map<Long, String> thumbnails, LongHashSet likedPortfolioIds) {
+        return portfolios
+                .stream()
+                .map(portfolio -> new PortfolioResponse.FindAllDTO(
+                        portfolio.getId(),
+                        thumbnails.get(portfolio.getId()),
+                        portfolio.getTitle(),
+                        portfolio.getPlannerName(),
+                        portfolio.getTotalPrice(),
+                        portfolio.getLocation(),
+                        portfolio.getContractCount(),
+                        portfolio.getAvgStars(),
+                        likedPortfolioIds.contains(portfolio.getId())
+                ))
                 .toList();
     }
 
@@ -151,26 +204,26 @@ public class PortfolioDTOConverter {
         );
     }
 
-    public List<PortfolioResponse.PaymentDTO> toPaymentDTO(List<Match> matches, List<Quotation> quotations) {
-        return matches.stream()
-                .map(match -> {
-                    List<Quotation> matchingQuotations = quotations.stream()
-                            .filter(quotation ->
-                                    quotation.getMatch().getId().equals(match.getId()))
-                            .toList();
-                    return new PortfolioResponse.PaymentDTO(match.getConfirmedPrice(),
-                            match.getConfirmedAt().toString().substring(0, 7), // 월까지만 제공
-                            toPaymentItemDTO(matchingQuotations));
-                })
-                .toList();
-    }
-
-    public List<PortfolioResponse.PaymentItemDTO> toPaymentItemDTO(List<Quotation> quotations) {
-        return quotations
-                .stream()
-                .map(quotation -> new PortfolioResponse.PaymentItemDTO(quotation.getTitle(), quotation.getPrice(),
-                        quotation.getCompany(), quotation.getDescription()))
-                .toList();
+    // 행은 매칭 순서대로 정렬되어 있으므로 매칭 id 가 바뀔 때마다 거래 1건을 새로 시작
+    public List<PortfolioResponse.PaymentDTO> toPaymentDTO(List<PaymentHistoryRow> rows) {
+        List<PortfolioResponse.PaymentDTO> payments = new ArrayList<>();
+        List<PortfolioResponse.PaymentItemDTO> paymentItems = null;
+        Long matchId = null;
+
+        for (PaymentHistoryRow row : rows) {
+            if (!row.matchId().equals(matchId)) {
+                matchId = row.matchId();
+                paymentItems = new ArrayList<>();
+                payments.add(new PortfolioResponse.PaymentDTO(row.confirmedPrice(),
+                        row.confirmedAt().toString().substring(0, 7), // 월까지만 제공
+                        paymentItems));
+            }
+            if (row.hasQuotation()) {
+                paymentItems.add(new PortfolioResponse.PaymentItemDTO(row.title(), row.price(),
+                        row.company(), row.description()));
+            }
+        }
+        return payments;
     }
 
 }
@@ -1,28 +1,61 @@
 package com.kakao.sunsuwedding.portfolio;
 
-import com.kakao.sunsuwedding.user.base_user.User;
 import com.kakao.sunsuwedding.user.planner.Planner;
-import jakarta.annotation.Nullable;
-import jakarta.validation.constraints.NotNull;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PortfolioJPARepository extends JpaRepository<Portfolio, Long>, JpaSpecificationExecutor<Portfolio> {
-    Page<Portfolio> findAll(@NotNull Specification specification, @Nullable Pageable pageable);
-
-    void deleteByPlanner(User user);
-
+public interface PortfolioJPARepository extends JpaRepository<Portfolio, Long>, JpaSpecificationExecutor<Portfolio>, PortfolioSliceRepository {
     @Query("select p from Portfolio p where p.planner.id = :plannerId")
     Optional<Portfolio> findByPlannerId(@Param("plannerId") Long plannerId);
 
     Optional<Portfolio> findByPlanner(Planner planner);
+
+    // 검색 색인 재생성용 (id 순으로 나눠서 조회)
+    List<Portfolio> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    @Query("select p.id from Portfolio p where p.planner.id = :plannerId")
+    Optional<Long> findIdByPlannerId(@Param("plannerId") Long plannerId);
+
+    @Query("select p.location from Portfolio p where p.planner.id = :plannerId")
+    Optional<String> findLocationByPlannerId(@Param("plannerId") Long plannerId);
+
+    // 확정 1건을 포트폴리오 통계에 누적하는 단일 UPDATE (행 잠금으로 동시 확정도 안전함)
+    // MySQL 은 SET 절을 왼쪽부터 평가하면서 앞에서 바꾼 값을 뒤에서 보기 때문에
+    // 이전 count/sum 을 쓰는 avg/min/max 를 먼저 계산하고 count/sum 은 마지막에 갱신함
+    // 값이 어긋나더라도 PortfolioStatsReconciler 가 match_tb 기준으로 다시 맞춤
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Portfolio p set " +
+            "p.avgPrice = (coalesce(p.priceSum, 0) + :price) / (coalesce(p.contractCount, 0) + 1), " +
+            "p.minPrice = case when coalesce(p.contractCount, 0) = 0 or :price < p.minPrice then :price else p.minPrice end, " +
+            "p.maxPrice = case when coalesce(p.contractCount, 0) = 0 or :price > p.maxPrice then :price else p.maxPrice end, " +
+            "p.priceSum = coalesce(p.priceSum, 0) + :price, " +
+            "p.contractCount = coalesce(p.contractCount, 0) + 1 " +
+            "where p.planner.id = :plannerId and p.isActive = true")
+    int addConfirmedPrice(@Param("plannerId") Long plannerId, @Param("price") Long price);
+
+    // 리뷰 작성/수정/삭제 1건의 평점 변화량을 통계에 반영하는 단일 UPDATE
+    // 작성 (+stars, +1), 수정 (새 평점 - 이전 평점, 0), 삭제 (-stars, -1)
+    // addConfirmedPrice 와 같은 이유로 평균을 먼저 계산하고 합계/건수는 마지막에 갱신함
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Portfolio p set " +
+            "p.avgStars = case when coalesce(p.reviewCount, 0) + :countDelta <= 0 then 0.0 " +
+            "else round(cast(coalesce(p.starsSum, 0) + :starsDelta as double) / (coalesce(p.reviewCount, 0) + :countDelta), 2) end, " +
+            "p.starsSum = coalesce(p.starsSum, 0) + :starsDelta, " +
+            "p.reviewCount = coalesce(p.reviewCount, 0) + :countDelta " +
+            "where p.planner.id = :plannerId and p.isActive = true")
+    int addReviewStars(@Param("plannerId") Long plannerId, @Param("starsDelta") Long starsDelta, @Param("countDelta") Long countDelta);
+
+    // @SQLDelete 와 같은 soft delete 를 엔티티 로딩 없이 UPDATE 한 번으로 처리
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Portfolio p set p.isActive = false where p.id = :portfolioId")
+    int softDeleteById(@Param("portfolioId") Long portfolioId);
 }
@@ -49,7 +49,26 @@ public class PortfolioResponse {
             Long avgPrice,
             Long minPrice,
             Long maxPrice,
-            List<PaymentDTO> payments
+            List<PaymentDTO> payments,
+            PriceDistributionDTO plannerDistribution,
+            PriceDistributionDTO locationDistribution
+    ) {
+    }
+
+    public record PriceDistributionDTO(
+            Long dealCount,
+            Long p25,
+            Long p50,
+            Long p75,
+            Long p90,
+            List<PriceBucketDTO> histogram
+    ) {
+    }
+
+    public record PriceBucketDTO(
+            Long fromPrice,
+            Long toPrice,
+            Long dealCount
     ) {
     }
 
@@ -79,4 +98,18 @@ public class PortfolioResponse {
             String partnerCompany
     ) {
     }
+
+    public record SearchDTO(
+            List<FindAllDTO> portfolios,
+            Long totalCount,
+            List<FacetDTO> locations,
+            List<FacetDTO> prices
+    ) {
+    }
+
+    public record FacetDTO(
+            String label,
+            Long count
+    ) {
+    }
 }
@@ -4,6 +4,8 @@ import com.kakao.sunsuwedding._core.security.CustomUserDetails;
 import com.kakao.sunsuwedding._core.utils.ApiUtils;
 import com.kakao.sunsuwedding.portfolio.cursor.CursorRequest;
 import com.kakao.sunsuwedding.portfolio.cursor.PageCursor;
+import com.kakao.sunsuwedding.portfolio.search.PortfolioSearchRequest;
+import com.kakao.sunsuwedding.portfolio.search.PortfolioSearchSort;
 import jakarta.annotation.Nullable;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
@@ -45,6 +47,24 @@ public class PortfolioRestController {
         return ResponseEntity.ok().body(ApiUtils.success(response));
     }
 
+    @GetMapping("/search")
+    public ResponseEntity<?> searchPortfolios(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                              @RequestParam(defaultValue = "-1") @Min(-2) Long cursor,
+                                              @RequestParam @Nullable String keyword,
+                                              @RequestParam @Nullable String location,
+                                              @RequestParam(defaultValue = "0") @Min(0) Long minPrice,
+                                              @RequestParam(defaultValue = "-1") @Min(-1) Long maxPrice,
+                                              @RequestParam @Nullable String sort) {
+
+        Long userId = (userDetails == null) ? -1 : userDetails.getUser().getId();
+
+        PortfolioSearchRequest searchRequest = new PortfolioSearchRequest(keyword, location, minPrice, maxPrice,
+                PortfolioSearchSort.from(sort), cursor, PAGE_SIZE);
+        PageCursor<PortfolioResponse.SearchDTO> response = portfolioServiceImpl.searchPortfolios(searchRequest, userId);
+
+        return ResponseEntity.ok().body(ApiUtils.success(response));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> findPortfolioById(@AuthenticationPrincipal CustomUserDetails userDetails,
                                                @PathVariable @Min(1) Long id) {
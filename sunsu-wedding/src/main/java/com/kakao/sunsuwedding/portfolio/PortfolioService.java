@@ -2,6 +2,7 @@ package com.kakao.sunsuwedding.portfolio;
 
 import com.kakao.sunsuwedding.portfolio.cursor.CursorRequest;
 import com.kakao.sunsuwedding.portfolio.cursor.PageCursor;
+import com.kakao.sunsuwedding.portfolio.search.PortfolioSearchRequest;
 import com.kakao.sunsuwedding.user.base_user.User;
 import com.kakao.sunsuwedding.user.planner.Planner;
 
@@ -13,6 +14,8 @@ public interface PortfolioService {
 
     PageCursor<List<PortfolioResponse.FindAllDTO>> findPortfolios(CursorRequest request, Long userId);
 
+    PageCursor<PortfolioResponse.SearchDTO> searchPortfolios(PortfolioSearchRequest request, Long userId);
+
     PortfolioResponse.FindByIdDTO findPortfolioById(Long portfolioId, Long userId);
 
     void updatePortfolio(PortfolioRequest.UpdateDTO request, Long plannerId);
@@ -24,4 +27,6 @@ public interface PortfolioService {
     void updateConfirmedPrices(Planner planner);
 
     void updateAvgStars(Planner planner);
+
+    void addReviewStars(Planner planner, Long starsDelta, Long countDelta);
 }
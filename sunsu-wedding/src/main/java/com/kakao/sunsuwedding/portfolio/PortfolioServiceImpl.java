@@ -3,21 +3,30 @@ package com.kakao.sunsuwedding.portfolio;
 import com.kakao.sunsuwedding._core.errors.BaseException;
 import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
 import com.kakao.sunsuwedding._core.errors.exception.NotFoundException;
+import com.kakao.sunsuwedding._core.utils.LongHashSet;
 import com.kakao.sunsuwedding._core.utils.PriceCalculator;
-import com.kakao.sunsuwedding.favorite.Favorite;
+import com.kakao.sunsuwedding._core.utils.TDigest;
 import com.kakao.sunsuwedding.favorite.FavoriteJPARepository;
-import com.kakao.sunsuwedding.match.Match;
+import com.kakao.sunsuwedding.match.ConfirmedPriceSummaryDTO;
 import com.kakao.sunsuwedding.match.MatchJPARepository;
+import com.kakao.sunsuwedding.portfolio.analytics.PriceAnalyticsServiceImpl;
+import com.kakao.sunsuwedding.portfolio.analytics.PriceSketchRebuildEvent;
+import com.kakao.sunsuwedding.portfolio.cache.PortfolioDetailCache;
 import com.kakao.sunsuwedding.portfolio.cursor.CursorRequest;
 import com.kakao.sunsuwedding.portfolio.cursor.PageCursor;
+import com.kakao.sunsuwedding.portfolio.delete.PortfolioBulkDeleter;
 import com.kakao.sunsuwedding.portfolio.image.PortfolioImageItem;
 import com.kakao.sunsuwedding.portfolio.image.PortfolioImageItemJPARepository;
 import com.kakao.sunsuwedding.portfolio.image.PortfolioImageItemServiceImpl;
 import com.kakao.sunsuwedding.portfolio.price.PriceItem;
 import com.kakao.sunsuwedding.portfolio.price.PriceItemJDBCRepository;
 import com.kakao.sunsuwedding.portfolio.price.PriceItemJPARepository;
-import com.kakao.sunsuwedding.quotation.Quotation;
-import com.kakao.sunsuwedding.quotation.QuotationJPARepository;
+import com.kakao.sunsuwedding.portfolio.search.PortfolioSearchIndex;
+import com.kakao.sunsuwedding.portfolio.search.PortfolioSearchRequest;
+import com.kakao.sunsuwedding.portfolio.search.PortfolioSearchResult;
+import com.kakao.sunsuwedding.portfolio.stats.ConfirmedPriceStats;
+import com.kakao.sunsuwedding.portfolio.stats.PaymentHistoryRow;
+import com.kakao.sunsuwedding.portfolio.stats.PortfolioStatsJDBCRepository;
 import com.kakao.sunsuwedding.review.Review;
 import com.kakao.sunsuwedding.review.ReviewJPARepository;
 import com.kakao.sunsuwedding.user.base_user.User;
@@ -26,35 +35,49 @@ import com.kakao.sunsuwedding.user.constant.Grade;
 import com.kakao.sunsuwedding.user.planner.Planner;
 import com.kakao.sunsuwedding.user.planner.PlannerJPARepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class PortfolioServiceImpl implements PortfolioService {
 
+    // 프리미엄 회원에게 보여주는 최근 거래 내역 건수
+    private final static int PAYMENT_HISTORY_SIZE = 10;
+
     private final PortfolioJPARepository portfolioJPARepository;
     private final PortfolioImageItemJPARepository portfolioImageItemJPARepository;
     private final PriceItemJPARepository priceItemJPARepository;
     private final PriceItemJDBCRepository priceItemJDBCRepository;
+    private final PortfolioStatsJDBCRepository portfolioStatsJDBCRepository;
     private final MatchJPARepository matchJPARepository;
-    private final QuotationJPARepository quotationJPARepository;
     private final PlannerJPARepository plannerJPARepository;
     private final UserJPARepository userJPARepository;
     private final FavoriteJPARepository favoriteJPARepository;
     private final PortfolioImageItemServiceImpl portfolioImageItemServiceImpl;
+    private final PriceAnalyticsServiceImpl priceAnalyticsServiceImpl;
     private final ReviewJPARepository reviewJPARepository;
 
     private final PortfolioDTOConverter portfolioDTOConverter;
     private final PriceCalculator priceCalculator;
     private final PortfolioSpecification portfolioSpecification;
+    private final PortfolioDetailCache portfolioDetailCache;
+    private final PortfolioSearchIndex portfolioSearchIndex;
+    private final PortfolioBulkDeleter portfolioBulkDeleter;
+    private final ApplicationEventPublisher eventPublisher;
 
 
 
@@ -83,6 +106,8 @@ public class PortfolioServiceImpl implements PortfolioService {
 
         // 이미지 내용 저장
         portfolioImageItemServiceImpl.uploadImage(request.images(), portfolio);
+
+        publishPortfolioChanged(portfolio.getId());
     }
 
     public PageCursor<List<PortfolioResponse.FindAllDTO>> findPortfolios(CursorRequest request, Long userId) {
@@ -90,53 +115,73 @@ public class PortfolioServiceImpl implements PortfolioService {
             return new PageCursor<>(new ArrayList<>(), null);
 
         Pageable pageable = request.get();
-        List<Portfolio> portfolios = findPortfoliosByRequest(request, pageable);
+        Slice<Portfolio> slice = findPortfoliosByRequest(request, pageable);
+        List<Portfolio> portfolios = slice.getContent();
 
         // 더이상 보여줄 포트폴리오가 없다면 커서 null 반환
         if (portfolios.isEmpty())
             return new PageCursor<>(new ArrayList<>(), null);
 
-        // 커서가 1이거나 NONE_KEY 일 경우 null 로 대체)
-        Long nextKey = getNextKey(portfolios);
+        // 다음 페이지가 없거나 커서가 1, NONE_KEY 일 경우 null 로 대체
+        Long nextKey = slice.hasNext() ? getNextKey(portfolios) : null;
 
-        List<PortfolioImageItem> portfolioImageItems = portfolioImageItemJPARepository.findAllByThumbnailAndPortfolioInOrderByPortfolioCreatedAtDesc(true, portfolios);
-        List<String> imageItems = portfolioImageItems.stream().map(PortfolioImageItem::getImage).toList();
-        List<Favorite> favorites = new ArrayList<>();
+        // 목록에는 썸네일 키만 필요하므로 (portfolio_id, thumbnail_key)만 조회
+        List<Long> portfolioIds = portfolios.stream().map(Portfolio::getId).toList();
+        Map<Long, String> thumbnails = portfolioImageItemServiceImpl.findThumbnailUrls(portfolioIds);
 
-        // 유저가 존재하는 경우 찜하기 누른 목록 받아옴
-        if (userId >= 0)
-             favorites = favoriteJPARepository.findByUserIdFetchJoinPortfolio(userId, pageable);
+        // 유저가 존재하는 경우 이 페이지의 포트폴리오 중 찜한 것만 받아옴
+        LongHashSet likedPortfolioIds = findLikedPortfolioIds(userId, portfolioIds);
 
-        List<PortfolioResponse.FindAllDTO> data = portfolioDTOConverter.toFindAllDTO(portfolios, imageItems, favorites);
+        List<PortfolioResponse.FindAllDTO> data = portfolioDTOConverter.toFindAllDTO(portfolios, thumbnails, likedPortfolioIds);
         return new PageCursor<>(data, request.next(nextKey).key());
     }
 
-    public PortfolioResponse.FindByIdDTO findPortfolioById(Long portfolioId, Long userId) {
+    public PageCursor<PortfolioResponse.SearchDTO> searchPortfolios(PortfolioSearchRequest request, Long userId) {
+        if (!request.hasKey())
+            return new PageCursor<>(new PortfolioResponse.SearchDTO(new ArrayList<>(), 0L, new ArrayList<>(), new ArrayList<>()), null);
 
-        Portfolio portfolio = findPortfolioById(portfolioId);
+        PortfolioSearchResult result = portfolioSearchIndex.search(request);
 
-        List<PortfolioImageItem> portfolioImageItems = portfolioImageItemJPARepository.findByPortfolioId(portfolioId);
-        List<String> imageItems  = portfolioImageItems.stream().map(PortfolioImageItem::getImage).toList();
-        List<PriceItem> priceItems = priceItemJPARepository.findAllByPortfolioId(portfolioId);
+        // 색인의 정렬 순서대로 포트폴리오를 가져옴 (색인 반영 전에 삭제된 포트폴리오는 제외)
+        Map<Long, Portfolio> portfolioMap = portfolioJPARepository.findAllById(result.portfolioIds())
+                .stream()
+                .collect(Collectors.toMap(Portfolio::getId, Function.identity()));
+        List<Portfolio> portfolios = result.portfolioIds()
+                .stream()
+                .map(portfolioMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        List<Long> portfolioIds = portfolios.stream().map(Portfolio::getId).toList();
+        Map<Long, String> thumbnails = portfolioImageItemServiceImpl.findThumbnailUrls(portfolioIds);
+
+        // 유저가 존재하는 경우 검색 결과 중 찜한 포트폴리오만 받아옴
+        LongHashSet likedPortfolioIds = findLikedPortfolioIds(userId, portfolioIds);
+
+        List<PortfolioResponse.FindAllDTO> data = portfolioDTOConverter.toFindAllDTO(portfolios, thumbnails, likedPortfolioIds);
+        PortfolioResponse.SearchDTO searchDTO = new PortfolioResponse.SearchDTO(data, result.totalCount(), result.locations(), result.prices());
+        return new PageCursor<>(searchDTO, result.nextCursor());
+    }
+
+    public PortfolioResponse.FindByIdDTO findPortfolioById(Long portfolioId, Long userId) {
+        // 포트폴리오 본문, 이미지, 가격 항목은 캐시에서 가져옴
+        PortfolioResponse.FindByIdDTO detail = portfolioDetailCache.getDetail(portfolioId, this::loadPortfolioDetail);
 
         if (userId.equals(-1L)) {
-            return portfolioDTOConverter.toFindByIdDTO(portfolio, imageItems, priceItems, null, null, false, false);
+            return detail;
         }
 
         User user = userJPARepository.findById(userId)
                 .orElseThrow(() -> new BadRequestException(BaseException.USER_NOT_FOUND));
-        boolean isLiked = favoriteJPARepository.findByUserAndPortfolio(user.getId(), portfolio.getId()).isPresent();
+        boolean isLiked = favoriteJPARepository.findByUserAndPortfolio(user.getId(), portfolioId).isPresent();
 
         if (user.getGrade().equals(Grade.NORMAL)) {
-            return portfolioDTOConverter.toFindByIdDTO(portfolio, imageItems, priceItems, null, null, isLiked, false);
+            return portfolioDTOConverter.toFindByIdDTO(detail, null, isLiked);
         }
 
-        // 프리미엄 등급 유저일 경우 최근 거래 내역 조회를 위한 매칭 내역, 견적서 가져오기
-        List<Match> matches = matchJPARepository.findLatestTenByPlanner(portfolio.getPlanner());
-        List<Long> matchIds = matches.stream().map(Match::getId).toList();
-        List<Quotation> quotations = quotationJPARepository.findAllByMatchIds(matchIds);
-
-        return portfolioDTOConverter.toFindByIdDTO(portfolio, imageItems, priceItems, matches, quotations, isLiked, true);
+        // 프리미엄 등급 유저일 경우 최근 거래 내역 추가
+        PortfolioResponse.PaymentHistoryDTO paymentHistory = portfolioDetailCache.getPaymentHistory(portfolioId, this::loadPaymentHistory);
+        return portfolioDTOConverter.toFindByIdDTO(detail, paymentHistory, isLiked);
     }
 
     @Transactional
@@ -147,7 +192,7 @@ public class PortfolioServiceImpl implements PortfolioService {
         portfolio.update(request.plannerName(), request.title(), request.description(),
                 request.location(), request.career(), request.partnerCompany(), priceCalculator.getRequestTotalPrice(request.items()));
 
-        // 기존의 포트폴리오 가격 항목 일괄 삭제, 특이사항: JPQL 안 쓰니까 DELETE Query N개씩 날아감
+        // 기존의 포트폴리오 가격 항목 일괄 삭제 (JPQL DELETE 한 번)
         priceItemJPARepository.deleteAllByPortfolioId(portfolio.getId());
 
         // 업데이트 가격 항목 새로 저장
@@ -156,14 +201,18 @@ public class PortfolioServiceImpl implements PortfolioService {
 
         // 이미지 저장
         portfolioImageItemServiceImpl.updateImage(request.images(), portfolio);
+
+        publishPortfolioChanged(portfolio.getId());
     }
 
     @Transactional
     public void deletePortfolio(User user) {
-        findPortfolioByUserId(user.getId());
-        priceItemJPARepository.deleteAllByPortfolioPlannerId(user.getId());
-        portfolioImageItemJPARepository.deleteAllByPortfolioPlannerId(user.getId());
-        portfolioJPARepository.deleteByPlanner(user);
+        Portfolio portfolio = findPortfolioByUserId(user.getId());
+
+        // 이미지, 가격 항목, 찜을 테이블마다 DELETE 문으로 지우고 포트폴리오는 soft delete
+        portfolioBulkDeleter.delete(portfolio.getId());
+
+        publishPortfolioChanged(portfolio.getId());
     }
 
     public PortfolioResponse.MyPortfolioDTO myPortfolio(Long plannerId) {
@@ -183,34 +232,63 @@ public class PortfolioServiceImpl implements PortfolioService {
         if (portfolioImageItems.isEmpty())
             throw new NotFoundException(BaseException.PORTFOLIO_IMAGE_NOT_FOUND);
 
-        List<String> imageItems = portfolioImageItems.stream().map(PortfolioImageItem::getImage).toList();
+        List<String> imageItems = portfolioImageItems.stream().map(PortfolioImageItem::getImageUrl).toList();
 
         return portfolioDTOConverter.toMyPortfolioDTO(portfolio, imageItems, priceItems);
     }
 
 
+    // 매칭 확정 1건을 통계에 바로 누적 (플래너의 전체 매칭을 다시 읽지 않음)
+    @Transactional
+    public void addConfirmedPrice(Planner planner, Long confirmedPrice) {
+        // 포트폴리오가 없으면 등록할 때 updateConfirmedPrices 로 전체 계산됨
+        if (planner == null || portfolioJPARepository.addConfirmedPrice(planner.getId(), confirmedPrice) == 0) {
+            return;
+        }
+        portfolioJPARepository.findIdByPlannerId(planner.getId()).ifPresent(this::publishPortfolioChanged);
+    }
+
+    // 포트폴리오 (재)등록 시 이전 거래 내역 전체로 다시 계산
     public void updateConfirmedPrices(Planner planner) {
-        List<Match> matches = matchJPARepository.findAllByPlanner(planner);
         Optional<Portfolio> portfolioOptional = portfolioJPARepository.findByPlanner(planner);
-
-        // 포트폴리오, 매칭내역이 존재할 때만 가격 update
-        if (portfolioOptional.isEmpty() || matches.isEmpty()) {
+        if (portfolioOptional.isEmpty()) {
             return;
         }
 
-        Portfolio portfolio = portfolioOptional.get();
+        // 건수, 합계, 최소, 최대 가격을 DB 에서 집계한 한 행만 받아옴 (Match 엔티티를 불러오지 않음)
+        ConfirmedPriceSummaryDTO summary = matchJPARepository.summarizeConfirmedPrices(planner.getId());
 
-        // 건수, 평균, 최소, 최대 가격 구하기
-        Long contractCount = priceCalculator.getContractCount(matches);
-        Long avgPrice = priceCalculator.calculateAvgPrice(matches, contractCount);
-        Long minPrice = priceCalculator.calculateMinPrice(matches);
-        Long maxPrice = priceCalculator.calculateMaxPrice(matches);
+        // 매칭내역이 존재할 때만 가격 update
+        if (!summary.hasMatches()) {
+            return;
+        }
 
         // portfolio avg,min,max 값 업데이트
-        portfolio.updateConfirmedPrices(contractCount, avgPrice, minPrice, maxPrice);
+        ConfirmedPriceStats stats = summary.toConfirmedPriceStats();
+        Portfolio portfolio = portfolioOptional.get();
+        portfolio.updateConfirmedPrices(stats.count(), stats.sum(), stats.avg(), stats.min(), stats.max());
         portfolioJPARepository.save(portfolio);
+
+        // 가격 분포 스케치도 이전 거래 전체로 다시 만듦 (등록이 커밋된 뒤 PriceSketchRebuilder 가 실행)
+        eventPublisher.publishEvent(new PriceSketchRebuildEvent(planner.getId()));
+
+        publishPortfolioChanged(portfolio.getId());
+    }
+
+    // 리뷰 1건의 평점 변화량만 통계에 반영 (플래너의 전체 리뷰를 다시 읽지 않음)
+    @Transactional
+    public void addReviewStars(Planner planner, Long starsDelta, Long countDelta) {
+        // 평점, 리뷰 수 모두 변화가 없으면 갱신할 필요 없음
+        if (planner == null || (starsDelta == 0 && countDelta == 0)) {
+            return;
+        }
+        if (portfolioJPARepository.addReviewStars(planner.getId(), starsDelta, countDelta) == 0) {
+            return;
+        }
+        portfolioJPARepository.findIdByPlannerId(planner.getId()).ifPresent(this::publishPortfolioChanged);
     }
 
+    // 포트폴리오 (재)등록 시 이전 리뷰 전체로 다시 계산
     public void updateAvgStars(Planner planner) {
         List<Review> reviews = reviewJPARepository.findAllByMatchPlanner(planner);
         Optional<Portfolio> portfolioOptional = portfolioJPARepository.findByPlanner(planner);
@@ -221,12 +299,41 @@ public class PortfolioServiceImpl implements PortfolioService {
         }
 
         Portfolio portfolio = portfolioOptional.get();
-        Long totalStars = reviews.stream().mapToLong(Review::getStars).sum();
-        Long totalCount = reviews.stream().count();
-        Double avgStars = totalCount.equals(0L) ? 0.0 : Double.valueOf(totalStars) / totalCount;
+        long starsSum = reviews.stream().mapToLong(Review::getStars).sum();
+        long reviewCount = reviews.size();
+        double avgStars = Math.round(starsSum * 100.0 / reviewCount) / 100.0;
 
-        portfolio.updateAvgStars(Double.valueOf(String.format("%.2f", avgStars)));
+        portfolio.updateAvgStars(starsSum, reviewCount, avgStars);
         portfolioJPARepository.save(portfolio);
+
+        publishPortfolioChanged(portfolio.getId());
+    }
+
+    private PortfolioResponse.FindByIdDTO loadPortfolioDetail(Long portfolioId) {
+        Portfolio portfolio = findPortfolioById(portfolioId);
+
+        List<PortfolioImageItem> portfolioImageItems = portfolioImageItemJPARepository.findByPortfolioId(portfolioId);
+        List<String> imageItems  = portfolioImageItems.stream().map(PortfolioImageItem::getImageUrl).toList();
+        List<PriceItem> priceItems = priceItemJPARepository.findAllByPortfolioId(portfolioId);
+
+        return portfolioDTOConverter.toFindByIdDTO(portfolio, imageItems, priceItems);
+    }
+
+    private PortfolioResponse.PaymentHistoryDTO loadPaymentHistory(Long portfolioId) {
+        Portfolio portfolio = findPortfolioById(portfolioId);
+
+        // 최근 거래 10건과 견적서를 한 번의 조인으로 평평한 행으로 가져오기
+        List<PaymentHistoryRow> rows = portfolioStatsJDBCRepository.findLatestPayments(portfolio.getPlanner().getId(), PAYMENT_HISTORY_SIZE);
+
+        // 가격 분포는 미리 유지해 둔 플래너별, 지역별 스케치만 읽음
+        TDigest plannerSketch = priceAnalyticsServiceImpl.findPlannerSketch(portfolio.getPlanner().getId()).orElse(null);
+        TDigest locationSketch = priceAnalyticsServiceImpl.findLocationSketch(portfolio.getLocation()).orElse(null);
+
+        return portfolioDTOConverter.toPaymentHistoryDTO(portfolio, rows, plannerSketch, locationSketch);
+    }
+
+    private void publishPortfolioChanged(Long portfolioId) {
+        eventPublisher.publishEvent(new PortfolioChangedEvent(portfolioId));
     }
 
     private void checkPortfolioAlreadyExist(Long plannerId) {
@@ -268,9 +375,16 @@ public class PortfolioServiceImpl implements PortfolioService {
         return key;
     }
 
-    private List<Portfolio> findPortfoliosByRequest(CursorRequest request, Pageable pageable) {
+    private LongHashSet findLikedPortfolioIds(Long userId, List<Long> portfolioIds) {
+        if (userId < 0 || portfolioIds.isEmpty())
+            return new LongHashSet();
+
+        return LongHashSet.of(favoriteJPARepository.findPortfolioIdsByUserIdAndPortfolioIds(userId, portfolioIds));
+    }
+
+    private Slice<Portfolio> findPortfoliosByRequest(CursorRequest request, Pageable pageable) {
         Specification<Portfolio> specification = portfolioSpecification.findPortfolio(request);
-        return portfolioJPARepository.findAll(specification, pageable).getContent();
+        return portfolioJPARepository.findSlice(specification, pageable);
     }
 
 }
@@ -0,0 +1,10 @@
+package com.kakao.sunsuwedding.portfolio;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+public interface PortfolioSliceRepository {
+    // 커서 페이지네이션은 전체 개수가 필요 없으므로 count 쿼리 없이 size + 1 개만 조회
+    Slice<Portfolio> findSlice(Specification<Portfolio> specification, Pageable pageable);
+}
@@ -0,0 +1,43 @@
+package com.kakao.sunsuwedding.portfolio;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+public class PortfolioSliceRepositoryImpl implements PortfolioSliceRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Slice<Portfolio> findSlice(Specification<Portfolio> specification, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Portfolio> query = criteriaBuilder.createQuery(Portfolio.class);
+        Root<Portfolio> root = query.from(Portfolio.class);
+
+        Predicate predicate = specification.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null)
+            query.where(predicate);
+        query.select(root).orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+
+        // 한 개를 더 가져와서 다음 페이지 존재 여부 판단
+        List<Portfolio> portfolios = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize() + 1)
+                .getResultList();
+
+        boolean hasNext = portfolios.size() > pageable.getPageSize();
+        List<Portfolio> content = hasNext ? portfolios.subList(0, pageable.getPageSize()) : portfolios;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
@@ -0,0 +1,17 @@
+package com.kakao.sunsuwedding.portfolio.analytics;
+
+import com.kakao.sunsuwedding._core.utils.TDigest;
+import com.kakao.sunsuwedding.user.planner.Planner;
+
+import java.util.Optional;
+
+public interface PriceAnalyticsService {
+
+    void addConfirmedPrice(Planner planner, Long confirmedPrice);
+
+    void rebuildPlannerSketch(Long plannerId);
+
+    Optional<TDigest> findPlannerSketch(Long plannerId);
+
+    Optional<TDigest> findLocationSketch(String location);
+}
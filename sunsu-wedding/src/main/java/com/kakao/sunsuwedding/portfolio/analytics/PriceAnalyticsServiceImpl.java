@@ -0,0 +1,91 @@
+package com.kakao.sunsuwedding.portfolio.analytics;
+
+import com.kakao.sunsuwedding._core.utils.PriceStatistics;
+import com.kakao.sunsuwedding._core.utils.TDigest;
+import com.kakao.sunsuwedding.portfolio.PortfolioJPARepository;
+import com.kakao.sunsuwedding.portfolio.stats.PortfolioStatsJDBCRepository;
+import com.kakao.sunsuwedding.user.planner.Planner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+// 플래너별, 지역별 확정 거래 금액 분포를 t-digest 스케치로 유지
+// 확정 1건마다 스케치에 값 1개만 더하고, 조회는 스케치만 읽으므로 거래 수와 상관없이 비용이 일정함
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PriceAnalyticsServiceImpl implements PriceAnalyticsService {
+
+    private final PriceSketchJPARepository priceSketchJPARepository;
+    private final PriceSketchJDBCRepository priceSketchJDBCRepository;
+    private final PortfolioJPARepository portfolioJPARepository;
+    private final PortfolioStatsJDBCRepository portfolioStatsJDBCRepository;
+
+    // 플래너 -> 지역 순서로 잠가서 동시 확정끼리 교착 상태가 생기지 않게 함
+    // 지역은 확정 시점의 포트폴리오 지역 기준 (포트폴리오가 없으면 플래너 스케치에만 반영)
+    @Transactional
+    public void addConfirmedPrice(Planner planner, Long confirmedPrice) {
+        if (planner == null) {
+            return;
+        }
+        addToSketch(PriceSketchScope.PLANNER, planner.getId().toString(), confirmedPrice);
+        portfolioJPARepository.findLocationByPlannerId(planner.getId())
+                .ifPresent(location -> addToSketch(PriceSketchScope.LOCATION, location, confirmedPrice));
+    }
+
+    // 포트폴리오 (재)등록이 커밋된 뒤(PriceSketchRebuilder) 이전 확정 거래 전체로 플래너 스케치를 다시 만듦
+    // addToSketch 와 같이 스케치 행을 먼저 잠근 뒤 match_tb 를 읽어서, 그 사이 커밋된 확정이 덮어써져 빠지지 않게 함
+    // REPEATABLE READ 에서는 트랜잭션의 첫 조회 시점 스냅샷을 읽으므로, 잠금을 얻은 뒤에 스냅샷이 잡히도록 새 트랜잭션에서 실행
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void rebuildPlannerSketch(Long plannerId) {
+        rebuildSketch(PriceSketchScope.PLANNER, plannerId.toString(),
+                statistics -> portfolioStatsJDBCRepository.accumulateConfirmedPrices(plannerId, statistics));
+    }
+
+    // 지역 스케치를 현재 그 지역에 포트폴리오가 있는 플래너들의 확정 거래 전체로 다시 만듦 (backfill 용)
+    // 확정 시점에는 그때의 포트폴리오 지역에 쌓이므로, 지역을 옮긴 플래너의 이전 거래는 새 지역 기준으로 들어감
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void rebuildLocationSketch(String location) {
+        rebuildSketch(PriceSketchScope.LOCATION, location,
+                statistics -> portfolioStatsJDBCRepository.accumulateLocationConfirmedPrices(location, statistics));
+    }
+
+    public Optional<TDigest> findPlannerSketch(Long plannerId) {
+        return findSketch(PriceSketchScope.PLANNER, plannerId.toString());
+    }
+
+    public Optional<TDigest> findLocationSketch(String location) {
+        return findSketch(PriceSketchScope.LOCATION, location);
+    }
+
+    private void addToSketch(PriceSketchScope scope, String scopeKey, Long confirmedPrice) {
+        priceSketchJDBCRepository.createIfAbsent(scope, scopeKey, new TDigest().toBytes());
+
+        TDigest digest = priceSketchJDBCRepository.findSketchForUpdate(scope, scopeKey)
+                .map(TDigest::fromBytes)
+                .orElseGet(TDigest::new);
+        digest.add(confirmedPrice);
+
+        priceSketchJDBCRepository.updateSketch(scope, scopeKey, digest.count(), digest.toBytes());
+    }
+
+    private void rebuildSketch(PriceSketchScope scope, String scopeKey, UnaryOperator<PriceStatistics> accumulator) {
+        priceSketchJDBCRepository.createIfAbsent(scope, scopeKey, new TDigest().toBytes());
+        priceSketchJDBCRepository.findSketchForUpdate(scope, scopeKey);
+
+        PriceStatistics statistics = accumulator.apply(new PriceStatistics());
+        TDigest digest = new TDigest();
+        statistics.forEachPrice(digest::add);
+        priceSketchJDBCRepository.updateSketch(scope, scopeKey, digest.count(), digest.toBytes());
+    }
+
+    private Optional<TDigest> findSketch(PriceSketchScope scope, String scopeKey) {
+        return priceSketchJPARepository.findByScopeAndScopeKey(scope, scopeKey)
+                .filter(sketch -> sketch.getDealCount() > 0)
+                .map(sketch -> TDigest.fromBytes(sketch.getSketch()));
+    }
+}
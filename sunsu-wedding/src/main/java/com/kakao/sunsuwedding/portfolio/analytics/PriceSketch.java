@@ -0,0 +1,55 @@
+package com.kakao.sunsuwedding.portfolio.analytics;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+// 확정 거래 금액 분포를 t-digest 로 압축해서 (scope, scope_key) 당 한 행으로 저장
+// 갱신은 PriceSketchJDBCRepository 에서 행 잠금 후 덮어씀
+@Entity
+@Table(
+        name="price_sketch_tb",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_price_sketch_scope_key", columnNames = {"scope", "scope_key"})
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PriceSketch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private PriceSketchScope scope;
+
+    @Column(name = "scope_key", nullable = false, length = 100)
+    private String scopeKey;
+
+    @Column(name = "deal_count", nullable = false)
+    private Long dealCount;
+
+    // TDigest.toBytes() 결과 (중심점 수에 상한이 있어서 거래 수와 상관없이 수 KB 이내)
+    @Column(name = "sketch", nullable = false, columnDefinition = "BLOB")
+    private byte[] sketch;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder
+    public PriceSketch(Long id, PriceSketchScope scope, String scopeKey, Long dealCount, byte[] sketch) {
+        this.id = id;
+        this.scope = scope;
+        this.scopeKey = scopeKey;
+        this.dealCount = dealCount;
+        this.sketch = sketch;
+        this.updatedAt = LocalDateTime.now();
+    }
+}
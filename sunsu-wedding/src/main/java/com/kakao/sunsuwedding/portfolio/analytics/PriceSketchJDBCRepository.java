@@ -0,0 +1,21 @@
+package com.kakao.sunsuwedding.portfolio.analytics;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface PriceSketchJDBCRepository {
+
+    // PriceSketchJDBCRepositoryImpl에 구현되어 있음
+    // 스케치 행이 없으면 빈 스케치로 만들어 둠 (이미 있으면 아무것도 하지 않음)
+    void createIfAbsent(PriceSketchScope scope, String scopeKey, byte[] emptySketch);
+
+    // 트랜잭션이 끝날 때까지 행을 잠그고 스케치를 읽음 (같은 플래너, 지역의 동시 확정이 서로 덮어쓰지 않도록)
+    Optional<byte[]> findSketchForUpdate(PriceSketchScope scope, String scopeKey);
+
+    void updateSketch(PriceSketchScope scope, String scopeKey, long dealCount, byte[] sketch);
+
+    // 스케치를 처음 채울 때(backfill) 다시 만들 대상
+    List<Long> findConfirmedPlannerIds();
+
+    List<String> findPortfolioLocations();
+}
@@ -0,0 +1,59 @@
+package com.kakao.sunsuwedding.portfolio.analytics;
+
+import com.kakao.sunsuwedding.match.MatchStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public class PriceSketchJDBCRepositoryImpl implements PriceSketchJDBCRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final static String TABLE = "price_sketch_tb";
+
+    @Autowired
+    public PriceSketchJDBCRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void createIfAbsent(PriceSketchScope scope, String scopeKey, byte[] emptySketch) {
+        // 동시에 처음 확정되더라도 유니크 키 충돌로 실패하지 않도록 한 문장으로 처리
+        String sql = String.format("""
+                INSERT INTO %s (scope, scope_key, deal_count, sketch, updated_at) VALUES (?, ?, 0, ?, ?)
+                ON DUPLICATE KEY UPDATE scope_key = scope_key
+                """, TABLE);
+
+        jdbcTemplate.update(sql, scope.name(), scopeKey, emptySketch, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    public Optional<byte[]> findSketchForUpdate(PriceSketchScope scope, String scopeKey) {
+        String sql = String.format("SELECT sketch FROM %s WHERE scope = ? AND scope_key = ? FOR UPDATE", TABLE);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> rs.getBytes("sketch"), scope.name(), scopeKey)
+                .stream()
+                .findFirst();
+    }
+
+    public void updateSketch(PriceSketchScope scope, String scopeKey, long dealCount, byte[] sketch) {
+        String sql = String.format("UPDATE %s SET deal_count = ?, sketch = ?, updated_at = ? WHERE scope = ? AND scope_key = ?", TABLE);
+
+        jdbcTemplate.update(sql, dealCount, sketch, Timestamp.valueOf(LocalDateTime.now()), scope.name(), scopeKey);
+    }
+
+    public List<Long> findConfirmedPlannerIds() {
+        String sql = "SELECT DISTINCT planner_id FROM match_tb WHERE status = ? AND is_active = true";
+
+        return jdbcTemplate.queryForList(sql, Long.class, MatchStatus.CONFIRMED.name());
+    }
+
+    public List<String> findPortfolioLocations() {
+        String sql = "SELECT DISTINCT location FROM portfolio_tb WHERE is_active = true";
+
+        return jdbcTemplate.queryForList(sql, String.class);
+    }
+}
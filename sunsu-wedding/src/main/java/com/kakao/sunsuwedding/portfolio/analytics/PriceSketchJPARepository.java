@@ -0,0 +1,9 @@
+package com.kakao.sunsuwedding.portfolio.analytics;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface PriceSketchJPARepository extends JpaRepository<PriceSketch, Long> {
+    Optional<PriceSketch> findByScopeAndScopeKey(PriceSketchScope scope, String scopeKey);
+}
@@ -0,0 +1,5 @@
+package com.kakao.sunsuwedding.portfolio.analytics;
+
+// 플래너의 이전 확정 거래 전체로 가격 분포 스케치를 다시 만들어야 할 때 발행 (포트폴리오 (재)등록)
+public record PriceSketchRebuildEvent(Long plannerId) {
+}
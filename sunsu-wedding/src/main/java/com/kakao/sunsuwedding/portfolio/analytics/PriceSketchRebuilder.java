@@ -0,0 +1,66 @@
+package com.kakao.sunsuwedding.portfolio.analytics;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+// 가격 분포 스케치를 match_tb 기준으로 다시 만듦 (포트폴리오 등록 커밋 후, 스케치가 비어 있을 때 시작 시 backfill)
+// 등록 트랜잭션이 롤백되면 호출되지 않고, 등록 트랜잭션 안에서 스케치용 트랜잭션을 따로 열지 않음
+@Slf4j
+@Component
+public class PriceSketchRebuilder {
+
+    private final PriceAnalyticsServiceImpl priceAnalyticsServiceImpl;
+    private final PriceSketchJPARepository priceSketchJPARepository;
+    private final PriceSketchJDBCRepository priceSketchJDBCRepository;
+    private final boolean backfillOnStartup;
+
+    public PriceSketchRebuilder(PriceAnalyticsServiceImpl priceAnalyticsServiceImpl,
+                                PriceSketchJPARepository priceSketchJPARepository,
+                                PriceSketchJDBCRepository priceSketchJDBCRepository,
+                                @Value("${analytics.price-sketch.backfill-on-startup:false}") boolean backfillOnStartup) {
+        this.priceAnalyticsServiceImpl = priceAnalyticsServiceImpl;
+        this.priceSketchJPARepository = priceSketchJPARepository;
+        this.priceSketchJDBCRepository = priceSketchJDBCRepository;
+        this.backfillOnStartup = backfillOnStartup;
+    }
+
+    // 스케치가 하나도 없으면(V9 배포 직후) 기존 확정 거래로 한 번 채움
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (backfillOnStartup || priceSketchJPARepository.count() == 0) {
+            backfill();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPriceSketchRebuild(PriceSketchRebuildEvent event) {
+        try {
+            priceAnalyticsServiceImpl.rebuildPlannerSketch(event.plannerId());
+        }
+        catch (RuntimeException e) {
+            // 이미 커밋된 등록은 실패시키지 않고, 스케치는 이후 확정부터 다시 쌓이거나 다음 등록 때 맞춰짐
+            log.warn("플래너 가격 스케치 재생성 실패 plannerId={}", event.plannerId(), e);
+        }
+    }
+
+    // 확정 거래가 있는 플래너와 포트폴리오가 있는 지역의 스케치를 match_tb 로 다시 만듦
+    // 스케치마다 새 트랜잭션에서 행을 먼저 잠근 뒤 읽으므로 서비스 중에 실행해도 동시 확정이 빠지지 않음
+    public int backfill() {
+        long start = System.currentTimeMillis();
+        List<Long> plannerIds = priceSketchJDBCRepository.findConfirmedPlannerIds();
+        List<String> locations = priceSketchJDBCRepository.findPortfolioLocations();
+
+        plannerIds.forEach(priceAnalyticsServiceImpl::rebuildPlannerSketch);
+        locations.forEach(priceAnalyticsServiceImpl::rebuildLocationSketch);
+
+        int count = plannerIds.size() + locations.size();
+        log.info("가격 분포 스케치 backfill 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+        return count;
+    }
+}
@@ -0,0 +1,7 @@
+package com.kakao.sunsuwedding.portfolio.analytics;
+
+// 가격 분포 스케치를 묶는 단위 - scope_key 는 PLANNER 면 플래너 id, LOCATION 이면 포트폴리오 지역
+public enum PriceSketchScope {
+    PLANNER,
+    LOCATION
+}
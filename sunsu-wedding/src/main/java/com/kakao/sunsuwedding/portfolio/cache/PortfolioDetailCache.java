@@ -0,0 +1,66 @@
+package com.kakao.sunsuwedding.portfolio.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.kakao.sunsuwedding.portfolio.PortfolioChangedEvent;
+import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 포트폴리오 상세 조회 중 사용자와 무관한 부분(본문, 이미지, 가격 항목, 거래 내역)을 캐싱
+// 찜 여부(isLiked)와 등급별 거래 내역 노출은 응답 시점에 덧씌움
+@Slf4j
+@Component
+public class PortfolioDetailCache {
+
+    private final Cache<Long, PortfolioResponse.FindByIdDTO> details;
+    private final Cache<Long, PortfolioResponse.PaymentHistoryDTO> paymentHistories;
+
+    public PortfolioDetailCache(MeterRegistry meterRegistry,
+                                @Value("${cache.portfolio-detail.maximum-size:1000}") long maximumSize,
+                                @Value("${cache.portfolio-detail.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.details = newCache(maximumSize, expireAfterWrite);
+        this.paymentHistories = newCache(maximumSize, expireAfterWrite);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, details, "portfolio.detail");
+        CaffeineCacheMetrics.monitor(meterRegistry, paymentHistories, "portfolio.payment-history");
+    }
+
+    public PortfolioResponse.FindByIdDTO getDetail(Long portfolioId, Function<Long, PortfolioResponse.FindByIdDTO> loader) {
+        return details.get(portfolioId, loader);
+    }
+
+    public PortfolioResponse.PaymentHistoryDTO getPaymentHistory(Long portfolioId, Function<Long, PortfolioResponse.PaymentHistoryDTO> loader) {
+        return paymentHistories.get(portfolioId, loader);
+    }
+
+    public void evict(Long portfolioId) {
+        details.invalidate(portfolioId);
+        paymentHistories.invalidate(portfolioId);
+    }
+
+    // 커밋된 후에 지워야 다른 요청이 커밋 전 데이터를 다시 캐싱하는 일을 줄일 수 있음
+    // 그래도 남는 틈은 expire-after-write 로 제한됨
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        log.debug("포트폴리오 캐시 무효화 portfolioId={}", event.portfolioId());
+        evict(event.portfolioId());
+    }
+
+    private static <V> Cache<Long, V> newCache(long maximumSize, Duration expireAfterWrite) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                // 정리 작업을 호출한 스레드에서 바로 수행 (테스트처럼 maximum-size 0 이면 즉시 비워짐)
+                .executor(Runnable::run)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,18 @@
+package com.kakao.sunsuwedding.portfolio.delete;
+
+import java.util.List;
+
+public interface PortfolioBulkDeleteJDBCRepository {
+
+    // PortfolioBulkDeleteJDBCRepositoryImpl에 구현되어 있음
+    // 포트폴리오 이미지들이 참조하는 blob 키 (원본, 썸네일 중복 제거)
+    List<String> findImageKeys(Long portfolioId);
+
+    // 포트폴리오에 딸린 행을 id 순으로 최대 chunkSize 개 삭제하고 삭제한 건수를 반환
+    // 엔티티를 읽지 않고 테이블마다 DELETE 문 하나로 처리함
+    int deleteImageItems(Long portfolioId, int chunkSize);
+
+    int deletePriceItems(Long portfolioId, int chunkSize);
+
+    int deleteFavorites(Long portfolioId, int chunkSize);
+}
@@ -0,0 +1,58 @@
+package com.kakao.sunsuwedding.portfolio.delete;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public class PortfolioBulkDeleteJDBCRepositoryImpl implements PortfolioBulkDeleteJDBCRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final static String IMAGE_TABLE = "portfolio_image_item_tb";
+    private final static String PRICE_TABLE = "price_item_tb";
+    private final static String FAVORITE_TABLE = "favorite_tb";
+
+    @Autowired
+    public PortfolioBulkDeleteJDBCRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<String> findImageKeys(Long portfolioId) {
+        String sql = String.format("""
+                SELECT image_key FROM %1$s WHERE portfolio_id = ? AND image_key IS NOT NULL
+                UNION
+                SELECT thumbnail_key FROM %1$s WHERE portfolio_id = ? AND thumbnail_key IS NOT NULL
+                """, IMAGE_TABLE);
+
+        return jdbcTemplate.queryForList(sql, String.class, portfolioId, portfolioId);
+    }
+
+    public int deleteImageItems(Long portfolioId, int chunkSize) {
+        return deleteChunk(IMAGE_TABLE, portfolioId, chunkSize);
+    }
+
+    public int deletePriceItems(Long portfolioId, int chunkSize) {
+        return deleteChunk(PRICE_TABLE, portfolioId, chunkSize);
+    }
+
+    public int deleteFavorites(Long portfolioId, int chunkSize) {
+        return deleteChunk(FAVORITE_TABLE, portfolioId, chunkSize);
+    }
+
+    // MySQL 은 IN 서브쿼리의 LIMIT 과 삭제 대상 테이블을 직접 조회하는 서브쿼리를 허용하지 않으므로
+    // id 목록을 파생 테이블로 한 번 감싸서 먼저 구체화시킴
+    private int deleteChunk(String table, Long portfolioId, int chunkSize) {
+        String sql = String.format("""
+                DELETE FROM %1$s
+                WHERE id IN (
+                    SELECT id FROM (
+                        SELECT id FROM %1$s WHERE portfolio_id = ? ORDER BY id LIMIT ?
+                    ) chunk
+                )
+                """, table);
+
+        return jdbcTemplate.update(sql, portfolioId, chunkSize);
+    }
+}
@@ -0,0 +1,57 @@
+package com.kakao.sunsuwedding.portfolio.delete;
+
+import com.kakao.sunsuwedding._core.storage.BlobsReleasedEvent;
+import com.kakao.sunsuwedding.portfolio.PortfolioJPARepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.IntSupplier;
+
+// 포트폴리오와 딸린 행(이미지, 가격 항목, 찜)을 엔티티 로딩 없이 테이블마다 DELETE 문으로 삭제
+// 찜처럼 행이 많을 수 있는 테이블도 한 문장이 잡는 행 잠금이 chunkSize 를 넘지 않도록 나눠서 삭제함
+// 쿼리 수는 행 수가 아니라 (행 수 / chunkSize) 에 비례
+@Component
+public class PortfolioBulkDeleter {
+
+    private final PortfolioBulkDeleteJDBCRepository portfolioBulkDeleteJDBCRepository;
+    private final PortfolioJPARepository portfolioJPARepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public PortfolioBulkDeleter(PortfolioBulkDeleteJDBCRepository portfolioBulkDeleteJDBCRepository,
+                                PortfolioJPARepository portfolioJPARepository,
+                                ApplicationEventPublisher eventPublisher,
+                                @Value("${portfolio.delete.chunk-size:500}") int chunkSize) {
+        this.portfolioBulkDeleteJDBCRepository = portfolioBulkDeleteJDBCRepository;
+        this.portfolioJPARepository = portfolioJPARepository;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void delete(Long portfolioId) {
+        // 이미지 행을 지우기 전에 blob 키를 모아두고, 커밋 후 다른 곳에서 참조하지 않는 blob 만 정리
+        List<String> imageKeys = portfolioBulkDeleteJDBCRepository.findImageKeys(portfolioId);
+
+        deleteInChunks(() -> portfolioBulkDeleteJDBCRepository.deleteImageItems(portfolioId, chunkSize));
+        deleteInChunks(() -> portfolioBulkDeleteJDBCRepository.deletePriceItems(portfolioId, chunkSize));
+        deleteInChunks(() -> portfolioBulkDeleteJDBCRepository.deleteFavorites(portfolioId, chunkSize));
+        portfolioJPARepository.softDeleteById(portfolioId);
+
+        if (!imageKeys.isEmpty()) {
+            eventPublisher.publishEvent(new BlobsReleasedEvent(imageKeys));
+        }
+    }
+
+    // chunkSize 보다 적게 지워지면 남은 행이 없으므로 종료
+    private void deleteInChunks(IntSupplier deleteChunk) {
+        int deleted;
+        do {
+            deleted = deleteChunk.getAsInt();
+        } while (deleted == chunkSize);
+    }
+}
@@ -1,5 +1,6 @@
 package com.kakao.sunsuwedding.portfolio.image;
 
+import com.kakao.sunsuwedding._core.storage.BlobStorage;
 import com.kakao.sunsuwedding.portfolio.Portfolio;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -35,17 +36,27 @@ public class PortfolioImageItem {
     @ManyToOne(fetch = FetchType.LAZY)
     private Portfolio portfolio;
 
-    @Lob
-    private String image;
+    // 이미지 바이트는 BlobStorage 에 저장하고 SHA-256 키만 보관
+    @Column(name = "image_key", length = 64)
+    private String imageKey;
+
+    // 목록 카드용으로 줄인 썸네일 키 (대표 이미지에만 존재)
+    @Column(name = "thumbnail_key", length = 64)
+    private String thumbnailKey;
 
     @Column(nullable = false)
     private Boolean thumbnail;
 
     @Builder
-    public PortfolioImageItem(Long id, Portfolio portfolio, String image, Boolean thumbnail) {
+    public PortfolioImageItem(Long id, Portfolio portfolio, String imageKey, String thumbnailKey, Boolean thumbnail) {
         this.id = id;
         this.portfolio = portfolio;
-        this.image = image;
+        this.imageKey = imageKey;
+        this.thumbnailKey = thumbnailKey;
         this.thumbnail = thumbnail;
     }
+
+    public String getImageUrl() {
+        return BlobStorage.toUrl(imageKey);
+    }
 }
@@ -19,15 +19,16 @@ public class PortfolioImageItemJDBCRepositoryImpl implements PortfolioImageItemJ
 
     public void batchInsertImageItems(List<PortfolioImageItem> portfolioImageItems) {
         String sql = String.format("""
-                INSERT INTO %s (portfolio_id, image, thumbnail)
-                VALUES (?, ?, ?)
+                INSERT INTO %s (portfolio_id, image_key, thumbnail_key, thumbnail)
+                VALUES (?, ?, ?, ?)
                 """, TABLE);
 
         jdbcTemplate.batchUpdate(sql, portfolioImageItems, portfolioImageItems.size(),
                 (ps, imageItem) -> {
                     ps.setLong(1, imageItem.getPortfolio().getId());
-                    ps.setString(2, imageItem.getImage());
-                    ps.setBoolean(3, imageItem.getThumbnail());
+                    ps.setString(2, imageItem.getImageKey());
+                    ps.setString(3, imageItem.getThumbnailKey());
+                    ps.setBoolean(4, imageItem.getThumbnail());
                 });
 
     }
@@ -15,13 +15,20 @@ public interface PortfolioImageItemJPARepository extends JpaRepository<Portfolio
 
     List<PortfolioImageItem> findAllByThumbnailAndPortfolioInOrderByPortfolioCreatedAtDesc(Boolean thumbnail, List<Portfolio> portfolios);
 
+    // 썸네일이 아직 없는 이미지(이전 데이터)는 원본 키로 대체
+    @Query("select new com.kakao.sunsuwedding.portfolio.image.PortfolioThumbnailDTO(p.portfolio.id, coalesce(p.thumbnailKey, p.imageKey)) " +
+            "from PortfolioImageItem p where p.thumbnail = true and p.portfolio.id in :portfolioIds")
+    List<PortfolioThumbnailDTO> findThumbnailsByPortfolioIds(@Param("portfolioIds") List<Long> portfolioIds);
+
     @EntityGraph("ImageItemWithPortfolioAndPlanner")
     List<PortfolioImageItem> findByPortfolioId(Long id);
 
+    // 포트폴리오가 참조하는 blob 키 (원본 + 썸네일)
+    @Query("select p.imageKey from PortfolioImageItem p where p.portfolio.id = :portfolioId and p.imageKey is not null " +
+            "union select p.thumbnailKey from PortfolioImageItem p where p.portfolio.id = :portfolioId and p.thumbnailKey is not null")
+    List<String> findBlobKeysByPortfolioId(@Param("portfolioId") Long portfolioId);
+
     @Modifying
     @Query("delete from PortfolioImageItem p where p.portfolio.id = :portfolioId")
     void deleteAllByPortfolioId(@Param("portfolioId") Long portfolioId);
-
-    void deleteAllByPortfolioPlannerId(Long id);
-
 }
@@ -2,13 +2,21 @@ package com.kakao.sunsuwedding.portfolio.image;
 
 import com.kakao.sunsuwedding._core.errors.BaseException;
 import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
+import com.kakao.sunsuwedding._core.storage.BlobStorage;
+import com.kakao.sunsuwedding._core.storage.BlobsReleasedEvent;
+import com.kakao.sunsuwedding._core.storage.BlobsStoredEvent;
+import com.kakao.sunsuwedding.image.ThumbnailGenerator;
 import com.kakao.sunsuwedding.portfolio.Portfolio;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,6 +25,9 @@ public class PortfolioImageItemServiceImpl implements PortfolioImageService {
 
     private final PortfolioImageItemJPARepository portfolioImageItemJPARepository;
     private final PortfolioImageItemJDBCRepository portfolioImageItemJDBCRepository;
+    private final BlobStorage blobStorage;
+    private final ThumbnailGenerator thumbnailGenerator;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void uploadImage(List<String> imageItems, Portfolio portfolio) {
@@ -27,20 +38,56 @@ public class PortfolioImageItemServiceImpl implements PortfolioImageService {
     @Transactional
     public void updateImage(List<String> imageItems, Portfolio portfolio) {
         if (imageItems.size() > 5) throw new BadRequestException(BaseException.PORTFOLIO_IMAGE_COUNT_EXCEED);
+        // 기존 이미지의 blob 키를 모아두고, 커밋 후 다른 곳에서 참조하지 않는 blob 만 정리
+        List<String> previousKeys = portfolioImageItemJPARepository.findBlobKeysByPortfolioId(portfolio.getId());
         portfolioImageItemJPARepository.deleteAllByPortfolioId(portfolio.getId());
         storeImagesInDatabase(imageItems, portfolio);
+
+        if (!previousKeys.isEmpty()) {
+            eventPublisher.publishEvent(new BlobsReleasedEvent(previousKeys));
+        }
+    }
+
+    // 포트폴리오 id 별 썸네일 URL
+    public Map<Long, String> findThumbnailUrls(List<Long> portfolioIds) {
+        if (portfolioIds.isEmpty()) return Map.of();
+
+        return portfolioImageItemJPARepository.findThumbnailsByPortfolioIds(portfolioIds)
+                .stream()
+                .collect(Collectors.toMap(PortfolioThumbnailDTO::portfolioId, PortfolioThumbnailDTO::thumbnailUrl, (first, second) -> first));
     }
 
     private void storeImagesInDatabase(List<String> imageItems, Portfolio portfolio) {
         List<PortfolioImageItem> portfolioImageItems = new ArrayList<>();
-        for (String imageItem : imageItems) {
-            PortfolioImageItem portfolioImageItem = PortfolioImageItem.builder()
-                    .portfolio(portfolio)
-                    .image(imageItem)
-                    .thumbnail(imageItem.equals(imageItems.get(0)))
-                    .build();
-            portfolioImageItems.add(portfolioImageItem);
+        List<String> storedKeys = new ArrayList<>();
+        try {
+            for (int i = 0; i < imageItems.size(); i++) {
+                byte[] image = BlobStorage.decodeBase64(imageItems.get(i));
+                String imageKey = blobStorage.store(image);
+                storedKeys.add(imageKey);
+
+                // 첫 번째 이미지가 대표 이미지이며, 목록 조회용 썸네일을 미리 만들어 둠
+                boolean isThumbnail = (i == 0);
+                String thumbnailKey = isThumbnail
+                        ? thumbnailGenerator.createThumbnail(image).map(blobStorage::store).orElse(imageKey)
+                        : null;
+                if (thumbnailKey != null && !thumbnailKey.equals(imageKey)) storedKeys.add(thumbnailKey);
+
+                PortfolioImageItem portfolioImageItem = PortfolioImageItem.builder()
+                        .portfolio(portfolio)
+                        .imageKey(imageKey)
+                        .thumbnailKey(thumbnailKey)
+                        .thumbnail(isThumbnail)
+                        .build();
+                portfolioImageItems.add(portfolioImageItem);
+            }
+        }
+        finally {
+            // 트랜잭션이 롤백되면 방금 저장한 blob 을 정리
+            if (!storedKeys.isEmpty()) {
+                eventPublisher.publishEvent(new BlobsStoredEvent(storedKeys, Instant.now()));
+            }
         }
         portfolioImageItemJDBCRepository.batchInsertImageItems(portfolioImageItems);
     }
-}
\ No newline at end of file
+}
@@ -3,10 +3,13 @@ package com.kakao.sunsuwedding.portfolio.image;
 import com.kakao.sunsuwedding.portfolio.Portfolio;
 
 import java.util.List;
+import java.util.Map;
 
 public interface PortfolioImageService {
 
     void uploadImage(List<String> imageItems, Portfolio portfolio);
 
     void updateImage(List<String> imageItems, Portfolio portfolio);
+
+    Map<Long, String> findThumbnailUrls(List<Long> portfolioIds);
 }
@@ -0,0 +1,13 @@
+package com.kakao.sunsuwedding.portfolio.image;
+
+import com.kakao.sunsuwedding._core.storage.BlobStorage;
+
+// 목록 조회용 프로젝션 - 이미지 엔티티 전체 대신 (portfolio_id, 썸네일 키)만 가져옴
+public record PortfolioThumbnailDTO(
+        Long portfolioId,
+        String thumbnailKey
+) {
+    public String thumbnailUrl() {
+        return BlobStorage.toUrl(thumbnailKey);
+    }
+}
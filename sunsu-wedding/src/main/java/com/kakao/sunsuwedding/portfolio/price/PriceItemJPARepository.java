@@ -15,8 +15,6 @@ public interface PriceItemJPARepository extends JpaRepository<PriceItem, Long> {
     @EntityGraph("PriceItemWithPortfolioAndPlanner")
     List<PriceItem> findAllByPortfolioId(Long id);
 
-    void deleteAllByPortfolioPlannerId(Long id);
-
     @Modifying
     @Query("delete from PriceItem p where p.portfolio.id = :portfolioId")
     void deleteAllByPortfolioId(@Param("portfolioId") Long portfolioId);
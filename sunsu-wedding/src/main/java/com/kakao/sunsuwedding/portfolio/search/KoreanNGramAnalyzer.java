@@ -0,0 +1,28 @@
+package com.kakao.sunsuwedding.portfolio.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.ngram.NGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+
+// 한국어는 조사가 붙거나 띄어쓰기가 달라도 검색되도록 단어를 2~3글자 n-gram 으로 쪼개서 색인
+// ex) "스드메패키지" -> 스드, 스드메, 드메, 드메패, ... , 스드메패키지(원본)
+public class KoreanNGramAnalyzer extends Analyzer {
+    public static final int MIN_GRAM = 2;
+    public static final int MAX_GRAM = 3;
+
+    @Override
+    protected TokenStreamComponents createComponents(String fieldName) {
+        Tokenizer source = new StandardTokenizer();
+        TokenStream result = new LowerCaseFilter(source);
+        result = new NGramTokenFilter(result, MIN_GRAM, MAX_GRAM, true);
+        return new TokenStreamComponents(source, result);
+    }
+
+    @Override
+    protected TokenStream normalize(String fieldName, TokenStream in) {
+        return new LowerCaseFilter(in);
+    }
+}
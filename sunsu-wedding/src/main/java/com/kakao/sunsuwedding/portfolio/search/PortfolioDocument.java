@@ -0,0 +1,44 @@
+package com.kakao.sunsuwedding.portfolio.search;
+
+import com.kakao.sunsuwedding.portfolio.Portfolio;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// 검색 색인에 들어가는 포트폴리오 정보
+public record PortfolioDocument(
+        Long id,
+        String title,
+        String description,
+        String plannerName,
+        String partnerCompany,
+        String career,
+        String location,
+        Long totalPrice,
+        Double avgStars
+) {
+    public static PortfolioDocument from(Portfolio portfolio) {
+        return new PortfolioDocument(
+                portfolio.getId(),
+                portfolio.getTitle(),
+                portfolio.getDescription(),
+                portfolio.getPlannerName(),
+                portfolio.getPartnerCompany(),
+                portfolio.getCareer(),
+                portfolio.getLocation(),
+                portfolio.getTotalPrice(),
+                portfolio.getAvgStars()
+        );
+    }
+
+    // 전문 검색 대상 필드 이름 -> 값
+    public Map<String, String> texts() {
+        Map<String, String> texts = new LinkedHashMap<>();
+        texts.put(PortfolioSearchIndex.TITLE, title);
+        texts.put(PortfolioSearchIndex.DESCRIPTION, description);
+        texts.put(PortfolioSearchIndex.PLANNER_NAME, plannerName);
+        texts.put(PortfolioSearchIndex.PARTNER_COMPANY, partnerCompany);
+        texts.put(PortfolioSearchIndex.CAREER, career);
+        return texts;
+    }
+}
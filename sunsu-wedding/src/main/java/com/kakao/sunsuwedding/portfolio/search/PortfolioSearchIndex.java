@@ -0,0 +1,317 @@
+package com.kakao.sunsuwedding.portfolio.search;
+
+import com.kakao.sunsuwedding._core.errors.BaseException;
+import com.kakao.sunsuwedding._core.errors.exception.ServerException;
+import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.miscellaneous.PerFieldAnalyzerWrapper;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.*;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.range.LongRangeFacetCounts;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+// 포트폴리오 검색용 Lucene 색인
+// search.index.path 가 비어있으면 메모리에, 아니면 해당 경로에 색인을 저장함
+// 색인은 DB(portfolio_tb)에서 언제든 다시 만들 수 있는 보조 데이터이므로 커밋은 주기적으로만 수행
+@Slf4j
+@Component
+public class PortfolioSearchIndex {
+    // 필드 이름
+    public static final String ID = "id";
+    public static final String ID_SORT = "id_sort";
+    public static final String TITLE = "title";
+    public static final String DESCRIPTION = "description";
+    public static final String PLANNER_NAME = "plannerName";
+    public static final String PARTNER_COMPANY = "partnerCompany";
+    public static final String CAREER = "career";
+    public static final String LOCATION = "location";
+    public static final String TOTAL_PRICE = "totalPrice";
+    public static final String AVG_STARS = "avgStars";
+    public static final String GRAM_SUFFIX = "_gram";
+
+    private static final int LOCATION_FACET_SIZE = 20;
+
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final FacetsConfig facetsConfig;
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+    private final PortfolioSearchQueryBuilder queryBuilder;
+
+    // 지역 facet 계산용 상태, 색인이 바뀐 경우에만 새로 만듦
+    private volatile SortedSetDocValuesReaderState locationFacetState;
+
+    public PortfolioSearchIndex(@Value("${search.index.path:}") String indexPath) throws IOException {
+        this.directory = indexPath.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(indexPath));
+        this.analyzer = newAnalyzer();
+        this.facetsConfig = new FacetsConfig();
+        this.writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searcherManager = new SearcherManager(writer, null);
+        this.queryBuilder = new PortfolioSearchQueryBuilder(analyzer);
+    }
+
+    public boolean isEmpty() {
+        return writer.getDocStats().numDocs == 0;
+    }
+
+    public void upsert(PortfolioDocument document) {
+        try {
+            writer.updateDocument(new Term(ID, document.id().toString()), toDocument(document));
+            searcherManager.maybeRefresh();
+        }
+        catch (IOException e) {
+            throw new ServerException(BaseException.PORTFOLIO_SEARCH_ERROR);
+        }
+    }
+
+    public void delete(Long portfolioId) {
+        try {
+            writer.deleteDocuments(new Term(ID, portfolioId.toString()));
+            searcherManager.maybeRefresh();
+        }
+        catch (IOException e) {
+            throw new ServerException(BaseException.PORTFOLIO_SEARCH_ERROR);
+        }
+    }
+
+    // 색인 전체를 다시 만듦, 커밋 전까지는 검색에 기존 색인이 그대로 보임
+    public int rebuild(Stream<PortfolioDocument> documents) {
+        try {
+            writer.deleteAll();
+            int count = 0;
+            for (PortfolioDocument document : (Iterable<PortfolioDocument>) documents::iterator) {
+                writer.addDocument(toDocument(document));
+                count++;
+            }
+            writer.commit();
+            searcherManager.maybeRefresh();
+            return count;
+        }
+        catch (IOException e) {
+            throw new ServerException(BaseException.PORTFOLIO_SEARCH_ERROR);
+        }
+    }
+
+    public PortfolioSearchResult search(PortfolioSearchRequest request) {
+        Query keyword = queryBuilder.build(request.keyword());
+        Query location = locationFilter(request.location());
+        Query price = priceFilter(request.minPrice(), request.maxPrice());
+
+        int offset = request.offset();
+        int numHits = offset + request.size();
+
+        IndexSearcher searcher = acquire();
+        try {
+            Object[] results = searcher.search(
+                    combine(keyword, location, price),
+                    new MultiCollectorManager(
+                            TopFieldCollector.createSharedManager(request.sort().sort(), numHits, null, Integer.MAX_VALUE),
+                            new FacetsCollectorManager()));
+            TopFieldDocs topDocs = (TopFieldDocs) results[0];
+            FacetsCollector facetsCollector = (FacetsCollector) results[1];
+
+            // 지역 facet 은 지역 조건을, 가격 facet 은 가격 조건을 빼고 계산해야 다른 선택지의 건수도 보여줄 수 있음
+            FacetsCollector locationCollector = (location == null) ? facetsCollector
+                    : searcher.search(combine(keyword, null, price), new FacetsCollectorManager());
+            FacetsCollector priceCollector = (price == null) ? facetsCollector
+                    : searcher.search(combine(keyword, location, null), new FacetsCollectorManager());
+
+            long totalCount = topDocs.totalHits.value;
+            Long nextCursor = (totalCount > numHits && numHits < PortfolioSearchRequest.MAX_WINDOW) ? (long) numHits : null;
+
+            return new PortfolioSearchResult(
+                    toPortfolioIds(searcher, topDocs, offset),
+                    totalCount,
+                    locationFacets(searcher, locationCollector),
+                    priceFacets(priceCollector),
+                    nextCursor
+            );
+        }
+        catch (IOException e) {
+            throw new ServerException(BaseException.PORTFOLIO_SEARCH_ERROR);
+        }
+        finally {
+            release(searcher);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${search.index.commit-interval-ms:30000}")
+    public void commit() {
+        if (!writer.hasUncommittedChanges()) {
+            return;
+        }
+        try {
+            writer.commit();
+        }
+        catch (IOException e) {
+            log.error("포트폴리오 검색 색인 커밋 실패", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+        directory.close();
+    }
+
+    private Document toDocument(PortfolioDocument portfolio) throws IOException {
+        Document document = new Document();
+        document.add(new StringField(ID, portfolio.id().toString(), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID_SORT, portfolio.id()));
+
+        portfolio.texts().forEach((field, value) -> {
+            if (value == null || value.isBlank()) {
+                return;
+            }
+            document.add(new TextField(field, value, Field.Store.NO));
+            document.add(new TextField(field + GRAM_SUFFIX, value, Field.Store.NO));
+        });
+
+        if (portfolio.location() != null && !portfolio.location().isBlank()) {
+            document.add(new StringField(LOCATION, portfolio.location(), Field.Store.NO));
+            document.add(new SortedSetDocValuesFacetField(LOCATION, portfolio.location()));
+        }
+
+        long totalPrice = Objects.requireNonNullElse(portfolio.totalPrice(), 0L);
+        document.add(new LongPoint(TOTAL_PRICE, totalPrice));
+        document.add(new NumericDocValuesField(TOTAL_PRICE, totalPrice));
+
+        double avgStars = Objects.requireNonNullElse(portfolio.avgStars(), 0.0);
+        document.add(new DoubleDocValuesField(AVG_STARS, avgStars));
+
+        return facetsConfig.build(document);
+    }
+
+    private List<Long> toPortfolioIds(IndexSearcher searcher, TopFieldDocs topDocs, int offset) throws IOException {
+        StoredFields storedFields = searcher.storedFields();
+        List<Long> portfolioIds = new ArrayList<>();
+        for (int i = offset; i < topDocs.scoreDocs.length; i++) {
+            String id = storedFields.document(topDocs.scoreDocs[i].doc, Set.of(ID)).get(ID);
+            portfolioIds.add(Long.valueOf(id));
+        }
+        return portfolioIds;
+    }
+
+    private List<PortfolioResponse.FacetDTO> locationFacets(IndexSearcher searcher, FacetsCollector collector) throws IOException {
+        if (searcher.getIndexReader().numDocs() == 0) {
+            return List.of();
+        }
+
+        FacetResult result;
+        try {
+            result = new SortedSetDocValuesFacetCounts(locationFacetState(searcher), collector)
+                    .getTopChildren(LOCATION_FACET_SIZE, LOCATION);
+        }
+        catch (IllegalArgumentException e) {
+            // 지역이 있는 문서가 하나도 색인되지 않은 경우
+            return List.of();
+        }
+        return toFacetDTOs(result);
+    }
+
+    private List<PortfolioResponse.FacetDTO> priceFacets(FacetsCollector collector) throws IOException {
+        FacetResult result = new LongRangeFacetCounts(TOTAL_PRICE, collector, PriceBucket.ranges())
+                .getAllChildren(TOTAL_PRICE);
+        return toFacetDTOs(result);
+    }
+
+    private static List<PortfolioResponse.FacetDTO> toFacetDTOs(FacetResult result) {
+        if (result == null) {
+            return List.of();
+        }
+        return Arrays.stream(result.labelValues)
+                .map(labelAndValue -> new PortfolioResponse.FacetDTO(labelAndValue.label, labelAndValue.value.longValue()))
+                .toList();
+    }
+
+    private SortedSetDocValuesReaderState locationFacetState(IndexSearcher searcher) throws IOException {
+        SortedSetDocValuesReaderState state = locationFacetState;
+        if (state == null || state.getReader() != searcher.getIndexReader()) {
+            state = new DefaultSortedSetDocValuesReaderState(searcher.getIndexReader(), facetsConfig);
+            locationFacetState = state;
+        }
+        return state;
+    }
+
+    private static Query locationFilter(String location) {
+        if (location == null || location.isBlank() || location.equals("null")) {
+            return null;
+        }
+        return new TermQuery(new Term(LOCATION, location));
+    }
+
+    // 목록 조회(PortfolioSpecification)와 같이 0 이상인 값만 조건으로 사용
+    private static Query priceFilter(Long minPrice, Long maxPrice) {
+        boolean hasMin = minPrice != null && minPrice > 0;
+        boolean hasMax = maxPrice != null && maxPrice >= 0;
+        if (!hasMin && !hasMax) {
+            return null;
+        }
+        return LongPoint.newRangeQuery(TOTAL_PRICE,
+                hasMin ? minPrice : Long.MIN_VALUE,
+                hasMax ? maxPrice : Long.MAX_VALUE);
+    }
+
+    private static Query combine(Query keyword, Query... filters) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder().add(keyword, BooleanClause.Occur.MUST);
+        Arrays.stream(filters)
+                .filter(Objects::nonNull)
+                .forEach(filter -> builder.add(filter, BooleanClause.Occur.FILTER));
+        return builder.build();
+    }
+
+    private IndexSearcher acquire() {
+        try {
+            return searcherManager.acquire();
+        }
+        catch (IOException e) {
+            throw new ServerException(BaseException.PORTFOLIO_SEARCH_ERROR);
+        }
+    }
+
+    private void release(IndexSearcher searcher) {
+        try {
+            searcherManager.release(searcher);
+        }
+        catch (IOException e) {
+            log.warn("포트폴리오 검색 searcher 반환 실패", e);
+        }
+    }
+
+    // 원본 필드는 단어 단위(정확히 일치, 접두어, 오타 허용), _gram 필드는 n-gram(부분 일치)
+    private static Analyzer newAnalyzer() {
+        Analyzer gramAnalyzer = new KoreanNGramAnalyzer();
+        Map<String, Analyzer> gramFields = new HashMap<>();
+        for (String field : List.of(TITLE, DESCRIPTION, PLANNER_NAME, PARTNER_COMPANY, CAREER)) {
+            gramFields.put(field + GRAM_SUFFIX, gramAnalyzer);
+        }
+        return new PerFieldAnalyzerWrapper(new StandardAnalyzer(), gramFields);
+    }
+}
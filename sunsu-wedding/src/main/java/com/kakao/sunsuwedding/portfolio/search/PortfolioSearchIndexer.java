@@ -0,0 +1,108 @@
+package com.kakao.sunsuwedding.portfolio.search;
+
+import com.kakao.sunsuwedding.portfolio.PortfolioChangedEvent;
+import com.kakao.sunsuwedding.portfolio.PortfolioJPARepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// portfolio_tb 의 변경 사항을 검색 색인에 반영
+@Slf4j
+@Component
+public class PortfolioSearchIndexer {
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final PortfolioJPARepository portfolioJPARepository;
+    private final PortfolioSearchIndex portfolioSearchIndex;
+    private final TransactionTemplate readOnlyTransaction;
+    private final boolean rebuildOnStartup;
+
+    // 재생성 도중에 들어온 변경이 재생성 결과에 덮어써지지 않도록 재생성은 단독으로 수행
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PortfolioSearchIndexer(PortfolioJPARepository portfolioJPARepository,
+                                  PortfolioSearchIndex portfolioSearchIndex,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${search.index.rebuild-on-startup:true}") boolean rebuildOnStartup) {
+        this.portfolioJPARepository = portfolioJPARepository;
+        this.portfolioSearchIndex = portfolioSearchIndex;
+        this.rebuildOnStartup = rebuildOnStartup;
+
+        // 커밋 후에 호출되므로 새 트랜잭션에서 DB 의 최신 상태를 읽음
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (rebuildOnStartup || portfolioSearchIndex.isEmpty()) {
+            rebuild();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            Optional<PortfolioDocument> document = readOnlyTransaction.execute(status ->
+                    portfolioJPARepository.findById(event.portfolioId()).map(PortfolioDocument::from));
+
+            // 삭제된 포트폴리오는 @Where 조건으로 조회되지 않으므로 색인에서도 제거
+            if (document != null && document.isPresent()) {
+                portfolioSearchIndex.upsert(document.get());
+            }
+            else {
+                portfolioSearchIndex.delete(event.portfolioId());
+            }
+        }
+        catch (RuntimeException e) {
+            // 이미 커밋된 요청은 실패시키지 않고, 다음 재생성 때 맞춰짐
+            log.warn("포트폴리오 검색 색인 갱신 실패 portfolioId={}", event.portfolioId(), e);
+        }
+        finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int rebuild() {
+        lock.writeLock().lock();
+        try {
+            long start = System.currentTimeMillis();
+            int count = portfolioSearchIndex.rebuild(readAll());
+            log.info("포트폴리오 검색 색인 재생성 완료: {}건, {}ms", count, System.currentTimeMillis() - start);
+            return count;
+        }
+        finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // id 순으로 REBUILD_BATCH_SIZE 씩 읽어서 영속성 컨텍스트에 전체가 쌓이지 않게 함
+    private Stream<PortfolioDocument> readAll() {
+        return Stream.iterate(readBatch(0L),
+                        batch -> !batch.isEmpty(),
+                        batch -> batch.size() < REBUILD_BATCH_SIZE ? List.of() : readBatch(batch.get(batch.size() - 1).id()))
+                .flatMap(List::stream);
+    }
+
+    private List<PortfolioDocument> readBatch(Long lastId) {
+        return readOnlyTransaction.execute(status -> portfolioJPARepository
+                .findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.ofSize(REBUILD_BATCH_SIZE))
+                .stream()
+                .map(PortfolioDocument::from)
+                .toList());
+    }
+}
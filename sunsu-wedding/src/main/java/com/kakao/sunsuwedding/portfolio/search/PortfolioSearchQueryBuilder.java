@@ -0,0 +1,110 @@
+package com.kakao.sunsuwedding.portfolio.search;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 검색어를 단어 단위로 나눈 뒤, 모든 단어가 (어느 필드에서든) 매칭되는 문서를 찾는 쿼리 생성
+// 단어마다 정확히 일치 > 접두어 > n-gram(부분 일치) > 오타 허용 순으로 점수를 줌
+public class PortfolioSearchQueryBuilder {
+    // 검색어 단어 수 제한 (fuzzy 쿼리 확장으로 절 개수가 너무 많아지지 않도록)
+    private static final int MAX_TOKENS = 5;
+    private static final int FUZZY_MIN_LENGTH = 3;
+    private static final int FUZZY_MAX_EXPANSIONS = 10;
+
+    private static final float EXACT_BOOST = 4.0f;
+    private static final float PREFIX_BOOST = 2.0f;
+    private static final float GRAM_BOOST = 1.0f;
+    private static final float FUZZY_BOOST = 0.5f;
+
+    // 필드별 가중치
+    private static final Map<String, Float> FIELD_BOOSTS = Map.of(
+            PortfolioSearchIndex.TITLE, 3.0f,
+            PortfolioSearchIndex.PLANNER_NAME, 2.0f,
+            PortfolioSearchIndex.PARTNER_COMPANY, 1.5f,
+            PortfolioSearchIndex.CAREER, 1.0f,
+            PortfolioSearchIndex.DESCRIPTION, 1.0f
+    );
+
+    private final Analyzer analyzer;
+
+    public PortfolioSearchQueryBuilder(Analyzer analyzer) {
+        this.analyzer = analyzer;
+    }
+
+    public Query build(String keyword) {
+        List<String> tokens = tokenize(keyword);
+        if (tokens.isEmpty()) {
+            return new MatchAllDocsQuery();
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        tokens.forEach(token -> builder.add(tokenQuery(token), BooleanClause.Occur.MUST));
+        return builder.build();
+    }
+
+    private Query tokenQuery(String token) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        FIELD_BOOSTS.forEach((field, boost) -> {
+            Term term = new Term(field, token);
+            builder.add(new BoostQuery(new TermQuery(term), boost * EXACT_BOOST), BooleanClause.Occur.SHOULD);
+            builder.add(new BoostQuery(new PrefixQuery(term), boost * PREFIX_BOOST), BooleanClause.Occur.SHOULD);
+
+            Query gramQuery = gramQuery(field + PortfolioSearchIndex.GRAM_SUFFIX, token);
+            if (gramQuery != null) {
+                builder.add(new BoostQuery(gramQuery, boost * GRAM_BOOST), BooleanClause.Occur.SHOULD);
+            }
+            if (token.length() >= FUZZY_MIN_LENGTH) {
+                Query fuzzyQuery = new FuzzyQuery(term, 1, 1, FUZZY_MAX_EXPANSIONS, true);
+                builder.add(new BoostQuery(fuzzyQuery, boost * FUZZY_BOOST), BooleanClause.Occur.SHOULD);
+            }
+        });
+        return builder.build();
+    }
+
+    // 2~3 글자는 n-gram 하나와 그대로 비교, 더 긴 단어는 3-gram 이 모두 들어있는지로 부분 일치를 판단
+    private static Query gramQuery(String field, String token) {
+        int length = token.length();
+        if (length < KoreanNGramAnalyzer.MIN_GRAM) {
+            return null;
+        }
+        if (length <= KoreanNGramAnalyzer.MAX_GRAM) {
+            return new TermQuery(new Term(field, token));
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        for (int i = 0; i + KoreanNGramAnalyzer.MAX_GRAM <= length; i++) {
+            String gram = token.substring(i, i + KoreanNGramAnalyzer.MAX_GRAM);
+            builder.add(new TermQuery(new Term(field, gram)), BooleanClause.Occur.MUST);
+        }
+        return new ConstantScoreQuery(builder.build());
+    }
+
+    private List<String> tokenize(String keyword) {
+        List<String> tokens = new ArrayList<>();
+        if (keyword == null || keyword.isBlank()) {
+            return tokens;
+        }
+
+        try (TokenStream stream = analyzer.tokenStream(PortfolioSearchIndex.TITLE, keyword)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken() && tokens.size() < MAX_TOKENS) {
+                tokens.add(term.toString());
+            }
+            stream.end();
+        }
+        catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,27 @@
+package com.kakao.sunsuwedding.portfolio.search;
+
+import com.kakao.sunsuwedding.portfolio.cursor.CursorRequest;
+
+// 검색 결과의 문서 번호는 색인이 갱신될 때마다 바뀌기 때문에 커서로 쓸 수 없음
+// 그래서 커서에는 다음 페이지의 시작 위치(offset)를 담고, 시작은 CursorRequest 와 같이 START_KEY(-1)
+public record PortfolioSearchRequest(
+        String keyword,
+        String location,
+        Long minPrice,
+        Long maxPrice,
+        PortfolioSearchSort sort,
+        Long cursor,
+        int size
+) {
+    // 너무 깊은 페이지는 정렬 비용이 커지므로 앞쪽 결과만 제공
+    public static final int MAX_WINDOW = 1000;
+
+    public Boolean hasKey() {
+        return cursor != null && !cursor.equals(CursorRequest.NONE_KEY) && cursor > CursorRequest.NONE_KEY
+                && offset() < MAX_WINDOW;
+    }
+
+    public int offset() {
+        return cursor == null || cursor.equals(CursorRequest.START_KEY) ? 0 : (int) Math.min(cursor, MAX_WINDOW);
+    }
+}
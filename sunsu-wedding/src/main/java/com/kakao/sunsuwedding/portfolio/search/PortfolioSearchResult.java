@@ -0,0 +1,14 @@
+package com.kakao.sunsuwedding.portfolio.search;
+
+import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
+
+import java.util.List;
+
+public record PortfolioSearchResult(
+        List<Long> portfolioIds,
+        Long totalCount,
+        List<PortfolioResponse.FacetDTO> locations,
+        List<PortfolioResponse.FacetDTO> prices,
+        Long nextCursor
+) {
+}
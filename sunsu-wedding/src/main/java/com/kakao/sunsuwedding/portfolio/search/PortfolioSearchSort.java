@@ -0,0 +1,39 @@
+package com.kakao.sunsuwedding.portfolio.search;
+
+import com.kakao.sunsuwedding._core.errors.BaseException;
+import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+
+public enum PortfolioSearchSort {
+    // 검색어 관련도 순, 같으면 최신순
+    RELEVANCE(new Sort(
+            SortField.FIELD_SCORE,
+            new SortField(PortfolioSearchIndex.ID_SORT, SortField.Type.LONG, true))),
+    // 평균 평점 높은 순, 같으면 최신순
+    STARS(new Sort(
+            new SortField(PortfolioSearchIndex.AVG_STARS, SortField.Type.DOUBLE, true),
+            new SortField(PortfolioSearchIndex.ID_SORT, SortField.Type.LONG, true)));
+
+    private final Sort sort;
+
+    PortfolioSearchSort(Sort sort) {
+        this.sort = sort;
+    }
+
+    public Sort sort() {
+        return sort;
+    }
+
+    public static PortfolioSearchSort from(String value) {
+        if (value == null || value.isBlank()) {
+            return RELEVANCE;
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        }
+        catch (IllegalArgumentException e) {
+            throw new BadRequestException(BaseException.PORTFOLIO_SEARCH_SORT_WRONG);
+        }
+    }
+}
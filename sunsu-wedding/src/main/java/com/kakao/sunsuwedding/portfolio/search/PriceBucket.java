@@ -0,0 +1,33 @@
+package com.kakao.sunsuwedding.portfolio.search;
+
+import org.apache.lucene.facet.range.LongRange;
+
+import java.util.Arrays;
+
+// 가격대 facet 구간 (총 가격 기준)
+public enum PriceBucket {
+    UNDER_100("100만원 미만", 0L, 1_000_000L),
+    FROM_100_TO_200("100만원 ~ 200만원", 1_000_000L, 2_000_000L),
+    FROM_200_TO_300("200만원 ~ 300만원", 2_000_000L, 3_000_000L),
+    FROM_300_TO_500("300만원 ~ 500만원", 3_000_000L, 5_000_000L),
+    OVER_500("500만원 이상", 5_000_000L, Long.MAX_VALUE);
+
+    private final String label;
+    private final long min;
+    private final long max;
+
+    PriceBucket(String label, long min, long max) {
+        this.label = label;
+        this.min = min;
+        this.max = max;
+    }
+
+    // [min, max) 구간, 마지막 구간만 max 포함
+    public LongRange toRange() {
+        return new LongRange(label, min, true, max, max == Long.MAX_VALUE);
+    }
+
+    public static LongRange[] ranges() {
+        return Arrays.stream(values()).map(PriceBucket::toRange).toArray(LongRange[]::new);
+    }
+}
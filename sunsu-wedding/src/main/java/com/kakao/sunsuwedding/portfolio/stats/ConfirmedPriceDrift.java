@@ -0,0 +1,13 @@
+package com.kakao.sunsuwedding.portfolio.stats;
+
+// 포트폴리오에 저장된 통계(stored)와 match_tb 에서 다시 계산한 통계(actual)
+public record ConfirmedPriceDrift(
+        Long portfolioId,
+        Long plannerId,
+        ConfirmedPriceStats stored,
+        ConfirmedPriceStats actual
+) {
+    public boolean hasDrift() {
+        return !stored.equals(actual);
+    }
+}
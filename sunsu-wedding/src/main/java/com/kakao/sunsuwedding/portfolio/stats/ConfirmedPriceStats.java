@@ -0,0 +1,14 @@
+package com.kakao.sunsuwedding.portfolio.stats;
+
+// 확정 거래 금액 통계 (건수, 합계, 평균, 최소, 최대)
+public record ConfirmedPriceStats(
+        long count,
+        long sum,
+        long avg,
+        long min,
+        long max
+) {
+    public static ConfirmedPriceStats of(long count, long sum, long min, long max) {
+        return new ConfirmedPriceStats(count, sum, count == 0 ? 0 : sum / count, min, max);
+    }
+}
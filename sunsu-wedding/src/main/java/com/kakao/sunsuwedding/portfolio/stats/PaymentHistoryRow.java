@@ -0,0 +1,19 @@
+package com.kakao.sunsuwedding.portfolio.stats;
+
+import java.time.LocalDateTime;
+
+// 거래 내역 조회용 프로젝션 - 매칭 1건과 견적서 1건이 한 행, 견적서가 없는 매칭은 견적서 값이 null
+public record PaymentHistoryRow(
+        Long matchId,
+        Long confirmedPrice,
+        LocalDateTime confirmedAt,
+        Long quotationId,
+        String title,
+        Long price,
+        String company,
+        String description
+) {
+    public boolean hasQuotation() {
+        return quotationId != null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.kakao.sunsuwedding.portfolio.stats;
+
+import com.kakao.sunsuwedding._core.utils.PriceStatistics;
+
+import java.util.List;
+
+public interface PortfolioStatsJDBCRepository {
+
+    // PortfolioStatsJDBCRepositoryImpl에 구현되어 있음
+    // 포트폴리오별로 저장된 확정 거래 통계와 match_tb 기준 실제 통계를 한 번에 조회
+    List<ConfirmedPriceDrift> findConfirmedPriceStats();
+
+    // 조회 이후 값이 바뀌지 않은 포트폴리오만 실제 통계로 덮어쓰고, 반영된 건수를 반환
+    int batchUpdateConfirmedPrices(List<ConfirmedPriceDrift> drifts);
+
+    // 포트폴리오별로 저장된 평점 통계와 review_tb 기준 실제 통계를 한 번에 조회
+    List<ReviewStarsDrift> findReviewStarsStats();
+
+    int batchUpdateReviewStars(List<ReviewStarsDrift> drifts);
+
+    // 플래너의 매칭 (status, confirmed_price) 를 한 행씩 statistics 에 누적 (Match 엔티티를 만들지 않음)
+    PriceStatistics accumulateConfirmedPrices(Long plannerId, PriceStatistics statistics);
+
+    // 지역에 포트폴리오가 있는 플래너들의 매칭을 같은 방식으로 누적 (지역 스케치 재생성용)
+    PriceStatistics accumulateLocationConfirmedPrices(String location, PriceStatistics statistics);
+
+    // 플래너의 최근 확정 매칭 limit 건과 견적서를 한 번에 조회 (확정일 내림차순, 매칭 안에서는 견적서 id 순)
+    List<PaymentHistoryRow> findLatestPayments(Long plannerId, int limit);
+}
@@ -0,0 +1,188 @@
+package com.kakao.sunsuwedding.portfolio.stats;
+
+import com.kakao.sunsuwedding._core.utils.PriceStatistics;
+import com.kakao.sunsuwedding.match.MatchStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Arrays;
+import java.util.List;
+
+@Repository
+public class PortfolioStatsJDBCRepositoryImpl implements PortfolioStatsJDBCRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final static String TABLE = "portfolio_tb";
+
+    @Autowired
+    public PortfolioStatsJDBCRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<ConfirmedPriceDrift> findConfirmedPriceStats() {
+        String sql = String.format("""
+                SELECT p.id, p.planner_id,
+                       p.contract_count, p.price_sum, p.avg_price, p.min_price, p.max_price,
+                       COALESCE(m.cnt, 0) AS actual_count, COALESCE(m.total, 0) AS actual_sum,
+                       COALESCE(m.min_price, 0) AS actual_min, COALESCE(m.max_price, 0) AS actual_max
+                FROM %s p
+                LEFT JOIN (
+                    SELECT planner_id, COUNT(*) AS cnt, SUM(confirmed_price) AS total,
+                           MIN(confirmed_price) AS min_price, MAX(confirmed_price) AS max_price
+                    FROM match_tb
+                    WHERE status = 'CONFIRMED' AND is_active = true
+                    GROUP BY planner_id
+                ) m ON m.planner_id = p.planner_id
+                WHERE p.is_active = true
+                """, TABLE);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ConfirmedPriceDrift(
+                rs.getLong("id"),
+                rs.getLong("planner_id"),
+                new ConfirmedPriceStats(
+                        rs.getLong("contract_count"),
+                        rs.getLong("price_sum"),
+                        rs.getLong("avg_price"),
+                        rs.getLong("min_price"),
+                        rs.getLong("max_price")),
+                ConfirmedPriceStats.of(
+                        rs.getLong("actual_count"),
+                        rs.getLong("actual_sum"),
+                        rs.getLong("actual_min"),
+                        rs.getLong("actual_max"))
+        ));
+    }
+
+    public int batchUpdateConfirmedPrices(List<ConfirmedPriceDrift> drifts) {
+        // 조회 후 다른 확정이 누적됐다면 건너뛰고 다음 보정 때 처리
+        String sql = String.format("""
+                UPDATE %s
+                SET contract_count = ?, price_sum = ?, avg_price = ?, min_price = ?, max_price = ?
+                WHERE id = ? AND COALESCE(contract_count, 0) = ? AND COALESCE(price_sum, 0) = ?
+                """, TABLE);
+
+        int[][] results = jdbcTemplate.batchUpdate(sql, drifts, drifts.size(),
+                (ps, drift) -> {
+                    ps.setLong(1, drift.actual().count());
+                    ps.setLong(2, drift.actual().sum());
+                    ps.setLong(3, drift.actual().avg());
+                    ps.setLong(4, drift.actual().min());
+                    ps.setLong(5, drift.actual().max());
+                    ps.setLong(6, drift.portfolioId());
+                    ps.setLong(7, drift.stored().count());
+                    ps.setLong(8, drift.stored().sum());
+                });
+
+        return sumUpdateCounts(results);
+    }
+
+    public List<ReviewStarsDrift> findReviewStarsStats() {
+        String sql = String.format("""
+                SELECT p.id, p.planner_id, p.review_count, p.stars_sum, p.avg_stars,
+                       COALESCE(r.cnt, 0) AS actual_count, COALESCE(r.total, 0) AS actual_sum
+                FROM %s p
+                LEFT JOIN (
+                    SELECT m.planner_id, COUNT(*) AS cnt, SUM(rv.stars) AS total
+                    FROM review_tb rv
+                    JOIN match_tb m ON m.id = rv.match_id
+                    WHERE rv.is_active = true
+                    GROUP BY m.planner_id
+                ) r ON r.planner_id = p.planner_id
+                WHERE p.is_active = true
+                """, TABLE);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ReviewStarsDrift(
+                rs.getLong("id"),
+                rs.getLong("planner_id"),
+                new ReviewStarsStats(
+                        rs.getLong("review_count"),
+                        rs.getLong("stars_sum"),
+                        rs.getDouble("avg_stars")),
+                ReviewStarsStats.of(
+                        rs.getLong("actual_count"),
+                        rs.getLong("actual_sum"))
+        ));
+    }
+
+    public int batchUpdateReviewStars(List<ReviewStarsDrift> drifts) {
+        String sql = String.format("""
+                UPDATE %s
+                SET review_count = ?, stars_sum = ?, avg_stars = ?
+                WHERE id = ? AND COALESCE(review_count, 0) = ? AND COALESCE(stars_sum, 0) = ?
+                """, TABLE);
+
+        int[][] results = jdbcTemplate.batchUpdate(sql, drifts, drifts.size(),
+                (ps, drift) -> {
+                    ps.setLong(1, drift.actual().count());
+                    ps.setLong(2, drift.actual().sum());
+                    ps.setDouble(3, drift.actual().avg());
+                    ps.setLong(4, drift.portfolioId());
+                    ps.setLong(5, drift.stored().count());
+                    ps.setLong(6, drift.stored().sum());
+                });
+
+        return sumUpdateCounts(results);
+    }
+
+    public PriceStatistics accumulateConfirmedPrices(Long plannerId, PriceStatistics statistics) {
+        String sql = """
+                SELECT status, confirmed_price
+                FROM match_tb
+                WHERE planner_id = ? AND is_active = true
+                """;
+        String confirmed = MatchStatus.CONFIRMED.name();
+
+        jdbcTemplate.query(sql, rs -> {
+            statistics.accept(confirmed.equals(rs.getString(1)), rs.getLong(2));
+        }, plannerId);
+        return statistics;
+    }
+
+    public PriceStatistics accumulateLocationConfirmedPrices(String location, PriceStatistics statistics) {
+        String sql = String.format("""
+                SELECT m.status, m.confirmed_price
+                FROM %s p
+                JOIN match_tb m ON m.planner_id = p.planner_id
+                WHERE p.location = ? AND p.is_active = true AND m.is_active = true
+                """, TABLE);
+        String confirmed = MatchStatus.CONFIRMED.name();
+
+        jdbcTemplate.query(sql, rs -> {
+            statistics.accept(confirmed.equals(rs.getString(1)), rs.getLong(2));
+        }, location);
+        return statistics;
+    }
+
+    public List<PaymentHistoryRow> findLatestPayments(Long plannerId, int limit) {
+        // 매칭에 LIMIT 을 먼저 건 뒤 견적서를 붙여야 견적서 수와 상관없이 매칭 limit 건이 나옴
+        String sql = """
+                SELECT m.id AS match_id, m.confirmed_price, m.confirmed_at,
+                       q.id AS quotation_id, q.title, q.price, q.company, q.description
+                FROM (
+                    SELECT id, confirmed_price, confirmed_at
+                    FROM match_tb
+                    WHERE planner_id = ? AND is_active = true AND confirmed_at IS NOT NULL
+                    ORDER BY confirmed_at DESC, id DESC
+                    LIMIT ?
+                ) m
+                LEFT JOIN quotation_tb q ON q.match_id = m.id
+                ORDER BY m.confirmed_at DESC, m.id DESC, q.id
+                """;
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new PaymentHistoryRow(
+                rs.getLong("match_id"),
+                rs.getLong("confirmed_price"),
+                rs.getTimestamp("confirmed_at").toLocalDateTime(),
+                rs.getObject("quotation_id", Long.class),
+                rs.getString("title"),
+                rs.getObject("price", Long.class),
+                rs.getString("company"),
+                rs.getString("description")
+        ), plannerId, limit);
+    }
+
+    private static int sumUpdateCounts(int[][] results) {
+        return Arrays.stream(results).flatMapToInt(Arrays::stream).map(count -> Math.max(count, 0)).sum();
+    }
+}
@@ -0,0 +1,71 @@
+package com.kakao.sunsuwedding.portfolio.stats;
+
+import com.kakao.sunsuwedding.portfolio.PortfolioChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 증분으로 관리하는 포트폴리오 통계를 원본 테이블 기준으로 다시 계산해서 어긋난 값을 보고하고 바로잡음
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PortfolioStatsReconciler {
+
+    private final PortfolioStatsJDBCRepository portfolioStatsJDBCRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
+
+    @Scheduled(cron = "${portfolio.stats.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public int reconcileConfirmedPrices() {
+        List<ConfirmedPriceDrift> drifts = portfolioStatsJDBCRepository.findConfirmedPriceStats()
+                .stream()
+                .filter(ConfirmedPriceDrift::hasDrift)
+                .toList();
+
+        if (drifts.isEmpty()) {
+            log.info("포트폴리오 확정 거래 통계 보정: 어긋난 포트폴리오 없음");
+            return 0;
+        }
+
+        drifts.forEach(drift -> log.warn("포트폴리오 확정 거래 통계 불일치 portfolioId={} plannerId={} stored={} actual={}",
+                drift.portfolioId(), drift.plannerId(), drift.stored(), drift.actual()));
+        meterRegistry.counter("portfolio.stats.drift", "stat", "confirmed_price").increment(drifts.size());
+
+        int fixed = portfolioStatsJDBCRepository.batchUpdateConfirmedPrices(drifts);
+        drifts.forEach(drift -> eventPublisher.publishEvent(new PortfolioChangedEvent(drift.portfolioId())));
+
+        log.info("포트폴리오 확정 거래 통계 보정: 불일치 {}건 중 {}건 수정", drifts.size(), fixed);
+        return fixed;
+    }
+
+    @Scheduled(cron = "${portfolio.stats.reconcile-cron:0 0 4 * * *}")
+    @Transactional
+    public int reconcileReviewStars() {
+        List<ReviewStarsDrift> drifts = portfolioStatsJDBCRepository.findReviewStarsStats()
+                .stream()
+                .filter(ReviewStarsDrift::hasDrift)
+                .toList();
+
+        if (drifts.isEmpty()) {
+            log.info("포트폴리오 평점 통계 보정: 어긋난 포트폴리오 없음");
+            return 0;
+        }
+
+        drifts.forEach(drift -> log.warn("포트폴리오 평점 통계 불일치 portfolioId={} plannerId={} stored={} actual={}",
+                drift.portfolioId(), drift.plannerId(), drift.stored(), drift.actual()));
+        meterRegistry.counter("portfolio.stats.drift", "stat", "review_stars").increment(drifts.size());
+
+        int fixed = portfolioStatsJDBCRepository.batchUpdateReviewStars(drifts);
+        drifts.forEach(drift -> eventPublisher.publishEvent(new PortfolioChangedEvent(drift.portfolioId())));
+
+        log.info("포트폴리오 평점 통계 보정: 불일치 {}건 중 {}건 수정", drifts.size(), fixed);
+        return fixed;
+    }
+}
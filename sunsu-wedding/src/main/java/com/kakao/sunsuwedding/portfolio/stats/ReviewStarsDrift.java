@@ -0,0 +1,16 @@
+package com.kakao.sunsuwedding.portfolio.stats;
+
+// 포트폴리오에 저장된 평점 통계(stored)와 review_tb 에서 다시 계산한 통계(actual)
+public record ReviewStarsDrift(
+        Long portfolioId,
+        Long plannerId,
+        ReviewStarsStats stored,
+        ReviewStarsStats actual
+) {
+    // 평균은 DB 의 ROUND 와 반올림 결과가 조금 다를 수 있어서 소수점 둘째 자리까지만 비교
+    public boolean hasDrift() {
+        return stored.count() != actual.count()
+                || stored.sum() != actual.sum()
+                || Math.abs(stored.avg() - actual.avg()) >= 0.01;
+    }
+}
@@ -0,0 +1,12 @@
+package com.kakao.sunsuwedding.portfolio.stats;
+
+// 리뷰 평점 통계 (리뷰 수, 평점 합계, 평균 평점)
+public record ReviewStarsStats(
+        long count,
+        long sum,
+        double avg
+) {
+    public static ReviewStarsStats of(long count, long sum) {
+        return new ReviewStarsStats(count, sum, count == 0 ? 0.0 : Math.round(sum * 100.0 / count) / 100.0);
+    }
+}
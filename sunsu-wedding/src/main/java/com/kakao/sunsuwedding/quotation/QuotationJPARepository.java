@@ -1,12 +1,10 @@
 package com.kakao.sunsuwedding.quotation;
 
 import com.kakao.sunsuwedding.match.Match;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -14,10 +12,8 @@ public interface QuotationJPARepository extends JpaRepository<Quotation, Long> {
     @EntityGraph("QuotationWithMatch")
     List<Quotation> findAllByMatch(Match match);
 
-    @Query("select q from Quotation q where q.match.id in :matchIds")
-    List<Quotation> findAllByMatchIds(@Param("matchIds") List<Long> MatchIds);
+    // 목록에 전체 개수가 필요 없으므로 Slice 로 받아 count 쿼리 생략
+    Slice<Quotation> findAllByMatchCoupleIdOrderByModifiedAtDesc(Long coupleId, Pageable pageable);
 
-    Page<Quotation> findAllByMatchCoupleIdOrderByModifiedAtDesc(Long coupleId, Pageable pageable);
-
-    Page<Quotation> findAllByMatchPlannerIdOrderByModifiedAtDesc(Long plannerId, Pageable pageable);
+    Slice<Quotation> findAllByMatchPlannerIdOrderByModifiedAtDesc(Long plannerId, Pageable pageable);
 }
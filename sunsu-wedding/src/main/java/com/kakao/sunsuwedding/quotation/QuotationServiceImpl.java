@@ -11,9 +11,9 @@ import com.kakao.sunsuwedding.match.MatchStatus;
 import com.kakao.sunsuwedding.user.base_user.User;
 import com.kakao.sunsuwedding.user.constant.Role;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -72,7 +72,7 @@ public class QuotationServiceImpl implements QuotationService {
     public QuotationResponse.FindByUserDTO findQuotationsByUser(User user, int page) {
         Pageable pageable = PageRequest.of(page, QUOTATION_PAGE_SIZE);
 
-        Page<Quotation> pageContent = findQuotationsByUser(user.getDtype(), user.getId(), pageable);
+        Slice<Quotation> pageContent = findQuotationsByUser(user.getDtype(), user.getId(), pageable);
         List<Quotation> quotations = pageContent.getContent();
 
         Map<Long, List<Quotation>> quotationsByChatId = quotations.stream().collect(
@@ -170,7 +170,7 @@ public class QuotationServiceImpl implements QuotationService {
         return quotation;
     }
 
-    private Page<Quotation> findQuotationsByUser(String role, Long id, Pageable pageable) {
+    private Slice<Quotation> findQuotationsByUser(String role, Long id, Pageable pageable) {
         return role.equals(Role.PLANNER.getRoleName()) ?
                 quotationJPARepository.findAllByMatchPlannerIdOrderByModifiedAtDesc(id, pageable) :
                 quotationJPARepository.findAllByMatchCoupleIdOrderByModifiedAtDesc(id, pageable);
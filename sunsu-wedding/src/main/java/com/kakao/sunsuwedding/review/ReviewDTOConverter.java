@@ -4,20 +4,20 @@ import com.kakao.sunsuwedding.review.image.ReviewImageItem;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Component
 public class ReviewDTOConverter {
     public ReviewResponse.FindAllByPlannerDTO getFindAllByPlannerDTO(List<Review> reviews, List<ReviewImageItem> reviewImageItems) {
+        Map<Long, List<String>> imagesByReviewId = groupImagesByReviewId(reviewImageItems);
         List<ReviewResponse.FindByUserDTO> reviewDTOS = reviews.stream()
                 .map(review -> new ReviewResponse.FindByUserDTO(
                         review.id,
                         (review.getMatch().getCouple() != null) ? review.getMatch().getCouple().getUsername() : "탈퇴한 사용자" ,
                         review.stars,
                         review.content,
-                        reviewImageItems.stream()
-                                .filter(reviewImageItem -> reviewImageItem.getReview().getId().equals(review.id))
-                                .map(ReviewImageItem::getImage)
-                                .toList()
+                        imagesByReviewId.getOrDefault(review.id, List.of())
                 ))
                 .toList();
 
@@ -25,19 +25,26 @@ public class ReviewDTOConverter {
     }
 
     public ReviewResponse.FindAllByCoupleDTO getFindAllByCoupleDTO(List<Review> reviews, List<ReviewImageItem> reviewImageItems) {
+        Map<Long, List<String>> imagesByReviewId = groupImagesByReviewId(reviewImageItems);
         List<ReviewResponse.FindByPlannerDTO> reviewDTOS = reviews.stream()
                 .map(review -> new ReviewResponse.FindByPlannerDTO(
                         review.id,
                         (review.getMatch().getPlanner() != null) ? review.getMatch().getPlanner().getUsername() : "탈퇴한 사용자" ,
                         review.stars,
                         review.content,
-                        reviewImageItems.stream()
-                                .filter(reviewImageItem -> reviewImageItem.getReview().getId().equals(review.id))
-                                .map(ReviewImageItem::getImage)
-                                .toList()
+                        imagesByReviewId.getOrDefault(review.id, List.of())
                 ))
                 .toList();
 
         return new ReviewResponse.FindAllByCoupleDTO(reviewDTOS);
     }
-}
\ No newline at end of file
+
+    // 리뷰마다 전체 이미지를 훑지 않도록 리뷰 id 별로 한 번에 묶어 둠 (조회 순서 유지)
+    private static Map<Long, List<String>> groupImagesByReviewId(List<ReviewImageItem> reviewImageItems) {
+        return reviewImageItems.stream()
+                .collect(Collectors.groupingBy(
+                        reviewImageItem -> reviewImageItem.getReview().getId(),
+                        Collectors.mapping(ReviewImageItem::getImageUrl, Collectors.toList())
+                ));
+    }
+}
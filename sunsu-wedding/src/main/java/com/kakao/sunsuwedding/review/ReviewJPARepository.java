@@ -1,8 +1,8 @@
 package com.kakao.sunsuwedding.review;
 
 import com.kakao.sunsuwedding.user.planner.Planner;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,7 +14,8 @@ public interface ReviewJPARepository extends JpaRepository<Review, Long> {
     List<Review> findAllByMatchCoupleId(@Param("coupleId")Long coupleId);
 
     @Query("select r from Review r join fetch r.match m join fetch m.planner p join fetch m.couple where p.id = :plannerId")
-    Page<Review> findAllByMatchPlannerId(@Param("plannerId")Long plannerId, Pageable pageable);
+    // 목록에 전체 개수가 필요 없으므로 Slice 로 받아 count 쿼리 생략
+    Slice<Review> findAllByMatchPlannerId(@Param("plannerId")Long plannerId, Pageable pageable);
 
     List<Review> findAllByMatchPlanner(Planner planner);
 }
@@ -4,6 +4,7 @@ import com.kakao.sunsuwedding._core.errors.BaseException;
 import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
 import com.kakao.sunsuwedding._core.errors.exception.ForbiddenException;
 import com.kakao.sunsuwedding._core.errors.exception.NotFoundException;
+import com.kakao.sunsuwedding._core.storage.BlobStorage;
 import com.kakao.sunsuwedding.match.Match;
 import com.kakao.sunsuwedding.match.MatchJPARepository;
 import com.kakao.sunsuwedding.match.MatchStatus;
@@ -16,9 +17,9 @@ import com.kakao.sunsuwedding.review.image.ReviewImageItemJPARepository;
 import com.kakao.sunsuwedding.review.image.ReviewImageItemService;
 import com.kakao.sunsuwedding.user.base_user.User;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -61,16 +62,16 @@ public class ReviewServiceImpl implements ReviewService {
         // 첫 리뷰라면 리뷰 작성 여부 업데이트
         updateReviewStatus(match);
 
-        // 평균 평점 수정
-        portfolioServiceImpl.updateAvgStars(match.getPlanner());
-
         // 리뷰 이미지 저장
         reviewImageItemService.uploadImage(request.images(),review);
+
+        // 평균 평점 수정
+        portfolioServiceImpl.addReviewStars(match.getPlanner(), (long) review.getStars(), 1L);
     }
 
     public ReviewResponse.FindAllByPlannerDTO findReviewsByPlanner(int page, Long plannerId) {
         Pageable pageable = PageRequest.of(page, PAGE_SIZE);
-        Page<Review> pageContent = reviewJPARepository.findAllByMatchPlannerId(plannerId, pageable);
+        Slice<Review> pageContent = reviewJPARepository.findAllByMatchPlannerId(plannerId, pageable);
 
         List<Review> reviews = pageContent.getContent();
         List<Long> reviewIds = reviews.stream().map(Review::getId).toList();
@@ -98,7 +99,10 @@ public class ReviewServiceImpl implements ReviewService {
         Optional<Portfolio> portfolio = portfolioJPARepository.findByPlanner(review.getMatch().getPlanner());
         Long portfolioId = portfolio.isPresent() ? portfolio.get().getId() : -1L;
 
-        List<String> images = reviewImageItemJPARepository.findByReviewId(reviewId);
+        List<String> images = reviewImageItemJPARepository.findByReviewId(reviewId)
+                .stream()
+                .map(BlobStorage::toUrl)
+                .toList();
 
         return new ReviewResponse.ReviewDTO(review.getId(), portfolioId, plannerName, coupleName, review.stars, review.getContent(), images);
     }
@@ -109,15 +113,16 @@ public class ReviewServiceImpl implements ReviewService {
 
         permissionCheck(user.getId(), review.getMatch());
 
+        // 수정 전 평점과의 차이만 평균 평점에 반영
+        Integer previousStars = review.getStars();
         review.updateReview(request);
-
-        // 평균 평점 수정
-        portfolioServiceImpl.updateAvgStars(review.getMatch().getPlanner());
-
         reviewJPARepository.save(review);
 
         // 리뷰 이미지 수정
         reviewImageItemService.updateImage(request.images(), review);
+
+        // 평균 평점 수정
+        portfolioServiceImpl.addReviewStars(review.getMatch().getPlanner(), (long) (review.getStars() - previousStars), 0L);
     }
 
     @Transactional
@@ -129,13 +134,13 @@ public class ReviewServiceImpl implements ReviewService {
 
         reviewJPARepository.delete(review);
 
-        // 평균 평점 수정
-        portfolioServiceImpl.updateAvgStars(review.getMatch().getPlanner());
-
         // ReviewStatus UNWRITTEN으로 변경
         updateReviewStatus(match);
 
-        reviewImageItemJPARepository.deleteAllByReviewId(reviewId);
+        reviewImageItemService.deleteImage(reviewId);
+
+        // 평균 평점 수정
+        portfolioServiceImpl.addReviewStars(match.getPlanner(), (long) -review.getStars(), -1L);
     }
 
     private Match findMatchByChatId(Long chatId) {
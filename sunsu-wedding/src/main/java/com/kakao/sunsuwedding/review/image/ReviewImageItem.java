@@ -1,5 +1,6 @@
 package com.kakao.sunsuwedding.review.image;
 
+import com.kakao.sunsuwedding._core.storage.BlobStorage;
 import com.kakao.sunsuwedding.review.Review;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -23,18 +24,22 @@ public class ReviewImageItem {
     @ManyToOne(fetch = FetchType.LAZY)
     private Review review;
 
-    @Lob
-    private String image;
+    // 이미지 바이트는 BlobStorage 에 저장하고 SHA-256 키만 보관
+    @Column(name = "image_key", length = 64)
+    private String imageKey;
 
     @Column(nullable = false)
     private Boolean thumbnail;
 
     @Builder
-    public ReviewImageItem(Long id, Review review, String image, Boolean thumbnail) {
+    public ReviewImageItem(Long id, Review review, String imageKey, Boolean thumbnail) {
         this.id = id;
         this.review = review;
-        this.image = image;
+        this.imageKey = imageKey;
         this.thumbnail = thumbnail;
     }
-}
 
+    public String getImageUrl() {
+        return BlobStorage.toUrl(imageKey);
+    }
+}
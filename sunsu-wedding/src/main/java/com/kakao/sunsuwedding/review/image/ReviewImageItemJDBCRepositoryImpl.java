@@ -17,12 +17,12 @@ public class ReviewImageItemJDBCRepositoryImpl implements ReviewImageItemJDBCRep
     }
 
     public void batchInsertImageItems(List<ReviewImageItem> reviewImageItems) {
-        String sql = "INSERT INTO review_image_item_tb (review_id, image, thumbnail) VALUES (?, ?, ?)";
+        String sql = "INSERT INTO review_image_item_tb (review_id, image_key, thumbnail) VALUES (?, ?, ?)";
 
         jdbcTemplate.batchUpdate(sql, reviewImageItems, reviewImageItems.size(),
                 (ps, imageItem) -> {
                     ps.setLong(1, imageItem.getReview().getId());
-                    ps.setString(2, imageItem.getImage());
+                    ps.setString(2, imageItem.getImageKey());
                     ps.setBoolean(3, imageItem.getThumbnail());
                 });
 
@@ -16,6 +16,6 @@ public interface ReviewImageItemJPARepository extends JpaRepository<ReviewImageI
     @Query("select ri from ReviewImageItem ri join fetch ri.review r where r.id in :reviewIds")
     List<ReviewImageItem> findAllByReviewIds(@Param("reviewIds") List<Long> reviewIds);
 
-    @Query("select r.image from ReviewImageItem r where r.review.id = :reviewId")
+    @Query("select r.imageKey from ReviewImageItem r where r.review.id = :reviewId")
     List<String> findByReviewId(@Param("reviewId") Long reviewId);
 }
@@ -2,16 +2,22 @@ package com.kakao.sunsuwedding.review.image;
 
 import com.kakao.sunsuwedding._core.errors.BaseException;
 import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
+import com.kakao.sunsuwedding._core.storage.BlobStorage;
+import com.kakao.sunsuwedding._core.storage.BlobsReleasedEvent;
+import com.kakao.sunsuwedding._core.storage.BlobsStoredEvent;
 import com.kakao.sunsuwedding.portfolio.image.PortfolioImageItem;
 import com.kakao.sunsuwedding.review.Review;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +27,8 @@ public class ReviewImageItemService {
 
     private final ReviewImageItemJPARepository reviewImageItemJPARepository;
     private final ReviewImageItemJDBCRepository reviewImageItemJDBCRepository;
+    private final BlobStorage blobStorage;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void uploadImage(List<String> imageItems, Review review) {
@@ -35,19 +43,46 @@ public class ReviewImageItemService {
         storeImagesInDatabase(imageItems, review);
     }
 
+    @Transactional
+    public void deleteImage(Long reviewId) {
+        clearImagesInDatabase(reviewId);
+    }
+
+    // 이미지 행을 지우기 전에 blob 키를 모아두고, 커밋 후 다른 곳에서 참조하지 않는 blob 만 정리
     private void clearImagesInDatabase(Long reviewId) {
+        List<String> imageKeys = reviewImageItemJPARepository.findByReviewId(reviewId)
+                .stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
         reviewImageItemJPARepository.deleteAllByReviewId(reviewId);
+
+        if (!imageKeys.isEmpty()) {
+            eventPublisher.publishEvent(new BlobsReleasedEvent(imageKeys));
+        }
     }
 
     private void storeImagesInDatabase(List<String> imageItems, Review review) {
         List<ReviewImageItem> reviewImageItems = new ArrayList<>();
-        for (String imageItem : imageItems) {
-            ReviewImageItem reviewImageItem = ReviewImageItem.builder()
-                    .review(review)
-                    .image(imageItem)
-                    .thumbnail(imageItem.equals(imageItems.get(0)))
-                    .build();
-            reviewImageItems.add(reviewImageItem);
+        List<String> storedKeys = new ArrayList<>();
+        try {
+            for (String imageItem : imageItems) {
+                String imageKey = blobStorage.storeBase64(imageItem);
+                storedKeys.add(imageKey);
+
+                ReviewImageItem reviewImageItem = ReviewImageItem.builder()
+                        .review(review)
+                        .imageKey(imageKey)
+                        .thumbnail(imageItem.equals(imageItems.get(0)))
+                        .build();
+                reviewImageItems.add(reviewImageItem);
+            }
+        }
+        finally {
+            // 트랜잭션이 롤백되면 방금 저장한 blob 을 정리
+            if (!storedKeys.isEmpty()) {
+                eventPublisher.publishEvent(new BlobsStoredEvent(storedKeys, Instant.now()));
+            }
         }
         reviewImageItemJDBCRepository.batchInsertImageItems(reviewImageItems);
     }
@@ -40,7 +40,7 @@ public class UserRestController {
 
     @PostMapping("/token")
     public ResponseEntity<?> refresh(@AuthenticationPrincipal CustomUserDetails userDetails) {
-        TokenDTO tokens = tokenServiceImpl.refreshAllTokens(userDetails.getUser());
+        TokenDTO tokens = tokenServiceImpl.refreshAllTokens(userDetails.getUser(), userDetails.getTokenFamilyId());
         return ResponseEntity
                 .ok()
                 .header(jwtProvider.AUTHORIZATION_HEADER, tokens.accessToken())
@@ -3,23 +3,24 @@ package com.kakao.sunsuwedding.user;
 import com.kakao.sunsuwedding._core.errors.BaseException;
 import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
 import com.kakao.sunsuwedding._core.errors.exception.NotFoundException;
-import com.kakao.sunsuwedding._core.security.JWTProvider;
+import com.kakao.sunsuwedding._core.security.PasswordHasher;
 import com.kakao.sunsuwedding._core.utils.UserDataChecker;
+import com.kakao.sunsuwedding.portfolio.PortfolioChangedEvent;
+import com.kakao.sunsuwedding.portfolio.PortfolioJPARepository;
 import com.kakao.sunsuwedding.user.base_user.User;
 import com.kakao.sunsuwedding.user.base_user.UserJPARepository;
 import com.kakao.sunsuwedding.user.constant.Role;
 import com.kakao.sunsuwedding.user.couple.CoupleJPARepository;
-import com.kakao.sunsuwedding.user.email.EmailCode;
-import com.kakao.sunsuwedding.user.email.EmailCodeJPARepository;
+import com.kakao.sunsuwedding.user.email.EmailCodeStore;
 import com.kakao.sunsuwedding.user.planner.PlannerJPARepository;
-import com.kakao.sunsuwedding.user.token.Token;
 import com.kakao.sunsuwedding.user.token.TokenDTO;
-import com.kakao.sunsuwedding.user.token.TokenJPARepository;
+import com.kakao.sunsuwedding.user.token.TokenServiceImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.util.Pair;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -27,14 +28,15 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class UserServiceImpl implements UserService {
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final UserJPARepository userJPARepository;
     private final CoupleJPARepository coupleJPARepository;
     private final PlannerJPARepository plannerJPARepository;
-    private final TokenJPARepository tokenJPARepository;
-    private final EmailCodeJPARepository emailCodeJPARepository;
-    private final JWTProvider jwtProvider;
+    private final TokenServiceImpl tokenServiceImpl;
+    private final EmailCodeStore emailCodeStore;
     private final UserDataChecker userDataChecker;
+    private final PortfolioJPARepository portfolioJPARepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UserResponse.FindUserId signup(UserRequest.SignUpDTO requestDTO) {
@@ -44,7 +46,7 @@ public class UserServiceImpl implements UserService {
         userDataChecker.checkEmailAuthenticated(requestDTO);
 
         Role role = Role.valueOfRole(requestDTO.role());
-        String encodedPassword = passwordEncoder.encode(requestDTO.password());
+        String encodedPassword = passwordHasher.encode(requestDTO.password());
         User user;
         if (role == Role.COUPLE) {
             user = coupleJPARepository.save(requestDTO.toCoupleEntity(encodedPassword));
@@ -56,21 +58,19 @@ public class UserServiceImpl implements UserService {
         return new UserResponse.FindUserId(user.getId());
     }
 
-    @Transactional
+    // bcrypt 검증은 수십~수백 ms 동안 CPU 를 쓰므로 DB 커넥션을 잡지 않도록 트랜잭션 밖에서 처리
+    // 조회, 재해싱, 토큰 저장은 각각 짧은 트랜잭션으로 실행됨
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Pair<TokenDTO, UserResponse.FindUserId> login(UserRequest.LoginDTO requestDTO) {
 
         User user = findUserByRequest(requestDTO);
         userDataChecker.verifyPassword(requestDTO, user);
+        rehashPasswordIfNeeded(user, requestDTO.password());
 
-        Token token = findTokenByUser(user);
-
-        String accessToken = jwtProvider.createAccessToken(user);
-        String refreshToken = jwtProvider.createRefreshToken(user);
-        token.update(accessToken, refreshToken);
-
-        tokenJPARepository.save(token);
+        // 기기마다 따로 로그인 상태를 유지하도록 로그인할 때마다 새 family 로 발급
+        TokenDTO tokens = tokenServiceImpl.issueTokens(user);
         return Pair.of(
-                new TokenDTO(token.getAccessToken(), token.getRefreshToken()),
+                tokens,
                 new UserResponse.FindUserId(user.getId()));
     }
 
@@ -84,13 +84,25 @@ public class UserServiceImpl implements UserService {
     public void withdraw(User user) {
         User user1 = findUserById(user.getId());
 
-        // 탈퇴 시 이메일 인증 정보 삭제
-        EmailCode emailCode = findEmailCodeByUser(user1);
-        emailCodeJPARepository.delete(emailCode);
+        // 탈퇴 시 이메일 인증 정보 삭제 (이미 만료되어 지워졌을 수 있음)
+        emailCodeStore.delete(user1.getEmail());
+
+        // 모든 기기의 토큰과 family 삭제
+        tokenServiceImpl.revokeAllTokens(user1.getId());
+
+        // 플래너가 탈퇴하면 캐시된 포트폴리오 상세도 더 이상 보여주지 않음
+        portfolioJPARepository.findByPlannerId(user1.getId())
+                .ifPresent(portfolio -> eventPublisher.publishEvent(new PortfolioChangedEvent(portfolio.getId())));
 
         userJPARepository.deleteById(user.getId());
     }
 
+    private void rehashPasswordIfNeeded(User user, String rawPassword) {
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            userJPARepository.updatePassword(user.getId(), passwordHasher.encode(rawPassword));
+        }
+    }
+
     private User findUserById(Long userId){
         return userJPARepository.findById(userId).orElseThrow(
                 () -> new NotFoundException(BaseException.USER_NOT_FOUND)
@@ -102,14 +114,4 @@ public class UserServiceImpl implements UserService {
                 () -> new BadRequestException(BaseException.USER_EMAIL_NOT_FOUND)
         );
     }
-
-    private Token findTokenByUser(User user) {
-        return tokenJPARepository.findByUserId(user.getId())
-                .orElseGet(() -> Token.builder().user(user).build());
-    }
-
-    private EmailCode findEmailCodeByUser(User user) {
-        return emailCodeJPARepository.findByEmail(user.getEmail())
-                .orElseThrow(() -> new NotFoundException(BaseException.USER_EMAIL_NOT_FOUND));
-    }
 }
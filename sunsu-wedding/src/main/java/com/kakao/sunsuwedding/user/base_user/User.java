@@ -6,8 +6,10 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.Where;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
 
@@ -19,7 +21,8 @@ import java.time.LocalDateTime;
                 @UniqueConstraint(columnNames = {"id", "email", "is_active"})
         },
         indexes = {
-                @Index(name = "email_index", columnList = "email")
+                @Index(name = "email_index", columnList = "email"),
+                @Index(name = "username_index", columnList = "username")
         })
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 @DiscriminatorColumn(name = "dtype")
@@ -45,6 +48,7 @@ public class User {
 
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
     private Grade grade;
 
     @Column(name = "upgrade_at")
@@ -1,8 +1,10 @@
 package com.kakao.sunsuwedding.user.base_user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -14,4 +16,10 @@ public interface UserJPARepository extends JpaRepository<User, Long> {
 
     // where is_active = true가 적용됨
     Optional<User> findByEmail(String email);
+
+    // 로그인 시 bcrypt cost 가 바뀐 비밀번호를 다시 해싱해서 저장
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    void updatePassword(@Param("id") Long id, @Param("password") String password);
 }
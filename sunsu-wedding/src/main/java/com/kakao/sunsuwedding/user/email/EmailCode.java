@@ -2,22 +2,22 @@ package com.kakao.sunsuwedding.user.email;
 
 import jakarta.persistence.*;
 import lombok.AccessLevel;
-import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
-import org.hibernate.annotations.SQLDelete;
-import org.hibernate.annotations.Where;
 
 import java.time.LocalDateTime;
 
+// email_code_tb 테이블 정의 (읽기/쓰기는 JdbcEmailCodeStore 에서 처리)
+// 이메일당 한 행만 두고, 만료된 행은 is_active 로 숨기지 않고 바로 삭제함
 @Entity
 @Table(
         name="email_code_tb",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_email_code_email", columnNames = "email")
+        },
         indexes = {
-                @Index(name = "user_email_index", columnList = "email")
+                @Index(name = "email_code_expires_at_index", columnList = "expires_at")
         })
-@SQLDelete(sql = "UPDATE email_code_tb SET is_active = false WHERE id = ?")
-@Where(clause = "is_active = true")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EmailCode {
@@ -37,32 +37,6 @@ public class EmailCode {
     @Column(name = "created_at", nullable = false)
     LocalDateTime createdAt;
 
-    @Column(name = "is_active", nullable = false)
-    Boolean isActive;
-
-    @Builder
-    public EmailCode(Long id, String email, String code, Boolean confirmed, LocalDateTime createdAt) {
-        this.id = id;
-        this.email = email;
-        this.code = code;
-        this.confirmed = confirmed;
-        this.createdAt = (createdAt == null? LocalDateTime.now() : createdAt);
-        this.isActive = true;
-    }
-
-    public void setEmail(String email) {
-        this.email = email;
-    }
-
-    public void setCode(String code) {
-        this.code = code;
-    }
-
-    public void setConfirmed(Boolean confirmed) {
-        this.confirmed = confirmed;
-    }
-
-    public void setCreatedAt(LocalDateTime createdAt) {
-        this.createdAt = createdAt;
-    }
+    @Column(name = "expires_at", nullable = false)
+    LocalDateTime expiresAt;
 }
@@ -0,0 +1,25 @@
+package com.kakao.sunsuwedding.user.email;
+
+import java.time.LocalDateTime;
+
+// 이메일 하나당 하나만 유지되는 인증 코드 (expiresAt 이 지나면 EmailCodeStore 에서 물리적으로 지워짐)
+public record EmailCodeEntry(
+        String email,
+        String code,
+        boolean confirmed,
+        LocalDateTime createdAt,
+        LocalDateTime expiresAt
+) {
+    public static EmailCodeEntry issue(String email, String code, LocalDateTime now, LocalDateTime expiresAt) {
+        return new EmailCodeEntry(email, code, false, now, expiresAt);
+    }
+
+    // 인증이 끝난 이메일은 회원가입할 때까지 expiresAt 동안 유지
+    public EmailCodeEntry confirm(LocalDateTime expiresAt) {
+        return new EmailCodeEntry(email, code, true, createdAt, expiresAt);
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !now.isBefore(expiresAt);
+    }
+}
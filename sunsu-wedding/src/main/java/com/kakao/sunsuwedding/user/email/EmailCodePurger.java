@@ -0,0 +1,26 @@
+package com.kakao.sunsuwedding.user.email;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 만료된 인증 코드와 다 채워진 rate limit 버킷을 주기적으로 정리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmailCodePurger {
+
+    private final EmailCodeStore emailCodeStore;
+    private final EmailRateLimiter emailRateLimiter;
+
+    @Scheduled(fixedDelayString = "${email.code.purge-interval-ms:60000}")
+    public int purge() {
+        int purged = emailCodeStore.purgeExpired();
+        int evicted = emailRateLimiter.evictIdle();
+        if (purged > 0 || evicted > 0) {
+            log.debug("만료된 인증 코드 {}건, rate limit 버킷 {}개 정리", purged, evicted);
+        }
+        return purged;
+    }
+}
@@ -1,6 +1,7 @@
 package com.kakao.sunsuwedding.user.email;
 
 import com.kakao.sunsuwedding._core.utils.ApiUtils;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -12,15 +13,18 @@ import org.springframework.web.bind.annotation.*;
 public class EmailCodeRestController {
     private final EmailServiceImpl emailServiceImpl;
 
+    // IP rate limit 키는 getRemoteAddr(), 운영에서는 프록시가 넘긴 X-Forwarded-For 의 클라이언트 IP (application-prod.yml 의 forward-headers-strategy)
     @PostMapping("")
-    public ResponseEntity<?> sendAuthenticationCode(@Valid @RequestBody EmailRequest.SendCode request) {
-        emailServiceImpl.send(request);
+    public ResponseEntity<?> sendAuthenticationCode(@Valid @RequestBody EmailRequest.SendCode request,
+                                                    HttpServletRequest servletRequest) {
+        emailServiceImpl.send(request, servletRequest.getRemoteAddr());
         return ResponseEntity.ok().body(ApiUtils.success(null));
     }
 
     @PostMapping(value = "/verify")
-    public ResponseEntity<?> checkAuthenticationCode(@Valid @RequestBody EmailRequest.CheckCode request) {
-        emailServiceImpl.verify(request);
+    public ResponseEntity<?> checkAuthenticationCode(@Valid @RequestBody EmailRequest.CheckCode request,
+                                                     HttpServletRequest servletRequest) {
+        emailServiceImpl.verify(request, servletRequest.getRemoteAddr());
         return ResponseEntity.ok().body(ApiUtils.success(null));
     }
 }
@@ -0,0 +1,20 @@
+package com.kakao.sunsuwedding.user.email;
+
+import java.util.Optional;
+
+// 인증 코드 저장소, email.code-store 로 구현을 고름
+// memory : InMemoryEmailCodeStore (서버 한 대, DB 조회/쓰기 없음)
+// jdbc   : JdbcEmailCodeStore (여러 서버가 같은 코드를 봐야 할 때)
+public interface EmailCodeStore {
+
+    // 만료 여부는 호출한 쪽에서 확인 (만료된 코드도 purge 전까지는 조회될 수 있음)
+    Optional<EmailCodeEntry> find(String email);
+
+    // 같은 이메일의 코드는 덮어씀
+    void save(EmailCodeEntry entry);
+
+    void delete(String email);
+
+    // 만료된 코드를 지우고 지운 개수를 반환
+    int purgeExpired();
+}
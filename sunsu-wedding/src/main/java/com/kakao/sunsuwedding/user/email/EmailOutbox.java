@@ -0,0 +1,73 @@
+package com.kakao.sunsuwedding.user.email;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+
+// 보낼 메일을 요청 트랜잭션 안에서 저장해 두고 EmailOutboxDispatcher 가 트랜잭션 밖에서 발송
+@Entity
+@Table(
+        name="email_outbox_tb",
+        indexes = {
+                @Index(name = "email_outbox_status_next_attempt_index", columnList = "status, next_attempt_at"),
+                @Index(name = "email_outbox_claim_token_index", columnList = "claim_token")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EmailOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @Column(name = "body", nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private EmailOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private Integer attempts;
+
+    // 이 시각 이후에 발송(재시도) 대상이 됨, 워커가 가져가면 lease 만큼 뒤로 밀림
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 같은 행을 여러 워커가 동시에 가져가지 않도록 가져간 워커의 토큰을 기록
+    @Column(name = "claim_token", length = 36)
+    private String claimToken;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Builder
+    public EmailOutbox(Long id, String recipient, String subject, String body) {
+        this.id = id;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.body = body;
+        this.status = EmailOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+}
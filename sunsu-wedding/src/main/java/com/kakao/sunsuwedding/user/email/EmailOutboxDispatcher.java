@@ -0,0 +1,169 @@
+package com.kakao.sunsuwedding.user.email;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+// email_outbox_tb 에 쌓인 메일을 워커 풀에서 배치 단위로 발송
+// 요청 스레드는 outbox 에 저장만 하므로 SMTP 지연이 회원가입 응답 시간에 더해지지 않음
+@Slf4j
+@Component
+public class EmailOutboxDispatcher {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final EmailOutboxJPARepository emailOutboxJPARepository;
+    private final EmailTransport emailTransport;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService workers;
+    private final int workerCount;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration retryBackoff;
+    private final Duration maxBackoff;
+    private final AtomicLong queueDepth = new AtomicLong();
+    private final Timer sendLatency;
+
+    public EmailOutboxDispatcher(EmailOutboxJPARepository emailOutboxJPARepository,
+                                 EmailTransport emailTransport,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${email.outbox.workers:2}") int workerCount,
+                                 @Value("${email.outbox.batch-size:20}") int batchSize,
+                                 @Value("${email.outbox.max-attempts:5}") int maxAttempts,
+                                 @Value("${email.outbox.lease:5m}") Duration lease,
+                                 @Value("${email.outbox.retry-backoff:30s}") Duration retryBackoff,
+                                 @Value("${email.outbox.max-backoff:30m}") Duration maxBackoff) {
+        this.emailOutboxJPARepository = emailOutboxJPARepository;
+        this.emailTransport = emailTransport;
+        this.meterRegistry = meterRegistry;
+        this.workerCount = workerCount;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = lease;
+        this.retryBackoff = retryBackoff;
+        this.maxBackoff = maxBackoff;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, runnable -> {
+            Thread thread = new Thread(runnable, "email-outbox-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        meterRegistry.gauge("email.outbox.depth", queueDepth);
+        this.sendLatency = Timer.builder("email.send.latency")
+                .description("SMTP 배치 발송 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${email.outbox.poll-interval-ms:1000}")
+    public int dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> readyIds = emailOutboxJPARepository.findReadyIds(now, PageRequest.of(0, batchSize * workerCount));
+        if (readyIds.isEmpty()) {
+            queueDepth.set(emailOutboxJPARepository.countByStatus(EmailOutboxStatus.PENDING));
+            return 0;
+        }
+
+        // 다른 서버의 워커가 먼저 가져간 행은 제외됨
+        String token = UUID.randomUUID().toString();
+        emailOutboxJPARepository.claim(readyIds, token, now, now.plus(lease));
+        List<EmailOutbox> claimed = emailOutboxJPARepository.findAllByClaimTokenOrderById(token);
+
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += batchSize) {
+            List<EmailOutbox> batch = claimed.subList(from, Math.min(from + batchSize, claimed.size()));
+            futures.add(workers.submit(() -> sendBatch(batch)));
+        }
+
+        int sent = 0;
+        for (Future<Integer> future : futures) {
+            try {
+                sent += future.get();
+            } catch (ExecutionException exception) {
+                // 발송 결과를 기록하지 못한 행은 lease 가 지난 뒤 다시 발송됨
+                log.error("메일 발송 결과 기록 실패", exception.getCause());
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        queueDepth.set(emailOutboxJPARepository.countByStatus(EmailOutboxStatus.PENDING));
+        log.debug("메일 발송: {}건 중 {}건 성공", claimed.size(), sent);
+        return sent;
+    }
+
+    private int sendBatch(List<EmailOutbox> batch) {
+        Map<Long, String> failures;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            failures = emailTransport.send(batch);
+        } catch (RuntimeException exception) {
+            // SMTP 연결, 인증 실패 등은 배치 전체를 재시도
+            log.warn("SMTP 배치 발송 실패 ({}건): {}", batch.size(), exception.getMessage());
+            failures = batch.stream().collect(Collectors.toMap(EmailOutbox::getId, mail -> String.valueOf(exception.getMessage())));
+        } finally {
+            sample.stop(sendLatency);
+        }
+
+        List<Long> sentIds = new ArrayList<>();
+        for (EmailOutbox mail : batch) {
+            if (failures.containsKey(mail.getId())) {
+                retryOrFail(mail, failures.get(mail.getId()));
+            } else {
+                sentIds.add(mail.getId());
+            }
+        }
+        if (!sentIds.isEmpty()) {
+            emailOutboxJPARepository.markSent(sentIds, LocalDateTime.now());
+        }
+
+        meterRegistry.counter("email.send", "result", "sent").increment(sentIds.size());
+        meterRegistry.counter("email.send", "result", "failed").increment(batch.size() - sentIds.size());
+        return sentIds.size();
+    }
+
+    private void retryOrFail(EmailOutbox mail, String error) {
+        String reason = (error == null || error.length() <= MAX_ERROR_LENGTH) ? error : error.substring(0, MAX_ERROR_LENGTH);
+        int attempts = mail.getAttempts() + 1;
+
+        if (attempts >= maxAttempts) {
+            log.error("메일 발송 포기 id={} recipient={} attempts={} reason={}", mail.getId(), mail.getRecipient(), attempts, reason);
+            emailOutboxJPARepository.markFailed(mail.getId(), reason);
+            return;
+        }
+        emailOutboxJPARepository.markRetry(mail.getId(), LocalDateTime.now().plus(backoff(attempts)), reason);
+    }
+
+    // retry-backoff 부터 두 배씩 늘리고 max-backoff 에서 멈춤
+    Duration backoff(int attempts) {
+        Duration backoff = retryBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return (backoff.compareTo(maxBackoff) > 0) ? maxBackoff : backoff;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,55 @@
+package com.kakao.sunsuwedding.user.email;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailOutboxJPARepository extends JpaRepository<EmailOutbox, Long> {
+
+    @Query("select e.id from EmailOutbox e where e.status = com.kakao.sunsuwedding.user.email.EmailOutboxStatus.PENDING " +
+            "and e.nextAttemptAt <= :now order by e.id")
+    List<Long> findReadyIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 아직 아무도 가져가지 않은 행만 토큰을 기록하고 lease 시각까지 다른 워커에게 보이지 않게 함
+    // 발송 도중 서버가 죽으면 lease 가 지난 뒤 다시 발송 대상이 됨
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update EmailOutbox e set e.claimToken = :token, e.nextAttemptAt = :leaseUntil " +
+            "where e.id in :ids and e.status = com.kakao.sunsuwedding.user.email.EmailOutboxStatus.PENDING and e.nextAttemptAt <= :now")
+    int claim(@Param("ids") List<Long> ids, @Param("token") String token,
+              @Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    List<EmailOutbox> findAllByClaimTokenOrderById(String claimToken);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update EmailOutbox e set e.status = com.kakao.sunsuwedding.user.email.EmailOutboxStatus.SENT, " +
+            "e.attempts = e.attempts + 1, e.sentAt = :now, e.claimToken = null, e.lastError = null where e.id in :ids")
+    int markSent(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update EmailOutbox e set e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, " +
+            "e.claimToken = null, e.lastError = :error where e.id = :id")
+    int markRetry(@Param("id") Long id, @Param("nextAttemptAt") LocalDateTime nextAttemptAt, @Param("error") String error);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("update EmailOutbox e set e.status = com.kakao.sunsuwedding.user.email.EmailOutboxStatus.FAILED, " +
+            "e.attempts = e.attempts + 1, e.claimToken = null, e.lastError = :error where e.id = :id")
+    int markFailed(@Param("id") Long id, @Param("error") String error);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("delete from EmailOutbox e where e.status in (com.kakao.sunsuwedding.user.email.EmailOutboxStatus.SENT, " +
+            "com.kakao.sunsuwedding.user.email.EmailOutboxStatus.FAILED) and e.createdAt < :cutoff")
+    int deleteFinishedCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    long countByStatus(EmailOutboxStatus status);
+}
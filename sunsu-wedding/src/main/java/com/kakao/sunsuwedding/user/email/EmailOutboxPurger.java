@@ -0,0 +1,33 @@
+package com.kakao.sunsuwedding.user.email;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 발송이 끝난(SENT, FAILED) 메일은 본문에 인증 코드가 그대로 남아 있으므로 보관 기간이 지나면 삭제
+@Slf4j
+@Component
+public class EmailOutboxPurger {
+
+    private final EmailOutboxJPARepository emailOutboxJPARepository;
+    private final Duration retention;
+
+    public EmailOutboxPurger(EmailOutboxJPARepository emailOutboxJPARepository,
+                             @Value("${email.outbox.retention:1d}") Duration retention) {
+        this.emailOutboxJPARepository = emailOutboxJPARepository;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${email.outbox.purge-cron:0 40 4 * * *}")
+    public int purge() {
+        int purged = emailOutboxJPARepository.deleteFinishedCreatedBefore(LocalDateTime.now().minus(retention));
+        if (purged > 0) {
+            log.info("발송이 끝난 메일 {}건 정리", purged);
+        }
+        return purged;
+    }
+}
@@ -0,0 +1,19 @@
+package com.kakao.sunsuwedding.user.email;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public enum EmailOutboxStatus {
+
+    PENDING("발송 대기"),
+    SENT("발송 완료"),
+    FAILED("발송 실패");
+
+    @Getter
+    private final String status;
+
+    public String toString() {
+        return status;
+    }
+}
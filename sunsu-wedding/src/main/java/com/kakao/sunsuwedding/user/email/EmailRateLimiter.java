@@ -0,0 +1,47 @@
+package com.kakao.sunsuwedding.user.email;
+
+import com.kakao.sunsuwedding._core.errors.BaseException;
+import com.kakao.sunsuwedding._core.errors.exception.TooManyRequestsException;
+import com.kakao.sunsuwedding._core.utils.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 인증 코드 발송/확인 요청을 이메일별, IP 별로 제한
+// 이메일별 : 같은 주소로 메일 폭탄을 보내거나 코드를 대입하는 것을 막음
+// IP 별   : 한 곳에서 여러 주소로 몰아서 요청하는 것을 막음
+@Component
+public class EmailRateLimiter {
+
+    private final TokenBucketRateLimiter perEmail;
+    private final TokenBucketRateLimiter perIp;
+
+    public EmailRateLimiter(@Value("${email.rate-limit.per-email.capacity:3}") long perEmailCapacity,
+                            @Value("${email.rate-limit.per-email.refill-period:1m}") Duration perEmailRefillPeriod,
+                            @Value("${email.rate-limit.per-ip.capacity:20}") long perIpCapacity,
+                            @Value("${email.rate-limit.per-ip.refill-period:10s}") Duration perIpRefillPeriod) {
+        this.perEmail = new TokenBucketRateLimiter(perEmailCapacity, perEmailRefillPeriod);
+        this.perIp = new TokenBucketRateLimiter(perIpCapacity, perIpRefillPeriod);
+    }
+
+    public void checkSend(String email, String clientIp) {
+        check(perIp, clientIp);
+        check(perEmail, "send:" + email);
+    }
+
+    public void checkVerify(String email, String clientIp) {
+        check(perIp, clientIp);
+        check(perEmail, "verify:" + email);
+    }
+
+    public int evictIdle() {
+        return perEmail.evictIdle() + perIp.evictIdle();
+    }
+
+    private static void check(TokenBucketRateLimiter limiter, String key) {
+        if (!limiter.tryAcquire(key)) {
+            throw new TooManyRequestsException(BaseException.EMAIL_RATE_LIMITED);
+        }
+    }
+}
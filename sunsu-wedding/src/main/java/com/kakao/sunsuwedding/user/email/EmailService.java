@@ -2,7 +2,7 @@ package com.kakao.sunsuwedding.user.email;
 
 public interface EmailService {
 
-    void send(EmailRequest.SendCode request);
+    void send(EmailRequest.SendCode request, String clientIp);
 
-    void verify(EmailRequest.CheckCode request);
+    void verify(EmailRequest.CheckCode request, String clientIp);
 }
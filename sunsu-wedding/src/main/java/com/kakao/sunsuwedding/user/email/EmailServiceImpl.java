@@ -5,11 +5,8 @@ import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
 import com.kakao.sunsuwedding._core.errors.exception.NotFoundException;
 import com.kakao.sunsuwedding._core.errors.exception.ServerException;
 import com.kakao.sunsuwedding._core.utils.UserDataChecker;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,12 +22,15 @@ import java.util.stream.IntStream;
 @RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
     private final UserDataChecker userDataChecker;
-    private final JavaMailSenderImpl javaMailSender;
-    private final EmailCodeJPARepository emailCodeJPARepository;
+    private final EmailCodeStore emailCodeStore;
+    private final EmailRateLimiter emailRateLimiter;
+    private final EmailOutboxJPARepository emailOutboxJPARepository;
 
     private final static int CODE_LENGTH = 6;
 
-    private final static int CODE_EXP = 60 * 10;
+    public final static Duration CODE_TTL = Duration.ofMinutes(10);
+
+    private final static String EMAIL_SUBJECT = "순수웨딩 회원가입 이메일 인증 코드";
 
     String EMAIL_CONTENT = """
                             <body style="margin: 0 0;">
@@ -45,72 +45,65 @@ public class EmailServiceImpl implements EmailService {
                             </body>
                             """;
 
-    @Value("${email.username}")
-    private String sender;
-
     @Value("${email.test-code}")
     private Long TEST_CODE;
 
+    // 인증을 마친 이메일로 회원가입할 수 있는 시간
+    @Value("${email.code.confirmed-ttl:1d}")
+    private Duration confirmedTtl;
+
     @Transactional
-    public void send(EmailRequest.SendCode request) {
+    public void send(EmailRequest.SendCode request, String clientIp) {
+        emailRateLimiter.checkSend(request.email(), clientIp);
         userDataChecker.checkEmailAlreadyExist(request.email());
 
         // 크램폴린 내부 정책으로 인한 smtp 프로토콜 사용 불가로
-        // 이메일 인증 코드를 테스트 코드로 대체 및 이메일 발송 제외
+        // 이메일 인증 코드를 테스트 코드로 대체
 //        String code = generateCode();
         String code = TEST_CODE.toString();
-//        MimeMessage email = createMail(request.email(), code);
-//        javaMailSender.send(email);
 
-        EmailCode emailCode = findMailCodeByRequest(request);
+        emailCodeStore.find(request.email())
+                .ifPresent(EmailServiceImpl::checkEmailAlreadyAuthenticated);
 
-        checkEmailAlreadyAuthenticated(emailCode);
-
-        emailCode.setCode(code);
-        emailCode.setEmail(request.email());
-        emailCode.setConfirmed(false);
-        emailCode.setCreatedAt(LocalDateTime.now());
+        LocalDateTime now = LocalDateTime.now();
+        emailCodeStore.save(EmailCodeEntry.issue(request.email(), code, now, now.plus(CODE_TTL)));
 
-        emailCodeJPARepository.save(emailCode);
+        // 메일은 같은 트랜잭션에서 outbox 에 저장만 하고 EmailOutboxDispatcher 가 커밋 후 발송
+        emailOutboxJPARepository.save(createMail(request.email(), code));
     }
 
-    public void verify(EmailRequest.CheckCode request) {
-        EmailCode emailCode = findMailCodeByRequest(request);
+    public void verify(EmailRequest.CheckCode request, String clientIp) {
+        emailRateLimiter.checkVerify(request.email(), clientIp);
+        EmailCodeEntry emailCode = findMailCodeByRequest(request);
 
         checkEmailAlreadyAuthenticated(emailCode);
         checkCodeExpiration(emailCode);
         matchCode(request, emailCode);
 
-        emailCode.setConfirmed(true);
-        emailCodeJPARepository.save(emailCode);
+        emailCodeStore.save(emailCode.confirm(LocalDateTime.now().plus(confirmedTtl)));
     }
 
-    private EmailCode findMailCodeByRequest(EmailRequest.SendCode request) {
-        return emailCodeJPARepository.findByEmail(request.email())
-                .orElseGet(() -> EmailCode.builder().build());
-    }
-
-    private EmailCode findMailCodeByRequest(EmailRequest.CheckCode request) {
-        return emailCodeJPARepository.findByEmail(request.email())
+    private EmailCodeEntry findMailCodeByRequest(EmailRequest.CheckCode request) {
+        return emailCodeStore.find(request.email())
                 .orElseThrow(() -> new NotFoundException(BaseException.CODE_NOT_FOUND));
     }
 
-    private static void matchCode(EmailRequest.CheckCode request, EmailCode emailCode) {
-        if (!Objects.equals(emailCode.getCode(), request.code())) {
+    private static void matchCode(EmailRequest.CheckCode request, EmailCodeEntry emailCode) {
+        if (!Objects.equals(emailCode.code(), request.code())) {
             throw new BadRequestException(BaseException.CODE_NOT_MATCHED);
         }
     }
 
-    private void checkCodeExpiration(EmailCode emailCode) {
-        Duration duration = Duration.between(emailCode.getCreatedAt(), LocalDateTime.now());
-        if (duration.getSeconds() > CODE_EXP) {
-            emailCodeJPARepository.delete(emailCode);
+    private void checkCodeExpiration(EmailCodeEntry emailCode) {
+        Duration duration = Duration.between(emailCode.createdAt(), LocalDateTime.now());
+        if (duration.compareTo(CODE_TTL) > 0) {
+            emailCodeStore.delete(emailCode.email());
             throw new BadRequestException(BaseException.CODE_EXPIRED);
         }
     }
 
-    private static void checkEmailAlreadyAuthenticated(EmailCode emailCode) {
-        if (emailCode.getConfirmed() != null && emailCode.getConfirmed().equals(true)) {
+    private static void checkEmailAlreadyAuthenticated(EmailCodeEntry emailCode) {
+        if (emailCode.confirmed()) {
             throw new BadRequestException(BaseException.EMAIL_ALREADY_AUTHENTICATED);
         }
     }
@@ -129,20 +122,11 @@ public class EmailServiceImpl implements EmailService {
         }
     }
 
-    private MimeMessage createMail(String receiver, String code) {
-        MimeMessage email = javaMailSender.createMimeMessage();
-
-        try {
-            email.setFrom(sender);
-            email.setRecipients(MimeMessage.RecipientType.TO, receiver);
-            email.setSubject("순수웨딩 회원가입 이메일 인증 코드");
-
-            String body = String.format(EMAIL_CONTENT, code);
-            email.setText(body, "UTF-8", "html");
-        } catch (MessagingException e) {
-            throw new ServerException(BaseException.EMAIL_GENERATE_ERROR);
-        }
-
-        return email;
+    private EmailOutbox createMail(String receiver, String code) {
+        return EmailOutbox.builder()
+                .recipient(receiver)
+                .subject(EMAIL_SUBJECT)
+                .body(String.format(EMAIL_CONTENT, code))
+                .build();
     }
 }
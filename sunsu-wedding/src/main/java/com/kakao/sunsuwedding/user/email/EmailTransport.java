@@ -0,0 +1,11 @@
+package com.kakao.sunsuwedding.user.email;
+
+import java.util.List;
+import java.util.Map;
+
+// 메일 여러 통을 한 번의 연결(세션)로 발송
+// 실패한 메일의 id 와 사유를 돌려주고, 연결 자체가 실패하면 예외를 던짐
+public interface EmailTransport {
+
+    Map<Long, String> send(List<EmailOutbox> batch);
+}
@@ -0,0 +1,134 @@
+package com.kakao.sunsuwedding.user.email;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// 만료 시각별로 키를 timing wheel 칸에 넣어두고, 시간이 지난 칸만 확인해서 지움
+// 전체 맵을 훑지 않으므로 코드가 많아도 만료 처리 비용은 그 사이 만료된 키 수에 비례
+// wheel 한 바퀴(span)보다 긴 TTL 은 칸을 지날 때마다 남겨두었다가 다음 바퀴에 다시 확인
+public class InMemoryEmailCodeStore implements EmailCodeStore {
+
+    private final ConcurrentHashMap<String, EmailCodeEntry> entries = new ConcurrentHashMap<>();
+    private final Set<String>[] wheel;
+    private final int mask;
+    private final long tickMillis;
+    private final Supplier<LocalDateTime> clock;
+    private final ReentrantLock advanceLock = new ReentrantLock();
+    private long lastTick;
+
+    public InMemoryEmailCodeStore(Duration span, Duration tick) {
+        this(span, tick, LocalDateTime::now);
+    }
+
+    @SuppressWarnings("unchecked")
+    public InMemoryEmailCodeStore(Duration span, Duration tick, Supplier<LocalDateTime> clock) {
+        this.tickMillis = tick.toMillis();
+        this.clock = clock;
+
+        // 인덱스를 나머지 연산 대신 비트 마스크로 구하도록 칸 수를 2의 거듭제곱으로 맞춤
+        long needed = Math.max((span.toMillis() + tickMillis - 1) / tickMillis, 1);
+        int size = 1;
+        while (size < needed) size <<= 1;
+
+        this.wheel = new Set[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.mask = size - 1;
+        this.lastTick = tickOf(clock.get());
+    }
+
+    @Override
+    public Optional<EmailCodeEntry> find(String email) {
+        advance(clock.get());
+        return Optional.ofNullable(entries.get(email));
+    }
+
+    @Override
+    public void save(EmailCodeEntry entry) {
+        advance(clock.get());
+        entries.put(entry.email(), entry);
+        slotOf(entry).add(entry.email());
+    }
+
+    // 칸에 남은 키는 그 칸을 지날 때 정리됨
+    @Override
+    public void delete(String email) {
+        entries.remove(email);
+    }
+
+    @Override
+    public int purgeExpired() {
+        return advance(clock.get());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // 마지막으로 확인한 칸부터 현재 시각의 칸까지 확인
+    // 다른 스레드가 이미 진행 중이면 기다리지 않고 넘어감 (다음 호출에서 이어서 처리)
+    private int advance(LocalDateTime now) {
+        if (!advanceLock.tryLock()) {
+            return 0;
+        }
+        try {
+            long currentTick = tickOf(now);
+            if (currentTick <= lastTick) {
+                return 0;
+            }
+
+            // 한 바퀴 이상 지났다면 모든 칸을 한 번씩만 확인하면 됨
+            long from = Math.max(lastTick + 1, currentTick - wheel.length + 1);
+            int removed = 0;
+            for (long tick = from; tick <= currentTick; tick++) {
+                removed += expireSlot(wheel[(int) (tick & mask)], now);
+            }
+            lastTick = currentTick;
+            return removed;
+        } finally {
+            advanceLock.unlock();
+        }
+    }
+
+    private int expireSlot(Set<String> slot, LocalDateTime now) {
+        int removed = 0;
+        for (String email : slot) {
+            EmailCodeEntry entry = entries.get(email);
+            if (entry == null) {
+                slot.remove(email);
+            }
+            else if (entry.isExpired(now)) {
+                if (entries.remove(email, entry)) removed++;
+                slot.remove(email);
+            }
+            else if (slotOf(entry) != slot) {
+                // 다시 저장되면서 다른 칸으로 옮겨간 키
+                slot.remove(email);
+            }
+            // 같은 칸이지만 아직 만료 전이면 다음 바퀴에서 다시 확인
+        }
+        return removed;
+    }
+
+    private Set<String> slotOf(EmailCodeEntry entry) {
+        // 만료 시각을 올림한 칸에 넣어서 칸을 지날 때는 이미 만료되어 있도록 함
+        long expiresAtMillis = toEpochMillis(entry.expiresAt());
+        long tick = (expiresAtMillis + tickMillis - 1) / tickMillis;
+        return wheel[(int) (tick & mask)];
+    }
+
+    private long tickOf(LocalDateTime time) {
+        return toEpochMillis(time) / tickMillis;
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,57 @@
+package com.kakao.sunsuwedding.user.email;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+// email_code_tb 에 이메일당 한 행만 두고 (email 유니크) 만료된 행은 물리적으로 삭제
+public class JdbcEmailCodeStore implements EmailCodeStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final static String TABLE = "email_code_tb";
+
+    public JdbcEmailCodeStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<EmailCodeEntry> find(String email) {
+        String sql = String.format("SELECT email, code, confirmed, created_at, expires_at FROM %s WHERE email = ?", TABLE);
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new EmailCodeEntry(
+                rs.getString("email"),
+                rs.getString("code"),
+                rs.getBoolean("confirmed"),
+                rs.getTimestamp("created_at").toLocalDateTime(),
+                rs.getTimestamp("expires_at").toLocalDateTime()
+        ), email).stream().findFirst();
+    }
+
+    // 조회 후 insert/update 를 나누지 않고 한 문장으로 덮어씀
+    @Override
+    public void save(EmailCodeEntry entry) {
+        String sql = String.format("""
+                INSERT INTO %s (email, code, confirmed, created_at, expires_at) VALUES (?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE code = ?, confirmed = ?, created_at = ?, expires_at = ?
+                """, TABLE);
+
+        Timestamp createdAt = Timestamp.valueOf(entry.createdAt());
+        Timestamp expiresAt = Timestamp.valueOf(entry.expiresAt());
+        jdbcTemplate.update(sql,
+                entry.email(), entry.code(), entry.confirmed(), createdAt, expiresAt,
+                entry.code(), entry.confirmed(), createdAt, expiresAt);
+    }
+
+    @Override
+    public void delete(String email) {
+        jdbcTemplate.update(String.format("DELETE FROM %s WHERE email = ?", TABLE), email);
+    }
+
+    @Override
+    public int purgeExpired() {
+        return jdbcTemplate.update(String.format("DELETE FROM %s WHERE expires_at <= ?", TABLE),
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
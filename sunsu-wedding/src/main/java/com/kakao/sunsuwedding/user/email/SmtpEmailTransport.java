@@ -0,0 +1,73 @@
+package com.kakao.sunsuwedding.user.email;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+// JavaMailSenderImpl 은 send(MimeMessage...) 한 번에 SMTP 연결을 하나만 열고 모든 메일을 보냄
+// 테스트 프로필에서는 메모리에 쌓기만 하는 구현으로 대체
+@Slf4j
+@Component
+@Profile("!test")
+public class SmtpEmailTransport implements EmailTransport {
+
+    private final JavaMailSenderImpl javaMailSender;
+    private final String sender;
+
+    public SmtpEmailTransport(JavaMailSenderImpl javaMailSender, @Value("${email.username}") String sender) {
+        this.javaMailSender = javaMailSender;
+        this.sender = sender;
+    }
+
+    @Override
+    public Map<Long, String> send(List<EmailOutbox> batch) {
+        Map<Long, String> failures = new HashMap<>();
+        Map<MimeMessage, Long> ids = new IdentityHashMap<>();
+        List<MimeMessage> messages = new ArrayList<>();
+
+        for (EmailOutbox mail : batch) {
+            try {
+                MimeMessage message = createMail(mail);
+                ids.put(message, mail.getId());
+                messages.add(message);
+            } catch (MessagingException exception) {
+                failures.put(mail.getId(), exception.getMessage());
+            }
+        }
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        try {
+            javaMailSender.send(messages.toArray(MimeMessage[]::new));
+        } catch (MailSendException exception) {
+            // 연결은 됐지만 일부 메일만 실패한 경우 (연결 실패 등 그 외 예외는 배치 전체 실패로 처리됨)
+            if (exception.getFailedMessages().isEmpty()) {
+                throw exception;
+            }
+            exception.getFailedMessages().forEach((message, cause) ->
+                    failures.put(ids.get((MimeMessage) message), cause.getMessage()));
+        }
+        return failures;
+    }
+
+    private MimeMessage createMail(EmailOutbox mail) throws MessagingException {
+        MimeMessage email = javaMailSender.createMimeMessage();
+        email.setFrom(sender);
+        email.setRecipients(MimeMessage.RecipientType.TO, mail.getRecipient());
+        email.setSubject(mail.getSubject(), "UTF-8");
+        email.setText(mail.getBody(), "UTF-8", "html");
+        return email;
+    }
+}
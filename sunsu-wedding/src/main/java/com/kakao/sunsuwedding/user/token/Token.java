@@ -7,11 +7,19 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
+// family 마다 현재 유효한 토큰 쌍 하나만 유지
+// refresh 검증은 (user_id, refresh_hash) 유니크 인덱스 한 번으로 끝남
 @Entity
 @Table(
         name = "token_tb",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_token_user_refresh", columnNames = {"user_id", "refresh_hash"}),
+                @UniqueConstraint(name = "uk_token_family", columnNames = {"family_id"})
+        },
         indexes = {
-                @Index(name = "token_user_index", columnList = "user_id")
+                @Index(name = "token_issued_at_index", columnList = "issued_at")
         })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -20,25 +28,31 @@ public class Token {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @OneToOne(fetch = FetchType.LAZY)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
-    @Column(name = "access_token", nullable = false)
-    private String accessToken;
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "family_id", nullable = false)
+    private TokenFamily family;
+
+    @Column(name = "access_hash", nullable = false, columnDefinition = "CHAR(64)")
+    private String accessHash;
+
+    @Column(name = "refresh_hash", nullable = false, columnDefinition = "CHAR(64)")
+    private String refreshHash;
 
-    @Column(name = "refresh_token", nullable = false)
-    private String refreshToken;
+    // refresh 로 교체될 때마다 새 행이 생기므로 마지막 발급 시각이 됨 (TokenPurger 가 만료 판단에 사용)
+    @Column(name = "issued_at", nullable = false)
+    private LocalDateTime issuedAt;
 
     @Builder
-    public Token(Long id, User user, String accessToken, String refreshToken) {
+    public Token(Long id, User user, TokenFamily family, String accessHash, String refreshHash, LocalDateTime issuedAt) {
         this.id = id;
         this.user = user;
-        this.accessToken = accessToken;
-        this.refreshToken = refreshToken;
-    }
-
-    public void update(String accessToken, String refreshToken) {
-        this.accessToken = accessToken;
-        this.refreshToken = refreshToken;
+        this.family = family;
+        this.accessHash = accessHash;
+        this.refreshHash = refreshHash;
+        this.issuedAt = (issuedAt == null ? LocalDateTime.now() : issuedAt);
     }
 }
@@ -0,0 +1,54 @@
+package com.kakao.sunsuwedding.user.token;
+
+import com.kakao.sunsuwedding.user.base_user.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 로그인 한 번(기기 하나)마다 생기는 토큰 묶음
+// refresh 로 토큰이 교체돼도 family 는 그대로 유지됨
+@Entity
+@Table(
+        name = "token_family_tb",
+        indexes = {
+                @Index(name = "token_family_user_index", columnList = "user_id"),
+                @Index(name = "token_family_created_at_index", columnList = "created_at")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TokenFamily {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 마지막으로 교체되어 더 이상 쓸 수 없는 refresh token 의 다이제스트와 교체 시각 (재사용 감지용)
+    @Column(name = "previous_refresh_hash", columnDefinition = "CHAR(64)")
+    private String previousRefreshHash;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    @Builder
+    public TokenFamily(Long id, User user, LocalDateTime createdAt) {
+        this.id = id;
+        this.user = user;
+        this.createdAt = (createdAt == null ? LocalDateTime.now() : createdAt);
+    }
+
+    // 직전에 교체된 refresh token 이 rotatedBefore 이전에 교체된 뒤 다시 쓰였는지
+    // 교체 직후에 들어온 요청은 동시에 보낸 refresh 나 클라이언트 재시도일 수 있으므로 재사용으로 보지 않음
+    public boolean isReusedRefreshHash(String refreshHash, LocalDateTime rotatedBefore) {
+        return refreshHash.equals(previousRefreshHash) && rotatedAt != null && rotatedAt.isBefore(rotatedBefore);
+    }
+}
@@ -0,0 +1,33 @@
+package com.kakao.sunsuwedding.user.token;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface TokenFamilyJPARepository extends JpaRepository<TokenFamily, Long> {
+
+    @Modifying
+    @Query("update TokenFamily f set f.previousRefreshHash = :refreshHash, f.rotatedAt = :rotatedAt where f.id = :familyId")
+    int markRotated(@Param("familyId") Long familyId,
+                    @Param("refreshHash") String refreshHash,
+                    @Param("rotatedAt") LocalDateTime rotatedAt);
+
+    // family 의 토큰을 먼저 지운 뒤 호출 (token_tb 가 family 를 참조함)
+    @Modifying
+    @Query("delete from TokenFamily f where f.id = :familyId")
+    int deleteFamilyById(@Param("familyId") Long familyId);
+
+    @Modifying
+    @Query("delete from TokenFamily f where f.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // 토큰이 남아있지 않은 family 정리
+    // refresh 중에는 이전 토큰 삭제와 새 토큰 저장 사이에 잠깐 토큰이 없으므로 만든 지 오래된 family 만 대상으로 함
+    @Modifying
+    @Query("delete from TokenFamily f where f.createdAt < :cutoff " +
+            "and not exists (select t.id from Token t where t.family.id = f.id)")
+    int deleteUnusedCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
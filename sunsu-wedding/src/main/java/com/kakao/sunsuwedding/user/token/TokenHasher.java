@@ -0,0 +1,25 @@
+package com.kakao.sunsuwedding.user.token;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// DB 에는 토큰 원문 대신 SHA-256 다이제스트(hex 64자)만 저장
+public final class TokenHasher {
+    private static final HexFormat HEX = HexFormat.of();
+
+    private TokenHasher() {
+    }
+
+    public static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HEX.formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        }
+        catch (NoSuchAlgorithmException exception) {
+            // 모든 JVM 은 SHA-256 을 지원해야 함
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -1,10 +1,34 @@
 package com.kakao.sunsuwedding.user.token;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.stereotype.Repository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface TokenJPARepository extends JpaRepository<Token, Long> {
-    Optional<Token> findByUserId(Long userId);
+    List<Token> findAllByUserId(Long userId);
+
+    // 토큰 쌍이 일치하는 경우에만 삭제, 삭제된 row 수 반환
+    // (user_id, refresh_hash) 유니크 인덱스로 한 row 만 찾음
+    @Modifying
+    @Query("delete from Token t where t.user.id = :userId and t.refreshHash = :refreshHash and t.accessHash = :accessHash")
+    int deleteByTokenPair(@Param("userId") Long userId,
+                          @Param("accessHash") String accessHash,
+                          @Param("refreshHash") String refreshHash);
+
+    @Modifying
+    @Query("delete from Token t where t.family.id = :familyId")
+    int deleteByFamilyId(@Param("familyId") Long familyId);
+
+    @Modifying
+    @Query("delete from Token t where t.user.id = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    // refresh token 유효 기간이 지나도록 교체되지 않은 토큰 (더 이상 refresh 에 쓸 수 없음)
+    @Modifying
+    @Query("delete from Token t where t.issuedAt < :cutoff")
+    int deleteIssuedBefore(@Param("cutoff") LocalDateTime cutoff);
 }
@@ -0,0 +1,24 @@
+package com.kakao.sunsuwedding.user.token;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 로그인마다 family 가 새로 생기므로 만료된 토큰과 family 를 주기적으로 정리
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenPurger {
+
+    private final TokenServiceImpl tokenServiceImpl;
+
+    @Scheduled(cron = "${security.token.purge-cron:0 30 4 * * *}")
+    public int purge() {
+        int purged = tokenServiceImpl.purgeExpired();
+        if (purged > 0) {
+            log.info("만료된 토큰 family {}건 정리", purged);
+        }
+        return purged;
+    }
+}
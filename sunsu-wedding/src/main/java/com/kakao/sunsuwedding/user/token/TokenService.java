@@ -4,9 +4,9 @@ import com.kakao.sunsuwedding.user.base_user.User;
 
 public interface TokenService {
 
-    TokenDTO refreshAllTokens(User user);
+    TokenDTO issueTokens(User user);
 
-    void expireTokenByUserId(Long userId);
+    TokenDTO refreshAllTokens(User user, Long familyId);
 
-    Boolean checkTokenPairValidation(Long userId, String accessToken, String refreshToken);
+    boolean expireTokenPair(Long userId, Long familyId, String accessToken, String refreshToken);
 }
@@ -1,59 +1,115 @@
 package com.kakao.sunsuwedding.user.token;
 
 import com.kakao.sunsuwedding._core.errors.BaseException;
-import com.kakao.sunsuwedding._core.errors.exception.NotFoundException;
 import com.kakao.sunsuwedding._core.errors.exception.UnauthorizedException;
 import com.kakao.sunsuwedding._core.security.JWTProvider;
 import com.kakao.sunsuwedding.user.base_user.User;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TokenServiceImpl implements TokenService {
     private final TokenJPARepository tokenJPARepository;
+    private final TokenFamilyJPARepository tokenFamilyJPARepository;
     private final JWTProvider jwtProvider;
 
+    // 교체된 refresh token 이 이 시간 안에 다시 들어오면 동시 요청이나 재시도로 보고 family 를 폐기하지 않음
+    @Value("${security.token.reuse-grace-period:30s}")
+    private Duration reuseGracePeriod;
+
+    // 로그인 시 새 family(기기)를 만들고 토큰 발급
+    @Transactional
+    public TokenDTO issueTokens(User user) {
+        TokenFamily family = tokenFamilyJPARepository.save(TokenFamily.builder().user(user).build());
+        return saveTokens(user, family);
+    }
+
     @Transactional
-    public TokenDTO refreshAllTokens(User user) {
-        String accessToken = jwtProvider.createAccessToken(user);
-        String refreshToken = jwtProvider.createRefreshToken(user);
+    public TokenDTO refreshAllTokens(User user, Long familyId) {
+        // refresh token 없이 인증된 경우(family 정보 없음)는 새 family 로 발급
+        if (familyId == null) {
+            return issueTokens(user);
+        }
 
         // security filter 에서 토큰 정보를 삭제하므로
         // 조회 과정 없이 엔티티 생성 후 바로 저장
-        Token token = Token.builder()
-                .user(user)
-                .accessToken(accessToken)
-                .refreshToken(refreshToken)
-                .build();
+        TokenFamily family = tokenFamilyJPARepository.getReferenceById(familyId);
         try {
-            tokenJPARepository.save(token);
+            return saveTokens(user, family);
         }
         catch (DataIntegrityViolationException exception) {
             throw new UnauthorizedException(BaseException.TOKEN_REFRESH_FORBIDDEN);
         }
-
-        return new TokenDTO(accessToken, refreshToken);
     }
 
+    // 조회 후 비교, 삭제하던 것을 조건부 DELETE 한 번으로 처리
+    // 동시에 같은 토큰 쌍으로 요청이 들어와도 하나만 true 를 받음
     @Transactional
-    public void expireTokenByUserId(Long userId) {
-        Token token = findTokenByUserId(userId);
+    public boolean expireTokenPair(Long userId, Long familyId, String accessToken, String refreshToken) {
+        String refreshHash = TokenHasher.hash(refreshToken);
+        int deleted = tokenJPARepository.deleteByTokenPair(userId, TokenHasher.hash(accessToken), refreshHash);
+        if (deleted == 1) {
+            // 같은 트랜잭션에서 남기므로, 삭제를 기다리던 동시 요청은 커밋 후 교체 기록을 보고 재사용이 아님을 알 수 있음
+            if (familyId != null) {
+                tokenFamilyJPARepository.markRotated(familyId, refreshHash, LocalDateTime.now());
+            }
+            return true;
+        }
 
-        tokenJPARepository.delete(token);
+        // 직전에 교체된 refresh token 이 grace 기간이 지난 뒤 다시 들어오면 탈취된 것으로 보고 해당 family 의 토큰을 모두 폐기
+        // 동시 refresh 에서 진 요청은 실패만 하고, 이긴 요청의 family 는 그대로 두어 새 토큰을 저장할 수 있게 함
+        if (familyId != null && isReused(familyId, refreshHash)) {
+            log.warn("refresh token 재사용 감지 (userId={}, familyId={})", userId, familyId);
+            tokenJPARepository.deleteByFamilyId(familyId);
+            tokenFamilyJPARepository.deleteFamilyById(familyId);
+        }
+        return false;
+    }
+
+    // 회원 탈퇴 시 모든 기기의 토큰과 family 삭제
+    @Transactional
+    public void revokeAllTokens(Long userId) {
+        tokenJPARepository.deleteAllByUserId(userId);
+        tokenFamilyJPARepository.deleteAllByUserId(userId);
     }
 
-    public Boolean checkTokenPairValidation(Long userId, String accessToken, String refreshToken) {
-        Token token = findTokenByUserId(userId);
+    // refresh token 유효 기간 동안 교체되지 않은 토큰과 토큰이 없는 family 정리, 삭제한 family 수 반환
+    @Transactional
+    public int purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(Duration.ofMillis(jwtProvider.REFRESH_TOKEN_EXP));
+        tokenJPARepository.deleteIssuedBefore(cutoff);
+        return tokenFamilyJPARepository.deleteUnusedCreatedBefore(cutoff);
+    }
 
-        return token.getAccessToken().equals(accessToken) && token.getRefreshToken().equals(refreshToken);
+    private boolean isReused(Long familyId, String refreshHash) {
+        LocalDateTime rotatedBefore = LocalDateTime.now().minus(reuseGracePeriod);
+        return tokenFamilyJPARepository.findById(familyId)
+                .map(family -> family.isReusedRefreshHash(refreshHash, rotatedBefore))
+                .orElse(false);
     }
 
-    private Token findTokenByUserId(Long userId) {
-        return tokenJPARepository.findByUserId(userId)
-                .orElseThrow(() -> new NotFoundException(BaseException.TOKEN_NOT_FOUND));
+    private TokenDTO saveTokens(User user, TokenFamily family) {
+        String accessToken = jwtProvider.createAccessToken(user, family.getId());
+        String refreshToken = jwtProvider.createRefreshToken(user, family.getId());
+
+        Token token = Token.builder()
+                .user(user)
+                .family(family)
+                .accessHash(TokenHasher.hash(accessToken))
+                .refreshHash(TokenHasher.hash(refreshToken))
+                .build();
+        tokenJPARepository.saveAndFlush(token);
+
+        return new TokenDTO(accessToken, refreshToken);
     }
 }
@@ -0,0 +1,8 @@
+-- 토큰 교체 시각을 남겨서 유효 기간이 지난 토큰과 family 를 TokenPurger 가 정리할 수 있게 함
+-- 기존 토큰은 지금 발급된 것으로 보고 유효 기간이 지나면 정리됨
+ALTER TABLE token_tb
+    ADD COLUMN issued_at DATETIME(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    ADD INDEX token_issued_at_index (issued_at);
+
+ALTER TABLE token_family_tb
+    ADD INDEX token_family_created_at_index (created_at);
@@ -0,0 +1,5 @@
+-- 마지막으로 교체된 refresh token 다이제스트와 교체 시각
+-- 이미 교체된 토큰이 grace 기간이 지난 뒤 다시 쓰일 때만 family 를 폐기하고, 동시 refresh 에서 진 요청은 실패만 하게 함
+ALTER TABLE token_family_tb
+    ADD COLUMN previous_refresh_hash CHAR(64),
+    ADD COLUMN rotated_at            DATETIME(6);
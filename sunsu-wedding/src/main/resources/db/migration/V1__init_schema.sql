@@ -0,0 +1,173 @@
+-- 초기 스키마 (ddl-auto 로 관리하던 시점의 엔티티 기준)
+-- 이미 테이블이 있는 운영 DB 는 baseline-on-migrate 로 이 버전을 건너뜀
+
+CREATE TABLE user_tb (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    dtype       VARCHAR(31)  NOT NULL,
+    email       VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    username    VARCHAR(255) NOT NULL,
+    grade       VARCHAR(255) NOT NULL,
+    upgrade_at  DATETIME(6),
+    is_active   BIT,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_id_email_active UNIQUE (id, email, is_active),
+    INDEX email_index (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE token_tb (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT,
+    access_token  VARCHAR(255) NOT NULL,
+    refresh_token VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_token_user UNIQUE (user_id),
+    INDEX token_user_index (user_id),
+    CONSTRAINT fk_token_user FOREIGN KEY (user_id) REFERENCES user_tb (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE email_code_tb (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    email      VARCHAR(255) NOT NULL,
+    code       VARCHAR(255) NOT NULL,
+    confirmed  BIT          NOT NULL,
+    created_at DATETIME(6)  NOT NULL,
+    is_active  BIT          NOT NULL,
+    PRIMARY KEY (id),
+    INDEX user_email_index (email)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE payment_tb (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT,
+    order_id     VARCHAR(255) NOT NULL,
+    payment_key  VARCHAR(255),
+    payed_amount BIGINT       NOT NULL,
+    created_at   DATETIME(6)  NOT NULL,
+    payed_at     DATETIME(6),
+    is_active    BIT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_payment_user UNIQUE (user_id),
+    INDEX user_index (user_id),
+    CONSTRAINT fk_payment_user FOREIGN KEY (user_id) REFERENCES user_tb (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE chat_tb (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    created_at DATETIME(6) NOT NULL,
+    is_active  BIT         NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE portfolio_tb (
+    id              BIGINT        NOT NULL AUTO_INCREMENT,
+    planner_id      BIGINT,
+    planner_name    VARCHAR(255)  NOT NULL,
+    title           VARCHAR(255)  NOT NULL,
+    description     VARCHAR(1000) NOT NULL,
+    location        VARCHAR(255)  NOT NULL,
+    career          VARCHAR(1000) NOT NULL,
+    partner_company VARCHAR(1000) NOT NULL,
+    total_price     BIGINT,
+    contract_count  BIGINT,
+    avg_price       BIGINT,
+    min_price       BIGINT,
+    max_price       BIGINT,
+    avg_stars       DOUBLE,
+    created_at      DATETIME(6),
+    is_active       BIT,
+    PRIMARY KEY (id),
+    INDEX planner_index (planner_id),
+    CONSTRAINT fk_portfolio_planner FOREIGN KEY (planner_id) REFERENCES user_tb (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE price_item_tb (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    portfolio_id BIGINT,
+    item_title   VARCHAR(255) NOT NULL,
+    item_price   BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    INDEX portfolio_price_index (portfolio_id),
+    CONSTRAINT fk_price_item_portfolio FOREIGN KEY (portfolio_id) REFERENCES portfolio_tb (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE portfolio_image_item_tb (
+    id           BIGINT   NOT NULL AUTO_INCREMENT,
+    portfolio_id BIGINT,
+    image        LONGTEXT,
+    thumbnail    BIT      NOT NULL,
+    PRIMARY KEY (id),
+    INDEX portoflio_image_index (portfolio_id),
+    CONSTRAINT fk_portfolio_image_portfolio FOREIGN KEY (portfolio_id) REFERENCES portfolio_tb (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- planner, couple 은 탈퇴 후에도 매칭 내역을 남기기 위해 (@NotFound IGNORE) FK 를 두지 않음
+CREATE TABLE match_tb (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    planner_id      BIGINT,
+    couple_id       BIGINT,
+    chat_id         BIGINT,
+    status          VARCHAR(255) NOT NULL,
+    price           BIGINT       NOT NULL,
+    confirmed_price BIGINT       NOT NULL,
+    confirmed_at    DATETIME(6),
+    review_status   VARCHAR(255) NOT NULL,
+    created_at      DATETIME(6)  NOT NULL,
+    is_active       BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_match_chat UNIQUE (chat_id),
+    INDEX match_couple_planner_index (couple_id, planner_id),
+    INDEX match_chat_index (chat_id),
+    CONSTRAINT fk_match_chat FOREIGN KEY (chat_id) REFERENCES chat_tb (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE quotation_tb (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    match_id    BIGINT,
+    title       VARCHAR(255) NOT NULL,
+    price       BIGINT       NOT NULL,
+    company     VARCHAR(255) NOT NULL,
+    description VARCHAR(500) NOT NULL,
+    status      VARCHAR(255) NOT NULL,
+    modified_at DATETIME(6)  NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    is_active   BIT          NOT NULL,
+    PRIMARY KEY (id),
+    INDEX match_index (match_id),
+    CONSTRAINT fk_quotation_match FOREIGN KEY (match_id) REFERENCES match_tb (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE review_tb (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    match_id    BIGINT,
+    stars       INTEGER      NOT NULL,
+    content     VARCHAR(500) NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    modified_at DATETIME(6),
+    is_active   BIT          NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_review_id_match_active UNIQUE (id, match_id, is_active),
+    CONSTRAINT fk_review_match FOREIGN KEY (match_id) REFERENCES match_tb (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE review_image_item_tb (
+    id        BIGINT   NOT NULL AUTO_INCREMENT,
+    review_id BIGINT,
+    image     LONGTEXT,
+    thumbnail BIT      NOT NULL,
+    PRIMARY KEY (id),
+    INDEX review_index (review_id),
+    CONSTRAINT fk_review_image_review FOREIGN KEY (review_id) REFERENCES review_tb (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE favorite_tb (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT,
+    portfolio_id BIGINT,
+    created_at   DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX user_portfolio_index (user_id, portfolio_id),
+    CONSTRAINT fk_favorite_user FOREIGN KEY (user_id) REFERENCES user_tb (id),
+    CONSTRAINT fk_favorite_portfolio FOREIGN KEY (portfolio_id) REFERENCES portfolio_tb (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,3 @@
+-- 목록에 쓰는 대표 이미지 썸네일 키 (기존 이미지는 다시 업로드하기 전까지 원본 image_key 를 사용)
+ALTER TABLE portfolio_image_item_tb
+    ADD COLUMN thumbnail_key VARCHAR(64);
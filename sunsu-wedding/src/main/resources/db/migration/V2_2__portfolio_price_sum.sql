@@ -0,0 +1,19 @@
+-- 확정 거래 금액을 증분으로 관리하기 위한 합계 (평균 = price_sum / contract_count)
+ALTER TABLE portfolio_tb
+    ADD COLUMN price_sum BIGINT;
+
+-- 기존 데이터 채우기 (PortfolioStatsReconciler 와 같은 기준)
+UPDATE portfolio_tb p
+    LEFT JOIN (SELECT planner_id,
+                      COUNT(*)             AS cnt,
+                      SUM(confirmed_price) AS total,
+                      MIN(confirmed_price) AS min_price,
+                      MAX(confirmed_price) AS max_price
+               FROM match_tb
+               WHERE status = 'CONFIRMED' AND is_active = true
+               GROUP BY planner_id) m ON m.planner_id = p.planner_id
+SET p.contract_count = COALESCE(m.cnt, 0),
+    p.price_sum      = COALESCE(m.total, 0),
+    p.avg_price      = COALESCE(m.total DIV m.cnt, 0),
+    p.min_price      = COALESCE(m.min_price, 0),
+    p.max_price      = COALESCE(m.max_price, 0);
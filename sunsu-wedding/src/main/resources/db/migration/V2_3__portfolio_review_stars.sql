@@ -0,0 +1,17 @@
+-- 평점을 증분으로 관리하기 위한 합계/건수 (평균 = stars_sum / review_count)
+ALTER TABLE portfolio_tb
+    ADD COLUMN stars_sum    BIGINT,
+    ADD COLUMN review_count BIGINT;
+
+-- 기존 데이터 채우기 (PortfolioStatsReconciler 와 같은 기준)
+UPDATE portfolio_tb p
+    LEFT JOIN (SELECT m.planner_id,
+                      COUNT(*)      AS cnt,
+                      SUM(rv.stars) AS total
+               FROM review_tb rv
+                        JOIN match_tb m ON m.id = rv.match_id
+               WHERE rv.is_active = true
+               GROUP BY m.planner_id) r ON r.planner_id = p.planner_id
+SET p.review_count = COALESCE(r.cnt, 0),
+    p.stars_sum    = COALESCE(r.total, 0),
+    p.avg_stars    = COALESCE(ROUND(r.total / r.cnt, 2), 0);
@@ -0,0 +1,6 @@
+-- 이미지를 blob 저장소 키로 참조 (기존 image 컬럼은 LobImageMigrationJob 이 옮긴 뒤 비움)
+ALTER TABLE portfolio_image_item_tb
+    ADD COLUMN image_key VARCHAR(64);
+
+ALTER TABLE review_image_item_tb
+    ADD COLUMN image_key VARCHAR(64);
@@ -0,0 +1,8 @@
+-- 포트폴리오 목록 조회(PortfolioSpecification) 조건 조합별 인덱스
+-- 모든 조회에 is_active = true, total_price >= ? 가 붙고 id 내림차순 커서로 페이지를 나눔
+--   조건 없음 / 가격만 : (is_active, id) 순서대로 읽으면서 total_price 는 인덱스 안에서 걸러냄
+--   지역 (+ 가격)      : (is_active, location, id) 순서대로 읽으면서 total_price 는 인덱스 안에서 걸러냄
+--   플래너 이름        : user_tb.username 으로 플래너를 찾고 planner_index 로 포트폴리오 조회
+CREATE INDEX portfolio_active_id_price_index ON portfolio_tb (is_active, id, total_price);
+CREATE INDEX portfolio_active_location_id_price_index ON portfolio_tb (is_active, location, id, total_price);
+CREATE INDEX username_index ON user_tb (username);
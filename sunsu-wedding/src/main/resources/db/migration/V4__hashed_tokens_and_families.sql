@@ -0,0 +1,26 @@
+-- 토큰 원문 대신 SHA-256 다이제스트만 저장하고, 로그인 기기마다 token family 를 둠
+-- 기존 토큰은 원문이라 다이제스트로 옮길 수 없으므로 모두 폐기 (다시 로그인 필요)
+DROP TABLE token_tb;
+
+CREATE TABLE token_family_tb (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    INDEX token_family_user_index (user_id),
+    CONSTRAINT fk_token_family_user FOREIGN KEY (user_id) REFERENCES user_tb (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+-- refresh 검증/교체는 (user_id, refresh_hash) 유니크 인덱스 한 번으로 처리
+CREATE TABLE token_tb (
+    id           BIGINT   NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT   NOT NULL,
+    family_id    BIGINT   NOT NULL,
+    access_hash  CHAR(64) NOT NULL,
+    refresh_hash CHAR(64) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_token_user_refresh UNIQUE (user_id, refresh_hash),
+    CONSTRAINT uk_token_family UNIQUE (family_id),
+    CONSTRAINT fk_token_user FOREIGN KEY (user_id) REFERENCES user_tb (id),
+    CONSTRAINT fk_token_family FOREIGN KEY (family_id) REFERENCES token_family_tb (id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,9 @@
+-- 결제 승인을 PENDING -> APPROVED / FAILED 두 단계로 나눔 (토스페이먼츠 호출은 트랜잭션 밖에서 실행)
+ALTER TABLE payment_tb
+    ADD COLUMN status     VARCHAR(20) NOT NULL DEFAULT 'READY',
+    ADD COLUMN pending_at DATETIME(6);
+
+UPDATE payment_tb SET status = 'APPROVED' WHERE payed_at IS NOT NULL;
+
+-- PaymentReconciler 가 오래된 PENDING 결제를 찾을 때 사용
+CREATE INDEX payment_status_pending_index ON payment_tb (status, pending_at);
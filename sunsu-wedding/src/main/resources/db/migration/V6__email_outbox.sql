@@ -0,0 +1,17 @@
+-- 인증 메일은 요청 트랜잭션에서 outbox 에 저장하고 EmailOutboxDispatcher 가 배치로 발송
+CREATE TABLE email_outbox_tb (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    recipient       VARCHAR(255) NOT NULL,
+    subject         VARCHAR(255) NOT NULL,
+    body            TEXT         NOT NULL,
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INT          NOT NULL,
+    next_attempt_at DATETIME(6)  NOT NULL,
+    claim_token     VARCHAR(36),
+    last_error      VARCHAR(255),
+    created_at      DATETIME(6)  NOT NULL,
+    sent_at         DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX email_outbox_status_next_attempt_index (status, next_attempt_at),
+    INDEX email_outbox_claim_token_index (claim_token)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,20 @@
+-- 인증 코드는 이메일당 한 행만 두고 만료되면 물리적으로 삭제 (soft delete 로 계속 쌓이던 행 정리)
+DELETE FROM email_code_tb WHERE is_active = false;
+
+-- 같은 이메일의 코드가 여러 행이면 가장 최근 행만 남김
+DELETE e1 FROM email_code_tb e1
+    JOIN email_code_tb e2 ON e1.email = e2.email AND e1.id < e2.id;
+
+ALTER TABLE email_code_tb
+    DROP COLUMN is_active,
+    ADD COLUMN expires_at DATETIME(6) NULL;
+
+-- 인증 완료된 코드는 하루, 인증 전 코드는 발송 후 10분까지 유효
+UPDATE email_code_tb
+SET expires_at = IF(confirmed, DATE_ADD(NOW(6), INTERVAL 1 DAY), DATE_ADD(created_at, INTERVAL 10 MINUTE));
+
+ALTER TABLE email_code_tb
+    MODIFY COLUMN expires_at DATETIME(6) NOT NULL,
+    DROP INDEX user_email_index,
+    ADD CONSTRAINT uk_email_code_email UNIQUE (email),
+    ADD INDEX email_code_expires_at_index (expires_at);
@@ -0,0 +1,3 @@
+-- 프리미엄 거래 내역 조회 (플래너의 최근 확정 매칭 10건) 인덱스
+-- planner_id 로 좁힌 뒤 confirmed_at 내림차순으로 읽으면서 LIMIT 만큼만 가져옴
+CREATE INDEX match_planner_confirmed_at_index ON match_tb (planner_id, confirmed_at);
@@ -0,0 +1,13 @@
+-- 플래너별, 지역별 확정 거래 금액 분포 (t-digest 스케치)
+-- 확정 시 MatchServiceImpl.confirm 에서 갱신, 포트폴리오 등록 시 플래너 스케치는 match_tb 로 다시 만듦
+-- 기존 확정 거래는 배포 후 첫 시작 때 PriceSketchRebuilder.backfill 이 match_tb 로 채움 (테이블이 비어 있을 때만)
+CREATE TABLE price_sketch_tb (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    scope      VARCHAR(20)  NOT NULL,
+    scope_key  VARCHAR(100) NOT NULL,
+    deal_count BIGINT       NOT NULL,
+    sketch     BLOB         NOT NULL,
+    updated_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_price_sketch_scope_key UNIQUE (scope, scope_key)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -1,7 +1,9 @@
 SET REFERENTIAL_INTEGRITY FALSE;
 truncate table user_tb;
 truncate table token_tb;
+truncate table token_family_tb;
 truncate table email_code_tb;
+truncate table email_outbox_tb;
 truncate table payment_tb;
 truncate table portfolio_tb;
 truncate table portfolio_image_item_tb;
@@ -12,6 +14,7 @@ truncate table chat_tb;
 truncate table review_tb;
 truncate table review_image_item_tb;
 truncate table favorite_tb;
+truncate table price_sketch_tb;
 SET REFERENTIAL_INTEGRITY TRUE;
 
 -- planner 비밀번호 : planner1234!
@@ -40,19 +43,21 @@ INSERT INTO user_tb (`id`,`email`,`password`,`username`,`created_at`,`upgrade_at
 INSERT INTO user_tb (`id`,`email`,`password`,`username`,`created_at`,`upgrade_at`,`grade`, `is_active`, `dtype`) VALUES ('18','couple3@gmail.com','{bcrypt}$2a$10$bKgX34po45/xYw1Dd8C81OYW4dkkVQV5lHd7a.06m1gBX689XERA.','couple3','2023-09-16 01:06:55.00','2023-09-20 15:26:55.00','PREMIUM', 'true', 'couple');
 INSERT INTO user_tb (`id`,`email`,`password`,`username`,`created_at`,`upgrade_at`,`grade`, `is_active`, `dtype`) VALUES ('22','couple4@gmail.com','{bcrypt}$2a$10$bKgX34po45/xYw1Dd8C81OYW4dkkVQV5lHd7a.06m1gBX689XERA.','couple4','2023-09-16 01:06:55.00','2023-09-20 15:26:55.00','PREMIUM', 'true', 'couple');
 
--- token
-INSERT INTO token_tb (`id`,`user_id`,`access_token`,`refresh_token`) VALUES ('1', '3','accesToken1', 'refreshToken1');
-INSERT INTO token_tb (`id`,`user_id`,`access_token`,`refresh_token`) VALUES ('2', '4','accesToken2', 'refreshToken2');
+-- token (access_hash, refresh_hash 는 각각 accesToken1 / refreshToken1, accesToken2 / refreshToken2 의 SHA-256)
+INSERT INTO token_family_tb (`id`,`user_id`,`created_at`) VALUES ('1', '3', '2023-11-06 09:00:00.00');
+INSERT INTO token_family_tb (`id`,`user_id`,`created_at`) VALUES ('2', '4', '2023-11-06 09:00:00.00');
+INSERT INTO token_tb (`id`,`user_id`,`family_id`,`access_hash`,`refresh_hash`,`issued_at`) VALUES ('1', '3', '1', '8a132017ce3861987a6903a583ce42027683824c57b7f1449ef92c0d961b0634', '2ab6a123feef5d5d7bbbc65f780f9ce452149d5c6cb3119e858e87bd4c3cb13f', CURRENT_TIMESTAMP);
+INSERT INTO token_tb (`id`,`user_id`,`family_id`,`access_hash`,`refresh_hash`,`issued_at`) VALUES ('2', '4', '2', 'c0f7bc3fc419f1448e7eee519d395fecd988e4994705e3dd245e98fc99ecfc4f', '2f4fd46c4a8f04a418d5ce0e0493873b7911ba2cc5fd720995269627b3224f65', CURRENT_TIMESTAMP);
 
--- mail code
-INSERT INTO email_code_tb (`id`, `email`, `code`, `confirmed`, `created_at`, `is_active`) VALUES ('1', 'ssarmango@nate.com', '123456', 'true', '2023-11-06 09:00:00.00', 'true');
-INSERT INTO email_code_tb (`id`, `email`, `code`, `confirmed`, `created_at`, `is_active`) VALUES ('2', 'asdf@naver.com', '123456', 'true', '2023-11-06 10:00:00.00', 'true');
-INSERT INTO email_code_tb (`id`, `email`, `code`, `confirmed`, `created_at`, `is_active`) VALUES ('3', 'test@naver.com', '123456', 'false', '2023-11-06 13:00:00.00', 'true');
-INSERT INTO email_code_tb (`id`, `email`, `code`, `confirmed`, `created_at`, `is_active`) VALUES ('4', 'couple@gmail.com', '123456', 'true', '2023-11-06 13:00:00.00', 'true');
+-- mail code (인증 완료된 코드는 회원가입 테스트에서 쓰도록 만료 시각을 멀리 둠)
+INSERT INTO email_code_tb (`id`, `email`, `code`, `confirmed`, `created_at`, `expires_at`) VALUES ('1', 'ssarmango@nate.com', '123456', 'true', '2023-11-06 09:00:00.00', '2099-12-31 00:00:00.00');
+INSERT INTO email_code_tb (`id`, `email`, `code`, `confirmed`, `created_at`, `expires_at`) VALUES ('2', 'asdf@naver.com', '123456', 'true', '2023-11-06 10:00:00.00', '2099-12-31 00:00:00.00');
+INSERT INTO email_code_tb (`id`, `email`, `code`, `confirmed`, `created_at`, `expires_at`) VALUES ('3', 'test@naver.com', '123456', 'false', '2023-11-06 13:00:00.00', '2023-11-06 13:10:00.00');
+INSERT INTO email_code_tb (`id`, `email`, `code`, `confirmed`, `created_at`, `expires_at`) VALUES ('4', 'couple@gmail.com', '123456', 'true', '2023-11-06 13:00:00.00', '2099-12-31 00:00:00.00');
 
 -- payment
-INSERT INTO payment_tb (`id`,`user_id`,`order_id`,`payment_key`, `payed_amount`, `created_at`, `payed_at`, `is_active`) VALUES ('1', '4','order', 'payment', '1000', '2023-10-16 01:06:55.00', '2023-10-16 01:06:55.10', 'true');
-INSERT INTO payment_tb (`id`,`user_id`,`order_id`,`payment_key`, `payed_amount`, `created_at`, `payed_at`, `is_active`) VALUES ('2', '10','order2', 'payment2', '1000', '2023-10-16 01:06:55.00', '2023-10-16 01:06:55.10', 'true');
+INSERT INTO payment_tb (`id`,`user_id`,`order_id`,`payment_key`, `payed_amount`, `created_at`, `payed_at`, `status`, `is_active`) VALUES ('1', '4','order', 'payment', '1000', '2023-10-16 01:06:55.00', '2023-10-16 01:06:55.10', 'READY', 'true');
+INSERT INTO payment_tb (`id`,`user_id`,`order_id`,`payment_key`, `payed_amount`, `created_at`, `payed_at`, `status`, `is_active`) VALUES ('2', '10','order2', 'payment2', '1000', '2023-10-16 01:06:55.00', '2023-10-16 01:06:55.10', 'APPROVED', 'true');
 
 
 INSERT INTO portfolio_tb (`id`, `planner_id`, `planner_name`, `title`, `description`, `location`, `career`, `partner_company`, `total_price`, `contract_count`, `avg_price`, `min_price`, `max_price`, `avg_stars`, `created_at`, `is_active`) VALUES ('1', '2', 'planner1', 'test1', 'test1', '부산', 'none', 'none', '1000000', '10', '1000000', '1000000', '1000000', 5, '2023-09-15 15:26:55.00', 'true');
@@ -81,30 +86,30 @@ INSERT INTO price_item_tb (`id`, `portfolio_id`, `item_title`, `item_price`) VAL
 INSERT INTO price_item_tb (`id`, `portfolio_id`, `item_title`, `item_price`) VALUES ('6', '2', '메이크업2', '200000');
 INSERT INTO price_item_tb (`id`, `portfolio_id`, `item_title`, `item_price`) VALUES ('7', '2', '메이크업2', '200000');
 
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('1', '1', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('2', '1', '/wAA', 'false');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('3', '1', '/wAA', 'false');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('4', '1', '/wAA', 'false');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('5', '1', '/wAA', 'false');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('6', '2', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('7', '2', '/wAA', 'false');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('8', '2', '/wAA', 'false');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('9', '2', '/wAA', 'false');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('10', '2', '/wAA', 'false');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('11', '3', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('12', '4', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('14', '5', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('15', '6', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('16', '7', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('17', '8', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('18', '9', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('19', '10', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('20', '11', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('21', '12', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('22', '13', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('23', '14', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('24', '15', '/wAA', 'true');
-INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image`, `thumbnail`) VALUES  ('25', '16', '/wAA', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('1', '1', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('2', '1', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('3', '1', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('4', '1', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('5', '1', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('6', '2', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('7', '2', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('8', '2', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('9', '2', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('10', '2', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('11', '3', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('12', '4', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('14', '5', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('15', '6', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('16', '7', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('17', '8', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('18', '9', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('19', '10', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('20', '11', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('21', '12', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('22', '13', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('23', '14', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('24', '15', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO portfolio_image_item_tb (`id`, `portfolio_id`, `image_key`, `thumbnail`) VALUES  ('25', '16', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
 
 INSERT INTO chat_tb (`id`, `created_at`, `is_active`) VALUES (1, '2023-10-08 08:30:12.00', true);
 INSERT INTO chat_tb (`id`, `created_at`, `is_active`) VALUES (2, '2023-10-08 08:30:12.00', true);
@@ -135,14 +140,14 @@ INSERT INTO quotation_tb (`id`, `match_id`, `title`, `price`, `company`, `descri
 INSERT INTO review_tb (`id`, `match_id`, `stars`, `content`, `created_at`, `modified_at`, `is_active`) VALUES (1, 1, 5, '최고의 플래너!', '2023-10-08 08:30:12.00', '2023-10-08 08:30:12.00', true);
 INSERT INTO review_tb (`id`, `match_id`, `stars`, `content`, `created_at`, `modified_at`, `is_active`) VALUES (2, 6, 5, '님 진짜 최고셈!', '2023-10-08 08:30:12.00', '2023-10-08 08:30:12.00', true);
 
-INSERT INTO review_image_item_tb (`id`, `review_id`, `image`, `thumbnail`) VALUES  ('1', '1', '/wAA', 'true');
-INSERT INTO review_image_item_tb (`id`, `review_id`, `image`, `thumbnail`) VALUES  ('2', '1', '/wAA', 'false');
-INSERT INTO review_image_item_tb (`id`, `review_id`, `image`, `thumbnail`) VALUES  ('3', '1', '/wAA', 'false');
-INSERT INTO review_image_item_tb (`id`, `review_id`, `image`, `thumbnail`) VALUES  ('4', '1', '/wAA', 'false');
-INSERT INTO review_image_item_tb (`id`, `review_id`, `image`, `thumbnail`) VALUES  ('5', '1', '/wAA', 'false');
-INSERT INTO review_image_item_tb (`id`, `review_id`, `image`, `thumbnail`) VALUES  ('6', '2', '/wAA', 'true');
-INSERT INTO review_image_item_tb (`id`, `review_id`, `image`, `thumbnail`) VALUES  ('7', '2', '/wAA', 'false');
-INSERT INTO review_image_item_tb (`id`, `review_id`, `image`, `thumbnail`) VALUES  ('8', '2', '/wAA', 'false');
+INSERT INTO review_image_item_tb (`id`, `review_id`, `image_key`, `thumbnail`) VALUES  ('1', '1', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO review_image_item_tb (`id`, `review_id`, `image_key`, `thumbnail`) VALUES  ('2', '1', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO review_image_item_tb (`id`, `review_id`, `image_key`, `thumbnail`) VALUES  ('3', '1', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO review_image_item_tb (`id`, `review_id`, `image_key`, `thumbnail`) VALUES  ('4', '1', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO review_image_item_tb (`id`, `review_id`, `image_key`, `thumbnail`) VALUES  ('5', '1', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO review_image_item_tb (`id`, `review_id`, `image_key`, `thumbnail`) VALUES  ('6', '2', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'true');
+INSERT INTO review_image_item_tb (`id`, `review_id`, `image_key`, `thumbnail`) VALUES  ('7', '2', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
+INSERT INTO review_image_item_tb (`id`, `review_id`, `image_key`, `thumbnail`) VALUES  ('8', '2', '7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767', 'false');
 
 
 
@@ -0,0 +1,63 @@
+package com.kakao.sunsuwedding;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 빈 MySQL 에 db/migration 을 V1 부터 모두 적용한 뒤 엔티티와 스키마가 맞는지 ddl-auto=validate 로 확인
+// 마이그레이션이 MySQL 전용 문법(UPDATE JOIN, DIV, IF(), DROP INDEX)을 쓰므로 H2 가 아닌 MySQL 컨테이너를 사용하고, Docker 가 없으면 건너뜀
+@Testcontainers(disabledWithoutDocker = true)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "security.jwt-config.secret.access=your-test-access-secret",
+        "security.jwt-config.secret.refresh=your-test-refresh-secret",
+        "payment.toss.secret=your-test-toss-payment-secret",
+        "email.username=test@email.com",
+        "email.password=qweasdzxc",
+        "email.test-code=999999",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate"
+})
+@SpringBootTest
+public class FlywayMigrationTest {
+
+    @Container
+    private static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.driver-class-name", mysql::getDriverClassName);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+    }
+
+    @Autowired
+    private Flyway flyway;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("V1 부터 모든 마이그레이션 적용 후 엔티티 스키마 검증")
+    @Test
+    void migrate_and_validate_test() {
+        // given, when (컨텍스트가 뜨면서 Flyway migrate, Hibernate validate 순서로 실행되고 하나라도 실패하면 컨텍스트가 뜨지 않음)
+
+        // then
+        assertThat(flyway.info().pending()).isEmpty();
+        assertThat(flyway.info().applied()).hasSize(flyway.info().all().length);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM flyway_schema_history WHERE success = false", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT MIN(version) FROM flyway_schema_history", String.class)).isEqualTo("1");
+    }
+}
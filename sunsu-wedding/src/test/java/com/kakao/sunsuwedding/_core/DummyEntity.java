@@ -13,8 +13,13 @@ import com.kakao.sunsuwedding.user.base_user.User;
 import com.kakao.sunsuwedding.user.couple.Couple;
 import com.kakao.sunsuwedding.user.planner.Planner;
 import com.kakao.sunsuwedding.user.token.Token;
+import com.kakao.sunsuwedding.user.token.TokenFamily;
+import com.kakao.sunsuwedding.user.token.TokenHasher;
 
 public class DummyEntity {
+    // base64 "/wAA" 를 디코딩한 바이트의 SHA-256
+    protected static final String IMAGE_KEY = "7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767";
+
     protected Couple newCouple(String username){
         return Couple.builder()
                 .email(username+"@nate.com")
@@ -48,11 +53,17 @@ public class DummyEntity {
                 .status(status)
                 .build();
     }
-    protected Token newToken(User user){
+    protected TokenFamily newTokenFamily(User user){
+        return TokenFamily.builder()
+                .user(user)
+                .build();
+    }
+    protected Token newToken(User user, TokenFamily family){
         return Token.builder()
                 .user(user)
-                .accessToken("accessToken")
-                .refreshToken("refreshToken")
+                .family(family)
+                .accessHash(TokenHasher.hash("accessToken"))
+                .refreshHash(TokenHasher.hash("refreshToken"))
                 .build();
     }
 
@@ -82,10 +93,10 @@ public class DummyEntity {
                 .build();
     }
 
-    protected PortfolioImageItem newImageItem(Portfolio portfolio, String image, Boolean isThumbnail){
+    protected PortfolioImageItem newImageItem(Portfolio portfolio, String imageKey, Boolean isThumbnail){
         return PortfolioImageItem.builder()
                 .portfolio(portfolio)
-                .image(image)
+                .imageKey(imageKey)
                 .thumbnail(isThumbnail)
                 .build();
     }
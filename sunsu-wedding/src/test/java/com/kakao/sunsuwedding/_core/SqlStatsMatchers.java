@@ -0,0 +1,30 @@
+package com.kakao.sunsuwedding._core;
+
+import com.kakao.sunsuwedding._core.sql.SqlStatementStats;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// MockMvc 요청 하나에서 실행된 SQL 문 수 검증 (SqlStatsInterceptor 가 요청 속성에 남긴 값 사용)
+// result.andExpect(SqlStatsMatchers.statements(2));
+public class SqlStatsMatchers {
+
+    public static ResultMatcher statements(long expected) {
+        return result -> assertThat(stats(result).getStatements())
+                .as("SQL statements of %s", result.getRequest().getRequestURI())
+                .isEqualTo(expected);
+    }
+
+    public static ResultMatcher statementsAtMost(long max) {
+        return result -> assertThat(stats(result).getStatements())
+                .as("SQL statements of %s", result.getRequest().getRequestURI())
+                .isLessThanOrEqualTo(max);
+    }
+
+    private static SqlStatementStats stats(MvcResult result) {
+        Object stats = result.getRequest().getAttribute(SqlStatementStats.REQUEST_ATTRIBUTE);
+        assertThat(stats).as("SqlStatsInterceptor 가 적용되지 않은 요청").isInstanceOf(SqlStatementStats.class);
+        return (SqlStatementStats) stats;
+    }
+}
@@ -1,6 +1,9 @@
 package com.kakao.sunsuwedding.favorite;
 
 import com.kakao.sunsuwedding._core.DummyEntity;
+import com.kakao.sunsuwedding._core.config.SqlStatsConfig;
+import com.kakao.sunsuwedding._core.sql.SqlStatementStats;
+import com.kakao.sunsuwedding._core.utils.LongHashSet;
 import com.kakao.sunsuwedding.portfolio.Portfolio;
 import com.kakao.sunsuwedding.portfolio.PortfolioJPARepository;
 import com.kakao.sunsuwedding.user.couple.Couple;
@@ -13,12 +16,19 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+// SqlStatsConfig 로 DataSource 를 감싸서 찜 조회의 SQL 문 수와 읽은 행 수를 확인
+@Import(SqlStatsConfig.class)
 @DataJpaTest
 public class FavoriteRepositoryTest extends DummyEntity {
     @Autowired
@@ -33,6 +43,9 @@ public class FavoriteRepositoryTest extends DummyEntity {
     @Autowired
     private PortfolioJPARepository portfolioJPARepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Long id1, id2;
 
     Couple couple;
@@ -98,4 +111,48 @@ public class FavoriteRepositoryTest extends DummyEntity {
         assertThat(favoriteJPARepository.count()).isEqualTo(previous_counts - 1);
     }
 
+    @DisplayName("찜이 수천 개인 유저도 목록 한 페이지 안에서 찜한 포트폴리오 id 만 조회")
+    @Test
+    void findPortfolioIdsByUserIdAndPortfolioIds(){
+        // given - 포트폴리오 4000개 중 짝수 id 2000개를 찜함
+        int portfolioCount = 4000;
+        long idOffset = 10_000L;
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_tb (id, email, password, username, created_at, grade, is_active, dtype)
+                VALUES (?, ?, 'password', ?, ?, 'NORMAL', true, 'planner')
+                """, LongStream.range(idOffset, idOffset + portfolioCount)
+                .mapToObj(id -> new Object[]{id, "bulk" + id + "@gmail.com", "bulk" + id, now})
+                .toList());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO portfolio_tb (id, planner_id, planner_name, title, description, location, career, partner_company,
+                                          total_price, contract_count, avg_price, min_price, max_price, avg_stars, created_at, is_active)
+                VALUES (?, ?, 'bulk', 'title', 'description', '서울', 'career', 'partner', 1000000, 0, 0, 0, 0, 0, ?, true)
+                """, LongStream.range(idOffset, idOffset + portfolioCount)
+                .mapToObj(id -> new Object[]{id, id, now})
+                .toList());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO favorite_tb (user_id, portfolio_id, created_at) VALUES (?, ?, ?)
+                """, LongStream.range(idOffset, idOffset + portfolioCount)
+                .filter(id -> id % 2 == 0)
+                .mapToObj(id -> new Object[]{couple.getId(), id, now})
+                .toList());
+
+        // 최근에 찜한 순서와 무관한 중간 페이지
+        List<Long> pageIds = LongStream.range(idOffset + 1500, idOffset + 1510).boxed().toList();
+
+        // when
+        SqlStatementStats.start();
+        List<Long> likedIds = favoriteJPARepository.findPortfolioIdsByUserIdAndPortfolioIds(couple.getId(), pageIds);
+        SqlStatementStats stats = SqlStatementStats.stop();
+        LongHashSet likedSet = LongHashSet.of(likedIds);
+
+        // then (찜 2000개가 아니라 페이지 안의 찜 5개만 한 번의 쿼리로 읽음)
+        assertThat(stats.getStatements()).isEqualTo(1);
+        assertThat(stats.getRows()).isEqualTo(5);
+        assertThat(likedIds).hasSize(5);
+        pageIds.forEach(id -> assertThat(likedSet.contains(id)).isEqualTo(id % 2 == 0));
+        assertThat(favoriteJPARepository.findPortfolioIdsByUserIdAndPortfolioIds(planner.getId(), pageIds)).isEmpty();
+    }
+
 }
@@ -0,0 +1,236 @@
+package com.kakao.sunsuwedding.image;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakao.sunsuwedding._core.config.SecurityConfig;
+import com.kakao.sunsuwedding._core.storage.BlobStorage;
+import com.kakao.sunsuwedding.portfolio.PortfolioJPARepository;
+import com.kakao.sunsuwedding.portfolio.PortfolioRequest;
+import com.kakao.sunsuwedding.portfolio.image.PortfolioImageItemServiceImpl;
+import com.kakao.sunsuwedding.review.ReviewJPARepository;
+import com.kakao.sunsuwedding.review.ReviewRequest;
+import com.kakao.sunsuwedding.review.image.ReviewImageItemService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 이미지 행을 교체하거나 지우는 경로마다 커밋 후 참조가 끊긴 blob 을 정리하는지,
+// 이미지를 저장한 트랜잭션이 롤백되면 방금 저장한 blob 을 정리하는지 확인
+@Import({
+        SecurityConfig.class
+})
+@ActiveProfiles("test")
+@Sql("classpath:/db/teardown.sql")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "security.jwt-config.secret.access=your-test-access-secret",
+        "security.jwt-config.secret.refresh=your-test-refresh-secret",
+        "payment.toss.secret=your-test-toss-payment-secret",
+        "email.username=test@email.com",
+        "email.password=qweasdzxc",
+        "email.test-code=999999"
+})
+@SpringBootTest
+public class ImageBlobReleaseTest {
+
+    // teardown.sql 의 planner1@gmail.com 포트폴리오, couple@gmail.com 리뷰
+    private static final Long PORTFOLIO_ID = 1L;
+    private static final Long OTHER_PORTFOLIO_ID = 2L;
+    private static final Long REVIEW_ID = 1L;
+    private static final Long OTHER_REVIEW_ID = 2L;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper om;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BlobStorage blobStorage;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private PortfolioImageItemServiceImpl portfolioImageItemServiceImpl;
+    @Autowired
+    private ReviewImageItemService reviewImageItemService;
+    @Autowired
+    private PortfolioJPARepository portfolioJPARepository;
+    @Autowired
+    private ReviewJPARepository reviewJPARepository;
+
+    @DisplayName("포트폴리오 수정 - 교체된 이미지 중 다른 곳에서 참조하지 않는 파일만 삭제")
+    @Test
+    @WithUserDetails("planner1@gmail.com")
+    public void update_portfolio_releases_blobs_test() throws Exception {
+        // given
+        String ownKey = storeLongAgo(uniqueContent());
+        String thumbnailKey = storeLongAgo(uniqueContent());
+        String sharedKey = storeLongAgo(uniqueContent());
+        insertPortfolioImageItem(1000L, PORTFOLIO_ID, ownKey, thumbnailKey);
+        insertPortfolioImageItem(1001L, PORTFOLIO_ID, sharedKey, null);
+        insertPortfolioImageItem(1002L, OTHER_PORTFOLIO_ID, sharedKey, null);
+
+        PortfolioRequest.UpdateDTO request = new PortfolioRequest.UpdateDTO("김희정", "title2", "description2", "부산", "career2", "partnerCompany2",
+                List.of(new PortfolioRequest.PriceItemDTO("드레스", 400000L)), List.of("/wAA"));
+
+        // when
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders
+                        .put("/api/portfolio")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(request))
+        );
+
+        // then
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.success").value("true"));
+        assertThat(blobStorage.exists(ownKey)).isFalse();
+        assertThat(blobStorage.exists(thumbnailKey)).isFalse();
+        assertThat(blobStorage.exists(sharedKey)).isTrue();
+    }
+
+    @DisplayName("리뷰 수정 - 교체된 이미지 중 다른 곳에서 참조하지 않는 파일만 삭제")
+    @Test
+    @WithUserDetails("couple@gmail.com")
+    public void update_review_releases_blobs_test() throws Exception {
+        // given
+        String ownKey = storeLongAgo(uniqueContent());
+        String sharedKey = storeLongAgo(uniqueContent());
+        insertReviewImageItem(1000L, REVIEW_ID, ownKey);
+        insertReviewImageItem(1001L, REVIEW_ID, sharedKey);
+        insertReviewImageItem(1002L, OTHER_REVIEW_ID, sharedKey);
+
+        ReviewRequest.UpdateDTO request = new ReviewRequest.UpdateDTO(3, "최고의 플래너!", List.of("/wAA"));
+
+        // when
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders
+                        .put("/api/review/" + REVIEW_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(om.writeValueAsString(request))
+        );
+
+        // then
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.success").value("true"));
+        assertThat(blobStorage.exists(ownKey)).isFalse();
+        assertThat(blobStorage.exists(sharedKey)).isTrue();
+    }
+
+    @DisplayName("리뷰 삭제 - 다른 곳에서 참조하지 않는 이미지 파일만 삭제")
+    @Test
+    @WithUserDetails("couple@gmail.com")
+    public void delete_review_releases_blobs_test() throws Exception {
+        // given
+        String ownKey = storeLongAgo(uniqueContent());
+        String sharedKey = storeLongAgo(uniqueContent());
+        insertReviewImageItem(1000L, REVIEW_ID, ownKey);
+        insertReviewImageItem(1001L, REVIEW_ID, sharedKey);
+        insertPortfolioImageItem(1002L, PORTFOLIO_ID, sharedKey, null);
+
+        // when
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders
+                        .delete("/api/review/" + REVIEW_ID)
+        );
+
+        // then
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.success").value("true"));
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM review_image_item_tb WHERE review_id = ?", Long.class, REVIEW_ID)).isZero();
+        assertThat(blobStorage.exists(ownKey)).isFalse();
+        assertThat(blobStorage.exists(sharedKey)).isTrue();
+    }
+
+    @DisplayName("포트폴리오 이미지 저장 후 롤백 - 다른 곳에서 참조하지 않는 파일만 삭제")
+    @Test
+    public void upload_portfolio_images_rollback_releases_blobs_test() throws Exception {
+        // given
+        byte[] ownImage = uniqueContent();
+        byte[] sharedImage = uniqueContent();
+        String ownKey = storeLongAgo(ownImage);
+        String sharedKey = storeLongAgo(sharedImage);
+        insertPortfolioImageItem(1000L, OTHER_PORTFOLIO_ID, sharedKey, null);
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            portfolioImageItemServiceImpl.uploadImage(List.of(encode(ownImage), encode(sharedImage)),
+                    portfolioJPARepository.findById(PORTFOLIO_ID).orElseThrow());
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM portfolio_image_item_tb WHERE image_key = ?", Long.class, ownKey)).isZero();
+        assertThat(blobStorage.exists(ownKey)).isFalse();
+        assertThat(blobStorage.exists(sharedKey)).isTrue();
+    }
+
+    @DisplayName("리뷰 이미지 저장 후 롤백 - 다른 곳에서 참조하지 않는 파일만 삭제")
+    @Test
+    public void upload_review_images_rollback_releases_blobs_test() throws Exception {
+        // given
+        byte[] ownImage = uniqueContent();
+        byte[] sharedImage = uniqueContent();
+        String ownKey = storeLongAgo(ownImage);
+        String sharedKey = storeLongAgo(sharedImage);
+        insertReviewImageItem(1000L, OTHER_REVIEW_ID, sharedKey);
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            reviewImageItemService.uploadImage(List.of(encode(ownImage), encode(sharedImage)),
+                    reviewJPARepository.findById(REVIEW_ID).orElseThrow());
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertThat(blobStorage.exists(ownKey)).isFalse();
+        assertThat(blobStorage.exists(sharedKey)).isTrue();
+    }
+
+    private void insertPortfolioImageItem(Long id, Long portfolioId, String imageKey, String thumbnailKey) {
+        jdbcTemplate.update("INSERT INTO portfolio_image_item_tb (id, portfolio_id, image_key, thumbnail_key, thumbnail) VALUES (?, ?, ?, ?, false)",
+                id, portfolioId, imageKey, thumbnailKey);
+    }
+
+    private void insertReviewImageItem(Long id, Long reviewId, String imageKey) {
+        jdbcTemplate.update("INSERT INTO review_image_item_tb (id, review_id, image_key, thumbnail) VALUES (?, ?, ?, false)",
+                id, reviewId, imageKey);
+    }
+
+    private String storeLongAgo(byte[] content) throws IOException {
+        String key = blobStorage.store(content);
+        Files.setLastModifiedTime(blobStorage.localPath(key).orElseThrow(), FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+        return key;
+    }
+
+    private String encode(byte[] content) {
+        return Base64.getEncoder().encodeToString(content);
+    }
+
+    private byte[] uniqueContent() {
+        return UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,32 @@
+package com.kakao.sunsuwedding.loadtest;
+
+// 생성할 데이터 규모 (플래너 1명당 포트폴리오 1개)
+// ./gradlew test -Dloadtest=true -Dloadtest.planners=100000 -Dloadtest.matches=1000000 처럼 조절
+public record DatasetSpec(
+        int planners,
+        int couples,
+        int matches,
+        int maxQuotationsPerMatch,
+        double confirmedRatio,
+        double reviewRatio,
+        int maxFavoritesPerCouple,
+        double skew
+) {
+    public static DatasetSpec fromSystemProperties() {
+        return new DatasetSpec(
+                Integer.getInteger("loadtest.planners", 2_000),
+                Integer.getInteger("loadtest.couples", 5_000),
+                Integer.getInteger("loadtest.matches", 20_000),
+                Integer.getInteger("loadtest.quotations-per-match", 4),
+                doubleProperty("loadtest.confirmed-ratio", 0.4),
+                doubleProperty("loadtest.review-ratio", 0.6),
+                Integer.getInteger("loadtest.favorites-per-couple", 30),
+                doubleProperty("loadtest.skew", 1.0)
+        );
+    }
+
+    private static double doubleProperty(String key, double defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+}
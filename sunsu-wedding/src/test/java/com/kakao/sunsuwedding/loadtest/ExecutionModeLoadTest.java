@@ -0,0 +1,133 @@
+package com.kakao.sunsuwedding.loadtest;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 같은 조회 API 를 동시 연결 2000 개로 호출해서 실행 모드(플랫폼 스레드 / 가상 스레드)별 처리량을 비교
+// ./gradlew test --tests '*ExecutionModeLoadTest' -Dloadtest=true                                 (플랫폼 스레드)
+// ./gradlew test --tests '*ExecutionModeLoadTest' -Dloadtest=true -Dloadtest.virtual-threads=true (가상 스레드, JDK 21 필요)
+//                [-Dloadtest.connections=2000 -Dloadtest.requests=20000]
+@ActiveProfiles("test")
+@Sql("classpath:/db/teardown.sql")
+@TestPropertySource(properties = {
+        "security.jwt-config.secret.access=your-test-access-secret",
+        "security.jwt-config.secret.refresh=your-test-refresh-secret",
+        "payment.toss.secret=your-test-toss-payment-secret",
+        "email.username=test@email.com",
+        "email.password=qweasdzxc",
+        "email.test-code=999999",
+        "logging.level.com.kakao.sunsuwedding=INFO",
+        "logging.level.org.springframework.jdbc.core.JdbcTemplate=INFO",
+        "spring.jpa.show-sql=false",
+        "server.tomcat.max-connections=10000",
+        "server.tomcat.accept-count=1000"
+})
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class ExecutionModeLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutionModeLoadTest.class);
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 연결마다 따로 요청이 나가도록 HTTP/1.1 로 고정
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @DynamicPropertySource
+    static void executionMode(DynamicPropertyRegistry registry) {
+        registry.add("execution.virtual-threads.enabled", () -> Boolean.getBoolean("loadtest.virtual-threads"));
+    }
+
+    @DisplayName("동시 연결 2000 개에서 실행 모드별 처리량 측정")
+    @Test
+    void execution_mode_load_test() throws Exception {
+        // given
+        DatasetSpec spec = DatasetSpec.fromSystemProperties();
+        GeneratedDataset dataset = new SyntheticDataGenerator(jdbcTemplate, 42L).generate(spec);
+
+        int connections = Integer.getInteger("loadtest.connections", 2_000);
+        int requests = Integer.getInteger("loadtest.requests", 20_000);
+        String mode = Boolean.getBoolean("loadtest.virtual-threads") ? "virtual-threads" : "platform-threads";
+
+        // when
+        run(dataset, Math.max(requests / 10, 1), connections);
+        long start = System.nanoTime();
+        long[] latencies = run(dataset, requests, connections);
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        // then
+        long errors = Arrays.stream(latencies).filter(latency -> latency < 0).count();
+        long[] sorted = Arrays.stream(latencies).map(Math::abs).sorted().toArray();
+        logger.info(String.format("%-16s connections=%5d requests=%6d errors=%5d throughput=%9.1f req/s p50=%8.2fms p99=%8.2fms",
+                mode, connections, requests, errors, requests / elapsedSeconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.99)));
+        assertThat(errors).isZero();
+    }
+
+    // 동시에 connections 개까지만 요청이 진행되도록 제한하면서 비동기로 전송
+    private long[] run(GeneratedDataset dataset, int requests, int connections) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(connections);
+        long[] latencies = new long[requests];
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[requests];
+
+        for (int i = 0; i < requests; i++) {
+            int index = i;
+            inFlight.acquire();
+            long begin = System.nanoTime();
+            futures[i] = httpClient.sendAsync(request(dataset, i), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        long latency = System.nanoTime() - begin;
+                        latencies[index] = (error == null && response.statusCode() == 200) ? latency : -latency;
+                        inFlight.release();
+                        return null;
+                    });
+        }
+        CompletableFuture.allOf(futures).join();
+        return latencies;
+    }
+
+    // 목록 조회와 플래너별 리뷰 조회를 번갈아 호출 (둘 다 JPA 조회만 하는 blocking 핸들러)
+    private HttpRequest request(GeneratedDataset dataset, int index) {
+        String path = (index % 2 == 0)
+                ? "/api/portfolio?cursor=-1"
+                : "/api/review?page=0&plannerId=" + dataset.plannerId(index % dataset.planners());
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
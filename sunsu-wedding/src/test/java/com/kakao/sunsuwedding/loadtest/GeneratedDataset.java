@@ -0,0 +1,22 @@
+package com.kakao.sunsuwedding.loadtest;
+
+// 생성된 데이터의 id 범위 (인기 순위 rank 0 이 가장 인기 있는 플래너/포트폴리오)
+public record GeneratedDataset(
+        long plannerStart,
+        int planners,
+        long coupleStart,
+        int couples,
+        long portfolioStart
+) {
+    public long plannerId(int rank) {
+        return plannerStart + rank;
+    }
+
+    public long coupleId(int index) {
+        return coupleStart + index;
+    }
+
+    public long portfolioId(int rank) {
+        return portfolioStart + rank;
+    }
+}
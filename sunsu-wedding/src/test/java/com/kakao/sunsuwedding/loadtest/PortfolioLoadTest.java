@@ -0,0 +1,220 @@
+package com.kakao.sunsuwedding.loadtest;
+
+import com.kakao.sunsuwedding._core.security.JWTProvider;
+import com.kakao.sunsuwedding.user.couple.Couple;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 가상 데이터를 적재한 뒤 실제 HTTP 로 주요 조회 API 를 호출해서 p50/p99 지연 시간과 요청당 쿼리 수를 측정
+// ./gradlew test --tests '*PortfolioLoadTest' -Dloadtest=true [-Dloadtest.planners=100000 -Dloadtest.matches=1000000
+//                -Dloadtest.requests=5000 -Dloadtest.concurrency=32]
+@ActiveProfiles("test")
+@Sql("classpath:/db/teardown.sql")
+@TestPropertySource(properties = {
+        "security.jwt-config.secret.access=your-test-access-secret",
+        "security.jwt-config.secret.refresh=your-test-refresh-secret",
+        "payment.toss.secret=your-test-toss-payment-secret",
+        "email.username=test@email.com",
+        "email.password=qweasdzxc",
+        "email.test-code=999999",
+        "logging.level.com.kakao.sunsuwedding=INFO",
+        "logging.level.org.springframework.jdbc.core.JdbcTemplate=INFO",
+        "spring.jpa.show-sql=false"
+})
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+public class PortfolioLoadTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PortfolioLoadTest.class);
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+    private static final String[] LOCATIONS = {"서울", "부산", "대구"};
+
+    @LocalServerPort
+    private int port;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JWTProvider jwtProvider;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    // 커넥션에서 만든 Statement 수를 세서 요청당 쿼리 수로 사용
+    @TestConfiguration
+    static class StatementCountingConfig {
+        @Bean
+        static BeanPostProcessor statementCountingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (!(bean instanceof DataSource dataSource)) return bean;
+                    return new DelegatingDataSource(dataSource) {
+                        @Override
+                        public Connection getConnection() throws SQLException {
+                            return countStatements(super.getConnection());
+                        }
+                    };
+                }
+            };
+        }
+
+        private static Connection countStatements(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(
+                    Connection.class.getClassLoader(),
+                    new Class<?>[]{Connection.class},
+                    (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.equals("prepareStatement") || name.equals("prepareCall") || name.equals("createStatement")) {
+                            STATEMENTS.incrementAndGet();
+                        }
+                        try {
+                            return method.invoke(connection, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        }
+                    });
+        }
+    }
+
+    private record Scenario(String name, IntFunction<HttpRequest> request) {
+    }
+
+    private record Report(String name, int requests, int errors, double p50, double p99, double max, double queriesPerRequest) {
+        @Override
+        public String toString() {
+            return String.format("%-28s requests=%6d errors=%4d p50=%8.2fms p99=%8.2fms max=%8.2fms queries/request=%6.2f",
+                    name, requests, errors, p50, p99, max, queriesPerRequest);
+        }
+    }
+
+    @DisplayName("가상 데이터 기준 주요 조회 API 부하 테스트")
+    @Test
+    void load_test() throws Exception {
+        // given
+        DatasetSpec spec = DatasetSpec.fromSystemProperties();
+        long start = System.nanoTime();
+        GeneratedDataset dataset = new SyntheticDataGenerator(jdbcTemplate, 42L).generate(spec);
+        logger.info("generated {} in {}s", spec, String.format("%.1f", (System.nanoTime() - start) / 1e9));
+
+        int requests = Integer.getInteger("loadtest.requests", 2_000);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 16);
+        Random random = new Random(7L);
+        ZipfSampler popularity = new ZipfSampler(dataset.planners(), spec.skew(), random);
+
+        List<Scenario> scenarios = List.of(
+                new Scenario("GET /api/portfolio", i -> get(i % 2 == 0
+                        ? "/api/portfolio?cursor=-1"
+                        : "/api/portfolio?cursor=-1&location=" + URLEncoder.encode(LOCATIONS[i % LOCATIONS.length], StandardCharsets.UTF_8), null)),
+                new Scenario("GET /api/portfolio/{id}", i -> get("/api/portfolio/" + dataset.portfolioId(popularity.sample()),
+                        coupleToken(dataset, random))),
+                new Scenario("GET /api/quotation/all", i -> get("/api/quotation/all?page=0", coupleToken(dataset, random))),
+                new Scenario("GET /api/review", i -> get("/api/review?page=0&plannerId=" + dataset.plannerId(popularity.sample()), null))
+        );
+
+        // when
+        List<Report> reports = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            reports.add(run(scenario, requests, concurrency));
+        }
+
+        // then
+        reports.forEach(report -> logger.info("{}", report));
+        assertThat(reports).allSatisfy(report -> assertThat(report.errors()).isZero());
+    }
+
+    private Report run(Scenario scenario, int requests, int concurrency) throws Exception {
+        // 요청은 미리 만들어 두고 (토큰 서명 등) 호출 시간만 측정
+        List<HttpRequest> warmup = new ArrayList<>();
+        for (int i = 0; i < Math.max(requests / 10, 1); i++) warmup.add(scenario.request().apply(i));
+        List<HttpRequest> measured = new ArrayList<>();
+        for (int i = 0; i < requests; i++) measured.add(scenario.request().apply(i));
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            send(executor, warmup);
+
+            STATEMENTS.set(0);
+            List<Future<Long>> results = send(executor, measured);
+
+            long[] latencies = new long[requests];
+            int errors = 0;
+            for (int i = 0; i < requests; i++) {
+                long latency = results.get(i).get();
+                if (latency < 0) errors++;
+                latencies[i] = Math.abs(latency);
+            }
+            Arrays.sort(latencies);
+
+            return new Report(scenario.name(), requests, errors,
+                    percentile(latencies, 0.50), percentile(latencies, 0.99), latencies[requests - 1] / 1e6,
+                    (double) STATEMENTS.get() / requests);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    // 200 이 아니면 음수로 반환해서 에러로 집계
+    private List<Future<Long>> send(ExecutorService executor, List<HttpRequest> requests) throws InterruptedException {
+        return executor.invokeAll(requests.stream()
+                .map(request -> (Callable<Long>) () -> {
+                    long begin = System.nanoTime();
+                    HttpResponse<byte[]> response = httpClient.send(request, HttpResponse.BodyHandlers.ofByteArray());
+                    long latency = System.nanoTime() - begin;
+                    return response.statusCode() == 200 ? latency : -latency;
+                })
+                .toList());
+    }
+
+    private HttpRequest get(String path, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET();
+        if (accessToken != null) builder.header(jwtProvider.AUTHORIZATION_HEADER, accessToken);
+        return builder.build();
+    }
+
+    private String coupleToken(GeneratedDataset dataset, Random random) {
+        Couple couple = Couple.builder().id(dataset.coupleId(random.nextInt(dataset.couples()))).build();
+        return jwtProvider.createAccessToken(couple, null);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
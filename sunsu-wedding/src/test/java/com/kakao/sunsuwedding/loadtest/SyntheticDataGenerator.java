@@ -0,0 +1,285 @@
+package com.kakao.sunsuwedding.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+// 부하 테스트용 가상 데이터를 JDBC batch 로 적재
+// 플래너 인기도는 Zipf 분포를 따르고 (매칭, 찜이 상위 플래너에 몰림), 같은 seed 면 항상 같은 데이터가 생성됨
+// 포트폴리오 통계(contract_count, avg_stars 등)는 생성한 매칭/리뷰와 맞게 채움
+public class SyntheticDataGenerator {
+    private static final int BATCH_SIZE = 1_000;
+    private static final int PRICE_ITEMS_PER_PORTFOLIO = 3;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2023, 10, 1, 12, 0);
+    private static final String[] LOCATIONS = {"서울", "부산", "대구", "인천", "광주", "대전", "울산", "제주"};
+
+    // teardown.sql 과 같은 비밀번호 (planner1234!, couple1234!)
+    private static final String PLANNER_PASSWORD = "{bcrypt}$2a$10$89SwVjyXVDhK3GFcN4c8Bu3kQlNiWqjaTvgiXaCi9D/1eWx2w7CBa";
+    private static final String COUPLE_PASSWORD = "{bcrypt}$2a$10$bKgX34po45/xYw1Dd8C81OYW4dkkVQV5lHd7a.06m1gBX689XERA.";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Random random;
+
+    public SyntheticDataGenerator(JdbcTemplate jdbcTemplate, long seed) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.random = new Random(seed);
+    }
+
+    public GeneratedDataset generate(DatasetSpec spec) {
+        long userStart = nextId("user_tb");
+        GeneratedDataset dataset = new GeneratedDataset(
+                userStart, spec.planners(), userStart + spec.planners(), spec.couples(), nextId("portfolio_tb"));
+
+        Matches matches = sampleMatches(spec);
+
+        insertUsers(dataset);
+        insertPortfolios(dataset, matches);
+        insertMatches(dataset, matches);
+        insertFavorites(dataset, spec);
+        return dataset;
+    }
+
+    // 매칭은 메모리에서 먼저 뽑아서 포트폴리오 통계를 미리 계산함
+    private Matches sampleMatches(DatasetSpec spec) {
+        ZipfSampler plannerPopularity = new ZipfSampler(spec.planners(), spec.skew(), random);
+        Matches matches = new Matches(spec.matches(), spec.planners());
+
+        for (int m = 0; m < spec.matches(); m++) {
+            int planner = plannerPopularity.sample();
+            int quotations = 1 + random.nextInt(spec.maxQuotationsPerMatch());
+            long price = quotations * (1 + random.nextInt(20)) * 100_000L;
+            boolean confirmed = random.nextDouble() < spec.confirmedRatio();
+            // 평점은 대부분 3~5점, 가끔 1~2점
+            int stars = confirmed && random.nextDouble() < spec.reviewRatio()
+                    ? (random.nextDouble() < 0.1 ? 1 + random.nextInt(2) : 3 + random.nextInt(3))
+                    : 0;
+
+            matches.add(m, planner, random.nextInt(spec.couples()), quotations, price, confirmed, stars);
+        }
+        return matches;
+    }
+
+    private void insertUsers(GeneratedDataset dataset) {
+        Timestamp createdAt = Timestamp.valueOf(BASE_TIME.minusDays(90));
+        try (BatchWriter writer = new BatchWriter("""
+                INSERT INTO user_tb (id, email, password, username, created_at, grade, is_active, dtype)
+                VALUES (?, ?, ?, ?, ?, ?, true, ?)
+                """)) {
+            for (int i = 0; i < dataset.planners(); i++) {
+                writer.add(dataset.plannerId(i), "loadplanner" + i + "@gmail.com", PLANNER_PASSWORD, "loadplanner" + i,
+                        createdAt, random.nextDouble() < 0.2 ? "PREMIUM" : "NORMAL", "planner");
+            }
+            for (int i = 0; i < dataset.couples(); i++) {
+                writer.add(dataset.coupleId(i), "loadcouple" + i + "@gmail.com", COUPLE_PASSWORD, "loadcouple" + i,
+                        createdAt, random.nextDouble() < 0.3 ? "PREMIUM" : "NORMAL", "couple");
+            }
+        }
+    }
+
+    private void insertPortfolios(GeneratedDataset dataset, Matches matches) {
+        Timestamp createdAt = Timestamp.valueOf(BASE_TIME.minusDays(60));
+        long[] totalPrices = new long[dataset.planners()];
+        for (int rank = 0; rank < dataset.planners(); rank++) {
+            totalPrices[rank] = PRICE_ITEMS_PER_PORTFOLIO * (5 + random.nextInt(26)) * 100_000L;
+        }
+
+        try (BatchWriter writer = new BatchWriter("""
+                INSERT INTO portfolio_tb (id, planner_id, planner_name, title, description, location, career, partner_company,
+                                          total_price, contract_count, price_sum, avg_price, min_price, max_price,
+                                          stars_sum, review_count, avg_stars, created_at, is_active)
+                VALUES (?, ?, ?, ?, 'description', ?, 'career', 'partner company', ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true)
+                """)) {
+            for (int rank = 0; rank < dataset.planners(); rank++) {
+                long count = matches.contractCount[rank];
+                long reviews = matches.reviewCount[rank];
+                writer.add(dataset.portfolioId(rank), dataset.plannerId(rank), "loadplanner" + rank,
+                        "포트폴리오 " + rank, LOCATIONS[random.nextInt(LOCATIONS.length)], totalPrices[rank],
+                        count, matches.priceSum[rank], count == 0 ? 0L : matches.priceSum[rank] / count,
+                        matches.minPrice[rank], matches.maxPrice[rank], matches.starsSum[rank], reviews,
+                        reviews == 0 ? 0.0 : Math.round(matches.starsSum[rank] * 100.0 / reviews) / 100.0,
+                        createdAt);
+            }
+        }
+
+        try (BatchWriter writer = new BatchWriter("""
+                INSERT INTO price_item_tb (portfolio_id, item_title, item_price) VALUES (?, ?, ?)
+                """)) {
+            for (int rank = 0; rank < dataset.planners(); rank++) {
+                long itemPrice = totalPrices[rank] / PRICE_ITEMS_PER_PORTFOLIO;
+                for (int item = 0; item < PRICE_ITEMS_PER_PORTFOLIO; item++) {
+                    writer.add(dataset.portfolioId(rank), "항목 " + item, itemPrice);
+                }
+            }
+        }
+    }
+
+    private void insertMatches(GeneratedDataset dataset, Matches matches) {
+        long chatStart = nextId("chat_tb");
+        long matchStart = nextId("match_tb");
+
+        try (BatchWriter chatWriter = new BatchWriter("INSERT INTO chat_tb (id, created_at, is_active) VALUES (?, ?, true)")) {
+            for (int m = 0; m < matches.size; m++) {
+                chatWriter.add(chatStart + m, Timestamp.valueOf(matchTime(m, matches.size)));
+            }
+        }
+
+        try (BatchWriter matchWriter = new BatchWriter("""
+                INSERT INTO match_tb (id, planner_id, couple_id, chat_id, status, price, confirmed_price, confirmed_at,
+                                      review_status, created_at, is_active)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true)
+                """)) {
+            for (int m = 0; m < matches.size; m++) {
+                Timestamp createdAt = Timestamp.valueOf(matchTime(m, matches.size));
+                boolean confirmed = matches.confirmed[m];
+                matchWriter.add(matchStart + m, dataset.plannerId(matches.planner[m]), dataset.coupleId(matches.couple[m]),
+                        chatStart + m, confirmed ? "CONFIRMED" : "UNCONFIRMED", matches.price[m],
+                        confirmed ? matches.price[m] : 0L,
+                        confirmed ? Timestamp.valueOf(matchTime(m, matches.size).plusDays(7)) : null,
+                        matches.stars[m] > 0 ? "WRITTEN" : "UNWRITTEN", createdAt);
+            }
+        }
+
+        try (BatchWriter quotationWriter = new BatchWriter("""
+                INSERT INTO quotation_tb (match_id, title, price, company, description, status, modified_at, created_at, is_active)
+                VALUES (?, ?, ?, 'company', 'description', ?, ?, ?, true)
+                """)) {
+            for (int m = 0; m < matches.size; m++) {
+                int quotations = matches.quotations[m];
+                long unitPrice = matches.price[m] / quotations;
+                String status = matches.confirmed[m] ? "CONFIRMED" : "UNCONFIRMED";
+                for (int q = 0; q < quotations; q++) {
+                    Timestamp createdAt = Timestamp.valueOf(matchTime(m, matches.size).plusHours(q + 1));
+                    quotationWriter.add(matchStart + m, "견적 " + q, unitPrice, status, createdAt, createdAt);
+                }
+            }
+        }
+
+        try (BatchWriter reviewWriter = new BatchWriter("""
+                INSERT INTO review_tb (match_id, stars, content, created_at, modified_at, is_active)
+                VALUES (?, ?, ?, ?, ?, true)
+                """)) {
+            for (int m = 0; m < matches.size; m++) {
+                if (matches.stars[m] == 0) continue;
+                Timestamp createdAt = Timestamp.valueOf(matchTime(m, matches.size).plusDays(30));
+                reviewWriter.add(matchStart + m, matches.stars[m], "리뷰 " + m, createdAt, createdAt);
+            }
+        }
+    }
+
+    // 커플마다 0 ~ maxFavoritesPerCouple 개, 인기 포트폴리오 위주로 찜함
+    private void insertFavorites(GeneratedDataset dataset, DatasetSpec spec) {
+        ZipfSampler portfolioPopularity = new ZipfSampler(dataset.planners(), spec.skew(), random);
+        int maxFavorites = Math.min(spec.maxFavoritesPerCouple(), dataset.planners());
+        Timestamp createdAt = Timestamp.valueOf(BASE_TIME.minusDays(1));
+
+        try (BatchWriter writer = new BatchWriter("INSERT INTO favorite_tb (user_id, portfolio_id, created_at) VALUES (?, ?, ?)")) {
+            for (int couple = 0; couple < dataset.couples(); couple++) {
+                int favorites = random.nextInt(maxFavorites + 1);
+                Set<Integer> ranks = new HashSet<>();
+                // 상위 포트폴리오가 계속 뽑혀 끝나지 않는 경우를 막기 위해 시도 횟수 제한
+                for (int attempt = 0; ranks.size() < favorites && attempt < favorites * 10; attempt++) {
+                    ranks.add(portfolioPopularity.sample());
+                }
+                for (int rank : ranks) {
+                    writer.add(dataset.coupleId(couple), dataset.portfolioId(rank), createdAt);
+                }
+            }
+        }
+    }
+
+    // 앞의 매칭일수록 오래된 매칭 (최근 1년에 고르게 분포)
+    private static LocalDateTime matchTime(int index, int size) {
+        long minutes = 365L * 24 * 60 * (size - index) / Math.max(size, 1);
+        return BASE_TIME.minusMinutes(minutes);
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject(String.format("SELECT MAX(id) FROM %s", table), Long.class);
+        return maxId == null ? 1L : maxId + 1;
+    }
+
+    private static class Matches {
+        final int size;
+        final int[] planner;
+        final int[] couple;
+        final int[] quotations;
+        final long[] price;
+        final boolean[] confirmed;
+        final int[] stars;
+
+        // 플래너 순위별 통계
+        final long[] contractCount;
+        final long[] priceSum;
+        final long[] minPrice;
+        final long[] maxPrice;
+        final long[] starsSum;
+        final long[] reviewCount;
+
+        Matches(int size, int planners) {
+            this.size = size;
+            this.planner = new int[size];
+            this.couple = new int[size];
+            this.quotations = new int[size];
+            this.price = new long[size];
+            this.confirmed = new boolean[size];
+            this.stars = new int[size];
+            this.contractCount = new long[planners];
+            this.priceSum = new long[planners];
+            this.minPrice = new long[planners];
+            this.maxPrice = new long[planners];
+            this.starsSum = new long[planners];
+            this.reviewCount = new long[planners];
+        }
+
+        void add(int m, int plannerRank, int coupleIndex, int quotationCount, long matchPrice, boolean isConfirmed, int reviewStars) {
+            planner[m] = plannerRank;
+            couple[m] = coupleIndex;
+            quotations[m] = quotationCount;
+            price[m] = matchPrice;
+            confirmed[m] = isConfirmed;
+            stars[m] = reviewStars;
+
+            if (!isConfirmed) return;
+            minPrice[plannerRank] = contractCount[plannerRank] == 0 ? matchPrice : Math.min(minPrice[plannerRank], matchPrice);
+            maxPrice[plannerRank] = Math.max(maxPrice[plannerRank], matchPrice);
+            contractCount[plannerRank]++;
+            priceSum[plannerRank] += matchPrice;
+
+            if (reviewStars == 0) return;
+            starsSum[plannerRank] += reviewStars;
+            reviewCount[plannerRank]++;
+        }
+    }
+
+    // BATCH_SIZE 행씩 모아서 batchUpdate
+    private class BatchWriter implements AutoCloseable {
+        private final String sql;
+        private final List<Object[]> rows = new ArrayList<>(BATCH_SIZE);
+
+        BatchWriter(String sql) {
+            this.sql = sql;
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= BATCH_SIZE) flush();
+        }
+
+        private void flush() {
+            if (rows.isEmpty()) return;
+            jdbcTemplate.batchUpdate(sql, rows);
+            rows.clear();
+        }
+
+        @Override
+        public void close() {
+            flush();
+        }
+    }
+}
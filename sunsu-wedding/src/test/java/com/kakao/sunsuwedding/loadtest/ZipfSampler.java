@@ -0,0 +1,31 @@
+package com.kakao.sunsuwedding.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// 순위 k 가 1/k^skew 에 비례하는 확률로 뽑힘 (인기 플래너에 매칭, 찜, 조회가 몰리는 분포)
+public class ZipfSampler {
+    private final double[] cumulative;
+    private final Random random;
+
+    public ZipfSampler(int size, double skew, Random random) {
+        this.cumulative = new double[size];
+        this.random = random;
+
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1.0 / Math.pow(rank + 1, skew);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+    }
+
+    // 0 (가장 인기) ~ size - 1
+    public int sample() {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = index >= 0 ? index : -index - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -67,20 +68,6 @@ public class MatchRepositoryTest extends DummyEntity {
         assertThat(match.getStatus()).isEqualTo(MatchStatus.UNCONFIRMED);
     }
 
-    @Test
-    @DisplayName("플래너로 매칭 찾기")
-    void findMatchByPlanner(){
-
-        // when
-        List<Match> match = matchJPARepository.findAllByPlanner(planner);
-
-        // then
-        assertThat(match.get(0).getCouple().getEmail()).isEqualTo("newcouple@nate.com");
-        assertThat(match.get(0).getPlanner().getEmail()).isEqualTo("newplanner@nate.com");
-        assertThat(match.get(0).getPrice()).isEqualTo(0L);
-        assertThat(match.get(0).getStatus()).isEqualTo(MatchStatus.UNCONFIRMED);
-    }
-
     @Test
     @DisplayName("커플, 플래너로 매칭 찾기")
     void findMatchByCoupleAndPlanner(){
@@ -94,16 +81,6 @@ public class MatchRepositoryTest extends DummyEntity {
         assertThat(match.get(0).getPrice()).isEqualTo(0L);
     }
 
-    @Test
-    @DisplayName("플래너 전체확정된 거래내역 10개 들고오기")
-    void findLatestTenByPlanner(){
-        // when
-        List<Match> match = matchJPARepository.findLatestTenByPlanner(planner2);
-
-        // then
-        assertThat(match.size()).isEqualTo(0L);
-    }
-
     @Test
     @DisplayName("저장하기")
     void saveMatch(){
@@ -132,4 +109,18 @@ public class MatchRepositoryTest extends DummyEntity {
         assertThat(matchJPARepository.count()).isEqualTo(previous_counts - 1);
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("확정되지 않은 매칭만 확정하기 - 두 번째 확정은 0건")
+    void confirmOnlyOnce(){
+        // when
+        int first = matchJPARepository.confirm(id1, LocalDateTime.now());
+        int second = matchJPARepository.confirm(id1, LocalDateTime.now());
+
+        // then
+        Match match = matchJPARepository.findById(id1).orElseThrow();
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(0);
+        assertThat(match.getStatus()).isEqualTo(MatchStatus.CONFIRMED);
+        assertThat(match.getConfirmedAt()).isNotNull();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.TestPropertySource;
@@ -18,6 +19,8 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 @Import({
         SecurityConfig.class,
 })
@@ -40,6 +43,9 @@ public class MatchRestControllerTest {
     @Autowired
     private MockMvc mvc;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     // ============ 견적서 전체(매칭) 확정 테스트 ============
     @DisplayName("견적서 전체 확정 성공 테스트")
     @Test
@@ -60,6 +66,37 @@ public class MatchRestControllerTest {
         result.andExpect(MockMvcResultMatchers.jsonPath("$.success").value("true"));
     }
 
+    @DisplayName("견적서 전체 확정 두 번 - 두 번째는 실패하고 통계에 한 번만 누적")
+    @Test
+    @WithUserDetails("couple4@gmail.com")
+    public void match_confirm_all_twice_test() throws Exception {
+        //given
+        Long chatId = 7L;
+        Long contractCount = jdbcTemplate.queryForObject("SELECT contract_count FROM portfolio_tb WHERE planner_id = 2", Long.class);
+
+        //when
+        mvc.perform(
+                MockMvcRequestBuilders
+                        .post("/api/match/confirm?chatId=" + chatId)
+        ).andExpect(MockMvcResultMatchers.jsonPath("$.success").value("true"));
+
+        ResultActions result = mvc.perform(
+                MockMvcRequestBuilders
+                        .post("/api/match/confirm?chatId=" + chatId)
+        );
+
+        logResult(result);
+
+        // then
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.success").value("false"));
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.error.status").value(5005));
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.error.message").value("이미 전체 확정된 매칭입니다."));
+        assertThat(jdbcTemplate.queryForObject("SELECT contract_count FROM portfolio_tb WHERE planner_id = 2", Long.class))
+                .isEqualTo(contractCount + 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT deal_count FROM price_sketch_tb WHERE scope = 'PLANNER' AND scope_key = '2'", Long.class))
+                .isEqualTo(1L);
+    }
+
     @DisplayName("견적서 전체 확정 실패 테스트 1 - 일부 견적서 미확정 시")
     @Test
     @WithUserDetails("couple@gmail.com")
@@ -0,0 +1,191 @@
+package com.kakao.sunsuwedding.payment;
+
+import com.kakao.sunsuwedding._core.DummyEntity;
+import com.kakao.sunsuwedding._core.errors.exception.ServerException;
+import com.kakao.sunsuwedding.user.base_user.UserJPARepository;
+import com.kakao.sunsuwedding.user.constant.Grade;
+import com.kakao.sunsuwedding.user.couple.Couple;
+import com.kakao.sunsuwedding.user.couple.CoupleJPARepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.kakao.sunsuwedding.payment.TossPaymentStub.StubResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ActiveProfiles("test")
+@Sql("classpath:db/teardown.sql")
+@TestPropertySource(properties = {
+        "security.jwt-config.secret.access=your-test-access-secret",
+        "security.jwt-config.secret.refresh=your-test-refresh-secret",
+        "payment.toss.secret=your-test-toss-payment-secret",
+        "email.username=test@email.com",
+        "email.password=qweasdzxc",
+        "email.test-code=999999",
+        "payment.reconcile.interval-ms=3600000"
+})
+@SpringBootTest
+public class PaymentApproveTest extends DummyEntity {
+
+    private static final Logger logger = LoggerFactory.getLogger(PaymentApproveTest.class);
+    private static final int CONCURRENT_PAYMENTS = 8;
+    private static final TossPaymentStub STUB = startStub();
+
+    @Autowired
+    private PaymentServiceImpl paymentServiceImpl;
+    @Autowired
+    private PaymentReconciler paymentReconciler;
+    @Autowired
+    private PaymentJPARepository paymentJPARepository;
+    @Autowired
+    private CoupleJPARepository coupleJPARepository;
+    @Autowired
+    private UserJPARepository userJPARepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+
+    // 실제 토스페이먼츠 대신 로컬 stub 으로 요청
+    @TestConfiguration
+    static class StubGatewayConfig {
+        @Bean
+        @Primary
+        TossPaymentClient stubTossPaymentClient() {
+            return TossPaymentClient.builder()
+                    .baseUrl(STUB.baseUrl())
+                    .secretKey("test-secret")
+                    .readTimeout(Duration.ofSeconds(5))
+                    .retryBackoff(Duration.ofMillis(10))
+                    .build();
+        }
+    }
+
+    private static TossPaymentStub startStub() {
+        try {
+            return new TossPaymentStub();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @AfterAll
+    static void stopStub() {
+        STUB.close();
+    }
+
+    @DisplayName("느린 결제 게이트웨이 응답을 기다리는 동안 DB 커넥션을 잡지 않음")
+    @Test
+    void approve_does_not_hold_connection_during_gateway_call_test() throws Exception {
+        // given
+        List<Payment> payments = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_PAYMENTS; i++) {
+            Couple couple = coupleJPARepository.save(newCouple("paycouple" + i));
+            payments.add(paymentJPARepository.save(newPayment(couple, "order-" + i, null, 1000L)));
+        }
+        for (int i = 0; i < CONCURRENT_PAYMENTS; i++) STUB.enqueue(StubResponse.delayed(500));
+
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger maxActiveWhileWaiting = new AtomicInteger();
+        AtomicInteger samplesWhileWaiting = new AtomicInteger();
+        Thread sampler = new Thread(() -> {
+            while (running.get()) {
+                // 모든 요청이 게이트웨이 응답을 기다리는 구간의 활성 커넥션 수
+                if (STUB.inFlight() == CONCURRENT_PAYMENTS) {
+                    int active = hikari.getHikariPoolMXBean().getActiveConnections();
+                    maxActiveWhileWaiting.accumulateAndGet(active, Math::max);
+                    samplesWhileWaiting.incrementAndGet();
+                }
+                Thread.onSpinWait();
+            }
+        });
+        sampler.start();
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_PAYMENTS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (Payment payment : payments) {
+            PaymentRequest.ApproveDTO requestDTO = new PaymentRequest.ApproveDTO(payment.getOrderId(), "key-" + payment.getId(), 1000L);
+            futures.add(executor.submit(() -> paymentServiceImpl.approve(payment.getUser().getId(), requestDTO)));
+        }
+        for (Future<?> future : futures) future.get();
+        running.set(false);
+        sampler.join();
+        executor.shutdown();
+
+        logger.info("게이트웨이 대기 중 샘플 {}회, 최대 활성 커넥션 {}", samplesWhileWaiting.get(), maxActiveWhileWaiting.get());
+
+        // then
+        assertThat(samplesWhileWaiting.get()).isPositive();
+        assertThat(maxActiveWhileWaiting.get()).isZero();
+        for (Payment payment : payments) {
+            Payment approved = paymentJPARepository.findById(payment.getId()).orElseThrow();
+            assertThat(approved.getStatus()).isEqualTo(PaymentStatus.APPROVED);
+            assertThat(approved.getPayedAt()).isNotNull();
+            assertThat(userJPARepository.findById(payment.getUser().getId()).orElseThrow().getGrade()).isEqualTo(Grade.PREMIUM);
+        }
+    }
+
+    @DisplayName("승인 거절 - FAILED 로 마무리되고 다시 요청할 수 있음")
+    @Test
+    void approve_rejected_test() {
+        // given
+        Couple couple = coupleJPARepository.save(newCouple("rejected"));
+        Payment payment = paymentJPARepository.save(newPayment(couple, "order-rejected", null, 1000L));
+        STUB.enqueue(StubResponse.status(400));
+
+        // when
+        assertThatThrownBy(() -> paymentServiceImpl.approve(couple.getId(),
+                new PaymentRequest.ApproveDTO("order-rejected", "key-rejected", 1000L)))
+                .isInstanceOf(ServerException.class);
+
+        // then
+        assertThat(paymentJPARepository.findById(payment.getId()).orElseThrow().getStatus()).isEqualTo(PaymentStatus.FAILED);
+        paymentServiceImpl.approve(couple.getId(), new PaymentRequest.ApproveDTO("order-rejected", "key-rejected", 1000L));
+        assertThat(paymentJPARepository.findById(payment.getId()).orElseThrow().getStatus()).isEqualTo(PaymentStatus.APPROVED);
+    }
+
+    @DisplayName("오래된 PENDING 결제를 reconciler 가 마무리")
+    @Test
+    void reconcile_pending_payment_test() {
+        // given (승인 요청 후 결과를 반영하지 못하고 서버가 종료된 상황)
+        Couple couple = coupleJPARepository.save(newCouple("pending"));
+        Payment payment = paymentJPARepository.save(newPayment(couple, "order-pending", "key-pending", 1000L));
+        jdbcTemplate.update("UPDATE payment_tb SET status = 'PENDING', pending_at = DATEADD('MINUTE', -10, CURRENT_TIMESTAMP) WHERE id = ?",
+                payment.getId());
+
+        // when
+        int finished = paymentReconciler.reconcilePendingPayments();
+
+        // then
+        assertThat(finished).isEqualTo(1);
+        assertThat(paymentJPARepository.findById(payment.getId()).orElseThrow().getStatus()).isEqualTo(PaymentStatus.APPROVED);
+        assertThat(userJPARepository.findById(couple.getId()).orElseThrow().getGrade()).isEqualTo(Grade.PREMIUM);
+    }
+}
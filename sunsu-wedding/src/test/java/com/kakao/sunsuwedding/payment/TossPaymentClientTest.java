@@ -0,0 +1,112 @@
+package com.kakao.sunsuwedding.payment;
+
+import com.kakao.sunsuwedding._core.errors.BaseException;
+import com.kakao.sunsuwedding._core.errors.exception.ServerException;
+import com.kakao.sunsuwedding._core.utils.CircuitBreaker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.kakao.sunsuwedding.payment.TossPaymentStub.StubResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TossPaymentClientTest {
+
+    private final PaymentRequest.ApproveDTO requestDTO = new PaymentRequest.ApproveDTO("order-1", "payment-key-1", 1000L);
+
+    private TossPaymentStub stub;
+    private TossPaymentClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        stub = new TossPaymentStub();
+        client = TossPaymentClient.builder()
+                .baseUrl(stub.baseUrl())
+                .secretKey("test-secret")
+                .readTimeout(Duration.ofMillis(300))
+                .maxAttempts(3)
+                .retryBackoff(Duration.ofMillis(10))
+                .circuitBreaker(new CircuitBreaker(2, Duration.ofMinutes(1)))
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        stub.close();
+    }
+
+    @DisplayName("결제 승인 - 성공")
+    @Test
+    void approve_success_test() {
+        // when
+        client.approve(requestDTO);
+
+        // then
+        assertThat(stub.requestCount()).isEqualTo(1);
+        assertThat(stub.idempotencyKeys()).containsExactly(TossPaymentClient.idempotencyKey(requestDTO));
+    }
+
+    @DisplayName("결제 승인 - 5xx 는 같은 멱등 키로 재시도 후 성공")
+    @Test
+    void approve_retry_on_server_error_test() {
+        // given
+        stub.enqueue(StubResponse.status(503), StubResponse.status(500));
+
+        // when
+        client.approve(requestDTO);
+
+        // then
+        assertThat(stub.requestCount()).isEqualTo(3);
+        assertThat(stub.idempotencyKeys()).containsOnly(TossPaymentClient.idempotencyKey(requestDTO));
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("결제 승인 - 응답 지연은 타임아웃 후 재시도")
+    @Test
+    void approve_retry_on_timeout_test() {
+        // given
+        stub.enqueue(StubResponse.delayed(1_000));
+
+        // when
+        client.approve(requestDTO);
+
+        // then
+        assertThat(stub.requestCount()).isEqualTo(2);
+    }
+
+    @DisplayName("결제 승인 실패 - 4xx 는 재시도하지 않음")
+    @Test
+    void approve_rejected_test() {
+        // given
+        stub.enqueue(StubResponse.status(400));
+
+        // when, then
+        assertThatThrownBy(() -> client.approve(requestDTO))
+                .isInstanceOf(ServerException.class)
+                .hasMessage(BaseException.PAYMENT_FAIL.getMessage());
+        assertThat(stub.requestCount()).isEqualTo(1);
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @DisplayName("결제 승인 실패 - 연속 실패 시 서킷 브레이커가 열려 호출하지 않음")
+    @Test
+    void approve_circuit_open_test() {
+        // given (재시도 포함 2번 연속 실패)
+        for (int i = 0; i < 6; i++) stub.enqueue(StubResponse.status(500));
+        assertThatThrownBy(() -> client.approve(requestDTO)).isInstanceOf(ServerException.class);
+        assertThatThrownBy(() -> client.approve(requestDTO)).isInstanceOf(ServerException.class);
+        int requestsBeforeOpen = stub.requestCount();
+
+        // when, then
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> client.approve(requestDTO))
+                .isInstanceOf(ServerException.class)
+                .hasMessage(BaseException.PAYMENT_GATEWAY_UNAVAILABLE.getMessage());
+        assertThat(stub.requestCount()).isEqualTo(requestsBeforeOpen);
+    }
+}
@@ -0,0 +1,107 @@
+package com.kakao.sunsuwedding.payment;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 토스페이먼츠 승인 API 를 흉내 내는 로컬 서버 (외부 네트워크 없이 지연/실패 상황을 재현)
+// 응답을 순서대로 예약해 두고, 예약이 없으면 200 을 돌려줌
+public class TossPaymentStub implements AutoCloseable {
+
+    public record StubResponse(int status, long delayMillis, String body) {
+        public static StubResponse ok() {
+            return new StubResponse(200, 0, "{\"status\":\"DONE\"}");
+        }
+
+        public static StubResponse status(int status) {
+            return new StubResponse(status, 0, "{\"code\":\"STUB_ERROR\",\"message\":\"stub\"}");
+        }
+
+        public static StubResponse delayed(long delayMillis) {
+            return new StubResponse(200, delayMillis, "{\"status\":\"DONE\"}");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final Queue<StubResponse> scripted = new ConcurrentLinkedQueue<>();
+    private final List<String> idempotencyKeys = new CopyOnWriteArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public TossPaymentStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext(TossPaymentClient.CONFIRM_PATH, this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public TossPaymentStub enqueue(StubResponse... responses) {
+        scripted.addAll(List.of(responses));
+        return this;
+    }
+
+    public int requestCount() {
+        return idempotencyKeys.size();
+    }
+
+    public List<String> idempotencyKeys() {
+        return idempotencyKeys;
+    }
+
+    // 현재 응답을 기다리고 있는 요청 수
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        inFlight.incrementAndGet();
+        try {
+            respond(exchange);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        idempotencyKeys.add(String.valueOf(exchange.getRequestHeaders().getFirst(TossPaymentClient.IDEMPOTENCY_HEADER)));
+        exchange.getRequestBody().readAllBytes();
+
+        StubResponse response = scripted.poll();
+        if (response == null) response = StubResponse.ok();
+        if (response.delayMillis() > 0) {
+            try {
+                Thread.sleep(response.delayMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(response.status(), body.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(body);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
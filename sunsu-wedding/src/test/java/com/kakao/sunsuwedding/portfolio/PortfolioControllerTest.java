@@ -1,8 +1,10 @@
 package com.kakao.sunsuwedding.portfolio;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kakao.sunsuwedding._core.SqlStatsMatchers;
 import com.kakao.sunsuwedding._core.config.SecurityConfig;
 import com.kakao.sunsuwedding._core.security.JWTProvider;
+import com.kakao.sunsuwedding.portfolio.search.PortfolioSearchIndexer;
 import com.kakao.sunsuwedding.user.planner.Planner;
 import org.hamcrest.core.IsNull;
 import org.junit.jupiter.api.DisplayName;
@@ -48,13 +50,16 @@ public class PortfolioControllerTest {
     private final MockMvc mockMvc;
     private final ObjectMapper om;
     private final JWTProvider jwtProvider;
+    private final PortfolioSearchIndexer portfolioSearchIndexer;
 
     public PortfolioControllerTest(@Autowired MockMvc mockMvc,
                                    @Autowired ObjectMapper om,
-                                   @Autowired JWTProvider jwtProvider) {
+                                   @Autowired JWTProvider jwtProvider,
+                                   @Autowired PortfolioSearchIndexer portfolioSearchIndexer) {
         this.mockMvc = mockMvc;
         this.om = om;
         this.jwtProvider = jwtProvider;
+        this.portfolioSearchIndexer = portfolioSearchIndexer;
     }
 
     // ============ 포트폴리오 등록 테스트 ============
@@ -85,7 +90,7 @@ public class PortfolioControllerTest {
     public void add_portfolio_fail_test_user_not_found() throws Exception {
         // given
         String requestBody = om.writeValueAsString(getAddDTO());
-        String token = jwtProvider.createAccessToken(Planner.builder().id(19L).build());
+        String token = jwtProvider.createAccessToken(Planner.builder().id(19L).build(), null);
 
         // when
         ResultActions result = mockMvc.perform(
@@ -171,6 +176,8 @@ public class PortfolioControllerTest {
         result.andExpect(MockMvcResultMatchers.jsonPath("$.response.data[0].plannerName").value("planner12"));
         result.andExpect(MockMvcResultMatchers.jsonPath("$.response.data[0].location").value("부산"));
         result.andExpect(MockMvcResultMatchers.jsonPath("$.response.cursor").value(3));
+        // 목록 1번 + 썸네일 1번 (count 쿼리, 찜 조회 없음)
+        result.andExpect(SqlStatsMatchers.statements(2));
     }
 
     @DisplayName("포트폴리오 리스트 조회 성공 테스트 2 - 마지막 페이지")
@@ -191,6 +198,48 @@ public class PortfolioControllerTest {
         result.andExpect(MockMvcResultMatchers.jsonPath("$.response.data[0].id").value(2));
         result.andExpect(MockMvcResultMatchers.jsonPath("$.response.data.length()").value(2));
         result.andExpect(MockMvcResultMatchers.jsonPath("$.response.cursor").value(IsNull.nullValue()));
+        result.andExpect(SqlStatsMatchers.statements(2));
+    }
+
+    // ============ 포트폴리오 검색 테스트 ============
+    @DisplayName("포트폴리오 검색 성공 테스트")
+    @Test
+    public void search_portfolio_success_test() throws Exception {
+        // given
+        portfolioSearchIndexer.rebuild();
+
+        // when
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders
+                        .get("/api/portfolio/search")
+                        .param("keyword", "test1")
+                        .param("location", "부산")
+        );
+
+        logResult(result);
+
+        // then
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.success").value("true"));
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.response.data.portfolios[0].id").value(1));
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.response.data.portfolios[0].title").value("test1"));
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.response.data.locations[0].label").value("부산"));
+    }
+
+    @DisplayName("포트폴리오 검색 실패 테스트 - 잘못된 정렬 기준")
+    @Test
+    public void search_portfolio_fail_test_wrong_sort() throws Exception {
+        // when
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders
+                        .get("/api/portfolio/search")
+                        .param("sort", "price")
+        );
+
+        logResult(result);
+
+        // then
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.success").value("false"));
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.error.status").value(4011));
     }
 
     // ============ 포트폴리오 상세 조회 테스트 ============
@@ -216,6 +265,8 @@ public class PortfolioControllerTest {
         result.andExpect(MockMvcResultMatchers.jsonPath("$.response.priceInfo.items[0].itemPrice").value(500000));
         result.andExpect(MockMvcResultMatchers.jsonPath("$.response.paymentsHistory.avgPrice").value(1000000));
         result.andExpect(MockMvcResultMatchers.jsonPath("$.response.paymentsHistory.payments[0].confirmedAt").value("2023-10"));
+        // 상세(포트폴리오, 이미지, 가격 항목) + 유저, 찜 여부 + 거래 내역(매칭, 견적서)
+        result.andExpect(SqlStatsMatchers.statementsAtMost(10));
     }
 
     @DisplayName("포트폴리오 상세 조회 성공 테스트 - 플래너 (NORMAL 등급)")
@@ -309,7 +360,7 @@ public class PortfolioControllerTest {
     public void update_portfolio_fail_test_user_not_found() throws Exception {
         // given
         String requestBody = om.writeValueAsString(getUpdateDTO());
-        String token = jwtProvider.createAccessToken(Planner.builder().id(19L).build());
+        String token = jwtProvider.createAccessToken(Planner.builder().id(19L).build(), null);
 
         // when
         ResultActions result = mockMvc.perform(
@@ -0,0 +1,170 @@
+package com.kakao.sunsuwedding.portfolio;
+
+import com.kakao.sunsuwedding.portfolio.cursor.CursorRequest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록 조회(PortfolioSpecification)의 조건 조합마다 실제로 실행되는 SQL 을 EXPLAIN 해서
+// 테이블 전체 스캔(H2: tableScan, MySQL: type=ALL)이 생기면 실패
+@ActiveProfiles("test")
+@Sql("classpath:/db/teardown.sql")
+@TestPropertySource(properties = {
+        "security.jwt-config.secret.access=your-test-access-secret",
+        "security.jwt-config.secret.refresh=your-test-refresh-secret",
+        "payment.toss.secret=your-test-toss-payment-secret",
+        "email.username=test@email.com",
+        "email.password=qweasdzxc",
+        "email.test-code=999999",
+        // 조건 값을 SQL 에 그대로 넣어서 EXPLAIN 할 수 있게 함
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.kakao.sunsuwedding.portfolio.PortfolioQueryPlanTest$SqlCapture"
+})
+@SpringBootTest
+public class PortfolioQueryPlanTest {
+
+    private static final int PORTFOLIO_COUNT = 500;
+    private static final int ID_OFFSET = 1000;
+    private static final List<String> LOCATIONS = List.of("서울", "부산", "대구", "인천", "광주");
+
+    @Autowired
+    private PortfolioJPARepository portfolioJPARepository;
+    @Autowired
+    private PortfolioSpecification portfolioSpecification;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+
+    public static class SqlCapture implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    // 플래너 이름, 지역, 최소 가격, 최대 가격, 커서의 모든 조합
+    static Stream<Arguments> filterCombinations() {
+        List<Arguments> combinations = new ArrayList<>();
+        for (String name : new String[]{null, "bench7"})
+            for (String location : new String[]{null, "부산"})
+                for (Long minPrice : new Long[]{0L, 1_000_000L})
+                    for (Long maxPrice : new Long[]{-1L, 3_000_000L})
+                        for (Long cursor : new Long[]{CursorRequest.START_KEY, (long) ID_OFFSET + PORTFOLIO_COUNT / 2}) {
+                            String description = String.format("name=%s, location=%s, minPrice=%d, maxPrice=%d, cursor=%d",
+                                    name, location, minPrice, maxPrice, cursor);
+                            combinations.add(Arguments.of(description,
+                                    new CursorRequest(cursor, 10, name, location, minPrice, maxPrice)));
+                        }
+        return combinations.stream();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_tb (id, email, password, username, created_at, grade, is_active, dtype)
+                VALUES (?, ?, 'password', ?, ?, 'NORMAL', true, 'planner')
+                """, IntStream.range(0, PORTFOLIO_COUNT)
+                .mapToObj(i -> new Object[]{ID_OFFSET + i, "bench" + i + "@gmail.com", "bench" + i, now})
+                .toList());
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO portfolio_tb (id, planner_id, planner_name, title, description, location, career, partner_company,
+                                          total_price, contract_count, avg_price, min_price, max_price, avg_stars, created_at, is_active)
+                VALUES (?, ?, ?, 'title', 'description', ?, 'career', 'partner', ?, 0, 0, 0, 0, 0, ?, true)
+                """, IntStream.range(0, PORTFOLIO_COUNT)
+                .mapToObj(i -> new Object[]{ID_OFFSET + i, ID_OFFSET + i, "bench" + i,
+                        LOCATIONS.get(i % LOCATIONS.size()), 500_000L + (i % 40) * 100_000L, now})
+                .toList());
+    }
+
+    @DisplayName("포트폴리오 목록 조회 조건 조합별 실행 계획에 전체 스캔이 없어야 함")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filterCombinations")
+    void list_query_plan_test(String description, CursorRequest request) throws SQLException {
+        // given
+        SqlCapture.STATEMENTS.clear();
+
+        // when
+        portfolioJPARepository.findSlice(portfolioSpecification.findPortfolio(request), request.get());
+
+        // then
+        List<String> selects = SqlCapture.STATEMENTS.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase().startsWith("select"))
+                .toList();
+        assertThat(selects).isNotEmpty();
+
+        // 남은 바인딩 파라미터는 페이지 크기(limit/offset) 뿐임
+        for (String sql : selects) {
+            assertNoFullScan(sql.replace("?", "10"));
+        }
+    }
+
+    @DisplayName("포트폴리오 목록 조회는 count 쿼리 없이 한 번의 select 로 다음 페이지 여부를 판단함")
+    @Test
+    void list_query_without_count_test() {
+        // given
+        CursorRequest request = new CursorRequest(CursorRequest.START_KEY, 10, null, null, -1L, -1L);
+        SqlCapture.STATEMENTS.clear();
+
+        // when
+        Slice<Portfolio> slice = portfolioJPARepository.findSlice(portfolioSpecification.findPortfolio(request), request.get());
+
+        // then
+        assertThat(slice.getContent()).hasSize(10);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(SqlCapture.STATEMENTS)
+                .hasSize(1)
+                .noneMatch(sql -> sql.toLowerCase().contains("count("));
+    }
+
+    private void assertNoFullScan(String sql) throws SQLException {
+        String product;
+        try (Connection connection = dataSource.getConnection()) {
+            product = connection.getMetaData().getDatabaseProductName();
+        }
+
+        if (product.equalsIgnoreCase("MySQL")) {
+            List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + sql);
+            assertThat(plan)
+                    .as("full scan in plan of %s%n%s", sql, plan)
+                    .noneMatch(row -> "ALL".equals(row.get("type")));
+            return;
+        }
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        assertThat(plan)
+                .as("full scan in plan of %s", sql)
+                .doesNotContainIgnoringCase(".tableScan");
+    }
+}
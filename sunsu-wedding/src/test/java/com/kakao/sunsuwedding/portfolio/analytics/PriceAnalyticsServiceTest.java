@@ -0,0 +1,198 @@
+package com.kakao.sunsuwedding.portfolio.analytics;
+
+import com.kakao.sunsuwedding._core.utils.TDigest;
+import com.kakao.sunsuwedding.user.planner.Planner;
+import com.kakao.sunsuwedding.user.planner.PlannerJPARepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@Sql("classpath:db/teardown.sql")
+@TestPropertySource(properties = {
+        "security.jwt-config.secret.access=your-test-access-secret",
+        "security.jwt-config.secret.refresh=your-test-refresh-secret",
+        "payment.toss.secret=your-test-toss-payment-secret",
+        "email.username=test@email.com",
+        "email.password=qweasdzxc",
+        "email.test-code=999999"
+})
+@SpringBootTest
+public class PriceAnalyticsServiceTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private PriceAnalyticsServiceImpl priceAnalyticsServiceImpl;
+
+    @Autowired
+    private PlannerJPARepository plannerJPARepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private PriceSketchRebuilder priceSketchRebuilder;
+
+    @DisplayName("확정 금액을 플래너, 지역 스케치에 추가")
+    @Test
+    void add_confirmed_price_test() {
+        // given (teardown.sql 의 2, 3번 플래너 포트폴리오는 모두 부산)
+        Planner planner1 = plannerJPARepository.findById(2L).orElseThrow();
+        Planner planner2 = plannerJPARepository.findById(3L).orElseThrow();
+
+        // when
+        priceAnalyticsServiceImpl.addConfirmedPrice(planner1, 1_000_000L);
+        priceAnalyticsServiceImpl.addConfirmedPrice(planner1, 3_000_000L);
+        priceAnalyticsServiceImpl.addConfirmedPrice(planner2, 2_000_000L);
+
+        // then
+        TDigest plannerSketch = priceAnalyticsServiceImpl.findPlannerSketch(2L).orElseThrow();
+        TDigest locationSketch = priceAnalyticsServiceImpl.findLocationSketch("부산").orElseThrow();
+        assertThat(plannerSketch.count()).isEqualTo(2);
+        assertThat(plannerSketch.quantile(0.5)).isEqualTo(2_000_000.0);
+        assertThat(locationSketch.count()).isEqualTo(3);
+        assertThat(locationSketch.min()).isEqualTo(1_000_000.0);
+        assertThat(locationSketch.max()).isEqualTo(3_000_000.0);
+        assertThat(priceAnalyticsServiceImpl.findLocationSketch("서울")).isEmpty();
+    }
+
+    @DisplayName("같은 플래너의 동시 확정 - 스케치 갱신이 서로 덮어쓰지 않음")
+    @Test
+    void concurrent_add_confirmed_price_test() throws Exception {
+        // given (처음 확정으로 스케치 행을 만들어 둔 뒤 동시에 갱신)
+        Planner planner = plannerJPARepository.findById(2L).orElseThrow();
+        priceAnalyticsServiceImpl.addConfirmedPrice(planner, 100_000L);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 1; i <= THREADS; i++) {
+            long price = i * 100_000L;
+            futures.add(executor.submit(() -> {
+                start.await();
+                priceAnalyticsServiceImpl.addConfirmedPrice(planner, price);
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(priceAnalyticsServiceImpl.findPlannerSketch(2L).orElseThrow().count()).isEqualTo(THREADS + 1);
+        assertThat(priceAnalyticsServiceImpl.findLocationSketch("부산").orElseThrow().count()).isEqualTo(THREADS + 1);
+    }
+
+    @DisplayName("플래너 스케치를 match_tb 의 확정 거래로 다시 만듦")
+    @Test
+    void rebuild_planner_sketch_test() {
+        // given
+        Planner planner = plannerJPARepository.findById(2L).orElseThrow();
+        priceAnalyticsServiceImpl.addConfirmedPrice(planner, 9_000_000L);
+
+        // when (teardown.sql 의 2번 플래너 확정 거래는 1,000,000 원 2건)
+        priceAnalyticsServiceImpl.rebuildPlannerSketch(2L);
+
+        // then
+        TDigest plannerSketch = priceAnalyticsServiceImpl.findPlannerSketch(2L).orElseThrow();
+        assertThat(plannerSketch.count()).isEqualTo(2);
+        assertThat(plannerSketch.max()).isEqualTo(1_000_000.0);
+    }
+
+    @DisplayName("재생성 요청은 발행한 트랜잭션이 커밋된 뒤에만 실행")
+    @Test
+    void rebuild_after_commit_only_test() {
+        // given
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        // when (롤백된 트랜잭션의 요청은 버려지고, 커밋된 트랜잭션의 요청만 실행됨)
+        transaction.executeWithoutResult(status -> {
+            eventPublisher.publishEvent(new PriceSketchRebuildEvent(2L));
+            status.setRollbackOnly();
+        });
+        boolean rebuiltOnRollback = priceAnalyticsServiceImpl.findPlannerSketch(2L).isPresent();
+        transaction.executeWithoutResult(status -> eventPublisher.publishEvent(new PriceSketchRebuildEvent(2L)));
+
+        // then (teardown.sql 의 2번 플래너 확정 거래는 1,000,000 원 2건)
+        assertThat(rebuiltOnRollback).isFalse();
+        assertThat(priceAnalyticsServiceImpl.findPlannerSketch(2L).orElseThrow().count()).isEqualTo(2);
+    }
+
+    @DisplayName("기존 확정 거래로 플래너, 지역 스케치를 채움 (backfill)")
+    @Test
+    void backfill_test() {
+        // when (teardown.sql 의 확정 거래는 2번 플래너(부산)의 1,000,000 원 2건)
+        int rebuilt = priceSketchRebuilder.backfill();
+
+        // then (확정 거래가 있는 플래너 1명 + 포트폴리오가 있는 지역 1곳)
+        assertThat(rebuilt).isEqualTo(2);
+        assertThat(priceAnalyticsServiceImpl.findPlannerSketch(2L).orElseThrow().count()).isEqualTo(2);
+        assertThat(priceAnalyticsServiceImpl.findPlannerSketch(3L)).isEmpty();
+        TDigest locationSketch = priceAnalyticsServiceImpl.findLocationSketch("부산").orElseThrow();
+        assertThat(locationSketch.count()).isEqualTo(2);
+        assertThat(locationSketch.max()).isEqualTo(1_000_000.0);
+    }
+
+    @DisplayName("확정 트랜잭션이 스케치를 잠근 동안 재생성 - 커밋된 확정이 재생성 결과에 포함됨")
+    @Test
+    void rebuild_waits_for_concurrent_confirm_test() throws Exception {
+        // given (7번 매칭을 확정하는 트랜잭션이 플래너 스케치를 잠근 채 커밋 전에 멈춤)
+        Planner planner = plannerJPARepository.findById(2L).orElseThrow();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        Future<?> confirm = executor.submit(() -> transaction.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE match_tb SET status = 'CONFIRMED', confirmed_price = 2000000, confirmed_at = CURRENT_TIMESTAMP WHERE id = 7");
+            priceAnalyticsServiceImpl.addConfirmedPrice(planner, 2_000_000L);
+            locked.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        locked.await();
+
+        // when (재생성은 잠금을 기다렸다가 확정이 커밋된 뒤 match_tb 를 읽음)
+        Future<?> rebuild = executor.submit(() -> priceAnalyticsServiceImpl.rebuildPlannerSketch(2L));
+        Thread.sleep(200);
+        release.countDown();
+        confirm.get();
+        rebuild.get();
+        executor.shutdown();
+
+        // then (teardown.sql 의 확정 거래 2건 + 이번 확정 1건)
+        TDigest plannerSketch = priceAnalyticsServiceImpl.findPlannerSketch(2L).orElseThrow();
+        assertThat(plannerSketch.count()).isEqualTo(3);
+        assertThat(plannerSketch.max()).isEqualTo(2_000_000.0);
+    }
+}
@@ -0,0 +1,60 @@
+package com.kakao.sunsuwedding.portfolio.cache;
+
+import com.kakao.sunsuwedding.portfolio.PortfolioChangedEvent;
+import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PortfolioDetailCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PortfolioDetailCache portfolioDetailCache = new PortfolioDetailCache(meterRegistry, 100, Duration.ofMinutes(10));
+
+    @DisplayName("같은 포트폴리오는 한 번만 조회 - getDetail()")
+    @Test
+    void getDetailTest() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+
+        // when
+        portfolioDetailCache.getDetail(1L, id -> load(id, loadCount));
+        PortfolioResponse.FindByIdDTO result = portfolioDetailCache.getDetail(1L, id -> load(id, loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(1);
+        assertThat(result.id()).isEqualTo(1L);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "portfolio.detail").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @DisplayName("포트폴리오 변경 이벤트가 오면 다시 조회 - onPortfolioChanged()")
+    @Test
+    void onPortfolioChangedTest() {
+        // given
+        AtomicInteger loadCount = new AtomicInteger();
+        portfolioDetailCache.getDetail(1L, id -> load(id, loadCount));
+        portfolioDetailCache.getDetail(2L, id -> load(id, loadCount));
+
+        // when
+        portfolioDetailCache.onPortfolioChanged(new PortfolioChangedEvent(1L));
+        portfolioDetailCache.getDetail(1L, id -> load(id, loadCount));
+        portfolioDetailCache.getDetail(2L, id -> load(id, loadCount));
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(3);
+    }
+
+    private PortfolioResponse.FindByIdDTO load(Long portfolioId, AtomicInteger loadCount) {
+        loadCount.incrementAndGet();
+        return new PortfolioResponse.FindByIdDTO(portfolioId, 1L, List.of(), "title", "planner", 0L,
+                new PortfolioResponse.PriceDTO(0L, List.of()), "부산", "description", "career", "partner",
+                0.0, null, false);
+    }
+}
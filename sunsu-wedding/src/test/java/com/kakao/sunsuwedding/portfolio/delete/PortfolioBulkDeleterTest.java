@@ -0,0 +1,153 @@
+package com.kakao.sunsuwedding.portfolio.delete;
+
+import com.kakao.sunsuwedding._core.SqlStatsMatchers;
+import com.kakao.sunsuwedding._core.config.SecurityConfig;
+import com.kakao.sunsuwedding._core.storage.BlobStorage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 청크가 여러 번 돌도록 chunk-size 를 작게 잡음
+@Import({
+        SecurityConfig.class
+})
+@ActiveProfiles("test")
+@Sql("classpath:/db/teardown.sql")
+@AutoConfigureMockMvc
+@TestPropertySource(properties = {
+        "security.jwt-config.secret.access=your-test-access-secret",
+        "security.jwt-config.secret.refresh=your-test-refresh-secret",
+        "payment.toss.secret=your-test-toss-payment-secret",
+        "email.username=test@email.com",
+        "email.password=qweasdzxc",
+        "email.test-code=999999",
+        "portfolio.delete.chunk-size=10"
+})
+@EnableWebMvc
+@SpringBootTest
+public class PortfolioBulkDeleterTest {
+
+    // teardown.sql 의 planner18@gmail.com (유저 20번) 포트폴리오
+    private static final Long PORTFOLIO_ID = 16L;
+    private static final Long OTHER_PORTFOLIO_ID = 1L;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private BlobStorage blobStorage;
+
+    @DisplayName("포트폴리오 삭제 - 행 수와 관계없이 테이블마다 청크 단위 DELETE")
+    @Test
+    @WithUserDetails("planner18@gmail.com")
+    public void delete_portfolio_statements_test() throws Exception {
+        // given (가격 항목 30개, 찜 40개, 이미지 1개)
+        insertPriceItems(30);
+        insertFavorites(40);
+
+        // when
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders
+                        .delete("/api/portfolio")
+        );
+
+        // then
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.success").value("true"));
+        assertThat(countByPortfolio("price_item_tb")).isZero();
+        assertThat(countByPortfolio("favorite_tb")).isZero();
+        assertThat(countByPortfolio("portfolio_image_item_tb")).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT is_active FROM portfolio_tb WHERE id = ?", Boolean.class, PORTFOLIO_ID)).isFalse();
+        // 다른 포트폴리오의 찜은 그대로
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM favorite_tb WHERE portfolio_id = ?", Long.class, OTHER_PORTFOLIO_ID)).isEqualTo(3L);
+        // 포트폴리오 조회 + 이미지 키 조회 + 이미지 DELETE 1번 + 가격 항목 DELETE 4번 (10, 10, 10, 0) + 찜 DELETE 5번 (10, 10, 10, 10, 0)
+        // + soft delete UPDATE + 커밋 후 검색 색인 조회, blob 참조 조회 (행마다 DELETE 하면 70번 이상)
+        result.andExpect(SqlStatsMatchers.statementsAtMost(15));
+    }
+
+    @DisplayName("포트폴리오 삭제 - 다른 곳에서 참조하지 않는 이미지 파일만 삭제")
+    @Test
+    @WithUserDetails("planner18@gmail.com")
+    public void delete_portfolio_releases_blobs_test() throws Exception {
+        // given (ownKey, sharedKey 는 오래전에 저장된 blob, reuploadedKey 는 방금 다른 요청이 같은 내용으로 다시 저장한 blob)
+        String ownKey = storeLongAgo(uniqueContent());
+        String sharedKey = storeLongAgo(uniqueContent());
+        byte[] reuploaded = uniqueContent();
+        String reuploadedKey = storeLongAgo(reuploaded);
+        blobStorage.store(reuploaded);
+        insertImageItem(1000L, PORTFOLIO_ID, ownKey);
+        insertImageItem(1001L, PORTFOLIO_ID, sharedKey);
+        insertImageItem(1002L, OTHER_PORTFOLIO_ID, sharedKey);
+        insertImageItem(1003L, PORTFOLIO_ID, reuploadedKey);
+
+        // when
+        ResultActions result = mockMvc.perform(
+                MockMvcRequestBuilders
+                        .delete("/api/portfolio")
+        );
+
+        // then
+        result.andExpect(MockMvcResultMatchers.jsonPath("$.success").value("true"));
+        assertThat(blobStorage.exists(ownKey)).isFalse();
+        assertThat(blobStorage.exists(sharedKey)).isTrue();
+        // 다시 저장한 요청의 행이 아직 커밋 전이라 참조 조회에 안 보여도 삭제하지 않음
+        assertThat(blobStorage.exists(reuploadedKey)).isTrue();
+    }
+
+    private void insertPriceItems(int count) {
+        jdbcTemplate.batchUpdate("INSERT INTO price_item_tb (id, portfolio_id, item_title, item_price) VALUES (?, ?, ?, ?)",
+                IntStream.range(0, count)
+                        .mapToObj(i -> new Object[]{1000L + i, PORTFOLIO_ID, "item" + i, 10000L})
+                        .toList());
+    }
+
+    private void insertFavorites(int count) {
+        jdbcTemplate.batchUpdate("INSERT INTO favorite_tb (id, user_id, portfolio_id, created_at) VALUES (?, ?, ?, CURRENT_TIMESTAMP)",
+                IntStream.range(0, count)
+                        .mapToObj(i -> new Object[]{1000L + i, (long) (i % 20) + 1, PORTFOLIO_ID})
+                        .toList());
+    }
+
+    private void insertImageItem(Long id, Long portfolioId, String key) {
+        jdbcTemplate.update("INSERT INTO portfolio_image_item_tb (id, portfolio_id, image_key, thumbnail_key, thumbnail) VALUES (?, ?, ?, ?, false)",
+                id, portfolioId, key, key);
+    }
+
+    private Long countByPortfolio(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE portfolio_id = ?", Long.class, PORTFOLIO_ID);
+    }
+
+    private String storeLongAgo(byte[] content) throws IOException {
+        String key = blobStorage.store(content);
+        Files.setLastModifiedTime(blobStorage.localPath(key).orElseThrow(), FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+        return key;
+    }
+
+    private byte[] uniqueContent() {
+        return UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -32,23 +32,20 @@ public class PortfolioImageItemJPARepositoryTest extends DummyEntity {
     @Autowired
     private EntityManager entityManager;
 
-    Long plannerId;
-
     @BeforeEach
     void setUp(){
 
         Planner planner = plannerJPARepository.save(newPlanner("imagePlanner"));
-        plannerId = planner.getId();
         Portfolio portfolio = portfolioJPARepository.save(newPortfolio(planner));
 
         Planner planner2 = plannerJPARepository.save(newPlanner("imagePlanner2"));
         Portfolio portfolio2 = portfolioJPARepository.save(newPortfolio(planner2));
 
         List<PortfolioImageItem> portfolioImageItemList = List.of(
-                newImageItem(portfolio,"/wAA",true),
-                newImageItem(portfolio,"/wAA",false),
-                newImageItem(portfolio2,"/wAA",true),
-                newImageItem(portfolio2,"/wAA",false)
+                newImageItem(portfolio,IMAGE_KEY,true),
+                newImageItem(portfolio,IMAGE_KEY,false),
+                newImageItem(portfolio2,IMAGE_KEY,true),
+                newImageItem(portfolio2,IMAGE_KEY,false)
         );
         portfolioImageItemJPARepository.saveAll(portfolioImageItemList);
         entityManager.flush();
@@ -77,6 +74,21 @@ public class PortfolioImageItemJPARepositoryTest extends DummyEntity {
         assertThat(portfolioImageItemList.get(1).getId()).isEqualTo(1);
     }
 
+    @DisplayName("포트폴리오 썸네일 키만 조회하기 - findThumbnailsByPortfolioIds()")
+    @Test
+    void findThumbnailsByPortfolioIdsTest(){
+        // given
+        List<Long> portfolioIds = portfolioJPARepository.findAll().stream().map(Portfolio::getId).toList();
+
+        // when
+        List<PortfolioThumbnailDTO> thumbnails = portfolioImageItemJPARepository.findThumbnailsByPortfolioIds(portfolioIds);
+
+        // then (썸네일 렌디션이 없으면 원본 키로 대체됨)
+        assertThat(thumbnails.size()).isEqualTo(2);
+        assertThat(thumbnails).extracting(PortfolioThumbnailDTO::portfolioId).containsExactlyInAnyOrderElementsOf(portfolioIds);
+        assertThat(thumbnails).extracting(PortfolioThumbnailDTO::thumbnailKey).containsOnly(IMAGE_KEY);
+    }
+
     @DisplayName("포트폴리오 ID로 이미지 조회하기 - findByPortfolioId()")
     @Test
     void findByPortfolioIdTest(){
@@ -105,17 +117,4 @@ public class PortfolioImageItemJPARepositoryTest extends DummyEntity {
         // then
         assertThat(previousCount-2).isEqualTo(portfolioImageItemJPARepository.count());
     }
-
-    @DisplayName("플래너 ID로 이미지 삭제하기 - deleteAllByPortfolioPlannerId()")
-    @Test
-    void deleteAllByPortfolioPlannerIdTest(){
-        // when
-        Long previousCount = portfolioImageItemJPARepository.count();
-
-        // given
-        portfolioImageItemJPARepository.deleteAllByPortfolioPlannerId(plannerId);
-
-        // then
-        assertThat(previousCount-2).isEqualTo(portfolioImageItemJPARepository.count());
-    }
 }
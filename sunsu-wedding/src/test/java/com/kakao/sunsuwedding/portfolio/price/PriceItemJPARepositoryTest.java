@@ -84,20 +84,6 @@ public class PriceItemJPARepositoryTest extends DummyEntity {
         assertThat(priceItems.get(1).getItemTitle()).isEqualTo("price2");
     }
 
-    @DisplayName("플래너 ID로 가격 아이템 삭제하기 - deleteAllByPortfolioPlannerId()")
-    @Test
-    void deleteAllByPortfolioPlannerIdTest(){
-        // given
-        Long plannerId = 2L;
-        Long previousCount = priceItemJPARepository.count();
-
-        // when
-        priceItemJPARepository.deleteAllByPortfolioPlannerId(plannerId);
-
-        // then
-        assertThat(previousCount-4).isEqualTo(priceItemJPARepository.count());
-    }
-
     @DisplayName("포트폴리오 ID로 가격 아이템 삭제하기 - deleteAllByPortfolioId()")
     @Test
     void deleteAllByPortfolioIdTest(){
@@ -106,7 +92,7 @@ public class PriceItemJPARepositoryTest extends DummyEntity {
         Long previousCount = priceItemJPARepository.count();
 
         // when
-        priceItemJPARepository.deleteAllByPortfolioPlannerId(portfolioId);
+        priceItemJPARepository.deleteAllByPortfolioId(portfolioId);
 
         // then
         assertThat(previousCount-3).isEqualTo(priceItemJPARepository.count());
@@ -0,0 +1,136 @@
+package com.kakao.sunsuwedding.portfolio.search;
+
+import com.kakao.sunsuwedding.portfolio.PortfolioJPARepository;
+import com.kakao.sunsuwedding.portfolio.PortfolioSpecification;
+import com.kakao.sunsuwedding.portfolio.cursor.CursorRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 기존 목록 조회(Criteria) 와 검색 색인의 조회 시간 비교
+// ./gradlew test --tests '*PortfolioSearchBenchmarkTest' -Dbenchmark=true
+@ActiveProfiles("test")
+@Sql("classpath:/db/teardown.sql")
+@TestPropertySource(properties = {
+        "security.jwt-config.secret.access=your-test-access-secret",
+        "security.jwt-config.secret.refresh=your-test-refresh-secret",
+        "payment.toss.secret=your-test-toss-payment-secret",
+        "email.username=test@email.com",
+        "email.password=qweasdzxc",
+        "email.test-code=999999",
+        "logging.level.com.kakao.sunsuwedding=INFO",
+        "logging.level.org.springframework.jdbc.core.JdbcTemplate=INFO",
+        "spring.jpa.show-sql=false"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@SpringBootTest
+public class PortfolioSearchBenchmarkTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(PortfolioSearchBenchmarkTest.class);
+    private static final int PORTFOLIO_COUNT = 20_000;
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 200;
+    private static final List<String> LOCATIONS = List.of("서울", "부산", "대구", "인천", "광주", "대전", "울산", "제주");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PortfolioJPARepository portfolioJPARepository;
+    @Autowired
+    private PortfolioSpecification portfolioSpecification;
+    @Autowired
+    private PortfolioSearchIndex portfolioSearchIndex;
+    @Autowired
+    private PortfolioSearchIndexer portfolioSearchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int idOffset = 1000;
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_tb (id, email, password, username, created_at, grade, is_active, dtype)
+                VALUES (?, ?, 'password', ?, ?, 'NORMAL', true, 'planner')
+                """, IntStream.range(0, PORTFOLIO_COUNT)
+                .mapToObj(i -> new Object[]{idOffset + i, "bench" + i + "@gmail.com", "bench" + i, now})
+                .toList());
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO portfolio_tb (id, planner_id, planner_name, title, description, location, career, partner_company,
+                                          total_price, contract_count, avg_price, min_price, max_price, avg_stars, created_at, is_active)
+                VALUES (?, ?, ?, ?, ?, ?, '경력 3년', '웨딩홀', ?, 0, 0, 0, 0, ?, ?, true)
+                """, IntStream.range(0, PORTFOLIO_COUNT)
+                .mapToObj(i -> new Object[]{
+                        idOffset + i, idOffset + i, "bench" + i,
+                        (i % 10 == 0 ? "스드메 패키지 " : "스몰웨딩 ") + i,
+                        "벤치마크용 포트폴리오 " + i,
+                        LOCATIONS.get(i % LOCATIONS.size()),
+                        500_000L + (i % 50) * 100_000L,
+                        (i % 50) / 10.0,
+                        now})
+                .toList());
+
+        portfolioSearchIndexer.rebuild();
+    }
+
+    @Test
+    @DisplayName("지역 + 가격 조건 목록 조회: Criteria vs 검색 색인")
+    void benchmark_filter_query() {
+        CursorRequest cursorRequest = new CursorRequest(CursorRequest.START_KEY, 10, null, "부산", 1_000_000L, 3_000_000L);
+        PortfolioSearchRequest searchRequest = new PortfolioSearchRequest(null, "부산", 1_000_000L, 3_000_000L,
+                PortfolioSearchSort.RELEVANCE, CursorRequest.START_KEY, 10);
+
+        double specMillis = measure(() -> portfolioJPARepository
+                .findSlice(portfolioSpecification.findPortfolio(cursorRequest), cursorRequest.get()).getContent().size());
+        double indexMillis = measure(() -> portfolioSearchIndex.search(searchRequest).portfolioIds().size());
+
+        logger.info("portfolios={} spec query={}ms/op, search index={}ms/op", PORTFOLIO_COUNT, specMillis, indexMillis);
+        assertThat(portfolioSearchIndex.search(searchRequest).portfolioIds()).hasSize(10);
+    }
+
+    @Test
+    @DisplayName("키워드 부분 일치 검색: LIKE vs 검색 색인")
+    void benchmark_keyword_query() {
+        PortfolioSearchRequest searchRequest = new PortfolioSearchRequest("패키지", null, 0L, -1L,
+                PortfolioSearchSort.RELEVANCE, CursorRequest.START_KEY, 10);
+
+        // 현재 스키마로 부분 일치를 하려면 인덱스를 쓸 수 없는 LIKE '%...%' 뿐임
+        double likeMillis = measure(() -> jdbcTemplate.queryForList("""
+                SELECT id FROM portfolio_tb
+                WHERE is_active = true AND (title LIKE ? OR description LIKE ? OR planner_name LIKE ?)
+                ORDER BY id DESC LIMIT 10
+                """, Long.class, "%패키지%", "%패키지%", "%패키지%").size());
+        double indexMillis = measure(() -> portfolioSearchIndex.search(searchRequest).portfolioIds().size());
+
+        logger.info("portfolios={} like query={}ms/op, search index={}ms/op", PORTFOLIO_COUNT, likeMillis, indexMillis);
+        assertThat(portfolioSearchIndex.search(searchRequest).portfolioIds()).hasSize(10);
+    }
+
+    private static double measure(Supplier<Integer> query) {
+        for (int i = 0; i < WARMUP; i++) {
+            query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS;
+    }
+}
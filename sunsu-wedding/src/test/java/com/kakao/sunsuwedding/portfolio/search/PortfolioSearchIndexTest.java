@@ -0,0 +1,122 @@
+package com.kakao.sunsuwedding.portfolio.search;
+
+import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
+import com.kakao.sunsuwedding.portfolio.cursor.CursorRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PortfolioSearchIndexTest {
+
+    private PortfolioSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        index = new PortfolioSearchIndex("");
+        index.rebuild(Stream.of(
+                new PortfolioDocument(1L, "스드메 패키지 전문 플래너", "합리적인 가격의 스드메", "김민지", "웨딩홀", "경력 5년", "부산", 1_500_000L, 4.5),
+                new PortfolioDocument(2L, "서울 스몰웨딩 전문", "소규모 예식 진행", "박서준", "하우스", "경력 3년", "서울", 3_500_000L, 4.9),
+                new PortfolioDocument(3L, "야외 웨딩 촬영", "자연광 스냅", "이하늘", "스튜디오", "경력 1년", "부산", 800_000L, 3.0)
+        ));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    @DisplayName("단어 중간 글자로 검색 (n-gram)")
+    void search_ngram_test() {
+        // when
+        PortfolioSearchResult result = index.search(request("몰웨", null, PortfolioSearchSort.RELEVANCE, CursorRequest.START_KEY, 10));
+
+        // then
+        assertThat(result.portfolioIds()).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("접두어로 검색")
+    void search_prefix_test() {
+        // when
+        PortfolioSearchResult result = index.search(request("패키", null, PortfolioSearchSort.RELEVANCE, CursorRequest.START_KEY, 10));
+
+        // then
+        assertThat(result.portfolioIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("오타가 있어도 검색")
+    void search_fuzzy_test() {
+        // when
+        PortfolioSearchResult result = index.search(request("패키쥐", null, PortfolioSearchSort.RELEVANCE, CursorRequest.START_KEY, 10));
+
+        // then
+        assertThat(result.portfolioIds()).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("지역 조건과 facet 건수")
+    void search_facet_test() {
+        // when
+        PortfolioSearchResult result = index.search(request(null, "부산", PortfolioSearchSort.RELEVANCE, CursorRequest.START_KEY, 10));
+
+        // then
+        assertThat(result.portfolioIds()).containsExactly(3L, 1L);
+        assertThat(result.totalCount()).isEqualTo(2L);
+        // 지역 facet 은 지역 조건을 빼고 계산
+        assertThat(result.locations()).containsExactly(
+                new PortfolioResponse.FacetDTO("부산", 2L),
+                new PortfolioResponse.FacetDTO("서울", 1L));
+        assertThat(result.prices()).contains(
+                new PortfolioResponse.FacetDTO("100만원 미만", 1L),
+                new PortfolioResponse.FacetDTO("100만원 ~ 200만원", 1L),
+                new PortfolioResponse.FacetDTO("300만원 ~ 500만원", 0L));
+    }
+
+    @Test
+    @DisplayName("평점 순 정렬")
+    void search_sort_stars_test() {
+        // when
+        PortfolioSearchResult result = index.search(request(null, null, PortfolioSearchSort.STARS, CursorRequest.START_KEY, 10));
+
+        // then
+        assertThat(result.portfolioIds()).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("커서 페이지네이션")
+    void search_cursor_test() {
+        // when
+        PortfolioSearchResult first = index.search(request(null, null, PortfolioSearchSort.RELEVANCE, CursorRequest.START_KEY, 2));
+        PortfolioSearchResult second = index.search(request(null, null, PortfolioSearchSort.RELEVANCE, first.nextCursor(), 2));
+
+        // then
+        assertThat(first.portfolioIds()).containsExactly(3L, 2L);
+        assertThat(first.nextCursor()).isEqualTo(2L);
+        assertThat(second.portfolioIds()).containsExactly(1L);
+        assertThat(second.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("수정, 삭제 반영")
+    void upsert_delete_test() {
+        // when
+        index.upsert(new PortfolioDocument(3L, "야외 스냅 촬영", "자연광 스냅", "이하늘", "스튜디오", "경력 1년", "부산", 800_000L, 3.0));
+        index.delete(2L);
+
+        // then
+        assertThat(index.search(request("몰웨", null, PortfolioSearchSort.RELEVANCE, CursorRequest.START_KEY, 10)).portfolioIds()).isEmpty();
+        assertThat(index.search(request("웨딩", null, PortfolioSearchSort.RELEVANCE, CursorRequest.START_KEY, 10)).portfolioIds()).containsExactly(1L);
+    }
+
+    private static PortfolioSearchRequest request(String keyword, String location, PortfolioSearchSort sort, Long cursor, int size) {
+        return new PortfolioSearchRequest(keyword, location, 0L, -1L, sort, cursor, size);
+    }
+}
@@ -0,0 +1,239 @@
+package com.kakao.sunsuwedding.portfolio.stats;
+
+import com.kakao.sunsuwedding._core.DummyEntity;
+import com.kakao.sunsuwedding._core.utils.PriceStatistics;
+import com.kakao.sunsuwedding.match.ConfirmedPriceSummaryDTO;
+import com.kakao.sunsuwedding.match.Match;
+import com.kakao.sunsuwedding.match.MatchJPARepository;
+import com.kakao.sunsuwedding.match.MatchStatus;
+import com.kakao.sunsuwedding.portfolio.Portfolio;
+import com.kakao.sunsuwedding.portfolio.PortfolioJPARepository;
+import com.kakao.sunsuwedding.quotation.QuotationJPARepository;
+import com.kakao.sunsuwedding.quotation.QuotationStatus;
+import com.kakao.sunsuwedding.user.couple.Couple;
+import com.kakao.sunsuwedding.user.couple.CoupleJPARepository;
+import com.kakao.sunsuwedding.user.planner.Planner;
+import com.kakao.sunsuwedding.user.planner.PlannerJPARepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@Import(PortfolioStatsJDBCRepositoryImpl.class)
+public class PortfolioStatsRepositoryTest extends DummyEntity {
+
+    @Autowired
+    private PortfolioJPARepository portfolioJPARepository;
+
+    @Autowired
+    private PortfolioStatsJDBCRepository portfolioStatsJDBCRepository;
+
+    @Autowired
+    private MatchJPARepository matchJPARepository;
+
+    @Autowired
+    private QuotationJPARepository quotationJPARepository;
+
+    @Autowired
+    private CoupleJPARepository coupleJPARepository;
+
+    @Autowired
+    private PlannerJPARepository plannerJPARepository;
+
+    private Couple couple;
+    private Planner planner;
+    private Long portfolioId;
+
+    @BeforeEach
+    void setUp() {
+        couple = coupleJPARepository.save(newCouple("statscouple"));
+        planner = plannerJPARepository.save(newPlanner("statsplanner"));
+        portfolioId = portfolioJPARepository.save(Portfolio.builder()
+                .planner(planner)
+                .plannerName("statsplanner")
+                .title("title")
+                .description("description")
+                .location("location")
+                .career("career")
+                .partnerCompany("partnerCompany")
+                .totalPrice(0L)
+                .contractCount(0L)
+                .priceSum(0L)
+                .avgPrice(0L)
+                .minPrice(0L)
+                .maxPrice(0L)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("확정 금액 누적")
+    void addConfirmedPriceTest() {
+        // when
+        portfolioJPARepository.addConfirmedPrice(planner.getId(), 300L);
+        portfolioJPARepository.addConfirmedPrice(planner.getId(), 100L);
+        int updated = portfolioJPARepository.addConfirmedPrice(planner.getId(), 200L);
+
+        // then
+        Portfolio portfolio = portfolioJPARepository.findById(portfolioId).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(portfolio.getContractCount()).isEqualTo(3L);
+        assertThat(portfolio.getPriceSum()).isEqualTo(600L);
+        assertThat(portfolio.getAvgPrice()).isEqualTo(200L);
+        assertThat(portfolio.getMinPrice()).isEqualTo(100L);
+        assertThat(portfolio.getMaxPrice()).isEqualTo(300L);
+    }
+
+    @Test
+    @DisplayName("어긋난 확정 통계 찾아서 보정")
+    void reconcileConfirmedPricesTest() {
+        // given
+        matchJPARepository.save(newMatch(couple, planner, MatchStatus.CONFIRMED, 100L, 100L));
+        matchJPARepository.save(newMatch(couple, planner, MatchStatus.CONFIRMED, 300L, 300L));
+        matchJPARepository.save(newMatch(couple, planner, MatchStatus.UNCONFIRMED, 500L, 0L));
+        matchJPARepository.flush();
+
+        // when
+        List<ConfirmedPriceDrift> drifts = portfolioStatsJDBCRepository.findConfirmedPriceStats()
+                .stream()
+                .filter(ConfirmedPriceDrift::hasDrift)
+                .toList();
+        int fixed = portfolioStatsJDBCRepository.batchUpdateConfirmedPrices(drifts);
+
+        // then
+        assertThat(drifts).hasSize(1);
+        assertThat(drifts.get(0).portfolioId()).isEqualTo(portfolioId);
+        assertThat(drifts.get(0).actual()).isEqualTo(new ConfirmedPriceStats(2, 400, 200, 100, 300));
+        assertThat(fixed).isEqualTo(1);
+        assertThat(portfolioStatsJDBCRepository.findConfirmedPriceStats())
+                .noneMatch(ConfirmedPriceDrift::hasDrift);
+    }
+
+    @Test
+    @DisplayName("매칭 (status, confirmed_price) 를 ResultSet 에서 바로 누적")
+    void accumulateConfirmedPricesTest() {
+        // given
+        matchJPARepository.save(newMatch(couple, planner, MatchStatus.CONFIRMED, 300L, 300L));
+        matchJPARepository.save(newMatch(couple, planner, MatchStatus.UNCONFIRMED, 500L, 0L));
+        matchJPARepository.save(newMatch(couple, planner, MatchStatus.CONFIRMED, 100L, 100L));
+        matchJPARepository.flush();
+
+        // when
+        PriceStatistics statistics = portfolioStatsJDBCRepository.accumulateConfirmedPrices(planner.getId(), new PriceStatistics());
+
+        // then
+        assertThat(statistics.rowCount()).isEqualTo(3);
+        assertThat(statistics.toConfirmedPriceStats()).isEqualTo(new ConfirmedPriceStats(2, 400, 200, 100, 300));
+        assertThat(statistics.percentile(0.5)).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("확정 거래 건수, 합계, 최소, 최대 금액을 DB 에서 집계")
+    void summarizeConfirmedPricesTest() {
+        // given
+        matchJPARepository.save(newMatch(couple, planner, MatchStatus.CONFIRMED, 300L, 300L));
+        matchJPARepository.save(newMatch(couple, planner, MatchStatus.UNCONFIRMED, 500L, 0L));
+        matchJPARepository.save(newMatch(couple, planner, MatchStatus.CONFIRMED, 100L, 100L));
+        matchJPARepository.flush();
+        Planner emptyPlanner = plannerJPARepository.save(newPlanner("emptyplanner"));
+
+        // when
+        ConfirmedPriceSummaryDTO summary = matchJPARepository.summarizeConfirmedPrices(planner.getId());
+        ConfirmedPriceSummaryDTO emptySummary = matchJPARepository.summarizeConfirmedPrices(emptyPlanner.getId());
+
+        // then
+        assertThat(summary.matchCount()).isEqualTo(3L);
+        assertThat(summary.toConfirmedPriceStats()).isEqualTo(new ConfirmedPriceStats(2, 400, 200, 100, 300));
+        assertThat(emptySummary.hasMatches()).isFalse();
+        assertThat(emptySummary.toConfirmedPriceStats()).isEqualTo(new ConfirmedPriceStats(0, 0, 0, 0, 0));
+    }
+
+    @Test
+    @DisplayName("최근 확정 거래 10건과 견적서를 한 번에 조회")
+    void findLatestPaymentsTest() {
+        // given
+        List<Match> matches = new ArrayList<>();
+        for (long i = 1; i <= 12; i++) {
+            Match match = newMatch(couple, planner, MatchStatus.CONFIRMED, i * 100, i * 100);
+            match.updateStatusConfirmed();
+            matches.add(matchJPARepository.save(match));
+        }
+        matchJPARepository.save(newMatch(couple, planner, MatchStatus.UNCONFIRMED, 500L, 0L));
+        Match latest = matches.get(11);
+        quotationJPARepository.save(newQuotation(latest, 100L, QuotationStatus.CONFIRMED));
+        quotationJPARepository.save(newQuotation(latest, 200L, QuotationStatus.CONFIRMED));
+        quotationJPARepository.flush();
+
+        // when
+        List<PaymentHistoryRow> rows = portfolioStatsJDBCRepository.findLatestPayments(planner.getId(), 10);
+
+        // then (견적서가 2건인 매칭 1건 + 견적서가 없는 매칭 9건)
+        assertThat(rows).hasSize(11);
+        assertThat(rows.stream().map(PaymentHistoryRow::matchId).distinct().count()).isEqualTo(10);
+        assertThat(rows.get(0).matchId()).isEqualTo(latest.getId());
+        assertThat(rows.get(0).confirmedPrice()).isEqualTo(1200L);
+        assertThat(rows.subList(0, 2)).extracting(PaymentHistoryRow::price).containsExactly(100L, 200L);
+        assertThat(rows.get(2).hasQuotation()).isFalse();
+        assertThat(rows).noneMatch(row -> row.matchId().equals(matches.get(0).getId()));
+    }
+
+    @Test
+    @DisplayName("리뷰 평점 변화량 누적")
+    void addReviewStarsTest() {
+        // when
+        portfolioJPARepository.addReviewStars(planner.getId(), 5L, 1L);  // 5점 작성
+        portfolioJPARepository.addReviewStars(planner.getId(), 3L, 1L);  // 3점 작성
+        portfolioJPARepository.addReviewStars(planner.getId(), 5L, 1L);  // 5점 작성
+        portfolioJPARepository.addReviewStars(planner.getId(), 1L, 0L);  // 3점 -> 4점 수정
+        portfolioJPARepository.addReviewStars(planner.getId(), -5L, -1L); // 5점 삭제
+
+        // then
+        Portfolio portfolio = portfolioJPARepository.findById(portfolioId).orElseThrow();
+        assertThat(portfolio.getReviewCount()).isEqualTo(2L);
+        assertThat(portfolio.getStarsSum()).isEqualTo(9L);
+        assertThat(portfolio.getAvgStars()).isEqualTo(4.5);
+    }
+
+    @Test
+    @DisplayName("마지막 리뷰 삭제 시 평균 평점 0")
+    void removeLastReviewStarsTest() {
+        // given
+        portfolioJPARepository.addReviewStars(planner.getId(), 4L, 1L);
+
+        // when
+        portfolioJPARepository.addReviewStars(planner.getId(), -4L, -1L);
+
+        // then
+        Portfolio portfolio = portfolioJPARepository.findById(portfolioId).orElseThrow();
+        assertThat(portfolio.getReviewCount()).isEqualTo(0L);
+        assertThat(portfolio.getAvgStars()).isEqualTo(0.0);
+    }
+
+    @Test
+    @DisplayName("어긋난 평점 통계 찾아서 보정")
+    void reconcileReviewStarsTest() {
+        // given
+        portfolioJPARepository.addReviewStars(planner.getId(), 5L, 1L);
+
+        // when
+        List<ReviewStarsDrift> drifts = portfolioStatsJDBCRepository.findReviewStarsStats()
+                .stream()
+                .filter(ReviewStarsDrift::hasDrift)
+                .toList();
+        int fixed = portfolioStatsJDBCRepository.batchUpdateReviewStars(drifts);
+
+        // then
+        assertThat(drifts).hasSize(1);
+        assertThat(drifts.get(0).actual()).isEqualTo(new ReviewStarsStats(0, 0, 0.0));
+        assertThat(fixed).isEqualTo(1);
+        assertThat(portfolioStatsJDBCRepository.findReviewStarsStats())
+                .noneMatch(ReviewStarsDrift::hasDrift);
+    }
+}
@@ -0,0 +1,108 @@
+package com.kakao.sunsuwedding.user;
+
+import com.kakao.sunsuwedding._core.errors.exception.TooManyRequestsException;
+import com.kakao.sunsuwedding._core.security.BcryptCostCalibrator;
+import com.kakao.sunsuwedding._core.security.PasswordHasher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PasswordHasherTest {
+
+    // teardown.sql 의 planner 비밀번호(planner1234!) 해시, cost 10
+    private static final String STORED_PASSWORD = "{bcrypt}$2a$10$89SwVjyXVDhK3GFcN4c8Bu3kQlNiWqjaTvgiXaCi9D/1eWx2w7CBa";
+
+    private PasswordHasher newHasher(int cost, int threads, int queueCapacity) {
+        PasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", new BCryptPasswordEncoder(cost)));
+        return new PasswordHasher(encoder, cost, threads, queueCapacity);
+    }
+
+    @DisplayName("저장된 해시 cost 읽기")
+    @Test
+    public void cost_of_test() {
+        assertThat(BcryptCostCalibrator.costOf(STORED_PASSWORD)).isEqualTo(10);
+        assertThat(BcryptCostCalibrator.costOf("$2b$12$abcdefghijklmnopqrstuv")).isEqualTo(12);
+        assertThat(BcryptCostCalibrator.costOf("{noop}password")).isEqualTo(-1);
+        assertThat(BcryptCostCalibrator.costOf(null)).isEqualTo(-1);
+    }
+
+    @DisplayName("비밀번호 검증 및 cost 가 설정보다 낮을 때만 재해싱 필요")
+    @Test
+    public void matches_and_rehash_test() throws Exception {
+        // given
+        PasswordHasher weakHasher = newHasher(4, 1, 4);
+        PasswordHasher hasher = newHasher(10, 1, 4);
+
+        // when
+        String weakHash = weakHasher.encode("planner1234!");
+
+        // then
+        assertThat(weakHasher.matches("planner1234!", STORED_PASSWORD)).isTrue();
+        assertThat(weakHasher.matches("wrong1234!", STORED_PASSWORD)).isFalse();
+        // 설정보다 높은 cost 의 해시는 낮추지 않음
+        assertThat(weakHasher.needsRehash(STORED_PASSWORD)).isFalse();
+        assertThat(BcryptCostCalibrator.costOf(weakHash)).isEqualTo(4);
+        assertThat(weakHasher.needsRehash(weakHash)).isFalse();
+
+        assertThat(hasher.needsRehash(weakHash)).isTrue();
+        assertThat(hasher.needsRehash(STORED_PASSWORD)).isFalse();
+        assertThat(hasher.needsRehash("{noop}planner1234!")).isTrue();
+        assertThat(hasher.matches("planner1234!", weakHash)).isTrue();
+        weakHasher.destroy();
+        hasher.destroy();
+    }
+
+    @DisplayName("해싱 대기열이 가득 차면 429")
+    @Test
+    public void saturated_queue_test() throws Exception {
+        // given (스레드 1개, 대기열 1개를 모두 막아둠)
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch running = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                running.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                return rawPassword.toString();
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return rawPassword.toString().equals(encodedPassword);
+            }
+        };
+        PasswordHasher hasher = new PasswordHasher(blockingEncoder, 10, 1, 1);
+        ExecutorService requests = Executors.newFixedThreadPool(2);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> hasher.encode("first"), requests);
+        running.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> hasher.encode("second"), requests);
+        Thread.sleep(100);
+
+        // when, then
+        assertThatThrownBy(() -> hasher.encode("third"))
+                .isInstanceOf(TooManyRequestsException.class);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("first");
+        assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("second");
+        requests.shutdown();
+        hasher.destroy();
+    }
+}
@@ -7,6 +7,9 @@ import com.kakao.sunsuwedding.user.couple.Couple;
 import com.kakao.sunsuwedding.user.couple.CoupleJPARepository;
 import com.kakao.sunsuwedding.user.planner.Planner;
 import com.kakao.sunsuwedding.user.token.Token;
+import com.kakao.sunsuwedding.user.token.TokenFamily;
+import com.kakao.sunsuwedding.user.token.TokenFamilyJPARepository;
+import com.kakao.sunsuwedding.user.token.TokenHasher;
 import com.kakao.sunsuwedding.user.token.TokenJPARepository;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
@@ -16,6 +19,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.AutoConfigureDataJpa;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @AutoConfigureDataJpa
@@ -25,6 +31,9 @@ public class TokenJPARepositoryTest extends DummyEntity {
     @Autowired
     private TokenJPARepository tokenJPARepository;
 
+    @Autowired
+    private TokenFamilyJPARepository tokenFamilyJPARepository;
+
     @Autowired
     private UserJPARepository userJPARepository;
 
@@ -33,12 +42,15 @@ public class TokenJPARepositoryTest extends DummyEntity {
 
     private Long id;
     private Long userId;
+    private Long familyId;
 
     @BeforeEach
     public void setUp(){
         User user = userJPARepository.save(newPlanner("asdf"));
         userId = user.getId();
-        id = tokenJPARepository.save(newToken(user)).getId();
+        TokenFamily family = tokenFamilyJPARepository.save(newTokenFamily(user));
+        familyId = family.getId();
+        id = tokenJPARepository.save(newToken(user, family)).getId();
         em.clear();
     }
 
@@ -46,26 +58,27 @@ public class TokenJPARepositoryTest extends DummyEntity {
     @Test
     public void findByUserId_success_test() {
         // when
-        Token token = tokenJPARepository.findByUserId(userId).orElseThrow(
-                () -> new RuntimeException("해당 사용자의 토큰을 찾을 수 없습니다.")
-        );
+        List<Token> tokens = tokenJPARepository.findAllByUserId(userId);
 
         // then (상태 검사)
-        assertThat(token.getAccessToken()).isEqualTo("accessToken");
-        assertThat(token.getRefreshToken()).isEqualTo("refreshToken");
+        assertThat(tokens).hasSize(1);
+        assertThat(tokens.get(0).getAccessHash()).isEqualTo(TokenHasher.hash("accessToken"));
+        assertThat(tokens.get(0).getRefreshHash()).isEqualTo(TokenHasher.hash("refreshToken"));
     }
 
     @DisplayName("토큰 저장하기 - 성공")
     @Test
     public void saveToken_success_test() {
         // when
-        Couple couple = newCouple("qwer");
-        Token token = tokenJPARepository.save(newToken(couple));
+        Couple couple = userJPARepository.save(newCouple("qwer"));
+        TokenFamily family = tokenFamilyJPARepository.save(newTokenFamily(couple));
+        Token token = tokenJPARepository.save(newToken(couple, family));
 
         // then (상태 검사)
         assertThat(token.getId()).isEqualTo(2);
-        assertThat(token.getAccessToken()).isEqualTo("accessToken");
-        assertThat(token.getRefreshToken()).isEqualTo("refreshToken");
+        assertThat(token.getAccessHash()).isEqualTo(TokenHasher.hash("accessToken"));
+        assertThat(token.getRefreshHash()).isEqualTo(TokenHasher.hash("refreshToken"));
+        assertThat(token.getAccessHash()).hasSize(64);
     }
     @DisplayName("토큰 삭제하기- 성공")
     @Test
@@ -80,4 +93,90 @@ public class TokenJPARepositoryTest extends DummyEntity {
         // then (상태 검사)
         assertThat(tokenJPARepository.count()).isEqualTo(previous_counts-1);
     }
+
+    @DisplayName("토큰 쌍으로 삭제하기 - 성공")
+    @Test
+    public void deleteByTokenPair_success_test() {
+        // when
+        int deleted = tokenJPARepository.deleteByTokenPair(userId, TokenHasher.hash("accessToken"), TokenHasher.hash("refreshToken"));
+
+        // then (상태 검사)
+        assertThat(deleted).isEqualTo(1);
+        assertThat(tokenJPARepository.findAllByUserId(userId)).isEmpty();
+    }
+
+    @DisplayName("토큰 쌍으로 삭제하기 - 실패 (토큰 불일치)")
+    @Test
+    public void deleteByTokenPair_fail_test() {
+        // when
+        int deleted = tokenJPARepository.deleteByTokenPair(userId, TokenHasher.hash("accessToken"), TokenHasher.hash("otherRefreshToken"));
+
+        // then (상태 검사)
+        assertThat(deleted).isEqualTo(0);
+        assertThat(tokenJPARepository.findAllByUserId(userId)).hasSize(1);
+    }
+
+    @DisplayName("여러 기기에서 로그인 - 기기마다 토큰 유지")
+    @Test
+    public void multiple_family_test() {
+        // given
+        User user = userJPARepository.findById(userId).orElseThrow();
+        TokenFamily otherDevice = tokenFamilyJPARepository.save(newTokenFamily(user));
+        tokenJPARepository.save(Token.builder()
+                .user(user)
+                .family(otherDevice)
+                .accessHash(TokenHasher.hash("otherAccessToken"))
+                .refreshHash(TokenHasher.hash("otherRefreshToken"))
+                .build());
+
+        // when
+        int deleted = tokenJPARepository.deleteByFamilyId(familyId);
+
+        // then (상태 검사)
+        assertThat(deleted).isEqualTo(1);
+        List<Token> tokens = tokenJPARepository.findAllByUserId(userId);
+        assertThat(tokens).hasSize(1);
+        assertThat(tokens.get(0).getRefreshHash()).isEqualTo(TokenHasher.hash("otherRefreshToken"));
+    }
+
+    @DisplayName("유효 기간이 지난 토큰과 토큰 없는 family 정리 - 성공")
+    @Test
+    public void purge_expired_test() {
+        // given (4일 전에 로그인하고 교체되지 않은 기기)
+        User user = userJPARepository.findById(userId).orElseThrow();
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(4);
+        TokenFamily expired = tokenFamilyJPARepository.save(TokenFamily.builder().user(user).createdAt(longAgo).build());
+        tokenJPARepository.save(Token.builder()
+                .user(user)
+                .family(expired)
+                .accessHash(TokenHasher.hash("expiredAccessToken"))
+                .refreshHash(TokenHasher.hash("expiredRefreshToken"))
+                .issuedAt(longAgo)
+                .build());
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(3);
+
+        // when
+        int deletedTokens = tokenJPARepository.deleteIssuedBefore(cutoff);
+        int deletedFamilies = tokenFamilyJPARepository.deleteUnusedCreatedBefore(cutoff);
+
+        // then (상태 검사)
+        assertThat(deletedTokens).isEqualTo(1);
+        assertThat(deletedFamilies).isEqualTo(1);
+        assertThat(tokenFamilyJPARepository.existsById(expired.getId())).isFalse();
+        assertThat(tokenFamilyJPARepository.existsById(familyId)).isTrue();
+        assertThat(tokenJPARepository.findAllByUserId(userId)).hasSize(1);
+    }
+
+    @DisplayName("사용자의 토큰과 family 전체 삭제 - 성공")
+    @Test
+    public void deleteAllByUserId_success_test() {
+        // when
+        tokenJPARepository.deleteAllByUserId(userId);
+        int deletedFamilies = tokenFamilyJPARepository.deleteAllByUserId(userId);
+
+        // then (상태 검사)
+        assertThat(deletedFamilies).isEqualTo(1);
+        assertThat(tokenJPARepository.findAllByUserId(userId)).isEmpty();
+        assertThat(tokenFamilyJPARepository.existsById(familyId)).isFalse();
+    }
 }
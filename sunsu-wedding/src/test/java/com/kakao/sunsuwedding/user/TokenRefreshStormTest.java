@@ -0,0 +1,148 @@
+package com.kakao.sunsuwedding.user;
+
+import com.kakao.sunsuwedding.user.base_user.User;
+import com.kakao.sunsuwedding.user.base_user.UserJPARepository;
+import com.kakao.sunsuwedding.user.token.TokenDTO;
+import com.kakao.sunsuwedding.user.token.TokenFamilyJPARepository;
+import com.kakao.sunsuwedding.user.token.TokenJPARepository;
+import com.kakao.sunsuwedding.user.token.TokenServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@Sql("classpath:db/teardown.sql")
+@TestPropertySource(properties = {
+        "security.jwt-config.secret.access=your-test-access-secret",
+        "security.jwt-config.secret.refresh=your-test-refresh-secret",
+        "payment.toss.secret=your-test-toss-payment-secret",
+        "email.username=test@email.com",
+        "email.password=qweasdzxc",
+        "email.test-code=999999"
+})
+@SpringBootTest
+public class TokenRefreshStormTest {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenRefreshStormTest.class);
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private TokenServiceImpl tokenServiceImpl;
+
+    @Autowired
+    private TokenJPARepository tokenJPARepository;
+
+    @Autowired
+    private TokenFamilyJPARepository tokenFamilyJPARepository;
+
+    @Autowired
+    private UserJPARepository userJPARepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("같은 토큰 쌍으로 동시에 refresh 요청 - 하나만 성공하고 이긴 요청은 새 토큰을 발급받음")
+    @Test
+    public void concurrent_refresh_only_one_success_test() throws Exception {
+        // given (teardown.sql 의 3번 유저 토큰)
+        Long userId = 3L;
+        Long familyId = 1L;
+        String accessToken = "accesToken1";
+        String refreshToken = "refreshToken1";
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                start.await();
+                return tokenServiceImpl.expireTokenPair(userId, familyId, accessToken, refreshToken);
+            }));
+        }
+        ready.await();
+        long startedAt = System.nanoTime();
+        start.countDown();
+
+        int succeeded = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get()) succeeded++;
+        }
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1_000;
+        executor.shutdown();
+
+        logger.info("refresh storm: threads={}, succeeded={}, elapsed={}us", THREADS, succeeded, elapsedMicros);
+
+        // then
+        assertThat(succeeded).isEqualTo(1);
+        assertThat(tokenJPARepository.findAllByUserId(userId)).isEmpty();
+        assertThat(tokenJPARepository.findAllByUserId(4L)).hasSize(1);
+
+        // 진 요청들이 family 를 폐기하지 않았으므로 이긴 요청의 토큰 교체가 성공하고, 새 토큰으로 다시 refresh 할 수 있음
+        User user = userJPARepository.findById(userId).orElseThrow();
+        TokenDTO rotated = tokenServiceImpl.refreshAllTokens(user, familyId);
+        assertThat(tokenFamilyJPARepository.existsById(familyId)).isTrue();
+        assertThat(tokenJPARepository.findAllByUserId(userId)).hasSize(1);
+        assertThat(tokenServiceImpl.expireTokenPair(userId, familyId, rotated.accessToken(), rotated.refreshToken())).isTrue();
+    }
+
+    @DisplayName("교체 직후 같은 refresh token 으로 다시 요청 (클라이언트 재시도) - 실패하지만 family 는 유지")
+    @Test
+    public void retried_refresh_within_grace_period_keeps_family_test() {
+        // given
+        User user = userJPARepository.findById(3L).orElseThrow();
+        tokenServiceImpl.expireTokenPair(3L, 1L, "accesToken1", "refreshToken1");
+        TokenDTO rotated = tokenServiceImpl.refreshAllTokens(user, 1L);
+
+        // when
+        boolean retried = tokenServiceImpl.expireTokenPair(3L, 1L, "accesToken1", "refreshToken1");
+
+        // then
+        assertThat(retried).isFalse();
+        assertThat(tokenFamilyJPARepository.existsById(1L)).isTrue();
+        assertThat(tokenServiceImpl.expireTokenPair(3L, 1L, rotated.accessToken(), rotated.refreshToken())).isTrue();
+    }
+
+    @DisplayName("이미 교체된 refresh token 재사용 - family 폐기")
+    @Test
+    public void reused_refresh_token_revokes_family_test() {
+        // given
+        User user = userJPARepository.findById(3L).orElseThrow();
+        tokenServiceImpl.expireTokenPair(3L, 1L, "accesToken1", "refreshToken1");
+        TokenDTO rotated = tokenServiceImpl.refreshAllTokens(user, 1L);
+        // grace 기간이 지난 것으로 교체 시각을 당겨둠
+        jdbcTemplate.update("UPDATE token_family_tb SET rotated_at = ? WHERE id = 1",
+                Timestamp.valueOf(LocalDateTime.now().minusMinutes(5)));
+
+        // when (교체 전 토큰으로 다시 요청)
+        boolean reused = tokenServiceImpl.expireTokenPair(3L, 1L, "accesToken1", "refreshToken1");
+
+        // then
+        assertThat(reused).isFalse();
+        assertThat(tokenServiceImpl.expireTokenPair(3L, 1L, rotated.accessToken(), rotated.refreshToken())).isFalse();
+        assertThat(tokenFamilyJPARepository.existsById(1L)).isFalse();
+        assertThat(tokenJPARepository.findAllByUserId(4L)).hasSize(1);
+    }
+}
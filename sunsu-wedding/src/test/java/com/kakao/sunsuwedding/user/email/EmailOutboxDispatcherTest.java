@@ -0,0 +1,190 @@
+package com.kakao.sunsuwedding.user.email;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@Sql("classpath:db/teardown.sql")
+@TestPropertySource(properties = {
+        "security.jwt-config.secret.access=your-test-access-secret",
+        "security.jwt-config.secret.refresh=your-test-refresh-secret",
+        "payment.toss.secret=your-test-toss-payment-secret",
+        "email.username=test@email.com",
+        "email.password=qweasdzxc",
+        "email.test-code=999999",
+        "email.outbox.workers=2",
+        "email.outbox.batch-size=3",
+        "email.outbox.max-attempts=3",
+        "email.outbox.retry-backoff=0s"
+})
+@SpringBootTest
+public class EmailOutboxDispatcherTest {
+
+    @Autowired
+    private EmailServiceImpl emailServiceImpl;
+    @Autowired
+    private EmailOutboxDispatcher emailOutboxDispatcher;
+    @Autowired
+    private EmailOutboxJPARepository emailOutboxJPARepository;
+    @Autowired
+    private EmailOutboxPurger emailOutboxPurger;
+    @Autowired
+    private InMemoryEmailTransport emailTransport;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        emailTransport.reset();
+    }
+
+    @DisplayName("인증 코드 요청 - outbox 에 저장만 하고 발송은 dispatcher 가 처리")
+    @Test
+    void send_enqueues_mail_test() {
+        // given
+        String email = "outbox@naver.com";
+
+        // when
+        emailServiceImpl.send(new EmailRequest.SendCode(email), "127.0.0.1");
+
+        // then
+        assertThat(emailTransport.delivered()).isEmpty();
+        assertThat(emailOutboxJPARepository.countByStatus(EmailOutboxStatus.PENDING)).isEqualTo(1);
+
+        assertThat(emailOutboxDispatcher.dispatch()).isEqualTo(1);
+        List<EmailOutbox> delivered = emailTransport.delivered();
+        assertThat(delivered).hasSize(1);
+        assertThat(delivered.get(0).getRecipient()).isEqualTo(email);
+        assertThat(delivered.get(0).getBody()).contains("999999");
+        EmailOutbox mail = emailOutboxJPARepository.findById(delivered.get(0).getId()).orElseThrow();
+        assertThat(mail.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(mail.getSentAt()).isNotNull();
+    }
+
+    @DisplayName("batch-size 단위로 나눠서 워커 수만큼 한 번에 발송")
+    @Test
+    void dispatch_in_batches_test() {
+        // given
+        IntStream.range(0, 7).forEach(i -> enqueue("user" + i + "@naver.com"));
+
+        // when
+        int firstRound = emailOutboxDispatcher.dispatch();
+
+        // then (3개씩 2배치, 남은 1개는 다음 실행에서 발송)
+        assertThat(firstRound).isEqualTo(6);
+        assertThat(emailTransport.batchSizes()).containsExactlyInAnyOrder(3, 3);
+        assertThat(meterRegistry.get("email.outbox.depth").gauge().value()).isEqualTo(1.0);
+
+        assertThat(emailOutboxDispatcher.dispatch()).isEqualTo(1);
+        assertThat(emailTransport.delivered()).hasSize(7);
+        assertThat(meterRegistry.get("email.outbox.depth").gauge().value()).isZero();
+        assertThat(meterRegistry.get("email.send.latency").timer().count()).isGreaterThanOrEqualTo(3);
+    }
+
+    @DisplayName("SMTP 연결 실패 - 대기 상태로 남았다가 다음 실행에서 재발송")
+    @Test
+    void retry_after_connection_failure_test() {
+        // given
+        EmailOutbox mail = enqueue("retry@naver.com");
+        emailTransport.failConnections(1);
+
+        // when
+        int firstRound = emailOutboxDispatcher.dispatch();
+
+        // then
+        assertThat(firstRound).isZero();
+        EmailOutbox retried = emailOutboxJPARepository.findById(mail.getId()).orElseThrow();
+        assertThat(retried.getStatus()).isEqualTo(EmailOutboxStatus.PENDING);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getLastError()).isEqualTo("connection refused");
+
+        assertThat(emailOutboxDispatcher.dispatch()).isEqualTo(1);
+        EmailOutbox sent = emailOutboxJPARepository.findById(mail.getId()).orElseThrow();
+        assertThat(sent.getStatus()).isEqualTo(EmailOutboxStatus.SENT);
+        assertThat(sent.getAttempts()).isEqualTo(2);
+    }
+
+    @DisplayName("max-attempts 만큼 실패하면 FAILED 로 두고 더 이상 발송하지 않음")
+    @Test
+    void give_up_after_max_attempts_test() {
+        // given
+        EmailOutbox mail = enqueue("rejected@naver.com");
+        enqueue("accepted@naver.com");
+        emailTransport.reject("rejected@naver.com");
+
+        // when
+        IntStream.range(0, 4).forEach(i -> emailOutboxDispatcher.dispatch());
+
+        // then
+        EmailOutbox failed = emailOutboxJPARepository.findById(mail.getId()).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(EmailOutboxStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(3);
+        assertThat(emailTransport.delivered()).extracting(EmailOutbox::getRecipient).containsExactly("accepted@naver.com");
+    }
+
+    @DisplayName("재시도 간격은 두 배씩 늘어나고 max-backoff 에서 멈춤")
+    @Test
+    void backoff_test() {
+        // given
+        EmailOutboxDispatcher dispatcher = new EmailOutboxDispatcher(emailOutboxJPARepository, emailTransport, meterRegistry,
+                1, 1, 10, Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofMinutes(5));
+
+        // when & then
+        assertThat(dispatcher.backoff(1)).hasSeconds(30);
+        assertThat(dispatcher.backoff(2)).hasSeconds(60);
+        assertThat(dispatcher.backoff(4)).hasSeconds(240);
+        assertThat(dispatcher.backoff(5)).hasMinutes(5);
+        assertThat(dispatcher.backoff(30)).hasMinutes(5);
+        dispatcher.shutdown();
+    }
+
+    @DisplayName("보관 기간이 지난 SENT, FAILED 메일만 삭제")
+    @Test
+    void purge_finished_mails_test() {
+        // given (발송 완료, 발송 실패, 발송 대기 메일을 보관 기간보다 오래전에 만든 것으로 바꿈)
+        EmailOutbox oldSent = enqueue("sent@naver.com");
+        EmailOutbox oldFailed = enqueue("failed@naver.com");
+        emailTransport.reject("failed@naver.com");
+        IntStream.range(0, 3).forEach(i -> emailOutboxDispatcher.dispatch());
+        EmailOutbox recentSent = enqueue("recent@naver.com");
+        emailOutboxDispatcher.dispatch();
+        EmailOutbox oldPending = enqueue("pending@naver.com");
+        jdbcTemplate.update("UPDATE email_outbox_tb SET created_at = ? WHERE id IN (?, ?, ?)",
+                LocalDateTime.now().minusDays(2), oldSent.getId(), oldFailed.getId(), oldPending.getId());
+
+        // when
+        int purged = emailOutboxPurger.purge();
+
+        // then
+        assertThat(purged).isEqualTo(2);
+        assertThat(emailOutboxJPARepository.findById(oldSent.getId())).isEmpty();
+        assertThat(emailOutboxJPARepository.findById(oldFailed.getId())).isEmpty();
+        assertThat(emailOutboxJPARepository.findById(recentSent.getId())).isPresent();
+        assertThat(emailOutboxJPARepository.findById(oldPending.getId())).isPresent();
+    }
+
+    private EmailOutbox enqueue(String recipient) {
+        return emailOutboxJPARepository.save(EmailOutbox.builder()
+                .recipient(recipient)
+                .subject("subject")
+                .body("body")
+                .build());
+    }
+}
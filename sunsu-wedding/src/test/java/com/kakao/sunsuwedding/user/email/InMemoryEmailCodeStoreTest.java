@@ -0,0 +1,95 @@
+package com.kakao.sunsuwedding.user.email;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryEmailCodeStoreTest {
+
+    private static final Duration CODE_TTL = Duration.ofMinutes(10);
+
+    private final AtomicReference<LocalDateTime> now = new AtomicReference<>(LocalDateTime.of(2023, 11, 6, 9, 0));
+    private final InMemoryEmailCodeStore store = new InMemoryEmailCodeStore(CODE_TTL, Duration.ofSeconds(1), now::get);
+
+    @DisplayName("같은 이메일로 저장하면 덮어씀")
+    @Test
+    void saveAndFindTest() {
+        store.save(issue("a@naver.com", "111111"));
+        store.save(issue("a@naver.com", "222222"));
+
+        assertThat(store.find("a@naver.com")).get().extracting(EmailCodeEntry::code).isEqualTo("222222");
+        assertThat(store.find("b@naver.com")).isEmpty();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @DisplayName("만료 시각이 지나면 wheel 이 지나가면서 삭제")
+    @Test
+    void expireTest() {
+        store.save(issue("a@naver.com", "111111"));
+        advance(Duration.ofMinutes(5));
+        store.save(issue("b@naver.com", "222222"));
+
+        advance(Duration.ofMinutes(5).plusSeconds(1));
+
+        assertThat(store.purgeExpired()).isEqualTo(1);
+        assertThat(store.find("a@naver.com")).isEmpty();
+        assertThat(store.find("b@naver.com")).isPresent();
+
+        advance(Duration.ofMinutes(5));
+        assertThat(store.find("b@naver.com")).isEmpty();
+        assertThat(store.size()).isZero();
+    }
+
+    @DisplayName("다시 저장해서 만료 시각이 늦춰진 코드는 이전 만료 시각에 지워지지 않음")
+    @Test
+    void resaveTest() {
+        store.save(issue("a@naver.com", "111111"));
+        advance(Duration.ofMinutes(9));
+        store.save(issue("a@naver.com", "222222"));
+
+        advance(Duration.ofMinutes(2));
+
+        assertThat(store.purgeExpired()).isZero();
+        assertThat(store.find("a@naver.com")).get().extracting(EmailCodeEntry::code).isEqualTo("222222");
+    }
+
+    @DisplayName("wheel 한 바퀴보다 긴 TTL (인증 완료 후 하루) 도 만료 시각까지 유지")
+    @Test
+    void longerThanSpanTest() {
+        EmailCodeEntry issued = issue("a@naver.com", "111111");
+        store.save(issued.confirm(now.get().plusDays(1)));
+
+        for (int hour = 0; hour < 23; hour++) {
+            advance(Duration.ofHours(1));
+            store.purgeExpired();
+        }
+        assertThat(store.find("a@naver.com")).get().extracting(EmailCodeEntry::confirmed).isEqualTo(true);
+
+        advance(Duration.ofHours(1).plusSeconds(1));
+        assertThat(store.purgeExpired()).isEqualTo(1);
+        assertThat(store.find("a@naver.com")).isEmpty();
+    }
+
+    @DisplayName("삭제한 코드는 바로 조회되지 않음")
+    @Test
+    void deleteTest() {
+        store.save(issue("a@naver.com", "111111"));
+
+        store.delete("a@naver.com");
+
+        assertThat(store.find("a@naver.com")).isEmpty();
+    }
+
+    private EmailCodeEntry issue(String email, String code) {
+        return EmailCodeEntry.issue(email, code, now.get(), now.get().plus(CODE_TTL));
+    }
+
+    private void advance(Duration duration) {
+        now.set(now.get().plus(duration));
+    }
+}
@@ -0,0 +1,66 @@
+package com.kakao.sunsuwedding.user.email;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 테스트 프로필의 SMTP 대체 구현: 보낸 메일을 메모리에 쌓고, 지정한 수신자나 연결 실패를 흉내냄
+@Component
+@Profile("test")
+public class InMemoryEmailTransport implements EmailTransport {
+
+    private final List<EmailOutbox> delivered = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private final Set<String> rejectedRecipients = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger connectionFailures = new AtomicInteger();
+
+    @Override
+    public Map<Long, String> send(List<EmailOutbox> batch) {
+        if (connectionFailures.getAndUpdate(remaining -> Math.max(remaining - 1, 0)) > 0) {
+            throw new IllegalStateException("connection refused");
+        }
+
+        batchSizes.add(batch.size());
+        Map<Long, String> failures = new HashMap<>();
+        for (EmailOutbox mail : batch) {
+            if (rejectedRecipients.contains(mail.getRecipient())) {
+                failures.put(mail.getId(), "550 mailbox unavailable");
+            } else {
+                delivered.add(mail);
+            }
+        }
+        return failures;
+    }
+
+    public List<EmailOutbox> delivered() {
+        return new ArrayList<>(delivered);
+    }
+
+    public List<Integer> batchSizes() {
+        return new ArrayList<>(batchSizes);
+    }
+
+    public void reject(String recipient) {
+        rejectedRecipients.add(recipient);
+    }
+
+    // 다음 count 번의 배치 발송은 연결 단계에서 실패
+    public void failConnections(int count) {
+        connectionFailures.set(count);
+    }
+
+    public void reset() {
+        delivered.clear();
+        batchSizes.clear();
+        rejectedRecipients.clear();
+        connectionFailures.set(0);
+    }
+}
@@ -0,0 +1,81 @@
+package com.kakao.sunsuwedding.user.email;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ActiveProfiles("test")
+@Sql("classpath:db/teardown.sql")
+@TestPropertySource(properties = {
+        "security.jwt-config.secret.access=your-test-access-secret",
+        "security.jwt-config.secret.refresh=your-test-refresh-secret",
+        "payment.toss.secret=your-test-toss-payment-secret",
+        "email.username=test@email.com",
+        "email.password=qweasdzxc",
+        "email.test-code=999999"
+})
+@SpringBootTest
+public class JdbcEmailCodeStoreTest {
+
+    @Autowired
+    private EmailCodeStore emailCodeStore;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("같은 이메일로 다시 저장하면 행을 늘리지 않고 덮어씀")
+    @Test
+    void upsert_test() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        emailCodeStore.save(EmailCodeEntry.issue("new@naver.com", "111111", now, now.plusMinutes(10)));
+
+        // when
+        EmailCodeEntry issued = EmailCodeEntry.issue("new@naver.com", "222222", now, now.plusMinutes(10));
+        emailCodeStore.save(issued.confirm(now.plusDays(1)));
+
+        // then
+        EmailCodeEntry found = emailCodeStore.find("new@naver.com").orElseThrow();
+        assertThat(found.code()).isEqualTo("222222");
+        assertThat(found.confirmed()).isTrue();
+        assertThat(count("new@naver.com")).isEqualTo(1);
+    }
+
+    @DisplayName("만료된 코드는 물리적으로 삭제")
+    @Test
+    void purge_expired_test() {
+        // given (teardown.sql 의 test@naver.com 은 만료된 인증 전 코드)
+        assertThat(count("test@naver.com")).isEqualTo(1);
+
+        // when
+        int purged = emailCodeStore.purgeExpired();
+
+        // then
+        assertThat(purged).isEqualTo(1);
+        assertThat(count("test@naver.com")).isZero();
+        assertThat(emailCodeStore.find("couple@gmail.com")).isPresent();
+    }
+
+    @DisplayName("삭제")
+    @Test
+    void delete_test() {
+        // when
+        emailCodeStore.delete("couple@gmail.com");
+
+        // then
+        assertThat(emailCodeStore.find("couple@gmail.com")).isEmpty();
+        assertThat(count("couple@gmail.com")).isZero();
+    }
+
+    private int count(String email) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM email_code_tb WHERE email = ?", Integer.class, email);
+    }
+}
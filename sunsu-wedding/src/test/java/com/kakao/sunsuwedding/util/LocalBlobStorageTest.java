@@ -0,0 +1,113 @@
+package com.kakao.sunsuwedding.util;
+
+import com.kakao.sunsuwedding._core.errors.exception.BadRequestException;
+import com.kakao.sunsuwedding._core.errors.exception.NotFoundException;
+import com.kakao.sunsuwedding._core.storage.BlobStorage;
+import com.kakao.sunsuwedding._core.storage.LocalBlobStorage;
+import com.kakao.sunsuwedding.image.ByteRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class LocalBlobStorageTest {
+
+    private static final String IMAGE_KEY = "7fa54a42524916a1648ec76ce75d295024840b7a3a4f4bbaf3e43155d0014767";
+
+    @TempDir
+    Path root;
+
+    @DisplayName("base64 이미지를 SHA-256 키로 저장 - storeBase64()")
+    @Test
+    void storeBase64Test() {
+        BlobStorage blobStorage = new LocalBlobStorage(root.toString());
+
+        String key = blobStorage.storeBase64("/wAA");
+        String dataUrlKey = blobStorage.storeBase64("data:image/jpeg;base64,/wAA");
+
+        assertThat(key).isEqualTo(IMAGE_KEY);
+        assertThat(dataUrlKey).isEqualTo(key);
+        assertThat(blobStorage.size(key)).isEqualTo(3L);
+        assertThat(BlobStorage.toUrl(key)).isEqualTo("/api/image/" + IMAGE_KEY);
+    }
+
+    @DisplayName("base64 형식이 아니면 예외 - storeBase64()")
+    @Test
+    void storeBase64FailTest() {
+        BlobStorage blobStorage = new LocalBlobStorage(root.toString());
+
+        assertThatThrownBy(() -> blobStorage.storeBase64("이미지 아님!"))
+                .isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> blobStorage.storeBase64("data:image/jpeg;base64,"))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @DisplayName("요청한 범위만 전송 - transferTo()")
+    @Test
+    void transferToTest() {
+        BlobStorage blobStorage = new LocalBlobStorage(root.toString());
+        String key = blobStorage.store("hello sunsu wedding".getBytes(StandardCharsets.UTF_8));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long transferred = blobStorage.transferTo(key, 6, 5, Channels.newChannel(out));
+
+        assertThat(transferred).isEqualTo(5L);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("sunsu");
+    }
+
+    @DisplayName("최근에 다시 저장된 blob 은 삭제하지 않음 - deleteIfUntouchedSince()")
+    @Test
+    void deleteIfUntouchedSinceTest() throws Exception {
+        BlobStorage blobStorage = new LocalBlobStorage(root.toString());
+        String key = blobStorage.store("hello sunsu wedding".getBytes(StandardCharsets.UTF_8));
+        Path path = blobStorage.localPath(key).orElseThrow();
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+        Instant since = Instant.now().minus(Duration.ofMinutes(10));
+
+        // 같은 내용을 다시 저장하면 수정 시각이 갱신되어 삭제되지 않음
+        blobStorage.store("hello sunsu wedding".getBytes(StandardCharsets.UTF_8));
+        assertThat(blobStorage.deleteIfUntouchedSince(key, since)).isFalse();
+        assertThat(blobStorage.exists(key)).isTrue();
+
+        // 오래된 blob 은 삭제되고, 그 뒤에 다시 저장하면 새로 만들어짐
+        Files.setLastModifiedTime(path, FileTime.from(Instant.now().minus(Duration.ofHours(1))));
+        assertThat(blobStorage.deleteIfUntouchedSince(key, since)).isTrue();
+        assertThat(blobStorage.exists(key)).isFalse();
+        assertThat(blobStorage.store("hello sunsu wedding".getBytes(StandardCharsets.UTF_8))).isEqualTo(key);
+        assertThat(blobStorage.exists(key)).isTrue();
+    }
+
+    @DisplayName("잘못된 키나 없는 키는 찾을 수 없음 - exists()")
+    @Test
+    void notFoundTest() {
+        BlobStorage blobStorage = new LocalBlobStorage(root.toString());
+
+        assertThat(blobStorage.exists("../../etc/passwd")).isFalse();
+        assertThat(blobStorage.exists(IMAGE_KEY)).isFalse();
+        assertThatThrownBy(() -> blobStorage.size(IMAGE_KEY))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @DisplayName("Range 헤더 해석 - ByteRange.parse()")
+    @Test
+    void byteRangeParseTest() {
+        assertThat(ByteRange.parse("bytes=0-9", 100)).isEqualTo(new ByteRange(0, 9));
+        assertThat(ByteRange.parse("bytes=90-", 100)).isEqualTo(new ByteRange(90, 99));
+        assertThat(ByteRange.parse("bytes=-10", 100)).isEqualTo(new ByteRange(90, 99));
+        assertThat(ByteRange.parse("bytes=50-500", 100)).isEqualTo(new ByteRange(50, 99));
+        assertThat(ByteRange.parse("bytes=100-", 100).isSatisfiable()).isFalse();
+        assertThat(ByteRange.parse("bytes=0-1,5-6", 100)).isNull();
+        assertThat(ByteRange.parse(null, 100)).isNull();
+    }
+}
@@ -0,0 +1,60 @@
+package com.kakao.sunsuwedding.util;
+
+import com.kakao.sunsuwedding._core.utils.LongHashSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LongHashSetTest {
+
+    @DisplayName("추가한 값만 포함하고 중복은 무시함")
+    @Test
+    void addAndContainsTest() {
+        LongHashSet set = LongHashSet.of(List.of(1L, 2L, 3L, 2L));
+
+        assertThat(set.size()).isEqualTo(3);
+        assertThat(set.contains(1L)).isTrue();
+        assertThat(set.contains(3L)).isTrue();
+        assertThat(set.contains(4L)).isFalse();
+        assertThat(set.add(3L)).isFalse();
+    }
+
+    @DisplayName("0 과 음수도 담을 수 있음")
+    @Test
+    void zeroAndNegativeTest() {
+        LongHashSet set = new LongHashSet();
+
+        assertThat(set.contains(0L)).isFalse();
+        set.add(0L);
+        set.add(-1L);
+
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(-1L)).isTrue();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @DisplayName("테이블이 늘어나도 HashSet 과 같은 결과를 냄")
+    @Test
+    void resizeTest() {
+        // given - 예상 크기보다 훨씬 많은 값을 넣어 여러 번 늘어나게 함
+        Random random = new Random(42);
+        LongHashSet set = new LongHashSet(4);
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            long value = random.nextInt(20_000);
+            assertThat(set.add(value)).isEqualTo(expected.add(value));
+        }
+
+        // then
+        assertThat(set.size()).isEqualTo(expected.size());
+        for (long value = -10; value < 20_010; value++) {
+            assertThat(set.contains(value)).isEqualTo(expected.contains(value));
+        }
+    }
+}
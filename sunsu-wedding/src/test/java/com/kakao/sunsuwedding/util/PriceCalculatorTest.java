@@ -2,6 +2,7 @@ package com.kakao.sunsuwedding.util;
 
 import com.kakao.sunsuwedding._core.DummyEntity;
 import com.kakao.sunsuwedding._core.utils.PriceCalculator;
+import com.kakao.sunsuwedding._core.utils.PriceStatistics;
 import com.kakao.sunsuwedding.match.Match;
 import com.kakao.sunsuwedding.match.MatchStatus;
 import com.kakao.sunsuwedding.portfolio.PortfolioResponse;
@@ -116,4 +117,22 @@ public class PriceCalculatorTest extends DummyEntity {
         assertThat(result).isEqualTo(3000L);
     }
 
+    @DisplayName("매칭 확정 가격 통계 한 번에 계산 - calculateConfirmedPriceStatistics()")
+    @Test
+    void calculateConfirmedPriceStatisticsTest(){
+        List<Match> matchList = List.of(
+                newMatch(couple, planner, MatchStatus.CONFIRMED, 1000L, 1000L),
+                newMatch(couple2, planner, MatchStatus.UNCONFIRMED, 2000L, 2000L),
+                newMatch(couple, planner2, MatchStatus.CONFIRMED, 3000L, 3000L),
+                newMatch(couple2, planner2, MatchStatus.UNCONFIRMED, 4000L, 4000L)
+        );
+        PriceStatistics result = priceCalculator.calculateConfirmedPriceStatistics(matchList);
+
+        assertThat(result.rowCount()).isEqualTo(4L);
+        assertThat(result.count()).isEqualTo(2L);
+        assertThat(result.sum()).isEqualTo(4000L);
+        assertThat(result.avg()).isEqualTo(2000L);
+        assertThat(result.min()).isEqualTo(1000L);
+        assertThat(result.max()).isEqualTo(3000L);
+    }
 }
@@ -0,0 +1,92 @@
+package com.kakao.sunsuwedding.util;
+
+import com.kakao.sunsuwedding._core.utils.PriceStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PriceStatisticsTest {
+
+    @DisplayName("확정 거래가 없으면 모든 값이 0")
+    @Test
+    void emptyTest() {
+        PriceStatistics statistics = new PriceStatistics();
+        statistics.accept(false, 1000L);
+
+        assertThat(statistics.rowCount()).isEqualTo(1);
+        assertThat(statistics.count()).isZero();
+        assertThat(statistics.avg()).isZero();
+        assertThat(statistics.min()).isZero();
+        assertThat(statistics.max()).isZero();
+        assertThat(statistics.percentile(0.5)).isZero();
+    }
+
+    @DisplayName("nearest-rank 백분위")
+    @Test
+    void percentileTest() {
+        PriceStatistics statistics = new PriceStatistics(2);
+        for (long price : new long[]{500L, 100L, 400L, 200L, 300L}) {
+            statistics.accept(true, price);
+        }
+
+        assertThat(statistics.percentile(0)).isEqualTo(100L);
+        assertThat(statistics.percentile(0.5)).isEqualTo(300L);
+        assertThat(statistics.percentile(0.9)).isEqualTo(500L);
+        assertThat(statistics.percentile(1)).isEqualTo(500L);
+        assertThatThrownBy(() -> statistics.percentile(1.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @DisplayName("무작위 값으로 정렬 기준 결과와 비교")
+    @Test
+    void randomTest() {
+        Random random = new Random(42);
+        long[] prices = random.longs(1000, 0, 10_000_000).toArray();
+        PriceStatistics statistics = new PriceStatistics();
+        for (long price : prices) statistics.accept(true, price);
+
+        long[] sorted = prices.clone();
+        Arrays.sort(sorted);
+        assertThat(statistics.sum()).isEqualTo(Arrays.stream(prices).sum());
+        assertThat(statistics.min()).isEqualTo(sorted[0]);
+        assertThat(statistics.max()).isEqualTo(sorted[999]);
+        assertThat(statistics.percentile(0.5)).isEqualTo(sorted[499]);
+    }
+
+    @DisplayName("reset 후 재사용하면 이전 값이 남지 않음")
+    @Test
+    void resetTest() {
+        PriceStatistics statistics = new PriceStatistics();
+        statistics.accept(true, 1000L);
+        statistics.accept(true, 50L);
+
+        statistics.reset();
+        statistics.accept(true, 300L);
+
+        assertThat(statistics.rowCount()).isEqualTo(1);
+        assertThat(statistics.count()).isEqualTo(1);
+        assertThat(statistics.min()).isEqualTo(300L);
+        assertThat(statistics.max()).isEqualTo(300L);
+        assertThat(statistics.percentile(0.5)).isEqualTo(300L);
+    }
+
+    @DisplayName("forEachPrice 는 확정 금액만 넘겨줌")
+    @Test
+    void forEachPriceTest() {
+        PriceStatistics statistics = new PriceStatistics();
+        statistics.accept(true, 300L);
+        statistics.accept(false, 0L);
+        statistics.accept(true, 100L);
+
+        List<Long> prices = new ArrayList<>();
+        statistics.forEachPrice(prices::add);
+
+        assertThat(prices).containsExactlyInAnyOrder(300L, 100L);
+    }
+}
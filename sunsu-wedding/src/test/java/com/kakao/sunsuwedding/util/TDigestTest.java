@@ -0,0 +1,125 @@
+package com.kakao.sunsuwedding.util;
+
+import com.kakao.sunsuwedding._core.utils.TDigest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class TDigestTest {
+
+    @DisplayName("값이 적으면 중심점을 합치지 않아 정확한 보간값")
+    @Test
+    void smallTest() {
+        TDigest digest = new TDigest();
+        for (long price = 100; price <= 1000; price += 100) {
+            digest.add(price);
+        }
+
+        assertThat(digest.count()).isEqualTo(10);
+        assertThat(digest.centroidCount()).isEqualTo(10);
+        assertThat(digest.quantile(0)).isEqualTo(100.0);
+        assertThat(digest.quantile(0.5)).isEqualTo(550.0);
+        assertThat(digest.quantile(1)).isEqualTo(1000.0);
+        assertThat(digest.histogram(new double[]{100, 550, 1000})).containsExactly(5, 5);
+    }
+
+    @DisplayName("거래가 많아도 중심점 수는 일정하고 분위수 오차는 작음")
+    @Test
+    void largeTest() {
+        // given
+        List<Integer> prices = shuffledPrices(100_000);
+
+        // when
+        TDigest digest = new TDigest();
+        prices.forEach(digest::add);
+
+        // then
+        assertThat(digest.centroidCount()).isLessThanOrEqualTo((int) TDigest.DEFAULT_COMPRESSION);
+        assertThat(digest.toBytes().length).isLessThan(4 * 1024);
+        for (double q : new double[]{0.25, 0.5, 0.75, 0.9}) {
+            assertThat(digest.quantile(q)).isCloseTo(q * 100_000, within(500.0));
+            assertThat(digest.cdf(q * 100_000)).isCloseTo(q, within(0.005));
+        }
+    }
+
+    @DisplayName("나눠서 만든 스케치를 합쳐도 한 번에 만든 것과 같은 분포")
+    @Test
+    void mergeTest() {
+        // given
+        List<Integer> prices = shuffledPrices(20_000);
+        TDigest whole = new TDigest();
+        TDigest left = new TDigest();
+        TDigest right = new TDigest();
+        for (int i = 0; i < prices.size(); i++) {
+            whole.add(prices.get(i));
+            (i % 2 == 0 ? left : right).add(prices.get(i));
+        }
+
+        // when
+        left.merge(right);
+
+        // then
+        assertThat(left.count()).isEqualTo(whole.count());
+        assertThat(left.min()).isEqualTo(1.0);
+        assertThat(left.max()).isEqualTo(20_000.0);
+        for (double q : new double[]{0.25, 0.5, 0.75, 0.9}) {
+            assertThat(left.quantile(q)).isCloseTo(whole.quantile(q), within(200.0));
+        }
+    }
+
+    @DisplayName("직렬화 후 복원해도 같은 분포")
+    @Test
+    void serializeTest() {
+        // given
+        TDigest digest = new TDigest();
+        shuffledPrices(5_000).forEach(digest::add);
+
+        // when
+        TDigest restored = TDigest.fromBytes(digest.toBytes());
+
+        // then
+        assertThat(restored.count()).isEqualTo(digest.count());
+        assertThat(restored.centroidCount()).isEqualTo(digest.centroidCount());
+        assertThat(restored.quantile(0.5)).isEqualTo(digest.quantile(0.5));
+        assertThat(restored.quantile(0.9)).isEqualTo(digest.quantile(0.9));
+        assertThat(TDigest.fromBytes(new TDigest().toBytes()).count()).isZero();
+    }
+
+    @DisplayName("구간별 건수의 합은 전체 건수와 같음")
+    @Test
+    void histogramTest() {
+        // given
+        TDigest digest = new TDigest();
+        shuffledPrices(10_000).forEach(digest::add);
+        double[] boundaries = new double[11];
+        for (int i = 0; i <= 10; i++) {
+            boundaries[i] = 1 + (10_000 - 1) * i / 10.0;
+        }
+
+        // when
+        long[] counts = digest.histogram(boundaries);
+
+        // then
+        assertThat(Arrays.stream(counts).sum()).isEqualTo(10_000);
+        for (long count : counts) {
+            assertThat(count).isBetween(900L, 1100L);
+        }
+    }
+
+    private static List<Integer> shuffledPrices(int size) {
+        List<Integer> prices = new ArrayList<>(size);
+        for (int price = 1; price <= size; price++) {
+            prices.add(price);
+        }
+        Collections.shuffle(prices, new Random(42));
+        return prices;
+    }
+}
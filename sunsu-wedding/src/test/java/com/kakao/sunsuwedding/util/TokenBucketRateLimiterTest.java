@@ -0,0 +1,57 @@
+package com.kakao.sunsuwedding.util;
+
+import com.kakao.sunsuwedding._core.utils.TokenBucketRateLimiter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TokenBucketRateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(3, Duration.ofSeconds(10), now::get);
+
+    @DisplayName("capacity 만큼은 바로 허용하고 이후는 거절")
+    @Test
+    void burstTest() {
+        assertThat(limiter.tryAcquire("a@naver.com")).isTrue();
+        assertThat(limiter.tryAcquire("a@naver.com")).isTrue();
+        assertThat(limiter.tryAcquire("a@naver.com")).isTrue();
+        assertThat(limiter.tryAcquire("a@naver.com")).isFalse();
+
+        // 다른 키는 따로 계산
+        assertThat(limiter.tryAcquire("b@naver.com")).isTrue();
+    }
+
+    @DisplayName("refillPeriod 마다 토큰이 하나씩 채워지고 capacity 를 넘지 않음")
+    @Test
+    void refillTest() {
+        for (int i = 0; i < 3; i++) limiter.tryAcquire("a@naver.com");
+
+        now.addAndGet(Duration.ofSeconds(15).toNanos());
+        assertThat(limiter.tryAcquire("a@naver.com")).isTrue();
+        assertThat(limiter.tryAcquire("a@naver.com")).isFalse();
+
+        // 남은 5초는 다음 토큰에 반영됨
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+        assertThat(limiter.tryAcquire("a@naver.com")).isTrue();
+
+        now.addAndGet(Duration.ofHours(1).toNanos());
+        for (int i = 0; i < 3; i++) assertThat(limiter.tryAcquire("a@naver.com")).isTrue();
+        assertThat(limiter.tryAcquire("a@naver.com")).isFalse();
+    }
+
+    @DisplayName("다시 가득 찬 버킷만 정리")
+    @Test
+    void evictIdleTest() {
+        limiter.tryAcquire("a@naver.com");
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        limiter.tryAcquire("b@naver.com");
+
+        assertThat(limiter.evictIdle()).isEqualTo(1);
+        assertThat(limiter.size()).isEqualTo(1);
+    }
+}